@@ -0,0 +1,93 @@
+package benchmarks;
+
+import algorithms.BreadthFirstTree;
+import algorithms.ParallelBreadthFirstSearch;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Full breadth-first searches of a Directed Graph, comparing the mark-based sequential loop with the parallel
+ * direction-optimizing search at several pool sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class BreadthFirstSearchBenchmark {
+    @Param({"100000", "1000000"})
+    public int vertices;
+
+    @Param({"16"})
+    public int degree;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private GraphInterface<Integer> graph;
+    private GraphFixtures fixtures;
+    private ForkJoinPool pool;
+    private ParallelBreadthFirstSearch<Integer> search;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices, degree);
+        graph = new DirectedWeightedGraph<>(vertices);
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+        pool = new ForkJoinPool(threads);
+        search = new ParallelBreadthFirstSearch<>(graph, pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public int parallelSearch() {
+        Integer source = fixtures.ids[fixtures.querySources[cursor++ & GraphFixtures.QUERY_MASK]];
+        BreadthFirstTree<Integer> tree = search.search(source);
+        return tree.getTotalReached();
+    }
+
+    @Benchmark
+    public int markedSearch() {
+        Integer source = fixtures.ids[fixtures.querySources[cursor++ & GraphFixtures.QUERY_MASK]];
+        graph.clearAllMarks();
+        Queue<Integer> queue = new ArrayDeque<>();
+        graph.markVertex(source);
+        queue.offer(source);
+        int reached = 0;
+        while(!queue.isEmpty()) {
+            Integer vertex = queue.poll();
+            reached++;
+            for(Integer neighbor : graph.getAdjacentVertices(vertex)) {
+                if(!graph.isMarked(neighbor)) {
+                    graph.markVertex(neighbor);
+                    queue.offer(neighbor);
+                }
+            }
+        }
+        return reached;
+    }
+}
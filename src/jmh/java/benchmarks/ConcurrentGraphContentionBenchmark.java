@@ -0,0 +1,172 @@
+package benchmarks;
+
+import graphs.CompressedSparseRowGraph;
+import graphs.ConcurrentDirectedWeightedGraph;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import graphs.NeighborConsumer;
+import graphs.TraversalContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Four writer threads adding and removing edges against four reader threads enumerating neighbors and looking up
+ * edges. Compares ConcurrentDirectedWeightedGraph with a DirectedWeightedGraph guarded by one global lock.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class ConcurrentGraphContentionBenchmark {
+    @Param({"concurrent", "globalLock"})
+    public String kind;
+
+    @Param({"10000", "100000"})
+    public int vertices;
+
+    @Param({"8"})
+    public int degree;
+
+    private GraphInterface<Integer> graph;
+    private GraphFixtures fixtures;
+
+    @State(Scope.Thread)
+    public static class Sink {
+        long total = 0;
+        final NeighborConsumer<Integer> summer = (neighbor, weight) -> total += weight;
+    }
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices, degree);
+        graph = kind.equals("concurrent") ? new ConcurrentDirectedWeightedGraph<>()
+                : new GlobalLockGraph(new DirectedWeightedGraph<>(vertices));
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public boolean writer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer source = fixtures.ids[random.nextInt(vertices)];
+        Integer destination = fixtures.ids[random.nextInt(vertices)];
+        graph.addEdge(source, destination, 1);
+        return graph.removeEdge(source, destination);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public long reader(Sink sink) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer source = fixtures.ids[random.nextInt(vertices)];
+        graph.forEachNeighbor(source, sink.summer);
+        return sink.total + graph.getEdge(source, fixtures.ids[random.nextInt(vertices)]);
+    }
+
+    /**
+     * Baseline that serializes every call on one lock.
+     */
+    private static final class GlobalLockGraph implements GraphInterface<Integer> {
+        private final GraphInterface<Integer> graph;
+
+        GlobalLockGraph(GraphInterface<Integer> graph) {
+            this.graph = graph;
+        }
+
+        public synchronized boolean addVertex(Integer vertex) {
+            return graph.addVertex(vertex);
+        }
+
+        public synchronized boolean removeVertex(Integer vertex) {
+            return graph.removeVertex(vertex);
+        }
+
+        public synchronized boolean addEdge(Integer source, Integer destination, int weight) {
+            return graph.addEdge(source, destination, weight);
+        }
+
+        public synchronized boolean removeEdge(Integer source, Integer destination) {
+            return graph.removeEdge(source, destination);
+        }
+
+        public synchronized boolean isFull() {
+            return graph.isFull();
+        }
+
+        public synchronized boolean hasVertex(Integer vertex) {
+            return graph.hasVertex(vertex);
+        }
+
+        public synchronized int getTotalVertices() {
+            return graph.getTotalVertices();
+        }
+
+        public synchronized int getEdge(Integer source, Integer destination) {
+            return graph.getEdge(source, destination);
+        }
+
+        public synchronized boolean containsEdge(Integer source, Integer destination) {
+            return graph.containsEdge(source, destination);
+        }
+
+        public synchronized boolean isEmpty() {
+            return graph.isEmpty();
+        }
+
+        public synchronized Queue<Integer> getAdjacentVertices(Integer vertex) {
+            return graph.getAdjacentVertices(vertex);
+        }
+
+        public synchronized void forEachNeighbor(Integer vertex, NeighborConsumer<Integer> consumer) {
+            graph.forEachNeighbor(vertex, consumer);
+        }
+
+        public synchronized void markVertex(Integer vertex) {
+            graph.markVertex(vertex);
+        }
+
+        public synchronized boolean isMarked(Integer vertex) {
+            return graph.isMarked(vertex);
+        }
+
+        public synchronized void clearAllMarks() {
+            graph.clearAllMarks();
+        }
+
+        public synchronized Integer getAnUnmarkedVertex() {
+            return graph.getAnUnmarkedVertex();
+        }
+
+        public synchronized TraversalContext<Integer> newTraversal() {
+            return graph.newTraversal();
+        }
+
+        public synchronized CompressedSparseRowGraph<Integer> freeze() {
+            return graph.freeze();
+        }
+
+        public synchronized long getVersion() {
+            return graph.getVersion();
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package benchmarks;
+
+import graphs.GraphInterface;
+import graphs.UndirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Param;
+
+public class DenseUndirectedWeightedGraphBenchmark extends GraphBenchmark {
+    @Param({"1000", "5000"})
+    public int vertices;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    protected GraphInterface<Integer> newGraph(int capacity) {
+        return new UndirectedWeightedGraph<>(capacity, UndirectedWeightedGraph.StorageMode.DENSE);
+    }
+
+    protected int vertices() {
+        return vertices;
+    }
+
+    protected int degree() {
+        return degree;
+    }
+}
@@ -0,0 +1,28 @@
+package benchmarks;
+
+import graphs.GraphInterface;
+import graphs.DirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Param;
+
+public class DirectedWeightedGraphBenchmark extends GraphBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int vertices;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    @Param({"false", "true"})
+    public boolean inEdgeIndex;
+
+    protected GraphInterface<Integer> newGraph(int capacity) {
+        return new DirectedWeightedGraph<>(capacity, inEdgeIndex);
+    }
+
+    protected int vertices() {
+        return vertices;
+    }
+
+    protected int degree() {
+        return degree;
+    }
+}
@@ -0,0 +1,25 @@
+package benchmarks;
+
+import graphs.GraphInterface;
+import graphs.DirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Param;
+
+public class DirectedWeightedGraphLoadBenchmark extends GraphLoadBenchmark {
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int vertices;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    protected GraphInterface<Integer> newGraph() {
+        return new DirectedWeightedGraph<>();
+    }
+
+    protected int vertices() {
+        return vertices;
+    }
+
+    protected int degree() {
+        return degree;
+    }
+}
@@ -0,0 +1,82 @@
+package benchmarks;
+
+import algorithms.DynamicShortestPaths;
+import algorithms.ShortestPathTree;
+import algorithms.ShortestPaths;
+import graphs.DirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Removing a random edge of a loaded Directed Graph and adding it back, keeping a shortest path tree from vertex 0
+ * current after each change. DynamicShortestPaths repairs the tree in place, while the baseline runs Dijkstra from
+ * scratch after each change.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class DynamicShortestPathsBenchmark {
+    @Param({"dynamic", "recompute"})
+    public String kind;
+
+    @Param({"10000", "100000"})
+    public int vertices;
+
+    @Param({"4"})
+    public int degree;
+
+    private DirectedWeightedGraph<Integer> graph;
+    private DynamicShortestPaths<Integer> dynamic;
+    private GraphFixtures fixtures;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices, degree);
+        graph = new DirectedWeightedGraph<>(vertices, true);
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+        if(kind.equals("dynamic")) {
+            dynamic = new DynamicShortestPaths<>(graph, fixtures.ids[0]);
+        }
+    }
+
+    @Benchmark
+    public long removeAndRestoreEdge() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        int edge = (int) ((q * 2654435761L) % fixtures.targets.length);
+        Integer source = fixtures.ids[edge / degree];
+        Integer destination = fixtures.ids[fixtures.targets[edge]];
+        graph.removeEdge(source, destination);
+        long distance = distanceTo(destination);
+        graph.addEdge(source, destination, fixtures.weights[edge]);
+        return distance + distanceTo(destination);
+    }
+
+    /**
+     * distanceTo Returns the current distance of a vertex, recomputing the whole tree for the baseline.
+     * @param vertex The vertex to look up.
+     * @return The distance from vertex 0.
+     */
+    private long distanceTo(Integer vertex) {
+        if(dynamic != null) {
+            return dynamic.getDistance(vertex);
+        }
+        ShortestPathTree<Integer> tree = new ShortestPaths<>(graph).computeFrom(fixtures.ids[0]);
+        return tree.getDistance(vertex);
+    }
+}
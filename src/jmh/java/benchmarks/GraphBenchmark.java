@@ -0,0 +1,120 @@
+package benchmarks;
+
+import graphs.GraphInterface;
+import graphs.NeighborConsumer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Steady-state operations against a Graph loaded once per trial with the fixture vertices and edges. Subclasses
+ * choose the Graph implementation and declare the vertex count and degree parameters.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class GraphBenchmark {
+    private GraphInterface<Integer> graph;
+    private GraphFixtures fixtures;
+    private int cursor = 0;
+    private long sink = 0;
+    private final NeighborConsumer<Integer> weightSummer = (neighbor, weight) -> sink += weight;
+
+    protected abstract GraphInterface<Integer> newGraph(int capacity);
+    protected abstract int vertices();
+    protected abstract int degree();
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices(), degree());
+        graph = newGraph(vertices());
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+    }
+
+    @Benchmark
+    public boolean hasVertex() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        return graph.hasVertex(fixtures.ids[fixtures.querySources[q]]);
+    }
+
+    @Benchmark
+    public int getEdge() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        return graph.getEdge(fixtures.ids[fixtures.querySources[q]], fixtures.ids[fixtures.queryDestinations[q]]);
+    }
+
+    @Benchmark
+    public boolean containsEdge() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        return graph.containsEdge(fixtures.ids[fixtures.querySources[q]], fixtures.ids[fixtures.queryDestinations[q]]);
+    }
+
+    @Benchmark
+    public Queue<Integer> getAdjacentVertices() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        return graph.getAdjacentVertices(fixtures.ids[fixtures.querySources[q]]);
+    }
+
+    @Benchmark
+    public long forEachNeighbor() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        graph.forEachNeighbor(fixtures.ids[fixtures.querySources[q]], weightSummer);
+        return sink;
+    }
+
+    /**
+     * removeAndRestoreVertex Removes a vertex, adds it back and replays its fixture out-edges. Edges into the vertex
+     * from other vertices are not replayed, so long runs slowly thin the Graph.
+     */
+    @Benchmark
+    public int removeAndRestoreVertex() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        int vertex = fixtures.querySources[q];
+        graph.removeVertex(fixtures.ids[vertex]);
+        graph.addVertex(fixtures.ids[vertex]);
+        fixtures.addEdgesOf(graph, vertex);
+        return graph.getTotalVertices();
+    }
+
+    /**
+     * markTraversal Runs one breadth-first search from the first vertex with the Graph's mark methods, clearing the
+     * marks first.
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.MILLISECONDS)
+    public int markTraversal() {
+        graph.clearAllMarks();
+        Queue<Integer> frontier = new ArrayDeque<>();
+        Integer start = fixtures.ids[0];
+        graph.markVertex(start);
+        frontier.offer(start);
+        int visited = 0;
+        while(!frontier.isEmpty()) {
+            Integer vertex = frontier.poll();
+            visited++;
+            for(Integer neighbor : graph.getAdjacentVertices(vertex)) {
+                if(!graph.isMarked(neighbor)) {
+                    graph.markVertex(neighbor);
+                    frontier.offer(neighbor);
+                }
+            }
+        }
+        return visited;
+    }
+}
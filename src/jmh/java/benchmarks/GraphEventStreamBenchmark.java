@@ -0,0 +1,73 @@
+package benchmarks;
+
+import events.GraphEventStream;
+import graphs.DirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Adding and removing an edge of a loaded DirectedWeightedGraph with no listener against the same changes reported
+ * through a GraphEventStream to a listener that only counts them. Shows what reporting adds to the mutation path.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class GraphEventStreamBenchmark {
+    @Param({"none", "stream"})
+    public String listener;
+
+    @Param({"100000"})
+    public int vertices;
+
+    @Param({"4"})
+    public int degree;
+
+    private DirectedWeightedGraph<Integer> graph;
+    private GraphEventStream<Integer> stream;
+    private GraphFixtures fixtures;
+    private long received = 0;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices, degree);
+        graph = new DirectedWeightedGraph<>(vertices);
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+        if(listener.equals("stream")) {
+            stream = new GraphEventStream<>(events -> received += events.size());
+            graph.addMutationListener(stream);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        if(stream != null) {
+            stream.close();
+        }
+    }
+
+    @Benchmark
+    public boolean addAndRemoveEdge() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        Integer source = fixtures.ids[fixtures.querySources[q]];
+        Integer destination = fixtures.ids[fixtures.queryDestinations[q]];
+        graph.addEdge(source, destination, 1);
+        return graph.removeEdge(source, destination);
+    }
+}
@@ -0,0 +1,103 @@
+package benchmarks;
+
+import graphs.Edge;
+import graphs.GraphInterface;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * Deterministic random graphs shared by the benchmarks. Every vertex gets exactly degree out-edges to uniformly chosen
+ * vertices, stored grouped by source so a vertex's edges can be replayed after it is removed.
+ */
+final class GraphFixtures {
+    static final int QUERY_MASK = (1 << 16) - 1;
+    private static final long SEED = 42;
+
+    final Integer[] ids;
+    final int[] offsets;
+    final int[] targets;
+    final int[] weights;
+    final int[] querySources;
+    final int[] queryDestinations;
+
+    /**
+     * Constructor generates the vertices, edges and a ring of edge queries, half of which hit an existing edge.
+     * @param vertices The number of vertices.
+     * @param degree The number of out-edges of every vertex.
+     */
+    GraphFixtures(int vertices, int degree) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        ids = new Integer[vertices];
+        for(int i = 0; i < vertices; i++) {
+            ids[i] = i;
+        }
+        offsets = new int[vertices + 1];
+        targets = new int[vertices * degree];
+        weights = new int[vertices * degree];
+        for(int i = 0; i < vertices; i++) {
+            offsets[i + 1] = offsets[i] + degree;
+            for(int j = offsets[i]; j < offsets[i + 1]; j++) {
+                targets[j] = random.nextInt(vertices);
+                weights[j] = random.nextInt(100);
+            }
+        }
+        querySources = new int[QUERY_MASK + 1];
+        queryDestinations = new int[QUERY_MASK + 1];
+        for(int i = 0; i <= QUERY_MASK; i++) {
+            if(i % 2 == 0 && targets.length > 0) {
+                int edge = random.nextInt(targets.length);
+                querySources[i] = edge / degree;
+                queryDestinations[i] = targets[edge];
+            } else {
+                querySources[i] = random.nextInt(vertices);
+                queryDestinations[i] = random.nextInt(vertices);
+            }
+        }
+    }
+
+    /**
+     * addVertices Adds every fixture vertex to a Graph.
+     * @param graph The Graph to fill.
+     */
+    void addVertices(GraphInterface<Integer> graph) {
+        for(Integer id : ids) {
+            graph.addVertex(id);
+        }
+    }
+
+    /**
+     * addEdges Adds every fixture edge to a Graph that already holds the fixture vertices.
+     * @param graph The Graph to fill.
+     */
+    void addEdges(GraphInterface<Integer> graph) {
+        for(int i = 0; i < ids.length; i++) {
+            addEdgesOf(graph, i);
+        }
+    }
+
+    /**
+     * addEdgesOf Adds the fixture out-edges of one vertex to a Graph.
+     * @param graph The Graph to fill.
+     * @param vertex The fixture index of the source vertex.
+     */
+    void addEdgesOf(GraphInterface<Integer> graph, int vertex) {
+        for(int j = offsets[vertex]; j < offsets[vertex + 1]; j++) {
+            graph.addEdge(ids[vertex], ids[targets[j]], weights[j]);
+        }
+    }
+
+    /**
+     * edgeList Collects every fixture edge for a bulk load.
+     * @return The edges grouped by source vertex.
+     */
+    List<Edge<Integer>> edgeList() {
+        List<Edge<Integer>> edges = new ArrayList<>(targets.length);
+        for(int i = 0; i < ids.length; i++) {
+            for(int j = offsets[i]; j < offsets[i + 1]; j++) {
+                edges.add(new Edge<>(ids[i], ids[targets[j]], weights[j]));
+            }
+        }
+        return edges;
+    }
+}
@@ -0,0 +1,79 @@
+package benchmarks;
+
+import graphs.Edge;
+import graphs.GraphInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Time to load the fixture into a fresh Graph one addVertex or addEdge call at a time, or in one addVertices or
+ * addEdges batch. Each invocation is a complete load, so dividing the vertex or edge count by the reported time gives
+ * the per-vertex or per-edge throughput at that Graph size.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public abstract class GraphLoadBenchmark {
+    private GraphFixtures fixtures;
+    private List<Integer> vertexList;
+    private List<Edge<Integer>> edgeList;
+    private GraphInterface<Integer> emptyGraph;
+    private GraphInterface<Integer> vertexGraph;
+
+    protected abstract GraphInterface<Integer> newGraph();
+    protected abstract int vertices();
+    protected abstract int degree();
+
+    @Setup(Level.Trial)
+    public void generate() {
+        fixtures = new GraphFixtures(vertices(), degree());
+        vertexList = Arrays.asList(fixtures.ids);
+        edgeList = fixtures.edgeList();
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        emptyGraph = newGraph();
+        vertexGraph = newGraph();
+        fixtures.addVertices(vertexGraph);
+    }
+
+    @Benchmark
+    public GraphInterface<Integer> addVertex() {
+        fixtures.addVertices(emptyGraph);
+        return emptyGraph;
+    }
+
+    @Benchmark
+    public GraphInterface<Integer> addEdge() {
+        fixtures.addEdges(vertexGraph);
+        return vertexGraph;
+    }
+
+    @Benchmark
+    public GraphInterface<Integer> addVertices() {
+        emptyGraph.addVertices(vertexList);
+        return emptyGraph;
+    }
+
+    @Benchmark
+    public GraphInterface<Integer> addEdges() {
+        vertexGraph.addEdges(edgeList);
+        return vertexGraph;
+    }
+}
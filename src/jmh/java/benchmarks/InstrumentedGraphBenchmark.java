@@ -0,0 +1,30 @@
+package benchmarks;
+
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import metrics.InstrumentedGraph;
+import org.openjdk.jmh.annotations.Param;
+
+/**
+ * DirectedWeightedGraph wrapped in an InstrumentedGraph with the default sampling. Compared with
+ * DirectedWeightedGraphBenchmark it shows the cost of counting and sampling each call.
+ */
+public class InstrumentedGraphBenchmark extends GraphBenchmark {
+    @Param({"1000", "100000"})
+    public int vertices;
+
+    @Param({"4"})
+    public int degree;
+
+    protected GraphInterface<Integer> newGraph(int capacity) {
+        return new InstrumentedGraph<>(new DirectedWeightedGraph<>(capacity));
+    }
+
+    protected int vertices() {
+        return vertices;
+    }
+
+    protected int degree() {
+        return degree;
+    }
+}
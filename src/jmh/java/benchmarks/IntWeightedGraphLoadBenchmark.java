@@ -0,0 +1,79 @@
+package benchmarks;
+
+import graphs.IntDirectedWeightedGraph;
+import graphs.IntGraphInterface;
+import graphs.IntUndirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The GraphLoadBenchmark fixture loaded into the int-specialized Graphs, for comparing heap allocation and GC time
+ * against the boxed implementations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class IntWeightedGraphLoadBenchmark {
+    @Param({"directed", "undirected"})
+    public String kind;
+
+    @Param({"1000", "10000", "100000", "1000000"})
+    public int vertices;
+
+    @Param({"4", "16"})
+    public int degree;
+
+    private GraphFixtures fixtures;
+    private IntGraphInterface emptyGraph;
+    private IntGraphInterface vertexGraph;
+
+    @Setup(Level.Trial)
+    public void generate() {
+        fixtures = new GraphFixtures(vertices, degree);
+    }
+
+    @Setup(Level.Invocation)
+    public void reset() {
+        emptyGraph = newGraph();
+        vertexGraph = newGraph();
+        for(int i = 0; i < vertices; i++) {
+            vertexGraph.addVertex(i);
+        }
+    }
+
+    @Benchmark
+    public IntGraphInterface addVertex() {
+        for(int i = 0; i < vertices; i++) {
+            emptyGraph.addVertex(i);
+        }
+        return emptyGraph;
+    }
+
+    @Benchmark
+    public IntGraphInterface addEdge() {
+        for(int i = 0; i < vertices; i++) {
+            for(int j = fixtures.offsets[i]; j < fixtures.offsets[i + 1]; j++) {
+                vertexGraph.addEdge(i, fixtures.targets[j], fixtures.weights[j]);
+            }
+        }
+        return vertexGraph;
+    }
+
+    private IntGraphInterface newGraph() {
+        return kind.equals("directed") ? new IntDirectedWeightedGraph() : new IntUndirectedWeightedGraph();
+    }
+}
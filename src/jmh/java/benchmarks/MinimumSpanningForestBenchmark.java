@@ -0,0 +1,70 @@
+package benchmarks;
+
+import algorithms.MinimumSpanningForest;
+import algorithms.SpanningForest;
+import graphs.UndirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph.StorageMode;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kruskal against parallel Boruvka on a frozen sparse Undirected Graph as the Graph grows, with Boruvka at several
+ * pool sizes. Kruskal always runs on the calling thread, so its score does not depend on the thread count.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class MinimumSpanningForestBenchmark {
+    @Param({"10000", "100000", "1000000"})
+    public int vertices;
+
+    @Param({"8"})
+    public int degree;
+
+    @Param({"1", "4"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private MinimumSpanningForest<Integer> search;
+
+    @Setup(Level.Trial)
+    public void load() {
+        GraphFixtures fixtures = new GraphFixtures(vertices, degree);
+        UndirectedWeightedGraph<Integer> graph = new UndirectedWeightedGraph<>(vertices, StorageMode.SPARSE);
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+        pool = new ForkJoinPool(threads);
+        search = new MinimumSpanningForest<>(graph.freeze(), pool);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public SpanningForest<Integer> kruskal() {
+        return search.kruskal();
+    }
+
+    @Benchmark
+    public SpanningForest<Integer> boruvka() {
+        return search.boruvka();
+    }
+}
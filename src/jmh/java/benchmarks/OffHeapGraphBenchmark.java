@@ -0,0 +1,79 @@
+package benchmarks;
+
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import graphs.NeighborConsumer;
+import graphs.OffHeapDirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Garbage collection cost of keeping a large Graph alive, comparing DirectedWeightedGraph with its edge nodes on the
+ * heap against OffHeapDirectedWeightedGraph. fullGc times a full collection while the loaded Graph is reachable, so
+ * its cost grows with the number of heap objects the collector has to trace. scanNeighbors sums every edge weight
+ * through forEachNeighbor to show what reading edges from direct buffers costs in return.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class OffHeapGraphBenchmark {
+    @Param({"heap", "offHeap"})
+    public String kind;
+
+    @Param({"100000", "1000000"})
+    public int vertices;
+
+    @Param({"16"})
+    public int degree;
+
+    private GraphFixtures fixtures;
+    private GraphInterface<Integer> graph;
+    private long total;
+    private final NeighborConsumer<Integer> summer = (neighbor, weight) -> total += weight;
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices, degree);
+        graph = kind.equals("heap") ? new DirectedWeightedGraph<>(vertices)
+                : new OffHeapDirectedWeightedGraph<>(vertices);
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+    }
+
+    @TearDown(Level.Trial)
+    public void close() {
+        if(graph instanceof OffHeapDirectedWeightedGraph) {
+            ((OffHeapDirectedWeightedGraph<Integer>) graph).close();
+        }
+    }
+
+    @Benchmark
+    public int fullGc() {
+        System.gc();
+        return graph.getTotalVertices();
+    }
+
+    @Benchmark
+    public long scanNeighbors() {
+        total = 0;
+        for(Integer id : fixtures.ids) {
+            graph.forEachNeighbor(id, summer);
+        }
+        return total;
+    }
+}
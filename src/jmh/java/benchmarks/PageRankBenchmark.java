@@ -0,0 +1,69 @@
+package benchmarks;
+
+import algorithms.PageRank;
+import algorithms.PageRankResult;
+import graphs.CompressedSparseRowGraph;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Twenty weighted PageRank iterations over a frozen Directed Graph at several pool sizes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PageRankBenchmark {
+    @Param({"100000", "1000000"})
+    public int vertices;
+
+    @Param({"16"})
+    public int degree;
+
+    @Param({"1", "2", "4", "8"})
+    public int threads;
+
+    private ForkJoinPool pool;
+    private PageRank<Integer> pageRank;
+
+    @Setup(Level.Trial)
+    public void load() {
+        GraphFixtures fixtures = new GraphFixtures(vertices, degree);
+        GraphInterface<Integer> graph = new DirectedWeightedGraph<>(vertices);
+        fixtures.addVertices(graph);
+        fixtures.addEdges(graph);
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        snapshot.transpose();
+        pool = new ForkJoinPool(threads);
+        pageRank = new PageRank<>(snapshot, pool);
+        pageRank.setMaxIterations(20);
+        pageRank.setTolerance(Double.MIN_VALUE);
+    }
+
+    @TearDown(Level.Trial)
+    public void shutdown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public PageRankResult<Integer> compute() {
+        return pageRank.compute();
+    }
+}
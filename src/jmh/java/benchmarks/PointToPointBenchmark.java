@@ -0,0 +1,102 @@
+package benchmarks;
+
+import algorithms.Landmarks;
+import algorithms.PointToPointResult;
+import algorithms.PointToPointSearch;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-pair shortest path queries on a frozen Directed Graph: Dijkstra stopping at the target against bidirectional
+ * Dijkstra and ALT with 16 landmarks. The random shape uses the shared fixtures, whose small diameter gives landmarks
+ * little to work with. The grid shape lays the vertices out row by row with edges both ways between horizontal and
+ * vertical neighbors, like a road network. Queries cycle through random vertex pairs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class PointToPointBenchmark {
+    @Param({"100000", "1000000"})
+    public int vertices;
+
+    @Param({"4"})
+    public int degree;
+
+    @Param({"random", "grid"})
+    public String shape;
+
+    private GraphFixtures fixtures;
+    private PointToPointSearch<Integer> search;
+    private Landmarks<Integer> landmarks;
+    private int cursor = 0;
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices, degree);
+        GraphInterface<Integer> graph = new DirectedWeightedGraph<>(vertices);
+        fixtures.addVertices(graph);
+        if(shape.equals("grid")) {
+            addGridEdges(graph);
+        } else {
+            fixtures.addEdges(graph);
+        }
+        search = new PointToPointSearch<>(graph);
+        landmarks = search.preprocessLandmarks(16);
+    }
+
+    /**
+     * addGridEdges Connects every vertex to its right and lower neighbors in both directions, reusing the fixture
+     * weights.
+     * @param graph The Graph holding the fixture vertices.
+     */
+    private void addGridEdges(GraphInterface<Integer> graph) {
+        int side = (int) Math.sqrt(vertices);
+        for(int i = 0; i < vertices; i++) {
+            int weight = fixtures.weights[i * degree] + 1;
+            if(i % side + 1 < side && i + 1 < vertices) {
+                graph.addEdge(fixtures.ids[i], fixtures.ids[i + 1], weight);
+                graph.addEdge(fixtures.ids[i + 1], fixtures.ids[i], weight);
+            }
+            if(i + side < vertices) {
+                graph.addEdge(fixtures.ids[i], fixtures.ids[i + side], weight);
+                graph.addEdge(fixtures.ids[i + side], fixtures.ids[i], weight);
+            }
+        }
+    }
+
+    @Benchmark
+    public PointToPointResult<Integer> dijkstra() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        return search.dijkstra(fixtures.ids[fixtures.querySources[q]], fixtures.ids[fixtures.queryDestinations[q]]);
+    }
+
+    @Benchmark
+    public PointToPointResult<Integer> bidirectional() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        return search.bidirectional(fixtures.ids[fixtures.querySources[q]],
+                fixtures.ids[fixtures.queryDestinations[q]]);
+    }
+
+    @Benchmark
+    public PointToPointResult<Integer> alt() {
+        int q = cursor++ & GraphFixtures.QUERY_MASK;
+        return search.alt(fixtures.ids[fixtures.querySources[q]], fixtures.ids[fixtures.queryDestinations[q]],
+                landmarks);
+    }
+}
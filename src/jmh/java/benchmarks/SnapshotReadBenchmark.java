@@ -0,0 +1,113 @@
+package benchmarks;
+
+import graphs.ConcurrentDirectedWeightedGraph;
+import graphs.GraphSnapshot;
+import graphs.NeighborConsumer;
+import graphs.ReadOnlyGraphInterface;
+import graphs.VersionedDirectedWeightedGraph;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Two writer threads adding and removing edges against four reader threads that each scan the neighbors of a batch
+ * of vertices. Readers of VersionedDirectedWeightedGraph scan one pinned snapshot per batch and so see a consistent
+ * version; readers of ConcurrentDirectedWeightedGraph scan the live Graph and may see a different version per vertex.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = {"-Xms4g", "-Xmx4g"})
+public class SnapshotReadBenchmark {
+    @Param({"versioned", "concurrent"})
+    public String kind;
+
+    @Param({"100000"})
+    public int vertices;
+
+    @Param({"8"})
+    public int degree;
+
+    @Param({"64"})
+    public int batch;
+
+    private VersionedDirectedWeightedGraph<Integer> versioned;
+    private ConcurrentDirectedWeightedGraph<Integer> concurrent;
+    private GraphFixtures fixtures;
+
+    @State(Scope.Thread)
+    public static class Sink {
+        long total = 0;
+        final NeighborConsumer<Integer> summer = (neighbor, weight) -> total += weight;
+    }
+
+    @Setup(Level.Trial)
+    public void load() {
+        fixtures = new GraphFixtures(vertices, degree);
+        if(kind.equals("versioned")) {
+            versioned = new VersionedDirectedWeightedGraph<>();
+            fixtures.addVertices(versioned);
+            fixtures.addEdges(versioned);
+        } else {
+            concurrent = new ConcurrentDirectedWeightedGraph<>();
+            fixtures.addVertices(concurrent);
+            fixtures.addEdges(concurrent);
+        }
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(2)
+    public boolean writer() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Integer source = fixtures.ids[random.nextInt(vertices)];
+        Integer destination = fixtures.ids[random.nextInt(vertices)];
+        if(versioned != null) {
+            versioned.addEdge(source, destination, 1);
+            return versioned.removeEdge(source, destination);
+        }
+        concurrent.addEdge(source, destination, 1);
+        return concurrent.removeEdge(source, destination);
+    }
+
+    @Benchmark
+    @Group("mixed")
+    @GroupThreads(4)
+    public long reader(Sink sink) {
+        if(versioned != null) {
+            try(GraphSnapshot<Integer> snapshot = versioned.snapshot()) {
+                return scan(snapshot, sink);
+            }
+        }
+        return scan(concurrent, sink);
+    }
+
+    /**
+     * scan Sums the edge weights of a random batch of vertices.
+     * @param graph The Graph to read.
+     * @param sink The per-thread accumulator.
+     * @return The running total.
+     */
+    private long scan(ReadOnlyGraphInterface<Integer> graph, Sink sink) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        for(int i = 0; i < batch; i++) {
+            graph.forEachNeighbor(fixtures.ids[random.nextInt(vertices)], sink.summer);
+        }
+        return sink.total;
+    }
+}
@@ -0,0 +1,129 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a breadth-first search: the number of hops from the source to every reached vertex and the parent of each
+ * vertex on one of its shortest hop paths. The arrays are indexed by the vertex slots of the searched snapshot.
+ * @param <T> The vertex type.
+ */
+public class BreadthFirstTree<T> {
+    private static final int UNREACHED = -1;
+    private final CompressedSparseRowGraph<T> graph;
+    private final int source;
+    private final int[] distances;
+    private final int[] parents;
+    private final int totalReached;
+
+    /**
+     * Constructor wraps the arrays of a finished search.
+     * @param graph The searched snapshot.
+     * @param source The slot of the source.
+     * @param distances The hop distance of each slot, or a negative number if the slot was not reached.
+     * @param parents The slot before each slot on a shortest hop path, or a negative number for the source and for
+     * slots that were not reached.
+     * @param totalReached The number of reached slots, including the source.
+     */
+    BreadthFirstTree(CompressedSparseRowGraph<T> graph, int source, int[] distances, int[] parents, int totalReached) {
+        this.graph = graph;
+        this.source = source;
+        this.distances = distances;
+        this.parents = parents;
+        this.totalReached = totalReached;
+    }
+
+    /**
+     * getSource Returns the source vertex of the search.
+     * @return The source vertex.
+     */
+    public T getSource() {
+        return graph.vertexAt(source);
+    }
+
+    /**
+     * getTotalReached Returns the number of vertices reached from the source, including the source.
+     * @return The number of reached vertices.
+     */
+    public int getTotalReached() {
+        return totalReached;
+    }
+
+    /**
+     * hasPathTo Checks if a vertex is reachable from the source.
+     * @param vertex The vertex to check.
+     * @return True if a path from the source was found, false otherwise.
+     */
+    public boolean hasPathTo(T vertex) {
+        return getHops(vertex) >= 0;
+    }
+
+    /**
+     * getHops Returns the number of edges on a shortest hop path from the source to a vertex.
+     * @param vertex The vertex to check.
+     * @return The hop distance, or a negative number if the vertex is not reachable.
+     */
+    public int getHops(T vertex) {
+        int slot = graph.slotOf(vertex);
+        return slot < 0 ? UNREACHED : distances[slot];
+    }
+
+    /**
+     * getParent Returns the vertex before a vertex on its shortest hop path from the source.
+     * @param vertex The vertex to check.
+     * @return The parent, or null for the source and for unreachable vertices.
+     */
+    public T getParent(T vertex) {
+        int slot = graph.slotOf(vertex);
+        if(slot < 0 || parents[slot] == UNREACHED) {
+            return null;
+        }
+        return graph.vertexAt(parents[slot]);
+    }
+
+    /**
+     * pathTo Returns a shortest hop path from the source to a vertex. The distance of the path is its number of edges.
+     * @param vertex The target vertex.
+     * @return The path, or null if the vertex is not reachable.
+     */
+    public Path<T> pathTo(T vertex) {
+        int slot = graph.slotOf(vertex);
+        if(slot < 0 || distances[slot] == UNREACHED) {
+            return null;
+        }
+        List<T> vertices = new ArrayList<>();
+        for(int at = slot; at != UNREACHED; at = parents[at]) {
+            vertices.add(graph.vertexAt(at));
+        }
+        Collections.reverse(vertices);
+        return new Path<>(vertices, distances[slot]);
+    }
+
+    /**
+     * getGraph Returns the snapshot that was searched, which maps the slots of the distance and parent arrays.
+     * @return The searched snapshot.
+     */
+    public CompressedSparseRowGraph<T> getGraph() {
+        return graph;
+    }
+
+    /**
+     * getDistances Returns the hop distance of every slot, negative for slots that were not reached. The array is
+     * shared with the tree and must not be modified.
+     * @return The hop distances indexed by slot.
+     */
+    public int[] getDistances() {
+        return distances;
+    }
+
+    /**
+     * getParents Returns the parent slot of every slot, negative for the source and for slots that were not reached.
+     * The array is shared with the tree and must not be modified.
+     * @return The parent slots indexed by slot.
+     */
+    public int[] getParents() {
+        return parents;
+    }
+}
@@ -0,0 +1,106 @@
+package algorithms;
+
+/**
+ * Immutable counts of a shortest path cache at one moment.
+ */
+public class CacheStatistics {
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long invalidations;
+    private final int entries;
+    private final long estimatedBytes;
+    private final long maxBytes;
+
+    /**
+     * Constructor sets every count.
+     * @param hits The number of queries answered from the cache.
+     * @param misses The number of queries that ran a search.
+     * @param evictions The number of entries dropped to stay within the memory budget.
+     * @param invalidations The number of entries dropped because the Graph changed.
+     * @param entries The number of entries held.
+     * @param estimatedBytes The estimated heap held by the entries.
+     * @param maxBytes The memory budget.
+     */
+    public CacheStatistics(long hits, long misses, long evictions, long invalidations, int entries,
+                           long estimatedBytes, long maxBytes) {
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.invalidations = invalidations;
+        this.entries = entries;
+        this.estimatedBytes = estimatedBytes;
+        this.maxBytes = maxBytes;
+    }
+
+    /**
+     * getHits Returns the number of queries answered from the cache.
+     * @return The number of hits.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * getMisses Returns the number of queries that ran a search.
+     * @return The number of misses.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * getHitRate Returns the share of queries answered from the cache.
+     * @return The hit rate between 0 and 1, or 0 if there were no queries.
+     */
+    public double getHitRate() {
+        long queries = hits + misses;
+        return queries == 0 ? 0 : (double) hits / queries;
+    }
+
+    /**
+     * getEvictions Returns the number of least recently used entries dropped to stay within the memory budget.
+     * @return The number of evictions.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    /**
+     * getInvalidations Returns the number of entries dropped because the Graph changed after they were computed.
+     * @return The number of invalidations.
+     */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    /**
+     * getEntries Returns the number of entries held.
+     * @return The number of entries.
+     */
+    public int getEntries() {
+        return entries;
+    }
+
+    /**
+     * getEstimatedBytes Returns the estimated heap held by the entries.
+     * @return The estimated size in bytes.
+     */
+    public long getEstimatedBytes() {
+        return estimatedBytes;
+    }
+
+    /**
+     * getMaxBytes Returns the memory budget of the cache.
+     * @return The budget in bytes.
+     */
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    @Override
+    public String toString() {
+        return "hits " + hits + ", misses " + misses + ", evictions " + evictions + ", invalidations " +
+                invalidations + ", entries " + entries + ", bytes " + estimatedBytes + "/" + maxBytes;
+    }
+}
@@ -0,0 +1,98 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Result of a component computation: the component id of every vertex, indexed by the vertex slots of the searched
+ * snapshot. Ids run densely from 0 to the number of components - 1.
+ * @param <T> The vertex type.
+ */
+public class ComponentLabels<T> {
+    private final CompressedSparseRowGraph<T> graph;
+    private final int[] labels;
+    private final int totalComponents;
+    private int[] sizes;
+
+    /**
+     * Constructor wraps the labels of a finished computation.
+     * @param graph The searched snapshot.
+     * @param labels The component id of each slot.
+     * @param totalComponents The number of components.
+     */
+    ComponentLabels(CompressedSparseRowGraph<T> graph, int[] labels, int totalComponents) {
+        this.graph = graph;
+        this.labels = labels;
+        this.totalComponents = totalComponents;
+    }
+
+    /**
+     * getComponent Returns the component id of a vertex.
+     * @param vertex The vertex to check.
+     * @return The component id, or a negative number if the vertex is not present.
+     */
+    public int getComponent(T vertex) {
+        int slot = graph.slotOf(vertex);
+        return slot < 0 ? -1 : labels[slot];
+    }
+
+    /**
+     * isSameComponent Checks if two vertices are in the same component.
+     * @param first The first vertex.
+     * @param second The second vertex.
+     * @return True if both vertices are present and in the same component, false otherwise.
+     */
+    public boolean isSameComponent(T first, T second) {
+        int component = getComponent(first);
+        return component >= 0 && component == getComponent(second);
+    }
+
+    /**
+     * getTotalComponents Returns the number of components.
+     * @return The number of components.
+     */
+    public int getTotalComponents() {
+        return totalComponents;
+    }
+
+    /**
+     * getComponentSize Returns the number of vertices in a component. Sizes are counted on first use.
+     * @param component The component id.
+     * @return The number of vertices, or 0 if the id is out of range.
+     */
+    public int getComponentSize(int component) {
+        if(component < 0 || component >= totalComponents) {
+            return 0;
+        }
+        if(sizes == null) {
+            int[] counted = new int[totalComponents];
+            for(int label : labels) {
+                counted[label]++;
+            }
+            sizes = counted;
+        }
+        return sizes[component];
+    }
+
+    /**
+     * getLabels Returns the component id of every slot. The array is shared with the result and must not be
+     * modified.
+     * @return The component ids indexed by slot.
+     */
+    public int[] getLabels() {
+        return labels;
+    }
+
+    /**
+     * toMap Copies the labels into a map from vertex to component id.
+     * @return A new map holding the component id of every vertex.
+     */
+    public Map<T, Integer> toMap() {
+        Map<T, Integer> map = new HashMap<>(labels.length * 2);
+        for(int i = 0; i < labels.length; i++) {
+            map.put(graph.vertexAt(i), labels[i]);
+        }
+        return map;
+    }
+}
@@ -0,0 +1,485 @@
+package algorithms;
+
+import graphs.DirectedWeightedGraph;
+import graphs.MutationListener;
+import graphs.MutationSource;
+import graphs.NeighborConsumer;
+import graphs.ReadOnlyGraphInterface;
+import graphs.UndirectedWeightedGraph;
+import structures.IndexedDaryHeap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Single-source shortest path tree kept up to date while its Graph changes. The tree adds itself as a MutationListener
+ * of the Graph and repairs only the part of the tree a change affects, in the manner of Ramalingam and Reps. Any number
+ * of trees, from different sources, can follow one Graph next to its other listeners.
+ *
+ * An edge that is added or made lighter only lowers distances, so a Dijkstra search starts at its head and stops as
+ * soon as no distance improves. An edge of the tree that is removed or made heavier first runs through the subtree
+ * below it in order of old distance: a vertex that still has a predecessor outside the affected part at the same
+ * distance is re-hung from it and its subtree is left alone, while every other vertex is affected. Each affected
+ * vertex then takes the best edge from an unaffected vertex, and a Dijkstra search over the affected vertices alone
+ * settles their new distances. Changes to edges outside the tree cost nothing beyond a lookup.
+ *
+ * Predecessors are read through the Directed Graph's in-edge index, so that Graph should be built with one; without
+ * it every lookup of a vertex's predecessors scans the whole Graph. A removed vertex is repaired through the removal
+ * of its edges, which the Graph reports before the vertex itself; once it is gone the tree is scanned once to find
+ * its children.
+ * @param <T> The vertex type.
+ */
+public class DynamicShortestPaths<T> implements MutationListener<T> {
+    private static final long UNREACHED = Long.MAX_VALUE;
+    private static final int NO_PREDECESSOR = -1;
+    private static final int HEAP_ARITY = 4;
+    private static final byte IDLE = 0;
+    private static final byte PENDING = 1;
+    private static final byte KEPT = 2;
+    private static final byte AFFECTED = 3;
+    private final ReadOnlyGraphInterface<T> graph;
+    private final MutationSource<T> registration;
+    private final NeighborSource<T> inEdges;
+    private final boolean undirected;
+    private final T source;
+    private final List<T> vertices = new ArrayList<>();
+    private final Map<T, Integer> ids = new HashMap<>();
+    private final IndexedDaryHeap heap;
+    private final NeighborConsumer<T> relaxer = this::relax;
+    private final NeighborConsumer<T> supportFinder = this::findSupport;
+    private final NeighborConsumer<T> childCollector = this::collectChild;
+    private final NeighborConsumer<T> incomingFinder = this::findIncoming;
+    private long[] distances;
+    private int[] predecessors;
+    private byte[] states;
+    private int[] examined;
+    private int totalExamined = 0;
+    private int current;
+    private int support;
+    private int lastTouched = 0;
+    private long totalTouched = 0;
+    private long totalUpdates = 0;
+
+    /**
+     * Enumerates the vertices at the other end of a vertex's edges in one direction, with their weights.
+     */
+    @FunctionalInterface
+    private interface NeighborSource<T> {
+        void forEach(T vertex, NeighborConsumer<T> consumer);
+    }
+
+    /**
+     * Constructor computes the shortest path tree of a Directed Graph from a source and registers for its changes.
+     * @param graph The Graph to follow, best built with an in-edge index.
+     * @param source The source vertex. If it is not present every vertex is unreachable until it is added.
+     */
+    public DynamicShortestPaths(DirectedWeightedGraph<T> graph, T source) {
+        this(graph, graph, graph::forEachPredecessor, false, source);
+    }
+
+    /**
+     * Constructor computes the shortest path tree of an Undirected Graph from a source and registers for its changes.
+     * @param graph The Graph to follow.
+     * @param source The source vertex. If it is not present every vertex is unreachable until it is added.
+     */
+    public DynamicShortestPaths(UndirectedWeightedGraph<T> graph, T source) {
+        this(graph, graph, graph::forEachNeighbor, true, source);
+    }
+
+    private DynamicShortestPaths(ReadOnlyGraphInterface<T> graph, MutationSource<T> registration,
+                                 NeighborSource<T> inEdges, boolean undirected, T source) {
+        this.graph = graph;
+        this.registration = registration;
+        this.inEdges = inEdges;
+        this.undirected = undirected;
+        this.source = source;
+        int expected = Math.max(graph.getTotalVertices(), 1);
+        heap = new IndexedDaryHeap(HEAP_ARITY, expected);
+        distances = new long[expected];
+        predecessors = new int[expected];
+        states = new byte[expected];
+        examined = new int[expected];
+        if(graph.hasVertex(source)) {
+            int id = discover(source);
+            distances[id] = 0;
+            heap.insertOrDecrease(id, 0);
+            lastTouched = settle();
+        }
+        registration.addMutationListener(this);
+    }
+
+    /**
+     * unregister Stops following the Graph, leaving its other listeners in place. The tree keeps answering queries
+     * for the state it last saw.
+     */
+    public void unregister() {
+        registration.removeMutationListener(this);
+    }
+
+    /**
+     * getSource Returns the source vertex of the tree.
+     * @return The source vertex.
+     */
+    public T getSource() {
+        return source;
+    }
+
+    /**
+     * hasPathTo Checks if a vertex is reachable from the source.
+     * @param vertex The vertex to check.
+     * @return True if a path from the source exists, false otherwise.
+     */
+    public boolean hasPathTo(T vertex) {
+        return idOf(vertex) >= 0;
+    }
+
+    /**
+     * getDistance Returns the length of the shortest path from the source to a vertex.
+     * @param vertex The vertex to check.
+     * @return The shortest distance, or a negative number if the vertex is not reachable.
+     */
+    public long getDistance(T vertex) {
+        int id = idOf(vertex);
+        return id < 0 ? -1 : distances[id];
+    }
+
+    /**
+     * getPredecessor Returns the vertex before a vertex on its shortest path from the source.
+     * @param vertex The vertex to check.
+     * @return The predecessor, or null for the source and for unreachable vertices.
+     */
+    public T getPredecessor(T vertex) {
+        int id = idOf(vertex);
+        if(id < 0 || predecessors[id] == NO_PREDECESSOR) {
+            return null;
+        }
+        return vertices.get(predecessors[id]);
+    }
+
+    /**
+     * pathTo Returns a shortest path from the source to a vertex.
+     * @param vertex The target vertex.
+     * @return The path, or null if the vertex is not reachable.
+     */
+    public Path<T> pathTo(T vertex) {
+        int id = idOf(vertex);
+        if(id < 0) {
+            return null;
+        }
+        List<T> path = new ArrayList<>();
+        for(int parser = id; parser != NO_PREDECESSOR; parser = predecessors[parser]) {
+            path.add(vertices.get(parser));
+        }
+        Collections.reverse(path);
+        return new Path<>(path, distances[id]);
+    }
+
+    /**
+     * getLastTouched Returns how many vertices the last change examined, counting every vertex whose distance was
+     * lowered, checked for a new predecessor or recomputed. The first value is the size of the initial search.
+     * @return The number of vertices the last change touched.
+     */
+    public int getLastTouched() {
+        return lastTouched;
+    }
+
+    /**
+     * getTotalTouched Returns the number of vertices touched by every change since the tree was built.
+     * @return The total number of touched vertices.
+     */
+    public long getTotalTouched() {
+        return totalTouched;
+    }
+
+    /**
+     * getTotalUpdates Returns the number of Graph changes the tree has processed.
+     * @return The number of processed changes.
+     */
+    public long getTotalUpdates() {
+        return totalUpdates;
+    }
+
+    public void vertexAdded(T vertex, long version) {
+        int touched = 0;
+        if(vertex.equals(source)) {
+            int id = discover(vertex);
+            distances[id] = 0;
+            predecessors[id] = NO_PREDECESSOR;
+            touched = 1;
+        }
+        record(touched);
+    }
+
+    public void vertexRemoved(T vertex, long version) {
+        int touched = 0;
+        if(vertex.equals(source)) {
+            for(int i = 0; i < vertices.size(); i++) {
+                if(distances[i] != UNREACHED) {
+                    distances[i] = UNREACHED;
+                    predecessors[i] = NO_PREDECESSOR;
+                    touched++;
+                }
+            }
+        }
+        record(touched);
+    }
+
+    public void edgeAdded(T source, T destination, int weight, long version) {
+        int touched = lower(source, destination, weight);
+        if(undirected) {
+            touched += lower(destination, source, weight);
+        }
+        record(touched);
+    }
+
+    public void edgeRemoved(T source, T destination, int weight, long version) {
+        int touched = raise(source, destination, weight);
+        if(undirected) {
+            touched += raise(destination, source, weight);
+        }
+        record(touched);
+    }
+
+    public void edgeReweighted(T source, T destination, int oldWeight, int newWeight, long version) {
+        if(newWeight < oldWeight) {
+            edgeAdded(source, destination, newWeight, version);
+        } else if(newWeight > oldWeight) {
+            edgeRemoved(source, destination, oldWeight, version);
+        } else {
+            record(0);
+        }
+    }
+
+    /**
+     * lower Repairs the tree after an edge became available or lighter, searching onward from its head while
+     * distances improve.
+     * @param tail The vertex the edge leaves.
+     * @param head The vertex the edge enters.
+     * @param weight The current weight of the edge.
+     * @return The number of vertices whose distance was lowered.
+     */
+    private int lower(T tail, T head, int weight) {
+        int from = idOf(tail);
+        if(from < 0) {
+            return 0;
+        }
+        int to = discover(head);
+        long candidate = distances[from] + weight;
+        if(candidate >= distances[to]) {
+            return 0;
+        }
+        distances[to] = candidate;
+        predecessors[to] = from;
+        heap.insertOrDecrease(to, candidate);
+        return settle();
+    }
+
+    /**
+     * raise Repairs the tree after an edge disappeared or became heavier. Only an edge the tree runs through can raise
+     * any distance.
+     * @param tail The vertex the edge leaves.
+     * @param head The vertex the edge enters.
+     * @param weight The weight the edge had.
+     * @return The number of vertices examined.
+     */
+    private int raise(T tail, T head, int weight) {
+        int from = idOf(tail);
+        int to = idOf(head);
+        if(from < 0 || to < 0 || predecessors[to] != from || distances[from] + weight != distances[to]) {
+            return 0;
+        }
+        enqueueCandidate(to);
+        return raise();
+    }
+
+    /**
+     * raise Sorts the queued candidates and their subtrees into vertices that keep their distance through another
+     * predecessor and vertices whose distance rises, then settles the new distances of the latter.
+     * @return The number of vertices examined.
+     */
+    private int raise() {
+        List<Integer> affected = new ArrayList<>();
+        while(!heap.isEmpty()) {
+            current = heap.pollMin();
+            support = NO_PREDECESSOR;
+            T vertex = vertices.get(current);
+            inEdges.forEach(vertex, supportFinder);
+            if(support != NO_PREDECESSOR) {
+                predecessors[current] = support;
+                states[current] = KEPT;
+            } else {
+                states[current] = AFFECTED;
+                affected.add(current);
+                collectChildren(vertex);
+            }
+        }
+        for(int id : affected) {
+            distances[id] = UNREACHED;
+            predecessors[id] = NO_PREDECESSOR;
+        }
+        for(int id : affected) {
+            current = id;
+            inEdges.forEach(vertices.get(id), incomingFinder);
+            if(distances[id] != UNREACHED) {
+                heap.insertOrDecrease(id, distances[id]);
+            }
+        }
+        int touched = totalExamined;
+        for(int i = 0; i < totalExamined; i++) {
+            states[examined[i]] = IDLE;
+        }
+        totalExamined = 0;
+        settle();
+        return touched;
+    }
+
+    /**
+     * enqueueCandidate Queues a vertex whose distance may rise, keyed by its old distance.
+     * @param id The id of the vertex.
+     */
+    private void enqueueCandidate(int id) {
+        states[id] = PENDING;
+        if(totalExamined == examined.length) {
+            examined = Arrays.copyOf(examined, examined.length * 2);
+        }
+        examined[totalExamined++] = id;
+        heap.insertOrDecrease(id, distances[id]);
+    }
+
+    /**
+     * settle Runs Dijkstra from the queued vertices until the frontier is empty. Vertices whose distance cannot
+     * improve are never queued, so the search stays within the part of the tree being repaired.
+     * @return The number of vertices settled.
+     */
+    private int settle() {
+        int settled = 0;
+        while(!heap.isEmpty()) {
+            current = heap.pollMin();
+            settled++;
+            graph.forEachNeighbor(vertices.get(current), relaxer);
+        }
+        return settled;
+    }
+
+    /**
+     * relax Lowers the distance of a neighbor of the vertex being settled if the connecting edge is shorter.
+     * @param neighbor The neighbor at the other end of the edge.
+     * @param weight The weight of the edge.
+     */
+    private void relax(T neighbor, int weight) {
+        int id = discover(neighbor);
+        long candidate = distances[current] + weight;
+        if(candidate < distances[id]) {
+            distances[id] = candidate;
+            predecessors[id] = current;
+            heap.insertOrDecrease(id, candidate);
+        }
+    }
+
+    /**
+     * findSupport Checks if an edge into the candidate comes from a vertex known to keep its distance and still
+     * yields the candidate's distance. A vertex strictly closer to the source has already been sorted if it was a
+     * candidate; at equal distance, across an edge of weight 0, only a vertex already found to keep its distance
+     * counts.
+     * @param predecessor The vertex the edge leaves.
+     * @param weight The weight of the edge.
+     */
+    private void findSupport(T predecessor, int weight) {
+        Integer id = ids.get(predecessor);
+        if(support != NO_PREDECESSOR || id == null || id == current || distances[id] == UNREACHED) {
+            return;
+        }
+        boolean settled = states[id] == KEPT || (states[id] == IDLE && distances[id] < distances[current]);
+        if(settled && distances[id] + weight == distances[current]) {
+            support = id;
+        }
+    }
+
+    /**
+     * collectChildren Queues the tree children of an affected vertex as candidates. A vertex already removed from the
+     * Graph has no edges left to follow, so the tree is scanned for its children instead.
+     * @param vertex The affected vertex.
+     */
+    private void collectChildren(T vertex) {
+        if(graph.hasVertex(vertex)) {
+            graph.forEachNeighbor(vertex, childCollector);
+            return;
+        }
+        for(int i = 0; i < vertices.size(); i++) {
+            if(predecessors[i] == current && states[i] == IDLE) {
+                enqueueCandidate(i);
+            }
+        }
+    }
+
+    /**
+     * collectChild Queues a tree child of an affected vertex as a candidate.
+     * @param child The vertex at the other end of an edge of the affected vertex.
+     * @param weight The weight of the edge.
+     */
+    private void collectChild(T child, int weight) {
+        Integer id = ids.get(child);
+        if(id != null && predecessors[id] == current && states[id] == IDLE) {
+            enqueueCandidate(id);
+        }
+    }
+
+    /**
+     * findIncoming Offers an affected vertex the path through an edge from an unaffected vertex.
+     * @param predecessor The vertex the edge leaves.
+     * @param weight The weight of the edge.
+     */
+    private void findIncoming(T predecessor, int weight) {
+        Integer id = ids.get(predecessor);
+        if(id == null || states[id] == AFFECTED || distances[id] == UNREACHED) {
+            return;
+        }
+        long candidate = distances[id] + weight;
+        if(candidate < distances[current]) {
+            distances[current] = candidate;
+            predecessors[current] = id;
+        }
+    }
+
+    /**
+     * record Counts a processed change.
+     * @param touched The number of vertices the change touched.
+     */
+    private void record(int touched) {
+        lastTouched = touched;
+        totalTouched += touched;
+        totalUpdates++;
+    }
+
+    /**
+     * discover Returns the id of a vertex, handing out the next id the first time the vertex is seen.
+     * @param vertex The vertex.
+     * @return The id of the vertex.
+     */
+    private int discover(T vertex) {
+        Integer id = ids.get(vertex);
+        if(id != null) {
+            return id;
+        }
+        int next = vertices.size();
+        if(next == distances.length) {
+            int grown = next * 2;
+            distances = Arrays.copyOf(distances, grown);
+            predecessors = Arrays.copyOf(predecessors, grown);
+            states = Arrays.copyOf(states, grown);
+        }
+        vertices.add(vertex);
+        ids.put(vertex, next);
+        distances[next] = UNREACHED;
+        predecessors[next] = NO_PREDECESSOR;
+        return next;
+    }
+
+    private int idOf(T vertex) {
+        Integer id = ids.get(vertex);
+        return id == null || distances[id] == UNREACHED ? -1 : id;
+    }
+}
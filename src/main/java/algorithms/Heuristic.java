@@ -0,0 +1,13 @@
+package algorithms;
+
+/**
+ * Lower bound on the shortest distance between two vertices, guiding an A* search. An estimate must never exceed the
+ * true distance, and for every edge from u to v it must not exceed the edge weight plus the estimate from v, so that
+ * each vertex's distance is final when the search settles it. An estimate of Long.MAX_VALUE declares that the target
+ * cannot be reached from the vertex, and the search never queues it.
+ * @param <T> The vertex type.
+ */
+@FunctionalInterface
+public interface Heuristic<T> {
+    long estimate(T vertex, T target);
+}
@@ -0,0 +1,108 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ALT heuristic: precomputed shortest distances from and to a small set of landmark vertices. For any landmark L the
+ * triangle inequality gives d(v, t) of at least d(L, t) - d(L, v) and at least d(v, L) - d(t, L), and the estimate is
+ * the largest such bound over every landmark. A landmark that reaches v but not t, or that t reaches but v does not,
+ * proves that t cannot be reached from v at all. Distances are stored vertex-major, so the bounds of one vertex are
+ * read from one contiguous run of each array.
+ * @param <T> The vertex type.
+ */
+public class Landmarks<T> implements Heuristic<T> {
+    static final long UNREACHABLE = Long.MAX_VALUE;
+    private final CompressedSparseRowGraph<T> graph;
+    private final int[] landmarks;
+    private final long[] fromLandmarks;
+    private final long[] toLandmarks;
+
+    /**
+     * Constructor wraps the distances computed by the preprocessing step.
+     * @param graph The snapshot the distances were computed on.
+     * @param landmarks The slot of each landmark.
+     * @param fromLandmarks The distance from landmark i to slot v at position v * count + i.
+     * @param toLandmarks The distance from slot v to landmark i at position v * count + i.
+     */
+    Landmarks(CompressedSparseRowGraph<T> graph, int[] landmarks, long[] fromLandmarks, long[] toLandmarks) {
+        this.graph = graph;
+        this.landmarks = landmarks;
+        this.fromLandmarks = fromLandmarks;
+        this.toLandmarks = toLandmarks;
+    }
+
+    /**
+     * estimate Returns a lower bound on the shortest distance between two vertices.
+     * @param vertex The vertex to estimate from.
+     * @param target The target vertex.
+     * @return The lower bound, 0 if either vertex is not present, or Long.MAX_VALUE if the target is not reachable.
+     */
+    public long estimate(T vertex, T target) {
+        int slot = graph.slotOf(vertex);
+        int targetSlot = graph.slotOf(target);
+        return slot < 0 || targetSlot < 0 ? 0 : estimate(slot, targetSlot);
+    }
+
+    /**
+     * getLandmarks Returns the landmark vertices in the order they were chosen.
+     * @return A new list of the landmarks.
+     */
+    public List<T> getLandmarks() {
+        List<T> vertices = new ArrayList<>(landmarks.length);
+        for(int slot : landmarks) {
+            vertices.add(graph.vertexAt(slot));
+        }
+        return vertices;
+    }
+
+    /**
+     * getTotalLandmarks Returns the number of landmarks.
+     * @return The number of landmarks.
+     */
+    public int getTotalLandmarks() {
+        return landmarks.length;
+    }
+
+    /**
+     * estimate Returns a lower bound on the shortest distance between two slots of the snapshot. Landmarks that reach
+     * or are reached by neither slot give no bound.
+     * @param slot The slot to estimate from.
+     * @param targetSlot The target slot.
+     * @return The lower bound, or UNREACHABLE if the target slot is not reachable.
+     */
+    long estimate(int slot, int targetSlot) {
+        int count = landmarks.length;
+        int v = slot * count;
+        int t = targetSlot * count;
+        long best = 0;
+        for(int i = 0; i < count; i++) {
+            long fromV = fromLandmarks[v + i];
+            long fromT = fromLandmarks[t + i];
+            if(fromV != UNREACHABLE) {
+                if(fromT == UNREACHABLE) {
+                    return UNREACHABLE;
+                }
+                best = Math.max(best, fromT - fromV);
+            }
+            long toV = toLandmarks[v + i];
+            long toT = toLandmarks[t + i];
+            if(toT != UNREACHABLE) {
+                if(toV == UNREACHABLE) {
+                    return UNREACHABLE;
+                }
+                best = Math.max(best, toV - toT);
+            }
+        }
+        return best;
+    }
+
+    /**
+     * getGraph Returns the snapshot the distances were computed on.
+     * @return The snapshot.
+     */
+    CompressedSparseRowGraph<T> getGraph() {
+        return graph;
+    }
+}
@@ -0,0 +1,275 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import graphs.Edge;
+import graphs.UndirectedWeightedGraph;
+import structures.UnionFind;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Minimum spanning forests of an Undirected Graph, computed over a compressed sparse row snapshot in which every edge
+ * is stored once from each endpoint. Edges are compared by weight and then by their position in the snapshot, packed
+ * together into one long key, and an edge is only taken if a union-find shows it joins two different trees, so ties
+ * between equal weights never close a cycle.
+ * @param <T> The vertex type.
+ */
+public class MinimumSpanningForest<T> {
+    private static final long NO_EDGE = Long.MAX_VALUE;
+    private static final int GRAIN = 2048;
+    private final CompressedSparseRowGraph<T> graph;
+    private final ForkJoinPool pool;
+
+    /**
+     * Constructor freezes a Graph and searches the snapshot on the common pool.
+     * @param graph The Graph to search.
+     */
+    public MinimumSpanningForest(UndirectedWeightedGraph<T> graph) {
+        this(graph.freeze(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor freezes a Graph and searches the snapshot on a particular pool.
+     * @param graph The Graph to search.
+     * @param pool The pool running the Boruvka rounds.
+     */
+    public MinimumSpanningForest(UndirectedWeightedGraph<T> graph, ForkJoinPool pool) {
+        this(graph.freeze(), pool);
+    }
+
+    /**
+     * Constructor searches a snapshot on the common pool. Every edge of the snapshot must be stored from both of its
+     * endpoints with the same weight, as in the snapshot of an Undirected Graph.
+     * @param graph The snapshot to search.
+     */
+    public MinimumSpanningForest(CompressedSparseRowGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor searches a snapshot on a particular pool. Every edge of the snapshot must be stored from both of its
+     * endpoints with the same weight, as in the snapshot of an Undirected Graph.
+     * @param graph The snapshot to search.
+     * @param pool The pool running the Boruvka rounds.
+     */
+    public MinimumSpanningForest(CompressedSparseRowGraph<T> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * kruskal Computes the forest with Kruskal's algorithm: every edge is sorted once and then added in order unless a
+     * union-find shows its endpoints are already connected. Runs on the calling thread.
+     * @return The minimum spanning forest.
+     */
+    public SpanningForest<T> kruskal() {
+        int n = graph.getTotalVertices();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        int[] sources = sources();
+        int total = 0;
+        for(int e = 0; e < targets.length; e++) {
+            if(sources[e] < targets[e]) {
+                total++;
+            }
+        }
+        long[] keys = new long[total];
+        int next = 0;
+        for(int u = 0; u < n; u++) {
+            for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+                if(u < targets[e]) {
+                    keys[next++] = key(weights[e], e);
+                }
+            }
+        }
+        Arrays.sort(keys);
+        UnionFind sets = new UnionFind(n);
+        Builder builder = new Builder(sources);
+        for(int i = 0; i < keys.length && sets.getTotalSets() > 1; i++) {
+            int e = (int) keys[i];
+            if(sets.union(sources[e], targets[e])) {
+                builder.add(e);
+            }
+        }
+        return builder.build(sets.getTotalSets());
+    }
+
+    /**
+     * boruvka Computes the forest with Boruvka's algorithm. Each round finds the lightest edge leaving every
+     * component, scanning ranges of vertices in parallel on the pool, then merges the components along those edges.
+     * The number of components at least halves each round, so there are at most log2 of the vertex count rounds.
+     * @return The minimum spanning forest.
+     */
+    public SpanningForest<T> boruvka() {
+        int n = graph.getTotalVertices();
+        int[] targets = graph.getTargets();
+        int[] sources = sources();
+        Round round = new Round(n);
+        UnionFind sets = new UnionFind(n);
+        Builder builder = new Builder(sources);
+        boolean merged = true;
+        while(merged && sets.getTotalSets() > 1) {
+            round.run();
+            merged = false;
+            for(int c = 0; c < n; c++) {
+                long cheapest = round.cheapest.get(c);
+                if(cheapest != NO_EDGE) {
+                    round.cheapest.set(c, NO_EDGE);
+                    int e = (int) cheapest;
+                    if(sets.union(sources[e], targets[e])) {
+                        builder.add(e);
+                        merged = true;
+                    }
+                }
+            }
+            for(int v = 0; v < n; v++) {
+                round.component[v] = sets.find(v);
+            }
+        }
+        return builder.build(sets.getTotalSets());
+    }
+
+    /**
+     * key Packs the weight and position of an edge into a key ordered by weight and then position.
+     * @param weight The non-negative weight of the edge.
+     * @param position The position of the edge in the snapshot.
+     * @return The key of the edge.
+     */
+    private static long key(int weight, int position) {
+        return (long) weight << 32 | position;
+    }
+
+    /**
+     * sources Returns the source slot of every edge position of the snapshot.
+     * @return The source slot of each edge.
+     */
+    private int[] sources() {
+        int[] offsets = graph.getOffsets();
+        int[] sources = new int[graph.getTotalEdges()];
+        for(int u = 0; u < graph.getTotalVertices(); u++) {
+            Arrays.fill(sources, offsets[u], offsets[u + 1], u);
+        }
+        return sources;
+    }
+
+    /**
+     * Collects the edges of the forest and their total weight.
+     */
+    private class Builder {
+        private final int[] sources;
+        private final List<Edge<T>> edges = new ArrayList<>();
+        private long totalWeight = 0;
+
+        Builder(int[] sources) {
+            this.sources = sources;
+        }
+
+        /**
+         * add Adds the edge at a position of the snapshot, running from its endpoint with the lower slot.
+         * @param position The position of the edge.
+         */
+        void add(int position) {
+            int u = sources[position];
+            int v = graph.getTargets()[position];
+            int weight = graph.getWeights()[position];
+            edges.add(new Edge<>(graph.vertexAt(Math.min(u, v)), graph.vertexAt(Math.max(u, v)), weight));
+            totalWeight += weight;
+        }
+
+        SpanningForest<T> build(int totalTrees) {
+            return new SpanningForest<>(edges, totalWeight, totalTrees);
+        }
+    }
+
+    /**
+     * State shared by the Boruvka rounds: the component of every vertex as of the start of the round and the key of
+     * the lightest edge found leaving each component, lowered with compare-and-set by the scanning tasks.
+     */
+    private class Round {
+        private final int n;
+        private final int[] offsets;
+        private final int[] targets;
+        private final int[] weights;
+        private final int[] component;
+        private final AtomicLongArray cheapest;
+
+        Round(int n) {
+            this.n = n;
+            offsets = graph.getOffsets();
+            targets = graph.getTargets();
+            weights = graph.getWeights();
+            component = new int[n];
+            for(int v = 0; v < n; v++) {
+                component[v] = v;
+            }
+            cheapest = new AtomicLongArray(n);
+            for(int c = 0; c < n; c++) {
+                cheapest.set(c, NO_EDGE);
+            }
+        }
+
+        /**
+         * run Finds the lightest edge leaving every component, on the calling thread if the Graph fits in one grain.
+         */
+        void run() {
+            if(n <= GRAIN) {
+                scan(0, n);
+            } else {
+                pool.invoke(new ScanTask(0, n));
+            }
+        }
+
+        /**
+         * scan Finds the lightest edge leaving the component of each vertex in a range through that vertex, and lowers
+         * the component's cheapest key to it.
+         * @param from The first slot.
+         * @param to One past the last slot.
+         */
+        void scan(int from, int to) {
+            for(int u = from; u < to; u++) {
+                int c = component[u];
+                long best = NO_EDGE;
+                for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    if(component[targets[e]] != c) {
+                        best = Math.min(best, key(weights[e], e));
+                    }
+                }
+                if(best != NO_EDGE) {
+                    long current = cheapest.get(c);
+                    while(best < current && !cheapest.compareAndSet(c, current, best)) {
+                        current = cheapest.get(c);
+                    }
+                }
+            }
+        }
+
+        /**
+         * Splits a scan into ranges of slots until each range is at most one grain.
+         */
+        private class ScanTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+            private final int from;
+            private final int to;
+
+            ScanTask(int from, int to) {
+                this.from = from;
+                this.to = to;
+            }
+
+            @Override
+            protected void compute() {
+                if(to - from <= GRAIN) {
+                    scan(from, to);
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new ScanTask(from, mid), new ScanTask(mid, to));
+            }
+        }
+    }
+}
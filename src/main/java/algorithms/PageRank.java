@@ -0,0 +1,239 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import graphs.GraphInterface;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Weighted PageRank by power iteration over a compressed sparse row snapshot. A vertex passes its score to its
+ * out-neighbors in proportion to the weights of the connecting edges. Dangling vertices, which have no out-edges or
+ * only zero-weight ones, spread their score evenly over every vertex. Each iteration pulls the new score of every
+ * vertex from its in-edges in the snapshot's transpose, so ranges of vertices are computed in parallel on a fork/join
+ * pool without any shared writes.
+ * @param <T> The vertex type.
+ */
+public class PageRank<T> {
+    private static final double DEFAULT_DAMPING = 0.85;
+    private static final double DEFAULT_TOLERANCE = 1e-6;
+    private static final int DEFAULT_MAX_ITERATIONS = 100;
+    private static final int GRAIN = 2048;
+    private final CompressedSparseRowGraph<T> graph;
+    private final ForkJoinPool pool;
+    private double dampingFactor = DEFAULT_DAMPING;
+    private double tolerance = DEFAULT_TOLERANCE;
+    private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+    /**
+     * Constructor freezes a Graph and ranks the snapshot on the common pool.
+     * @param graph The Graph to rank.
+     */
+    public PageRank(GraphInterface<T> graph) {
+        this(graph.freeze(), ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor freezes a Graph and ranks the snapshot on a particular pool.
+     * @param graph The Graph to rank.
+     * @param pool The pool running each iteration.
+     */
+    public PageRank(GraphInterface<T> graph, ForkJoinPool pool) {
+        this(graph.freeze(), pool);
+    }
+
+    /**
+     * Constructor ranks a snapshot on the common pool.
+     * @param graph The snapshot to rank.
+     */
+    public PageRank(CompressedSparseRowGraph<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor ranks a snapshot on a particular pool.
+     * @param graph The snapshot to rank.
+     * @param pool The pool running each iteration.
+     */
+    public PageRank(CompressedSparseRowGraph<T> graph, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+    }
+
+    /**
+     * setDampingFactor Sets the probability of following an edge rather than jumping to a random vertex. If the
+     * parameter is not between 0 inclusive and 1 exclusive the default of 0.85 is invoked.
+     * @param dampingFactor The damping factor.
+     */
+    public void setDampingFactor(double dampingFactor) {
+        this.dampingFactor = dampingFactor >= 0 && dampingFactor < 1 ? dampingFactor : DEFAULT_DAMPING;
+    }
+
+    /**
+     * setTolerance Sets the total absolute change of the scores below which the iteration stops. If the parameter is
+     * not positive the default of 1e-6 is invoked.
+     * @param tolerance The tolerance.
+     */
+    public void setTolerance(double tolerance) {
+        this.tolerance = tolerance > 0 ? tolerance : DEFAULT_TOLERANCE;
+    }
+
+    /**
+     * setMaxIterations Sets the number of iterations after which the iteration stops even if it has not converged. If
+     * the parameter is not positive the default of 100 is invoked.
+     * @param maxIterations The iteration limit.
+     */
+    public void setMaxIterations(int maxIterations) {
+        this.maxIterations = maxIterations > 0 ? maxIterations : DEFAULT_MAX_ITERATIONS;
+    }
+
+    /**
+     * compute Runs the power iteration from a uniform distribution until it converges or reaches the iteration limit.
+     * @return The scores of every vertex.
+     */
+    public PageRankResult<T> compute() {
+        int n = graph.getTotalVertices();
+        if(n == 0) {
+            return new PageRankResult<>(graph, new double[0], 0, true);
+        }
+        Iteration iteration = new Iteration(n);
+        int iterations = 0;
+        double change = Double.MAX_VALUE;
+        while(iterations < maxIterations && change >= tolerance) {
+            change = iteration.step();
+            iterations++;
+        }
+        return new PageRankResult<>(graph, iteration.scores, iterations, change < tolerance);
+    }
+
+    /**
+     * State of one computation. The score of each vertex divided by its total out-weight is published before the
+     * scores are recomputed, so every vertex is written by exactly one task in each phase.
+     */
+    private class Iteration {
+        private final int n;
+        private final int[] outOffsets;
+        private final int[] outWeights;
+        private final int[] inOffsets;
+        private final int[] inSources;
+        private final int[] inWeights;
+        private final long[] totalOutWeight;
+        private final double[] shares;
+        private double[] scores;
+        private double[] nextScores;
+        private double base;
+
+        Iteration(int n) {
+            this.n = n;
+            outOffsets = graph.getOffsets();
+            outWeights = graph.getWeights();
+            CompressedSparseRowGraph<T> transpose = graph.transpose();
+            inOffsets = transpose.getOffsets();
+            inSources = transpose.getTargets();
+            inWeights = transpose.getWeights();
+            totalOutWeight = new long[n];
+            for(int u = 0; u < n; u++) {
+                for(int e = outOffsets[u]; e < outOffsets[u + 1]; e++) {
+                    totalOutWeight[u] += outWeights[e];
+                }
+            }
+            shares = new double[n];
+            scores = new double[n];
+            nextScores = new double[n];
+            Arrays.fill(scores, 1.0 / n);
+        }
+
+        /**
+         * step Runs one power iteration.
+         * @return The total absolute change of the scores.
+         */
+        double step() {
+            double dangling = run(false);
+            base = (1 - dampingFactor) / n + dampingFactor * dangling / n;
+            double change = run(true);
+            double[] swap = scores;
+            scores = nextScores;
+            nextScores = swap;
+            return change;
+        }
+
+        /**
+         * run Runs one phase over every vertex, on the calling thread if the Graph fits in one grain.
+         * @param pull True to recompute the scores, false to publish the shares.
+         * @return The sum reported by the phase.
+         */
+        private double run(boolean pull) {
+            if(n <= GRAIN) {
+                return pull ? pull(0, n) : share(0, n);
+            }
+            return pool.invoke(new PhaseTask(0, n, pull));
+        }
+
+        /**
+         * share Publishes the score each vertex passes per unit of out-weight.
+         * @param from The first slot.
+         * @param to One past the last slot.
+         * @return The total score of the dangling vertices in the range.
+         */
+        double share(int from, int to) {
+            double dangling = 0;
+            for(int u = from; u < to; u++) {
+                if(totalOutWeight[u] == 0) {
+                    shares[u] = 0;
+                    dangling += scores[u];
+                } else {
+                    shares[u] = scores[u] / totalOutWeight[u];
+                }
+            }
+            return dangling;
+        }
+
+        /**
+         * pull Recomputes the score of each vertex from the shares of its in-neighbors.
+         * @param from The first slot.
+         * @param to One past the last slot.
+         * @return The total absolute change of the scores in the range.
+         */
+        double pull(int from, int to) {
+            double change = 0;
+            for(int v = from; v < to; v++) {
+                double sum = 0;
+                for(int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                    sum += shares[inSources[e]] * inWeights[e];
+                }
+                double score = base + dampingFactor * sum;
+                change += Math.abs(score - scores[v]);
+                nextScores[v] = score;
+            }
+            return change;
+        }
+
+        /**
+         * Splits a phase into ranges of slots until each range is at most one grain, summing what the ranges report.
+         */
+        private class PhaseTask extends RecursiveTask<Double> {
+            private static final long serialVersionUID = 1L;
+            private final int from;
+            private final int to;
+            private final boolean pull;
+
+            PhaseTask(int from, int to, boolean pull) {
+                this.from = from;
+                this.to = to;
+                this.pull = pull;
+            }
+
+            @Override
+            protected Double compute() {
+                if(to - from <= GRAIN) {
+                    return pull ? pull(from, to) : share(from, to);
+                }
+                int mid = (from + to) >>> 1;
+                PhaseTask left = new PhaseTask(from, mid, pull);
+                left.fork();
+                double right = new PhaseTask(mid, to, pull).compute();
+                return left.join() + right;
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Result of a PageRank computation: the score of every vertex, indexed by the vertex slots of the ranked snapshot, and
+ * how the power iteration ended. Scores sum to 1.
+ * @param <T> The vertex type.
+ */
+public class PageRankResult<T> {
+    private final CompressedSparseRowGraph<T> graph;
+    private final double[] scores;
+    private final int iterations;
+    private final boolean converged;
+
+    /**
+     * Constructor wraps the scores of a finished computation.
+     * @param graph The ranked snapshot.
+     * @param scores The score of each slot.
+     * @param iterations The number of iterations run.
+     * @param converged Whether the last iteration changed the scores by less than the tolerance.
+     */
+    PageRankResult(CompressedSparseRowGraph<T> graph, double[] scores, int iterations, boolean converged) {
+        this.graph = graph;
+        this.scores = scores;
+        this.iterations = iterations;
+        this.converged = converged;
+    }
+
+    /**
+     * getScore Returns the score of a vertex.
+     * @param vertex The vertex to check.
+     * @return The score, or a negative number if the vertex is not present.
+     */
+    public double getScore(T vertex) {
+        int slot = graph.slotOf(vertex);
+        return slot < 0 ? -1 : scores[slot];
+    }
+
+    /**
+     * getScores Returns the score of every slot. The array is shared with the result and must not be modified.
+     * @return The scores indexed by slot.
+     */
+    public double[] getScores() {
+        return scores;
+    }
+
+    /**
+     * toMap Copies the scores into a map from vertex to score.
+     * @return A new map holding the score of every vertex.
+     */
+    public Map<T, Double> toMap() {
+        Map<T, Double> map = new HashMap<>(scores.length * 2);
+        for(int i = 0; i < scores.length; i++) {
+            map.put(graph.vertexAt(i), scores[i]);
+        }
+        return map;
+    }
+
+    /**
+     * getIterations Returns the number of power iterations run.
+     * @return The number of iterations.
+     */
+    public int getIterations() {
+        return iterations;
+    }
+
+    /**
+     * hasConverged Checks if the scores converged before the iteration limit.
+     * @return True if the last iteration changed the scores by less than the tolerance, false otherwise.
+     */
+    public boolean hasConverged() {
+        return converged;
+    }
+
+    /**
+     * getGraph Returns the snapshot that was ranked, which maps the slots of the score array.
+     * @return The ranked snapshot.
+     */
+    public CompressedSparseRowGraph<T> getGraph() {
+        return graph;
+    }
+}
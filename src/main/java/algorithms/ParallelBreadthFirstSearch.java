@@ -0,0 +1,352 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import graphs.GraphInterface;
+import graphs.UndirectedWeightedGraph;
+import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Direction-optimizing breadth-first search over a compressed sparse row snapshot, processing each level in parallel
+ * on a fork/join pool. Small frontiers are expanded top-down from a queue, each thread claiming newly reached vertices
+ * in a shared visited bitset. Once the frontier's out-edges outnumber a fraction of the unexplored edges the search
+ * switches to bottom-up steps, where every unvisited vertex scans its in-edges for a parent in the frontier bitset and
+ * each thread owns a disjoint range of bitset words. It switches back once the frontier shrinks again.
+ * The in-edges come from the snapshot's transpose, built on the first bottom-up level. An engine can run any number of
+ * searches, including concurrently.
+ * @param <T> The vertex type.
+ */
+public class ParallelBreadthFirstSearch<T> {
+    private static final int UNREACHED = -1;
+    private static final int ALPHA = 15;
+    private static final int BETA = 18;
+    private static final int TOP_DOWN_GRAIN = 512;
+    private static final int BOTTOM_UP_GRAIN = 64;
+    private final CompressedSparseRowGraph<T> graph;
+    private final ForkJoinPool pool;
+    private final int[] offsets;
+    private final int[] targets;
+    private final boolean symmetric;
+
+    /**
+     * Constructor freezes a Graph and searches the snapshot on the common pool.
+     * @param graph The Graph to search.
+     */
+    public ParallelBreadthFirstSearch(GraphInterface<T> graph) {
+        this(graph, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor freezes a Graph and searches the snapshot on a particular pool. The snapshot of an Undirected Graph
+     * holds every edge in both directions, so it doubles as its own transpose.
+     * @param graph The Graph to search.
+     * @param pool The pool running each level.
+     */
+    public ParallelBreadthFirstSearch(GraphInterface<T> graph, ForkJoinPool pool) {
+        this(graph.freeze(), graph instanceof UndirectedWeightedGraph, pool);
+    }
+
+    /**
+     * Constructor searches a snapshot on the common pool.
+     * @param graph The snapshot to search.
+     */
+    public ParallelBreadthFirstSearch(CompressedSparseRowGraph<T> graph) {
+        this(graph, false, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Constructor searches a snapshot on a particular pool.
+     * @param graph The snapshot to search.
+     * @param pool The pool running each level.
+     */
+    public ParallelBreadthFirstSearch(CompressedSparseRowGraph<T> graph, ForkJoinPool pool) {
+        this(graph, false, pool);
+    }
+
+    private ParallelBreadthFirstSearch(CompressedSparseRowGraph<T> graph, boolean symmetric, ForkJoinPool pool) {
+        this.graph = graph;
+        this.pool = pool;
+        this.symmetric = symmetric;
+        offsets = graph.getOffsets();
+        targets = graph.getTargets();
+    }
+
+    /**
+     * search Computes the hop distance and a parent of every vertex reachable from a source.
+     * @param source The source vertex.
+     * @return The breadth-first tree, or null if the source is not present.
+     */
+    public BreadthFirstTree<T> search(T source) {
+        int slot = graph.slotOf(source);
+        if(slot < 0) {
+            return null;
+        }
+        Search search = new Search(slot);
+        search.run();
+        return new BreadthFirstTree<>(graph, slot, search.distances, search.parents, search.totalReached);
+    }
+
+    /**
+     * getGraph Returns the snapshot being searched.
+     * @return The snapshot.
+     */
+    public CompressedSparseRowGraph<T> getGraph() {
+        return graph;
+    }
+
+    /**
+     * inEdges Returns the in-edges of the snapshot as offsets and source slots.
+     * @return The in-edge offsets followed by the in-edge sources.
+     */
+    private int[][] inEdges() {
+        if(symmetric) {
+            return new int[][] {offsets, targets};
+        }
+        CompressedSparseRowGraph<T> transpose = graph.transpose();
+        return new int[][] {transpose.getOffsets(), transpose.getTargets()};
+    }
+
+    /**
+     * State of one search. Distances and parents are written only by the thread that claimed a vertex, and every
+     * level ends with a join, so the next level observes them.
+     */
+    private class Search {
+        private final int n;
+        private final int words;
+        private final int[] distances;
+        private final int[] parents;
+        private final AtomicLongArray visited;
+        private final AtomicInteger nextSize = new AtomicInteger();
+        private final AtomicLong nextEdges = new AtomicLong();
+        private int[] queue;
+        private int[] nextQueue;
+        private long[] frontierBits;
+        private long[] nextBits;
+        private int[] inOffsets;
+        private int[] inSources;
+        private int level = 0;
+        private int totalReached = 1;
+
+        Search(int source) {
+            n = graph.getTotalVertices();
+            words = (n + 63) >>> 6;
+            distances = new int[n];
+            parents = new int[n];
+            Arrays.fill(distances, UNREACHED);
+            Arrays.fill(parents, UNREACHED);
+            visited = new AtomicLongArray(words);
+            queue = new int[n];
+            nextQueue = new int[n];
+            distances[source] = 0;
+            visited.set(source >>> 6, 1L << source);
+            queue[0] = source;
+        }
+
+        /**
+         * run Expands one level at a time until no vertex is reached, choosing the direction of each level.
+         */
+        void run() {
+            int frontierSize = 1;
+            long frontierEdges = offsets[queue[0] + 1] - offsets[queue[0]];
+            long unexploredEdges = targets.length;
+            int previousSize = 0;
+            boolean bottomUp = false;
+            while(frontierSize > 0) {
+                if(!bottomUp && frontierEdges > unexploredEdges / ALPHA) {
+                    toBitset(frontierSize);
+                    bottomUp = true;
+                } else if(bottomUp && frontierSize < previousSize && frontierSize < n / BETA) {
+                    toQueue();
+                    bottomUp = false;
+                }
+                unexploredEdges -= frontierEdges;
+                previousSize = frontierSize;
+                nextSize.set(0);
+                nextEdges.set(0);
+                if(bottomUp) {
+                    if(words <= BOTTOM_UP_GRAIN) {
+                        bottomUp(0, words);
+                    } else {
+                        pool.invoke(new LevelTask(0, words, BOTTOM_UP_GRAIN, true));
+                    }
+                    long[] swap = frontierBits;
+                    frontierBits = nextBits;
+                    nextBits = swap;
+                } else {
+                    if(frontierSize <= TOP_DOWN_GRAIN) {
+                        topDown(0, frontierSize);
+                    } else {
+                        pool.invoke(new LevelTask(0, frontierSize, TOP_DOWN_GRAIN, false));
+                    }
+                    int[] swap = queue;
+                    queue = nextQueue;
+                    nextQueue = swap;
+                }
+                frontierSize = nextSize.get();
+                frontierEdges = nextEdges.get();
+                totalReached += frontierSize;
+                level++;
+            }
+        }
+
+        /**
+         * topDown Expands a range of the frontier queue, claiming each unvisited neighbor and appending the claimed
+         * vertices to the next queue in one block.
+         * @param from The first frontier position.
+         * @param to One past the last frontier position.
+         */
+        void topDown(int from, int to) {
+            int[] found = new int[64];
+            int count = 0;
+            long edges = 0;
+            for(int i = from; i < to; i++) {
+                int u = queue[i];
+                for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+                    int v = targets[e];
+                    if(claim(v)) {
+                        distances[v] = level + 1;
+                        parents[v] = u;
+                        if(count == found.length) {
+                            found = Arrays.copyOf(found, count * 2);
+                        }
+                        found[count++] = v;
+                        edges += offsets[v + 1] - offsets[v];
+                    }
+                }
+            }
+            if(count > 0) {
+                System.arraycopy(found, 0, nextQueue, nextSize.getAndAdd(count), count);
+                nextEdges.addAndGet(edges);
+            }
+        }
+
+        /**
+         * bottomUp Checks every unvisited vertex of a range of bitset words for an in-neighbor in the frontier. The
+         * words are owned by the calling thread for the whole level.
+         * @param from The first word.
+         * @param to One past the last word.
+         */
+        void bottomUp(int from, int to) {
+            int count = 0;
+            long edges = 0;
+            for(int w = from; w < to; w++) {
+                long unvisited = ~visited.get(w);
+                int valid = n - (w << 6);
+                if(valid < 64) {
+                    unvisited &= (1L << valid) - 1;
+                }
+                long next = 0;
+                while(unvisited != 0) {
+                    long bit = Long.lowestOneBit(unvisited);
+                    unvisited ^= bit;
+                    int v = (w << 6) + Long.numberOfTrailingZeros(bit);
+                    for(int e = inOffsets[v]; e < inOffsets[v + 1]; e++) {
+                        int u = inSources[e];
+                        if((frontierBits[u >>> 6] & (1L << u)) != 0) {
+                            distances[v] = level + 1;
+                            parents[v] = u;
+                            next |= bit;
+                            count++;
+                            edges += offsets[v + 1] - offsets[v];
+                            break;
+                        }
+                    }
+                }
+                nextBits[w] = next;
+                if(next != 0) {
+                    visited.set(w, visited.get(w) | next);
+                }
+            }
+            if(count > 0) {
+                nextSize.addAndGet(count);
+                nextEdges.addAndGet(edges);
+            }
+        }
+
+        /**
+         * claim Sets the visited bit of a vertex unless another thread already did.
+         * @param v The slot of the vertex.
+         * @return True if this call set the bit, false if the vertex was already visited.
+         */
+        private boolean claim(int v) {
+            int w = v >>> 6;
+            long bit = 1L << v;
+            while(true) {
+                long current = visited.get(w);
+                if((current & bit) != 0) {
+                    return false;
+                }
+                if(visited.compareAndSet(w, current, current | bit)) {
+                    return true;
+                }
+            }
+        }
+
+        /**
+         * toBitset Converts the frontier queue to a bitset before the first bottom-up level.
+         * @param frontierSize The number of vertices in the frontier.
+         */
+        private void toBitset(int frontierSize) {
+            if(frontierBits == null) {
+                int[][] in = inEdges();
+                inOffsets = in[0];
+                inSources = in[1];
+                frontierBits = new long[words];
+                nextBits = new long[words];
+            } else {
+                Arrays.fill(frontierBits, 0);
+            }
+            for(int i = 0; i < frontierSize; i++) {
+                frontierBits[queue[i] >>> 6] |= 1L << queue[i];
+            }
+        }
+
+        /**
+         * toQueue Converts the frontier bitset to a queue before the first top-down level after bottom-up levels.
+         */
+        private void toQueue() {
+            int size = 0;
+            for(int w = 0; w < words; w++) {
+                for(long bits = frontierBits[w]; bits != 0; bits &= bits - 1) {
+                    queue[size++] = (w << 6) + Long.numberOfTrailingZeros(bits);
+                }
+            }
+        }
+
+        /**
+         * Splits a level into ranges of frontier positions or bitset words until each range is at most one grain.
+         */
+        private class LevelTask extends RecursiveAction {
+            private static final long serialVersionUID = 1L;
+            private final int from;
+            private final int to;
+            private final int grain;
+            private final boolean bottomUp;
+
+            LevelTask(int from, int to, int grain, boolean bottomUp) {
+                this.from = from;
+                this.to = to;
+                this.grain = grain;
+                this.bottomUp = bottomUp;
+            }
+
+            @Override
+            protected void compute() {
+                if(to - from <= grain) {
+                    if(bottomUp) {
+                        bottomUp(from, to);
+                    } else {
+                        topDown(from, to);
+                    }
+                    return;
+                }
+                int mid = (from + to) >>> 1;
+                invokeAll(new LevelTask(from, mid, grain, bottomUp), new LevelTask(mid, to, grain, bottomUp));
+            }
+        }
+    }
+}
@@ -0,0 +1,68 @@
+package algorithms;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * A path through a Graph together with the sum of its edge weights.
+ * @param <T> The vertex type.
+ */
+public class Path<T> {
+    private final List<T> vertices;
+    private final long distance;
+
+    /**
+     * Constructor sets the vertices of the path in order from source to target and the path's total weight.
+     * @param vertices The vertices of the path, starting with the source.
+     * @param distance The sum of the edge weights along the path.
+     */
+    public Path(List<T> vertices, long distance) {
+        this.vertices = Collections.unmodifiableList(vertices);
+        this.distance = distance;
+    }
+
+    /**
+     * getVertices Returns the vertices of the path in order from source to target.
+     * @return An unmodifiable list of the path's vertices.
+     */
+    public List<T> getVertices() {
+        return vertices;
+    }
+
+    /**
+     * getDistance Returns the sum of the edge weights along the path.
+     * @return The total weight of the path.
+     */
+    public long getDistance() {
+        return distance;
+    }
+
+    /**
+     * getSource Returns the first vertex of the path.
+     * @return The source vertex.
+     */
+    public T getSource() {
+        return vertices.get(0);
+    }
+
+    /**
+     * getTarget Returns the last vertex of the path.
+     * @return The target vertex.
+     */
+    public T getTarget() {
+        return vertices.get(vertices.size() - 1);
+    }
+
+    /**
+     * getTotalEdges Returns the number of edges along the path.
+     * @return The number of edges.
+     */
+    public int getTotalEdges() {
+        return vertices.size() - 1;
+    }
+
+    @Override
+    public String toString() {
+        return vertices + " (" + distance + ")";
+    }
+}
@@ -0,0 +1,53 @@
+package algorithms;
+
+/**
+ * Result of a single-pair shortest path query: the path found and the number of vertices the search settled to find
+ * it, which measures how much of the Graph the query had to explore.
+ * @param <T> The vertex type.
+ */
+public class PointToPointResult<T> {
+    private final Path<T> path;
+    private final int settledVertices;
+
+    /**
+     * Constructor wraps the outcome of a finished query.
+     * @param path The shortest path, or null if the target is not reachable.
+     * @param settledVertices The number of vertices settled, counting both directions of a bidirectional search.
+     */
+    PointToPointResult(Path<T> path, int settledVertices) {
+        this.path = path;
+        this.settledVertices = settledVertices;
+    }
+
+    /**
+     * hasPath Checks if the target was reached.
+     * @return True if a path was found, false otherwise.
+     */
+    public boolean hasPath() {
+        return path != null;
+    }
+
+    /**
+     * getPath Returns the shortest path found.
+     * @return The path, or null if the target is not reachable or either vertex is not present.
+     */
+    public Path<T> getPath() {
+        return path;
+    }
+
+    /**
+     * getDistance Returns the length of the shortest path.
+     * @return The shortest distance, or a negative number if there is no path.
+     */
+    public long getDistance() {
+        return path == null ? -1 : path.getDistance();
+    }
+
+    /**
+     * getSettledVertices Returns the number of vertices whose distance the search made final.
+     * @return The number of settled vertices.
+     */
+    public int getSettledVertices() {
+        return settledVertices;
+    }
+}
@@ -0,0 +1,378 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import graphs.GraphInterface;
+import structures.IndexedDaryHeap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Single-pair shortest path queries over a compressed sparse row snapshot: plain Dijkstra stopping at the target,
+ * bidirectional Dijkstra meeting in the middle over the snapshot and its transpose, and A* guided by any consistent
+ * heuristic, including the landmark distances built by preprocessLandmarks.
+ *
+ * Each thread keeps its own search state, sized once to the snapshot and reset between queries by advancing an
+ * epoch, so a query only touches the vertices it reaches and concurrent queries never share state.
+ * @param <T> The vertex type.
+ */
+public class PointToPointSearch<T> {
+    private static final int NO_PREDECESSOR = -1;
+    private static final int HEAP_ARITY = 4;
+    private static final int DEFAULT_LANDMARKS = 16;
+    private final CompressedSparseRowGraph<T> graph;
+    private final CompressedSparseRowGraph<T> transpose;
+    private final ThreadLocal<Frontier[]> frontiers;
+
+    /**
+     * Constructor freezes a Graph and searches the snapshot.
+     * @param graph The Graph to search.
+     */
+    public PointToPointSearch(GraphInterface<T> graph) {
+        this(graph.freeze());
+    }
+
+    /**
+     * Constructor searches a snapshot.
+     * @param graph The snapshot to search.
+     */
+    public PointToPointSearch(CompressedSparseRowGraph<T> graph) {
+        this.graph = graph;
+        this.transpose = graph.transpose();
+        int n = graph.getTotalVertices();
+        frontiers = ThreadLocal.withInitial(() -> new Frontier[]{new Frontier(n), new Frontier(n)});
+    }
+
+    /**
+     * dijkstra Finds a shortest path with Dijkstra's algorithm, stopping as soon as the target is settled.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The path and settled vertex count, or null if either vertex is not present.
+     */
+    public PointToPointResult<T> dijkstra(T source, T target) {
+        int s = graph.slotOf(source);
+        int t = graph.slotOf(target);
+        if(s < 0 || t < 0) {
+            return null;
+        }
+        return aStar(s, t, null);
+    }
+
+    /**
+     * bidirectional Finds a shortest path by growing one Dijkstra search forward from the source and one backward from
+     * the target over the transpose, always expanding the side with the smaller frontier key. The search stops once
+     * the two smallest keys together reach the shortest path seen where the searches touch.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The path and settled vertex count, or null if either vertex is not present.
+     */
+    public PointToPointResult<T> bidirectional(T source, T target) {
+        int s = graph.slotOf(source);
+        int t = graph.slotOf(target);
+        if(s < 0 || t < 0) {
+            return null;
+        }
+        Frontier[] pair = frontiers.get();
+        Frontier forward = pair[0];
+        Frontier backward = pair[1];
+        forward.begin(s);
+        backward.begin(t);
+        if(s == t) {
+            return new PointToPointResult<>(new Path<>(List.of(source), 0), 0);
+        }
+        long best = Long.MAX_VALUE;
+        int meeting = NO_PREDECESSOR;
+        int settled = 0;
+        while(!forward.heap.isEmpty() && !backward.heap.isEmpty()) {
+            long forwardKey = forward.heap.getKey(forward.heap.peekMin());
+            long backwardKey = backward.heap.getKey(backward.heap.peekMin());
+            if(best != Long.MAX_VALUE && forwardKey + backwardKey >= best) {
+                break;
+            }
+            boolean forwardStep = forwardKey <= backwardKey;
+            Frontier side = forwardStep ? forward : backward;
+            Frontier other = forwardStep ? backward : forward;
+            CompressedSparseRowGraph<T> direction = forwardStep ? graph : transpose;
+            int[] offsets = direction.getOffsets();
+            int[] targets = direction.getTargets();
+            int[] weights = direction.getWeights();
+            int u = side.heap.pollMin();
+            side.settle(u);
+            settled++;
+            for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                long candidate = side.distances[u] + weights[e];
+                if(!side.isSettled(v)) {
+                    side.relax(u, v, candidate, candidate);
+                }
+                if(other.isReached(v)) {
+                    long through = side.distances[v] + other.distances[v];
+                    if(through < best) {
+                        best = through;
+                        meeting = v;
+                    }
+                }
+            }
+        }
+        if(meeting == NO_PREDECESSOR) {
+            return new PointToPointResult<>(null, settled);
+        }
+        List<T> vertices = pathTo(forward, meeting);
+        for(int parser = backward.predecessors[meeting]; parser != NO_PREDECESSOR;
+            parser = backward.predecessors[parser]) {
+            vertices.add(graph.vertexAt(parser));
+        }
+        return new PointToPointResult<>(new Path<>(vertices, best), settled);
+    }
+
+    /**
+     * aStar Finds a shortest path with A*, settling vertices in order of their distance from the source plus the
+     * heuristic's estimate of their distance to the target.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @param heuristic The consistent lower bound guiding the search, or null to run plain Dijkstra.
+     * @return The path and settled vertex count, or null if either vertex is not present.
+     */
+    public PointToPointResult<T> aStar(T source, T target, Heuristic<T> heuristic) {
+        int s = graph.slotOf(source);
+        int t = graph.slotOf(target);
+        if(s < 0 || t < 0) {
+            return null;
+        }
+        if(heuristic instanceof Landmarks && ((Landmarks<T>) heuristic).getGraph() == graph) {
+            Landmarks<T> landmarks = (Landmarks<T>) heuristic;
+            return aStar(s, t, landmarks::estimate);
+        }
+        if(heuristic == null) {
+            return aStar(s, t, null);
+        }
+        return aStar(s, t, (slot, targetSlot) -> heuristic.estimate(graph.vertexAt(slot), target));
+    }
+
+    /**
+     * alt Finds a shortest path with A* guided by landmark distances.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @param landmarks The landmark distances built by preprocessLandmarks.
+     * @return The path and settled vertex count, or null if either vertex is not present.
+     */
+    public PointToPointResult<T> alt(T source, T target, Landmarks<T> landmarks) {
+        return aStar(source, target, landmarks);
+    }
+
+    /**
+     * preprocessLandmarks Chooses landmarks and computes the shortest distances from and to each of them. The first
+     * landmark is the vertex farthest from the first slot, and every later one is the vertex farthest from the
+     * landmarks already chosen, so the landmarks spread to the edges of the Graph where their bounds are tightest. If
+     * the parameter is not positive the default of 16 landmarks is invoked.
+     * @param count The number of landmarks, at most the number of vertices.
+     * @return The landmark distances.
+     */
+    public Landmarks<T> preprocessLandmarks(int count) {
+        int n = graph.getTotalVertices();
+        int k = Math.min(count > 0 ? count : DEFAULT_LANDMARKS, n);
+        int[] landmarks = new int[k];
+        long[] fromLandmarks = new long[n * k];
+        long[] toLandmarks = new long[n * k];
+        long[] distances = new long[n];
+        long[] nearest = new long[n];
+        boolean[] chosen = new boolean[n];
+        if(k > 0) {
+            sweep(graph, 0, nearest);
+        }
+        for(int i = 0; i < k; i++) {
+            int landmark = farthest(nearest, chosen);
+            landmarks[i] = landmark;
+            chosen[landmark] = true;
+            if(i == 0) {
+                Arrays.fill(nearest, Long.MAX_VALUE);
+            }
+            sweep(graph, landmark, distances);
+            for(int v = 0; v < n; v++) {
+                fromLandmarks[v * k + i] = distances[v];
+                nearest[v] = Math.min(nearest[v], distances[v]);
+            }
+            sweep(transpose, landmark, distances);
+            for(int v = 0; v < n; v++) {
+                toLandmarks[v * k + i] = distances[v];
+                nearest[v] = Math.min(nearest[v], distances[v]);
+            }
+        }
+        return new Landmarks<>(graph, landmarks, fromLandmarks, toLandmarks);
+    }
+
+    /**
+     * aStar Runs A* between two slots, or Dijkstra if there is no heuristic.
+     * @param s The source slot.
+     * @param t The target slot.
+     * @param heuristic The lower bound of each slot's distance to the target, or null for none.
+     * @return The path and settled vertex count.
+     */
+    private PointToPointResult<T> aStar(int s, int t, SlotHeuristic heuristic) {
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] weights = graph.getWeights();
+        Frontier search = frontiers.get()[0];
+        search.begin(s);
+        if(heuristic != null && heuristic.estimate(s, t) == Long.MAX_VALUE) {
+            return new PointToPointResult<>(null, 0);
+        }
+        int settled = 0;
+        while(!search.heap.isEmpty()) {
+            int u = search.heap.pollMin();
+            search.settle(u);
+            settled++;
+            if(u == t) {
+                return new PointToPointResult<>(new Path<>(pathTo(search, t), search.distances[t]), settled);
+            }
+            for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if(search.isSettled(v)) {
+                    continue;
+                }
+                long estimate = heuristic == null ? 0 : heuristic.estimate(v, t);
+                if(estimate != Long.MAX_VALUE) {
+                    long candidate = search.distances[u] + weights[e];
+                    search.relax(u, v, candidate, candidate + estimate);
+                }
+            }
+        }
+        return new PointToPointResult<>(null, settled);
+    }
+
+    /**
+     * sweep Computes the shortest distance from a slot to every slot of a snapshot.
+     * @param direction The snapshot to search, either the Graph or its transpose.
+     * @param source The source slot.
+     * @param distances The distance of each slot, filled with UNREACHABLE for slots that cannot be reached.
+     */
+    private void sweep(CompressedSparseRowGraph<T> direction, int source, long[] distances) {
+        int[] offsets = direction.getOffsets();
+        int[] targets = direction.getTargets();
+        int[] weights = direction.getWeights();
+        Frontier search = frontiers.get()[1];
+        search.begin(source);
+        while(!search.heap.isEmpty()) {
+            int u = search.heap.pollMin();
+            search.settle(u);
+            for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+                int v = targets[e];
+                if(!search.isSettled(v)) {
+                    long candidate = search.distances[u] + weights[e];
+                    search.relax(u, v, candidate, candidate);
+                }
+            }
+        }
+        for(int v = 0; v < distances.length; v++) {
+            distances[v] = search.isSettled(v) ? search.distances[v] : Landmarks.UNREACHABLE;
+        }
+    }
+
+    /**
+     * pathTo Follows the predecessors of a reached slot back to the source of a search.
+     * @param search The search that reached the slot.
+     * @param slot The last slot of the path.
+     * @return The vertices of the path in order from the source.
+     */
+    private List<T> pathTo(Frontier search, int slot) {
+        List<T> vertices = new ArrayList<>();
+        for(int parser = slot; parser != NO_PREDECESSOR; parser = search.predecessors[parser]) {
+            vertices.add(graph.vertexAt(parser));
+        }
+        Collections.reverse(vertices);
+        return vertices;
+    }
+
+    /**
+     * farthest Returns the slot with the largest distance that is not yet a landmark, preferring slots no landmark
+     * reaches at all.
+     * @param nearest The distance of each slot to its nearest landmark.
+     * @param chosen Whether each slot is already a landmark.
+     * @return The farthest slot.
+     */
+    private static int farthest(long[] nearest, boolean[] chosen) {
+        int farthest = -1;
+        for(int v = 0; v < nearest.length; v++) {
+            if(!chosen[v] && (farthest < 0 || nearest[v] > nearest[farthest])) {
+                farthest = v;
+            }
+        }
+        return farthest;
+    }
+
+    /**
+     * Lower bound of the distance from a slot to the target slot.
+     */
+    @FunctionalInterface
+    private interface SlotHeuristic {
+        long estimate(int slot, int targetSlot);
+    }
+
+    /**
+     * Search state of one direction of a query, indexed by slot. A slot's distance and predecessor are only valid if
+     * its reached stamp equals the current epoch, so starting a query does not clear the arrays.
+     */
+    private static class Frontier {
+        private final long[] distances;
+        private final int[] predecessors;
+        private final int[] reached;
+        private final int[] settled;
+        private final IndexedDaryHeap heap;
+        private int epoch = 0;
+
+        Frontier(int n) {
+            distances = new long[n];
+            predecessors = new int[n];
+            reached = new int[n];
+            settled = new int[n];
+            heap = new IndexedDaryHeap(HEAP_ARITY, Math.max(n, 1));
+        }
+
+        /**
+         * begin Starts a new search from a slot, forgetting every slot of the previous search.
+         * @param source The source slot.
+         */
+        void begin(int source) {
+            heap.clear();
+            if(++epoch == Integer.MAX_VALUE) {
+                Arrays.fill(reached, 0);
+                Arrays.fill(settled, 0);
+                epoch = 1;
+            }
+            reached[source] = epoch;
+            distances[source] = 0;
+            predecessors[source] = NO_PREDECESSOR;
+            heap.insertOrDecrease(source, 0);
+        }
+
+        boolean isReached(int slot) {
+            return reached[slot] == epoch;
+        }
+
+        boolean isSettled(int slot) {
+            return settled[slot] == epoch;
+        }
+
+        void settle(int slot) {
+            settled[slot] = epoch;
+        }
+
+        /**
+         * relax Lowers the distance of a slot if a new path to it is shorter, queuing it under a key.
+         * @param from The slot the new path arrives from.
+         * @param slot The slot reached.
+         * @param distance The length of the new path.
+         * @param key The key to queue the slot under.
+         */
+        void relax(int from, int slot, long distance, long key) {
+            if(reached[slot] == epoch && distances[slot] <= distance) {
+                return;
+            }
+            reached[slot] = epoch;
+            distances[slot] = distance;
+            predecessors[slot] = from;
+            heap.insertOrDecrease(slot, key);
+        }
+    }
+}
@@ -0,0 +1,253 @@
+package algorithms;
+
+import graphs.ReadOnlyGraphInterface;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Memory-bounded cache in front of shortest path queries. Single-source trees are cached by source and point-to-point
+ * paths by source and target, in one map kept in least recently used order. Each entry's size is estimated when it
+ * is stored and the least recently used entries are evicted once the total passes the budget.
+ *
+ * Entries are only valid for the mutation version of the Graph they were computed at. Every query reads the version
+ * first, and the first query to see a newer version drops every entry. Searches run outside the cache's lock, so
+ * concurrent queries against a Graph that supports them do not wait on each other.
+ * @param <T> The vertex type.
+ */
+public class ShortestPathCache<T> {
+    private static final long DEFAULT_MAX_BYTES = 64L << 20;
+    private static final long ENTRY_BYTES = 96;
+    private static final Object NO_PATH = new Object();
+    private final ReadOnlyGraphInterface<T> graph;
+    private final ShortestPaths<T> paths;
+    private final long maxBytes;
+    private final LinkedHashMap<Query<T>, Entry> entries = new LinkedHashMap<>(16, .75f, true);
+    private long cachedVersion;
+    private long totalBytes = 0;
+    private long hits = 0;
+    private long misses = 0;
+    private long evictions = 0;
+    private long invalidations = 0;
+
+    /**
+     * Constructor caches the queries of a Graph within the default budget of 64 MiB.
+     * @param graph The Graph to search.
+     */
+    public ShortestPathCache(ReadOnlyGraphInterface<T> graph) {
+        this(graph, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Constructor caches the queries of a Graph within a user-defined budget. If the parameter is not positive the
+     * default of 64 MiB is invoked.
+     * @param graph The Graph to search.
+     * @param maxBytes The estimated heap the cached results may hold.
+     */
+    public ShortestPathCache(ReadOnlyGraphInterface<T> graph, long maxBytes) {
+        this.graph = graph;
+        this.paths = new ShortestPaths<>(graph);
+        this.maxBytes = maxBytes > 0 ? maxBytes : DEFAULT_MAX_BYTES;
+        cachedVersion = graph.getVersion();
+    }
+
+    /**
+     * computeFrom Returns the shortest paths from a source to every reachable vertex, computing and caching them on a
+     * miss.
+     * @param source The source vertex.
+     * @return The shortest path tree, or null if the source is not present.
+     */
+    public ShortestPathTree<T> computeFrom(T source) {
+        long version = graph.getVersion();
+        ShortestPathTree<T> tree = cachedTree(source, version);
+        if(tree != null) {
+            return tree;
+        }
+        recordMiss();
+        tree = paths.computeFrom(source);
+        if(tree != null) {
+            store(new Query<>(source, null), tree, tree.estimateBytes(), version);
+        }
+        return tree;
+    }
+
+    /**
+     * findPath Returns a shortest path between two vertices, from a cached tree of the source if there is one and
+     * otherwise from a cached or newly computed point-to-point search.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The shortest path, or null if either vertex is not present or the target is not reachable.
+     */
+    public Path<T> findPath(T source, T target) {
+        long version = graph.getVersion();
+        ShortestPathTree<T> tree = cachedTree(source, version);
+        if(tree != null) {
+            return tree.pathTo(target);
+        }
+        return pairPath(source, target, version);
+    }
+
+    /**
+     * distance Returns the length of a shortest path between two vertices, from a cached tree of the source if there
+     * is one and otherwise from a cached or newly computed point-to-point search.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The shortest distance, or a negative number if there is no path.
+     */
+    public long distance(T source, T target) {
+        long version = graph.getVersion();
+        ShortestPathTree<T> tree = cachedTree(source, version);
+        if(tree != null) {
+            return tree.getDistance(target);
+        }
+        Path<T> path = pairPath(source, target, version);
+        return path == null ? -1 : path.getDistance();
+    }
+
+    /**
+     * clear Drops every entry. The statistics are kept.
+     */
+    public synchronized void clear() {
+        entries.clear();
+        totalBytes = 0;
+    }
+
+    /**
+     * getStatistics Returns the hit, miss, eviction and invalidation counts and the current size of the cache.
+     * @return A snapshot of the statistics.
+     */
+    public synchronized CacheStatistics getStatistics() {
+        return new CacheStatistics(hits, misses, evictions, invalidations, entries.size(), totalBytes, maxBytes);
+    }
+
+    /**
+     * cachedTree Returns the cached tree of a source, counting a hit if there is one.
+     * @param source The source vertex.
+     * @param version The version of the Graph read by the query.
+     * @return The cached tree, or null if the source has no valid tree cached.
+     */
+    private synchronized ShortestPathTree<T> cachedTree(T source, long version) {
+        if(!validate(version)) {
+            return null;
+        }
+        Entry entry = entries.get(new Query<>(source, null));
+        if(entry == null) {
+            return null;
+        }
+        hits++;
+        return (ShortestPathTree<T>) entry.result;
+    }
+
+    /**
+     * pairPath Returns the cached path between two vertices, running and caching a point-to-point search on a miss.
+     * Unreachable targets are cached too.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @param version The version of the Graph read by the query.
+     * @return The shortest path, or null if either vertex is not present or the target is not reachable.
+     */
+    private Path<T> pairPath(T source, T target, long version) {
+        Query<T> key = new Query<>(source, target);
+        synchronized(this) {
+            Entry entry = validate(version) ? entries.get(key) : null;
+            if(entry != null) {
+                hits++;
+                return entry.result == NO_PATH ? null : (Path<T>) entry.result;
+            }
+            misses++;
+        }
+        if(!graph.hasVertex(source) || !graph.hasVertex(target)) {
+            return null;
+        }
+        Path<T> path = paths.findPath(source, target);
+        long bytes = path == null ? 0 : path.getVertices().size() * 8L + 32;
+        store(key, path == null ? NO_PATH : path, bytes, version);
+        return path;
+    }
+
+    private synchronized void recordMiss() {
+        misses++;
+    }
+
+    /**
+     * validate Drops every entry if the Graph has changed since they were computed.
+     * @param version The version of the Graph read by the query.
+     * @return True if the query saw the version the entries belong to, false if the query saw an older one.
+     */
+    private boolean validate(long version) {
+        if(version > cachedVersion) {
+            invalidations += entries.size();
+            entries.clear();
+            totalBytes = 0;
+            cachedVersion = version;
+        }
+        return version == cachedVersion;
+    }
+
+    /**
+     * store Caches a result computed at a version of the Graph, then evicts least recently used entries until the
+     * cache is within its budget. Results from an outdated version or larger than the whole budget are not cached.
+     * @param key The query.
+     * @param result The result of the query.
+     * @param bytes The estimated size of the result.
+     * @param version The version of the Graph read before the result was computed.
+     */
+    private synchronized void store(Query<T> key, Object result, long bytes, long version) {
+        long size = bytes + ENTRY_BYTES;
+        if(!validate(version) || version != graph.getVersion() || size > maxBytes) {
+            return;
+        }
+        Entry previous = entries.put(key, new Entry(result, size));
+        totalBytes += size - (previous == null ? 0 : previous.bytes);
+        Iterator<Entry> eldest = entries.values().iterator();
+        while(totalBytes > maxBytes && eldest.hasNext()) {
+            totalBytes -= eldest.next().bytes;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    /**
+     * Cache key: a source alone for a single-source tree, or a source and a target for a point-to-point path.
+     */
+    private static final class Query<T> {
+        private final T source;
+        private final T target;
+
+        Query(T source, T target) {
+            this.source = source;
+            this.target = target;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if(this == o) {
+                return true;
+            }
+            if(!(o instanceof Query)) {
+                return false;
+            }
+            Query<?> other = (Query<?>) o;
+            return Objects.equals(source, other.source) && Objects.equals(target, other.target);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * Objects.hashCode(source) + Objects.hashCode(target);
+        }
+    }
+
+    /**
+     * A cached result and its estimated size.
+     */
+    private static final class Entry {
+        private final Object result;
+        private final long bytes;
+
+        Entry(Object result, long bytes) {
+            this.result = result;
+            this.bytes = bytes;
+        }
+    }
+}
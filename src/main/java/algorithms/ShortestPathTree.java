@@ -0,0 +1,120 @@
+package algorithms;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Result of a single-source shortest path search: the distance from the source to every reached vertex and the
+ * predecessor of each vertex on one of its shortest paths.
+ * @param <T> The vertex type.
+ */
+public class ShortestPathTree<T> {
+    private static final int NO_PREDECESSOR = -1;
+    private final List<T> vertices;
+    private final Map<T, Integer> ids;
+    private final long[] distances;
+    private final int[] predecessors;
+    private final boolean[] settled;
+    private final List<T> settledOrder;
+
+    /**
+     * Constructor wraps the arrays of a finished search, indexed by the id the search gave each discovered vertex.
+     * @param vertices The vertex of each id.
+     * @param ids The id of each vertex.
+     * @param distances The distance of each id from the source.
+     * @param predecessors The id preceding each id on a shortest path, or a negative number for the source.
+     * @param settled Whether the distance of each id is final.
+     * @param settledOrder The vertices with final distances in the order they were settled.
+     */
+    ShortestPathTree(List<T> vertices, Map<T, Integer> ids, long[] distances, int[] predecessors, boolean[] settled,
+                     List<T> settledOrder) {
+        this.vertices = vertices;
+        this.ids = ids;
+        this.distances = distances;
+        this.predecessors = predecessors;
+        this.settled = settled;
+        this.settledOrder = settledOrder;
+    }
+
+    /**
+     * getSource Returns the source vertex of the search.
+     * @return The source vertex.
+     */
+    public T getSource() {
+        return vertices.get(0);
+    }
+
+    /**
+     * hasPathTo Checks if a vertex is reachable from the source.
+     * @param vertex The vertex to check.
+     * @return True if a path from the source was found, false otherwise.
+     */
+    public boolean hasPathTo(T vertex) {
+        return idOf(vertex) >= 0;
+    }
+
+    /**
+     * getDistance Returns the length of the shortest path from the source to a vertex.
+     * @param vertex The vertex to check.
+     * @return The shortest distance, or a negative number if the vertex is not reachable.
+     */
+    public long getDistance(T vertex) {
+        int id = idOf(vertex);
+        return id < 0 ? -1 : distances[id];
+    }
+
+    /**
+     * getPredecessor Returns the vertex before a vertex on its shortest path from the source.
+     * @param vertex The vertex to check.
+     * @return The predecessor, or null for the source and for unreachable vertices.
+     */
+    public T getPredecessor(T vertex) {
+        int id = idOf(vertex);
+        if(id < 0 || predecessors[id] == NO_PREDECESSOR) {
+            return null;
+        }
+        return vertices.get(predecessors[id]);
+    }
+
+    /**
+     * pathTo Returns a shortest path from the source to a vertex.
+     * @param vertex The target vertex.
+     * @return The path, or null if the vertex is not reachable.
+     */
+    public Path<T> pathTo(T vertex) {
+        int id = idOf(vertex);
+        if(id < 0) {
+            return null;
+        }
+        List<T> path = new ArrayList<>();
+        for(int parser = id; parser != NO_PREDECESSOR; parser = predecessors[parser]) {
+            path.add(vertices.get(parser));
+        }
+        Collections.reverse(path);
+        return new Path<>(path, distances[id]);
+    }
+
+    /**
+     * getReachedVertices Returns every vertex whose shortest distance is known, in order of increasing distance.
+     * @return An unmodifiable list of reached vertices.
+     */
+    public List<T> getReachedVertices() {
+        return Collections.unmodifiableList(settledOrder);
+    }
+
+    /**
+     * estimateBytes Estimates the heap the tree retains: its per-id arrays plus a list slot, a map entry and a boxed id
+     * for every discovered vertex. Vertices themselves are shared with the Graph and not counted.
+     * @return The estimated size in bytes.
+     */
+    long estimateBytes() {
+        return 64 + distances.length * 13L + vertices.size() * 72L + settledOrder.size() * 8L;
+    }
+
+    private int idOf(T vertex) {
+        Integer id = ids.get(vertex);
+        return id == null || !settled[id] ? -1 : id;
+    }
+}
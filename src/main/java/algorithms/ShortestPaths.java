@@ -0,0 +1,166 @@
+package algorithms;
+
+import graphs.NeighborConsumer;
+import graphs.ReadOnlyGraphInterface;
+import structures.IndexedDaryHeap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Dijkstra shortest path searches over any Graph. Graphs reject negative edge weights, so every search is exact.
+ * Vertices are numbered as they are discovered and the frontier is kept in an indexed d-ary heap, so each vertex
+ * is queued at most once and relaxing an edge lowers its key in place.
+ * @param <T> The vertex type.
+ */
+public class ShortestPaths<T> {
+    private static final int NO_PREDECESSOR = -1;
+    private static final int HEAP_ARITY = 4;
+    private final ReadOnlyGraphInterface<T> graph;
+
+    /**
+     * Constructor sets the Graph to search.
+     * @param graph The Graph to search.
+     */
+    public ShortestPaths(ReadOnlyGraphInterface<T> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * computeFrom Computes the shortest paths from a source to every reachable vertex.
+     * @param source The source vertex.
+     * @return The shortest path tree, or null if the source is not present.
+     */
+    public ShortestPathTree<T> computeFrom(T source) {
+        if(!graph.hasVertex(source)) {
+            return null;
+        }
+        Search search = new Search(source);
+        search.run(null);
+        return search.toTree();
+    }
+
+    /**
+     * findPath Finds a shortest path between two vertices, stopping as soon as the target's distance is final.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The shortest path, or null if either vertex is not present or the target is not reachable.
+     */
+    public Path<T> findPath(T source, T target) {
+        if(!graph.hasVertex(source) || !graph.hasVertex(target)) {
+            return null;
+        }
+        Search search = new Search(source);
+        search.run(target);
+        return search.toTree().pathTo(target);
+    }
+
+    /**
+     * distance Returns the length of a shortest path between two vertices, stopping as soon as it is final.
+     * @param source The source vertex.
+     * @param target The target vertex.
+     * @return The shortest distance, or a negative number if there is no path.
+     */
+    public long distance(T source, T target) {
+        if(!graph.hasVertex(source) || !graph.hasVertex(target)) {
+            return -1;
+        }
+        Search search = new Search(source);
+        search.run(target);
+        return search.toTree().getDistance(target);
+    }
+
+    /**
+     * State of one Dijkstra run. Ids are handed out in discovery order and index every per-vertex array. The search
+     * receives the edges of the vertex being settled directly from the Graph as its neighbor consumer.
+     */
+    private class Search implements NeighborConsumer<T> {
+        private final List<T> vertices = new ArrayList<>();
+        private final Map<T, Integer> ids = new HashMap<>();
+        private final List<T> settledOrder = new ArrayList<>();
+        private final IndexedDaryHeap heap;
+        private long[] distances;
+        private int[] predecessors;
+        private boolean[] settled;
+        private int current;
+
+        Search(T source) {
+            int expected = Math.max(graph.getTotalVertices(), 1);
+            heap = new IndexedDaryHeap(HEAP_ARITY, expected);
+            distances = new long[expected];
+            predecessors = new int[expected];
+            settled = new boolean[expected];
+            int id = discover(source);
+            distances[id] = 0;
+            predecessors[id] = NO_PREDECESSOR;
+            heap.insertOrDecrease(id, 0);
+        }
+
+        /**
+         * run Settles vertices in order of distance until the frontier is empty or the target is settled.
+         * @param target The vertex to stop at, or null to settle every reachable vertex.
+         */
+        void run(T target) {
+            while(!heap.isEmpty()) {
+                current = heap.pollMin();
+                settled[current] = true;
+                T vertex = vertices.get(current);
+                settledOrder.add(vertex);
+                if(vertex.equals(target)) {
+                    return;
+                }
+                graph.forEachNeighbor(vertex, this);
+            }
+        }
+
+        /**
+         * accept Relaxes an edge of the vertex being settled, lowering the tentative distance of the neighbor if the
+         * edge is shorter.
+         * @param neighbor The neighbor at the other end of the edge.
+         * @param weight The weight of the edge.
+         */
+        public void accept(T neighbor, int weight) {
+            if(weight < 0) {
+                return;
+            }
+            int id = discover(neighbor);
+            if(settled[id]) {
+                return;
+            }
+            long candidate = distances[current] + weight;
+            if(heap.insertOrDecrease(id, candidate)) {
+                distances[id] = candidate;
+                predecessors[id] = current;
+            }
+        }
+
+        /**
+         * discover Returns the id of a vertex, handing out the next id the first time the vertex is seen.
+         * @param vertex The vertex.
+         * @return The id of the vertex.
+         */
+        private int discover(T vertex) {
+            Integer id = ids.get(vertex);
+            if(id != null) {
+                return id;
+            }
+            int next = vertices.size();
+            if(next == distances.length) {
+                int grown = next * 2;
+                distances = Arrays.copyOf(distances, grown);
+                predecessors = Arrays.copyOf(predecessors, grown);
+                settled = Arrays.copyOf(settled, grown);
+            }
+            vertices.add(vertex);
+            ids.put(vertex, next);
+            distances[next] = Long.MAX_VALUE;
+            return next;
+        }
+
+        ShortestPathTree<T> toTree() {
+            return new ShortestPathTree<>(vertices, ids, distances, predecessors, settled, settledOrder);
+        }
+    }
+}
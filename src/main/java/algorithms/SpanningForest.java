@@ -0,0 +1,69 @@
+package algorithms;
+
+import graphs.Edge;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Result of a minimum spanning forest computation: the edges of one minimum spanning tree per connected component and
+ * their total weight. Each edge runs from the endpoint with the lower slot in the searched snapshot.
+ * @param <T> The vertex type.
+ */
+public class SpanningForest<T> {
+    private final List<Edge<T>> edges;
+    private final long totalWeight;
+    private final int totalTrees;
+
+    /**
+     * Constructor wraps the edges of a finished computation.
+     * @param edges The edges of the forest.
+     * @param totalWeight The sum of the edge weights.
+     * @param totalTrees The number of trees, one per connected component.
+     */
+    SpanningForest(List<Edge<T>> edges, long totalWeight, int totalTrees) {
+        this.edges = Collections.unmodifiableList(edges);
+        this.totalWeight = totalWeight;
+        this.totalTrees = totalTrees;
+    }
+
+    /**
+     * getEdges Returns the edges of the forest.
+     * @return An unmodifiable list of the edges.
+     */
+    public List<Edge<T>> getEdges() {
+        return edges;
+    }
+
+    /**
+     * getTotalEdges Returns the number of edges in the forest.
+     * @return The number of edges.
+     */
+    public int getTotalEdges() {
+        return edges.size();
+    }
+
+    /**
+     * getTotalWeight Returns the sum of the weights of every edge in the forest.
+     * @return The total weight.
+     */
+    public long getTotalWeight() {
+        return totalWeight;
+    }
+
+    /**
+     * getTotalTrees Returns the number of trees in the forest, which is the number of connected components of the
+     * Graph, counting isolated vertices.
+     * @return The number of trees.
+     */
+    public int getTotalTrees() {
+        return totalTrees;
+    }
+
+    /**
+     * isSpanningTree Checks if the forest is a single tree connecting every vertex.
+     * @return True if the Graph is connected and not empty, false otherwise.
+     */
+    public boolean isSpanningTree() {
+        return totalTrees == 1;
+    }
+}
@@ -0,0 +1,97 @@
+package algorithms;
+
+import graphs.CompressedSparseRowGraph;
+import graphs.GraphInterface;
+import java.util.Arrays;
+
+/**
+ * Strongly connected components of a Directed Graph by Tarjan's algorithm over a compressed sparse row snapshot. The
+ * depth-first search keeps its own call stack of slots in an int array, with the next edge to follow stored per slot,
+ * so arbitrarily deep Graphs never overflow the thread's stack.
+ * @param <T> The vertex type.
+ */
+public class StronglyConnectedComponents<T> {
+    private static final int UNVISITED = -1;
+    private final CompressedSparseRowGraph<T> graph;
+
+    /**
+     * Constructor freezes a Graph and searches the snapshot.
+     * @param graph The Graph to search.
+     */
+    public StronglyConnectedComponents(GraphInterface<T> graph) {
+        this(graph.freeze());
+    }
+
+    /**
+     * Constructor searches a snapshot.
+     * @param graph The snapshot to search.
+     */
+    public StronglyConnectedComponents(CompressedSparseRowGraph<T> graph) {
+        this.graph = graph;
+    }
+
+    /**
+     * compute Labels every vertex with the id of its strongly connected component. Ids run from 0 in the order the
+     * components are completed, which is a reverse topological order of the component graph: an edge between two
+     * components always leads to the one with the lower id.
+     * @return The component of every vertex.
+     */
+    public ComponentLabels<T> compute() {
+        int n = graph.getTotalVertices();
+        int[] offsets = graph.getOffsets();
+        int[] targets = graph.getTargets();
+        int[] order = new int[n];
+        int[] low = new int[n];
+        int[] nextEdge = new int[n];
+        int[] calls = new int[n];
+        int[] stack = new int[n];
+        boolean[] onStack = new boolean[n];
+        int[] labels = new int[n];
+        Arrays.fill(order, UNVISITED);
+        int visited = 0;
+        int top = 0;
+        int components = 0;
+        for(int root = 0; root < n; root++) {
+            if(order[root] != UNVISITED) {
+                continue;
+            }
+            int depth = 0;
+            order[root] = low[root] = visited++;
+            nextEdge[root] = offsets[root];
+            stack[top++] = root;
+            onStack[root] = true;
+            calls[depth++] = root;
+            while(depth > 0) {
+                int u = calls[depth - 1];
+                if(nextEdge[u] < offsets[u + 1]) {
+                    int v = targets[nextEdge[u]++];
+                    if(order[v] == UNVISITED) {
+                        order[v] = low[v] = visited++;
+                        nextEdge[v] = offsets[v];
+                        stack[top++] = v;
+                        onStack[v] = true;
+                        calls[depth++] = v;
+                    } else if(onStack[v]) {
+                        low[u] = Math.min(low[u], order[v]);
+                    }
+                    continue;
+                }
+                depth--;
+                if(low[u] == order[u]) {
+                    int w;
+                    do {
+                        w = stack[--top];
+                        onStack[w] = false;
+                        labels[w] = components;
+                    } while(w != u);
+                    components++;
+                }
+                if(depth > 0) {
+                    int parent = calls[depth - 1];
+                    low[parent] = Math.min(low[parent], low[u]);
+                }
+            }
+        }
+        return new ComponentLabels<>(graph, labels, components);
+    }
+}
@@ -0,0 +1,89 @@
+package events;
+
+/**
+ * Immutable record of one change to a Graph. Vertex events carry the vertex as their source and no destination.
+ * Weights that do not apply to an event are negative.
+ * @param <T> The vertex type.
+ */
+public class GraphEvent<T> {
+    private final GraphEventType type;
+    private final T source;
+    private final T destination;
+    private final int weight;
+    private final int previousWeight;
+    private final long version;
+
+    /**
+     * Constructor sets every field of the event.
+     * @param type The kind of change.
+     * @param source The vertex added or removed, or the source vertex of the edge.
+     * @param destination The destination vertex of the edge, or null for a vertex event.
+     * @param weight The weight of the edge after an add or reweight, or of the removed edge.
+     * @param previousWeight The weight of the edge before a reweight.
+     * @param version The Graph's version right after the change.
+     */
+    public GraphEvent(GraphEventType type, T source, T destination, int weight, int previousWeight, long version) {
+        this.type = type;
+        this.source = source;
+        this.destination = destination;
+        this.weight = weight;
+        this.previousWeight = previousWeight;
+        this.version = version;
+    }
+
+    /**
+     * getType Returns the kind of change.
+     * @return The event type.
+     */
+    public GraphEventType getType() {
+        return type;
+    }
+
+    /**
+     * getSource Returns the vertex added or removed, or the source vertex of the edge.
+     * @return The source vertex.
+     */
+    public T getSource() {
+        return source;
+    }
+
+    /**
+     * getDestination Returns the destination vertex of the edge.
+     * @return The destination vertex, or null for a vertex event.
+     */
+    public T getDestination() {
+        return destination;
+    }
+
+    /**
+     * getWeight Returns the weight of the edge after an add or reweight, or of the removed edge.
+     * @return The weight, negative for a vertex event.
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    /**
+     * getPreviousWeight Returns the weight the edge had before a reweight.
+     * @return The previous weight, negative for any other event.
+     */
+    public int getPreviousWeight() {
+        return previousWeight;
+    }
+
+    /**
+     * getVersion Returns the Graph's version right after the change.
+     * @return The version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    @Override
+    public String toString() {
+        if(destination == null) {
+            return type + " " + source + " @" + version;
+        }
+        return type + " " + source + " -> " + destination + " (" + weight + ") @" + version;
+    }
+}
@@ -0,0 +1,13 @@
+package events;
+
+import java.util.List;
+
+/**
+ * Callback receiving batches of Graph changes from a GraphEventStream, in the order they were made, on the stream's
+ * delivery thread.
+ * @param <T> The vertex type.
+ */
+@FunctionalInterface
+public interface GraphEventListener<T> {
+    void onEvents(List<GraphEvent<T>> events);
+}
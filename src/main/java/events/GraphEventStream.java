@@ -0,0 +1,265 @@
+package events;
+
+import graphs.MutationListener;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Asynchronous, batched delivery of Graph changes. Add a stream as a MutationListener of a Graph and every change
+ * is turned into a GraphEvent and written to a bounded ring buffer. The Graph's thread only claims a slot and stores
+ * the event; a dedicated delivery thread drains the ring and hands the events to a GraphEventListener in batches of
+ * up to the batch size. While it is idle the delivery thread is woken only once a full batch is waiting, and a smaller
+ * batch goes out within a millisecond, so writers rarely pay for a wakeup.
+ *
+ * The ring applies backpressure: when a consumer falls a whole ring behind, the next change waits for a free slot
+ * instead of dropping events or growing without bound. Several Graphs, on any threads, may share one stream, and
+ * events of one Graph keep their order. A listener that throws loses only its batch, which is counted as failed.
+ * @param <T> The vertex type.
+ */
+public class GraphEventStream<T> implements MutationListener<T>, AutoCloseable {
+    private static final int DEFAULT_CAPACITY = 4096;
+    private static final int DEFAULT_BATCH_SIZE = 256;
+    private static final int SPINS_BEFORE_PARKING = 64;
+    private static final long PRODUCER_PARK_NANOS = 10_000;
+    private static final int CONSUMER_SPINS_BEFORE_PARKING = 256;
+    private static final long CONSUMER_PARK_NANOS = 1_000_000;
+    private final GraphEventListener<T> listener;
+    private final AtomicReferenceArray<GraphEvent<T>> ring;
+    private final int mask;
+    private final int batchSize;
+    private final AtomicLong claimed = new AtomicLong();
+    private final LongAdder stalls = new LongAdder();
+    private final LongAdder failedBatches = new LongAdder();
+    private final AtomicBoolean consumerParked = new AtomicBoolean();
+    private final Thread deliveryThread;
+    private volatile long consumed = 0;
+    private volatile long delivered = 0;
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor starts a stream with a ring of 4096 events delivered in batches of up to 256.
+     * @param listener The listener receiving batches of events.
+     */
+    public GraphEventStream(GraphEventListener<T> listener) {
+        this(listener, DEFAULT_CAPACITY, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * Constructor starts a stream with a user-defined ring capacity, rounded up to a power of two, and batch size. If
+     * a parameter is not positive its default is invoked, and the batch size is capped at the capacity.
+     * @param listener The listener receiving batches of events.
+     * @param capacity The number of events the ring holds before writers wait.
+     * @param batchSize The largest number of events handed to the listener at once.
+     */
+    public GraphEventStream(GraphEventListener<T> listener, int capacity, int batchSize) {
+        this.listener = listener;
+        int size = capacity > 0 ? capacity : DEFAULT_CAPACITY;
+        size = size == 1 ? 1 : Integer.highestOneBit(size - 1) * 2;
+        ring = new AtomicReferenceArray<>(size);
+        mask = size - 1;
+        this.batchSize = Math.min(batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE, size);
+        deliveryThread = new Thread(this::deliver, "graph-event-stream");
+        deliveryThread.setDaemon(true);
+        deliveryThread.start();
+    }
+
+    public void vertexAdded(T vertex, long version) {
+        publish(new GraphEvent<>(GraphEventType.VERTEX_ADDED, vertex, null, -1, -1, version));
+    }
+
+    public void vertexRemoved(T vertex, long version) {
+        publish(new GraphEvent<>(GraphEventType.VERTEX_REMOVED, vertex, null, -1, -1, version));
+    }
+
+    public void edgeAdded(T source, T destination, int weight, long version) {
+        publish(new GraphEvent<>(GraphEventType.EDGE_ADDED, source, destination, weight, -1, version));
+    }
+
+    public void edgeRemoved(T source, T destination, int weight, long version) {
+        publish(new GraphEvent<>(GraphEventType.EDGE_REMOVED, source, destination, weight, -1, version));
+    }
+
+    public void edgeReweighted(T source, T destination, int oldWeight, int newWeight, long version) {
+        publish(new GraphEvent<>(GraphEventType.EDGE_REWEIGHTED, source, destination, newWeight, oldWeight, version));
+    }
+
+    /**
+     * publish Writes an event to the next slot of the ring, waiting for the delivery thread to free a slot if the
+     * ring is full. Events published after close, or once the delivery thread has died, are ignored.
+     * @param event The event to deliver.
+     */
+    public void publish(GraphEvent<T> event) {
+        if(closed) {
+            return;
+        }
+        long sequence = claimed.getAndIncrement();
+        if(sequence - consumed > mask) {
+            stalls.increment();
+            for(int spins = 0; sequence - consumed > mask; spins++) {
+                if(!deliveryThread.isAlive()) {
+                    return;
+                } else if(spins < SPINS_BEFORE_PARKING) {
+                    Thread.onSpinWait();
+                } else {
+                    LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+                }
+            }
+        }
+        ring.lazySet((int) sequence & mask, event);
+        if(consumerParked.get() && sequence - consumed >= batchSize - 1 && consumerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(deliveryThread);
+        }
+    }
+
+    /**
+     * flush Waits until every event published before the call has been handed to the listener. Must not be called
+     * from the listener itself.
+     */
+    public void flush() {
+        long target = claimed.get();
+        while(delivered < target && deliveryThread.isAlive()) {
+            LockSupport.unpark(deliveryThread);
+            LockSupport.parkNanos(this, PRODUCER_PARK_NANOS);
+        }
+    }
+
+    /**
+     * close Stops accepting events, delivers every event already published and stops the delivery thread. Calling
+     * close again has no effect.
+     */
+    public void close() {
+        closed = true;
+        LockSupport.unpark(deliveryThread);
+        boolean interrupted = false;
+        while(deliveryThread.isAlive()) {
+            try {
+                deliveryThread.join();
+            } catch(InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if(interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * isClosed Checks if the stream has stopped accepting events.
+     * @return True if close has been called, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * getCapacity Returns the number of events the ring holds before writers wait.
+     * @return The ring capacity.
+     */
+    public int getCapacity() {
+        return mask + 1;
+    }
+
+    /**
+     * getBatchSize Returns the largest number of events handed to the listener at once.
+     * @return The batch size.
+     */
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * getTotalPublished Returns the number of events written to the ring.
+     * @return The number of published events.
+     */
+    public long getTotalPublished() {
+        return claimed.get();
+    }
+
+    /**
+     * getTotalDelivered Returns the number of events handed to the listener, including those of failed batches.
+     * @return The number of delivered events.
+     */
+    public long getTotalDelivered() {
+        return delivered;
+    }
+
+    /**
+     * getTotalStalls Returns the number of events whose writer had to wait for the delivery thread to free a slot.
+     * @return The number of stalled writes.
+     */
+    public long getTotalStalls() {
+        return stalls.sum();
+    }
+
+    /**
+     * getTotalFailedBatches Returns the number of batches on which the listener threw.
+     * @return The number of failed batches.
+     */
+    public long getTotalFailedBatches() {
+        return failedBatches.sum();
+    }
+
+    /**
+     * deliver Runs the delivery thread: drains the ring in order, hands full batches to the listener as they fill and
+     * a partial batch whenever the ring runs empty, and parks after a short spin while there is nothing to deliver
+     * until a writer fills a batch or the park times out.
+     * Slots are released to writers once per batch rather than once per event.
+     */
+    private void deliver() {
+        List<GraphEvent<T>> batch = new ArrayList<>(batchSize);
+        long next = consumed;
+        int idleSpins = 0;
+        while(true) {
+            int index = (int) next & mask;
+            GraphEvent<T> event = ring.get(index);
+            if(event != null) {
+                ring.lazySet(index, null);
+                next++;
+                batch.add(event);
+                if(batch.size() == batchSize) {
+                    consumed = next;
+                    handOver(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+                idleSpins = 0;
+            } else if(!batch.isEmpty()) {
+                consumed = next;
+                handOver(batch);
+                batch = new ArrayList<>(batchSize);
+            } else if(closed) {
+                if(next == claimed.get()) {
+                    return;
+                }
+                Thread.onSpinWait();
+            } else if(idleSpins++ < CONSUMER_SPINS_BEFORE_PARKING) {
+                Thread.onSpinWait();
+            } else {
+                consumerParked.set(true);
+                if(ring.get(index) == null && !closed) {
+                    LockSupport.parkNanos(this, CONSUMER_PARK_NANOS);
+                }
+                consumerParked.set(false);
+                idleSpins = 0;
+            }
+        }
+    }
+
+    /**
+     * handOver Passes one batch to the listener, counting it as failed if the listener throws.
+     * @param batch The events to deliver.
+     */
+    private void handOver(List<GraphEvent<T>> batch) {
+        try {
+            listener.onEvents(Collections.unmodifiableList(batch));
+        } catch(RuntimeException e) {
+            failedBatches.increment();
+        }
+        delivered += batch.size();
+    }
+}
@@ -0,0 +1,12 @@
+package events;
+
+/**
+ * Kinds of change a GraphEventStream reports.
+ */
+public enum GraphEventType {
+    VERTEX_ADDED,
+    VERTEX_REMOVED,
+    EDGE_ADDED,
+    EDGE_REMOVED,
+    EDGE_REWEIGHTED
+}
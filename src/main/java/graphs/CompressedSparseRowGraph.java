@@ -0,0 +1,325 @@
+package graphs;
+
+import structures.VertexIndex;
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Immutable snapshot of a Graph in compressed sparse row form. Vertices are numbered densely from 0, the out-edges of
+ * the vertex in slot i are stored at positions offsets[i] to offsets[i + 1] - 1 of the targets and weights arrays,
+ * and targets holds the slot of each edge's destination.
+ * @param <T> The vertex type.
+ */
+public class CompressedSparseRowGraph<T> implements ReadOnlyGraphInterface<T> {
+    private final T[] vertexArray;
+    private final int[] offsets;
+    private final int[] targets;
+    private final int[] weights;
+    private final VertexIndex<T> vertexIndex;
+    private volatile CompressedSparseRowGraph<T> transpose;
+    private final TraversalContext<T> defaultTraversal;
+
+    /**
+     * Constructor wraps already compiled arrays. The arrays are not copied and must not be modified afterwards.
+     * @param vertexArray The vertex held by each slot.
+     * @param offsets The start of each slot's edges, with one trailing entry holding the total number of edges.
+     * @param targets The destination slot of each edge.
+     * @param weights The weight of each edge.
+     */
+    CompressedSparseRowGraph(T[] vertexArray, int[] offsets, int[] targets, int[] weights) {
+        this.vertexArray = vertexArray;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        vertexIndex = new VertexIndex<>(vertexArray.length);
+        for(int i = 0; i < vertexArray.length; i++) {
+            vertexIndex.put(vertexArray[i], i);
+        }
+        defaultTraversal = new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * Constructor wraps already compiled arrays over the vertices and vertex index of another snapshot.
+     * @param other The snapshot whose vertices and slots are shared.
+     * @param offsets The start of each slot's edges, with one trailing entry holding the total number of edges.
+     * @param targets The destination slot of each edge.
+     * @param weights The weight of each edge.
+     */
+    private CompressedSparseRowGraph(CompressedSparseRowGraph<T> other, int[] offsets, int[] targets, int[] weights) {
+        vertexArray = other.vertexArray;
+        vertexIndex = other.vertexIndex;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        defaultTraversal = new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present in the Graph.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(T vertex) {
+        return vertexIndex.containsKey(vertex);
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices present in the Graph.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        return vertexArray.length;
+    }
+
+    /**
+     * getTotalEdges Returns the total number of edges present in the Graph.
+     * @return The total number of edges.
+     */
+    public int getTotalEdges() {
+        return targets.length;
+    }
+
+    /**
+     * getEdge Returns the weight of an edge between two vertices if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(T source, T destination) {
+        int position = edgePosition(source, destination);
+        return position < 0 ? -1 : weights[position];
+    }
+
+    /**
+     * containsEdge Checks if an edge exists between two vertices.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        return edgePosition(source, destination) >= 0;
+    }
+
+    /**
+     * isEmpty Checks if the Graph is empty.
+     * @return True if the Graph is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return vertexArray.length == 0;
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of all vertices that are adjacent to a particular vertex.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    public Queue<T> getAdjacentVertices(T vertex) {
+        Queue<T> queue = new LinkedList<>();
+        int source = vertexIndex.get(vertex);
+        if(source < 0) {
+            return queue;
+        }
+        for(int i = offsets[source]; i < offsets[source + 1]; i++) {
+            queue.offer(vertexArray[targets[i]]);
+        }
+        return queue;
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in the same order as getAdjacentVertices. Nothing is allocated per neighbor.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        int source = vertexIndex.get(vertex);
+        if(source < 0) {
+            return;
+        }
+        for(int i = offsets[source]; i < offsets[source + 1]; i++) {
+            consumer.accept(vertexArray[targets[i]], weights[i]);
+        }
+    }
+
+    /**
+     * markVertex Marks a vertex as seen in the Graph's default traversal context.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        defaultTraversal.markVertex(vertex);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen in the Graph's default traversal context.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        return defaultTraversal.isMarked(vertex);
+    }
+
+    /**
+     * clearAllMarks Clears every mark of the Graph's default traversal context in constant time.
+     */
+    public void clearAllMarks() {
+        defaultTraversal.clearAllMarks();
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the Graph's default traversal context in no
+     * particular order.
+     * @return A vertex that is not marked.
+     */
+    public T getAnUnmarkedVertex() {
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context with its own marks, independent of the default context and of every
+     * other context. The snapshot never changes, so any number of threads can each traverse it with their own
+     * context.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        return new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * getVersion Returns the mutation version of the Graph. The snapshot never changes, so the version is always 0.
+     * @return The mutation version.
+     */
+    public long getVersion() {
+        return 0;
+    }
+
+    /**
+     * slotOf Returns the slot of a vertex.
+     * @param vertex The vertex to search for.
+     * @return The slot of the vertex, or a negative number if the vertex was not found.
+     */
+    public int slotOf(T vertex) {
+        return vertexIndex.get(vertex);
+    }
+
+    /**
+     * vertexAt Returns the vertex held by a slot.
+     * @param slot The slot of the vertex.
+     * @return The vertex held by the slot.
+     */
+    public T vertexAt(int slot) {
+        return vertexArray[slot];
+    }
+
+    /**
+     * getOutDegree Returns the number of out-edges of the vertex in a slot.
+     * @param slot The slot of the vertex.
+     * @return The number of out-edges.
+     */
+    public int getOutDegree(int slot) {
+        return offsets[slot + 1] - offsets[slot];
+    }
+
+    /**
+     * getOffsets Returns the offsets array. The array is shared with the Graph and must not be modified.
+     * @return The start of each slot's edges followed by the total number of edges.
+     */
+    public int[] getOffsets() {
+        return offsets;
+    }
+
+    /**
+     * getTargets Returns the targets array. The array is shared with the Graph and must not be modified.
+     * @return The destination slot of each edge.
+     */
+    public int[] getTargets() {
+        return targets;
+    }
+
+    /**
+     * getWeights Returns the weights array. The array is shared with the Graph and must not be modified.
+     * @return The weight of each edge.
+     */
+    public int[] getWeights() {
+        return weights;
+    }
+
+    /**
+     * transpose Returns the snapshot with every edge reversed, so the out-edges of a slot in the transpose are its
+     * in-edges here. Slots are shared with this snapshot, the in-edges of each slot are ordered by source slot, and
+     * the transpose is built with a counting sort on first use and then cached.
+     * @return The transposed snapshot.
+     */
+    public CompressedSparseRowGraph<T> transpose() {
+        CompressedSparseRowGraph<T> built = transpose;
+        if(built != null) {
+            return built;
+        }
+        synchronized(this) {
+            if(transpose == null) {
+                int n = vertexArray.length;
+                int[] inOffsets = new int[n + 1];
+                for(int target : targets) {
+                    inOffsets[target + 1]++;
+                }
+                for(int i = 0; i < n; i++) {
+                    inOffsets[i + 1] += inOffsets[i];
+                }
+                int[] next = Arrays.copyOf(inOffsets, n);
+                int[] inSources = new int[targets.length];
+                int[] inWeights = new int[targets.length];
+                for(int u = 0; u < n; u++) {
+                    for(int e = offsets[u]; e < offsets[u + 1]; e++) {
+                        int position = next[targets[e]]++;
+                        inSources[position] = u;
+                        inWeights[position] = weights[e];
+                    }
+                }
+                transpose = new CompressedSparseRowGraph<>(this, inOffsets, inSources, inWeights);
+                transpose.transpose = this;
+            }
+            return transpose;
+        }
+    }
+
+    /**
+     * edgePosition Returns the position of the first edge between two vertices.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return The position of the edge in the targets array, or a negative number if there was no edge.
+     */
+    private int edgePosition(T source, T destination) {
+        int row = vertexIndex.get(source);
+        int col = vertexIndex.get(destination);
+        if(row < 0 || col < 0) {
+            return -1;
+        }
+        for(int i = offsets[row]; i < offsets[row + 1]; i++) {
+            if(targets[i] == col) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Slots of the snapshot as seen by its traversal contexts. Every slot stays in its first generation.
+     */
+    private class Slots implements TraversalSlots<T> {
+        public int slotOf(T vertex) {
+            return vertexIndex.get(vertex);
+        }
+
+        public int getSlotLimit() {
+            return vertexArray.length;
+        }
+
+        public T vertexAt(int slot) {
+            return vertexArray[slot];
+        }
+
+        public int generationOf(int slot) {
+            return 0;
+        }
+    }
+}
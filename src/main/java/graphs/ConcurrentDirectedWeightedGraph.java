@@ -0,0 +1,513 @@
+package graphs;
+
+import java.util.Arrays;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Thread-safe directed Graph for many concurrent writers and readers.
+ *
+ * Vertices live in fixed-size segments reached through a directory. Growing the Graph only appends segments to a
+ * copy of the directory, so a reader holding the old directory still sees every slot it could see before. Each slot
+ * holds an immutable adjacency record that writers replace with a volatile write, so reads never lock. Writers that
+ * change the same source vertex are serialized by one of a fixed set of striped locks, while writers touching
+ * different stripes proceed in parallel.
+ *
+ * Slots are never reused: edges pointing at a removed vertex are skipped by readers and dropped the next time their
+ * source's record is copied.
+ * @param <T> The vertex type.
+ */
+public class ConcurrentDirectedWeightedGraph<T> implements GraphInterface<T> {
+    private static final int SEGMENT_SHIFT = 10;
+    private static final int SEGMENT_SIZE = 1 << SEGMENT_SHIFT;
+    private static final int SEGMENT_MASK = SEGMENT_SIZE - 1;
+    private static final int[] NO_EDGES = new int[0];
+    private final ConcurrentHashMap<T, Integer> vertexIndex = new ConcurrentHashMap<>();
+    private final Set<Integer> seenVertices = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private final AtomicInteger totalVertices = new AtomicInteger();
+    private final LongAdder version = new LongAdder();
+    private final ReentrantLock[] stripes;
+    private final Object growLock = new Object();
+    private volatile AtomicReferenceArray<Adjacency<T>>[] directory;
+
+    /**
+     * Immutable out-edge list of one vertex. Appending writes past the end of the shared arrays and publishes a new
+     * record with a larger size, so records that were already published never observe the change.
+     */
+    private static final class Adjacency<T> {
+        final T vertex;
+        final int[] targets;
+        final int[] weights;
+        final int size;
+
+        Adjacency(T vertex, int[] targets, int[] weights, int size) {
+            this.vertex = vertex;
+            this.targets = targets;
+            this.weights = weights;
+            this.size = size;
+        }
+    }
+
+    /**
+     * Constructor initializes one segment and four lock stripes per available processor, at least 16.
+     */
+    public ConcurrentDirectedWeightedGraph() {
+        this(Math.max(16, Runtime.getRuntime().availableProcessors() * 4));
+    }
+
+    /**
+     * Constructor initializes one segment and a user-defined number of lock stripes, rounded up to a power of two.
+     * @param concurrency The expected number of concurrent writers.
+     */
+    public ConcurrentDirectedWeightedGraph(int concurrency) {
+        int totalStripes = Integer.highestOneBit(Math.max(1, concurrency - 1)) << 1;
+        stripes = new ReentrantLock[totalStripes];
+        for(int i = 0; i < totalStripes; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+        directory = newDirectory(1);
+        directory[0] = new AtomicReferenceArray<>(SEGMENT_SIZE);
+    }
+
+    /**
+     * addVertex Adds a vertex to the Graph.
+     * @param vertex The vertex to add.
+     * @return True if the vertex is added, false if it is null or already present.
+     */
+    public boolean addVertex(T vertex) {
+        if(vertex == null || vertexIndex.containsKey(vertex)) {
+            return false;
+        }
+        boolean[] added = new boolean[1];
+        vertexIndex.computeIfAbsent(vertex, key -> {
+            int slot = nextSlot.getAndIncrement();
+            ensureSegment(slot);
+            segmentOf(slot).set(slot & SEGMENT_MASK, new Adjacency<>(key, NO_EDGES, NO_EDGES, 0));
+            added[0] = true;
+            return slot;
+        });
+        if(added[0]) {
+            totalVertices.incrementAndGet();
+            version.increment();
+        }
+        return added[0];
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present in the Graph.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(T vertex) {
+        return vertex != null && vertexIndex.containsKey(vertex);
+    }
+
+    /**
+     * removeVertex Removes a vertex and its out-edges from the Graph if present. Edges from other vertices to it stop
+     * being reported immediately.
+     * @param vertex The vertex to remove.
+     * @return True if the vertex is removed, false otherwise.
+     */
+    public boolean removeVertex(T vertex) {
+        if(vertex == null) {
+            return false;
+        }
+        Integer slot = vertexIndex.remove(vertex);
+        if(slot == null) {
+            return false;
+        }
+        ReentrantLock lock = stripeOf(slot);
+        lock.lock();
+        try {
+            segmentOf(slot).set(slot & SEGMENT_MASK, null);
+        } finally {
+            lock.unlock();
+        }
+        seenVertices.remove(slot);
+        totalVertices.decrementAndGet();
+        version.increment();
+        return true;
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices present in the Graph.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        return totalVertices.get();
+    }
+
+    /**
+     * addEdge Adds a weighted edge from one vertex to another, after any existing edges of the source.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @param weight The weight of the edge.
+     * @return True if edge is added successfully, false otherwise.
+     */
+    public boolean addEdge(T source, T destination, int weight) {
+        if(weight < 0) {
+            return false;
+        }
+        int row = indexFinder(source);
+        int col = indexFinder(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        AtomicReferenceArray<Adjacency<T>> segment = segmentOf(row);
+        ReentrantLock lock = stripeOf(row);
+        lock.lock();
+        try {
+            Adjacency<T> adjacency = segment.get(row & SEGMENT_MASK);
+            if(adjacency == null) {
+                return false;
+            }
+            int[] targets = adjacency.targets;
+            int[] weights = adjacency.weights;
+            if(adjacency.size == targets.length) {
+                int grown = Math.max(4, adjacency.size * 2);
+                targets = Arrays.copyOf(targets, grown);
+                weights = Arrays.copyOf(weights, grown);
+            }
+            targets[adjacency.size] = col;
+            weights[adjacency.size] = weight;
+            segment.set(row & SEGMENT_MASK, new Adjacency<>(adjacency.vertex, targets, weights, adjacency.size + 1));
+            version.increment();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * getEdge Returns the weight of an edge between two vertices if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(T source, T destination) {
+        int row = indexFinder(source);
+        int col = indexFinder(destination);
+        if(row < 0 || col < 0) {
+            return -1;
+        }
+        Adjacency<T> adjacency = recordOf(row);
+        if(adjacency == null) {
+            return -1;
+        }
+        for(int i = 0; i < adjacency.size; i++) {
+            if(adjacency.targets[i] == col) {
+                return adjacency.weights[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * containsEdge Checks if an edge exists between two vertices.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        return getEdge(source, destination) >= 0;
+    }
+
+    /**
+     * removeEdge Removes an edge between two vertices if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if the edge is removed, false if the edge was not found.
+     */
+    public boolean removeEdge(T source, T destination) {
+        int row = indexFinder(source);
+        int col = indexFinder(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        AtomicReferenceArray<Adjacency<T>> segment = segmentOf(row);
+        ReentrantLock lock = stripeOf(row);
+        lock.lock();
+        try {
+            Adjacency<T> adjacency = segment.get(row & SEGMENT_MASK);
+            if(adjacency == null) {
+                return false;
+            }
+            int[] targets = new int[adjacency.targets.length];
+            int[] weights = new int[adjacency.targets.length];
+            int kept = 0;
+            boolean removed = false;
+            for(int i = 0; i < adjacency.size; i++) {
+                int target = adjacency.targets[i];
+                if(!removed && target == col) {
+                    removed = true;
+                } else if(recordOf(target) != null) {
+                    targets[kept] = target;
+                    weights[kept++] = adjacency.weights[i];
+                }
+            }
+            if(removed) {
+                segment.set(row & SEGMENT_MASK, new Adjacency<>(adjacency.vertex, targets, weights, kept));
+                version.increment();
+            }
+            return removed;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * isEmpty Checks if the Graph is empty.
+     * @return True if the Graph is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return totalVertices.get() == 0;
+    }
+
+    /**
+     * isFull Checks if the Graph is full. The Graph grows without bound, so it is never full.
+     * @return False.
+     */
+    public boolean isFull() {
+        return false;
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of all vertices that are adjacent to a particular vertex.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    public Queue<T> getAdjacentVertices(T vertex) {
+        Queue<T> queue = new LinkedList<>();
+        forEachNeighbor(vertex, (neighbor, weight) -> queue.offer(neighbor));
+        return queue;
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in the same order as getAdjacentVertices. Reads one published record without locking.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        int source = indexFinder(vertex);
+        if(source < 0) {
+            return;
+        }
+        Adjacency<T> adjacency = recordOf(source);
+        if(adjacency == null) {
+            return;
+        }
+        for(int i = 0; i < adjacency.size; i++) {
+            Adjacency<T> target = recordOf(adjacency.targets[i]);
+            if(target != null) {
+                consumer.accept(target.vertex, adjacency.weights[i]);
+            }
+        }
+    }
+
+    /**
+     * markVertex Marks a vertex as seen.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        int index = indexFinder(vertex);
+        if(index >= 0) {
+            seenVertices.add(index);
+        }
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        int index = indexFinder(vertex);
+        return index >= 0 && seenVertices.contains(index);
+    }
+
+    /**
+     * clearAllMarks Clears every seen mark.
+     */
+    public void clearAllMarks() {
+        seenVertices.clear();
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in no particular order.
+     * @return A vertex that is not marked.
+     */
+    public T getAnUnmarkedVertex() {
+        int limit = Math.min(nextSlot.get(), directory.length << SEGMENT_SHIFT);
+        for(int i = 0; i < limit; i++) {
+            Adjacency<T> adjacency = recordOf(i);
+            if(adjacency != null && !seenVertices.contains(i)) {
+                return adjacency.vertex;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * newTraversal Creates a traversal context with its own marks, independent of the Graph's shared marks and of
+     * every other context. Slots are never reused, so marks never carry over to a vertex added later.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        return new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * getVersion Returns the mutation version of the Graph, which advances every time a vertex or an edge is added or
+     * removed. Writers count into a striped adder rather than one shared counter, so they do not contend on it.
+     * @return The mutation version.
+     */
+    public long getVersion() {
+        return version.sum();
+    }
+
+    /**
+     * freeze Compiles the Graph into an immutable compressed sparse row snapshot. Each vertex's out-edges are read from
+     * one published record, but records of different vertices may reflect different moments of concurrent writes.
+     * @return The snapshot of the Graph.
+     */
+    public CompressedSparseRowGraph<T> freeze() {
+        int limit = Math.min(nextSlot.get(), directory.length << SEGMENT_SHIFT);
+        Adjacency<T>[] records = new Adjacency[limit];
+        int[] denseSlot = new int[limit];
+        int totalLive = 0;
+        for(int i = 0; i < limit; i++) {
+            records[i] = recordOf(i);
+            if(records[i] != null) {
+                denseSlot[i] = totalLive++;
+            }
+        }
+        T[] vertices = (T[])new Object[totalLive];
+        int[] offsets = new int[totalLive + 1];
+        int totalEdges = 0;
+        for(int i = 0; i < limit; i++) {
+            if(records[i] != null) {
+                vertices[denseSlot[i]] = records[i].vertex;
+                for(int j = 0; j < records[i].size; j++) {
+                    int target = records[i].targets[j];
+                    if(target < limit && records[target] != null) {
+                        totalEdges++;
+                    }
+                }
+            }
+        }
+        int[] targets = new int[totalEdges];
+        int[] weights = new int[totalEdges];
+        int edge = 0;
+        for(int i = 0; i < limit; i++) {
+            if(records[i] != null) {
+                offsets[denseSlot[i]] = edge;
+                for(int j = 0; j < records[i].size; j++) {
+                    int target = records[i].targets[j];
+                    if(target < limit && records[target] != null) {
+                        targets[edge] = denseSlot[target];
+                        weights[edge++] = records[i].weights[j];
+                    }
+                }
+            }
+        }
+        offsets[totalLive] = edge;
+        return new CompressedSparseRowGraph<>(vertices, offsets, targets, weights);
+    }
+
+    /**
+     * indexFinder Returns the slot of a vertex.
+     * @param vertex The vertex to search for.
+     * @return The slot of the vertex, or a negative number if the vertex was not found.
+     */
+    private int indexFinder(T vertex) {
+        if(vertex == null) {
+            return -1;
+        }
+        Integer slot = vertexIndex.get(vertex);
+        return slot == null ? -1 : slot;
+    }
+
+    /**
+     * recordOf Returns the published adjacency record of a slot.
+     * @param slot The slot to read.
+     * @return The record, or null if the slot holds no vertex.
+     */
+    private Adjacency<T> recordOf(int slot) {
+        AtomicReferenceArray<Adjacency<T>>[] current = directory;
+        int segment = slot >>> SEGMENT_SHIFT;
+        if(segment >= current.length || current[segment] == null) {
+            return null;
+        }
+        return current[segment].get(slot & SEGMENT_MASK);
+    }
+
+    private AtomicReferenceArray<Adjacency<T>> segmentOf(int slot) {
+        return directory[slot >>> SEGMENT_SHIFT];
+    }
+
+    private ReentrantLock stripeOf(int slot) {
+        return stripes[slot & (stripes.length - 1)];
+    }
+
+    /**
+     * ensureSegment Makes sure the segment holding a slot exists. Existing segments are shared with the new directory
+     * rather than copied, so concurrent readers and writers of those segments are unaffected.
+     * @param slot The slot that is about to be used.
+     */
+    private void ensureSegment(int slot) {
+        int segment = slot >>> SEGMENT_SHIFT;
+        AtomicReferenceArray<Adjacency<T>>[] current = directory;
+        if(segment < current.length && current[segment] != null) {
+            return;
+        }
+        synchronized(growLock) {
+            current = directory;
+            if(segment < current.length && current[segment] != null) {
+                return;
+            }
+            int length = segment < current.length ? current.length : Math.max(current.length * 2, segment + 1);
+            AtomicReferenceArray<Adjacency<T>>[] grown = newDirectory(length);
+            System.arraycopy(current, 0, grown, 0, current.length);
+            for(int i = 0; i <= segment; i++) {
+                if(grown[i] == null) {
+                    grown[i] = new AtomicReferenceArray<>(SEGMENT_SIZE);
+                }
+            }
+            directory = grown;
+        }
+    }
+
+    private static <T> AtomicReferenceArray<Adjacency<T>>[] newDirectory(int length) {
+        return (AtomicReferenceArray<Adjacency<T>>[]) new AtomicReferenceArray[length];
+    }
+
+    /**
+     * Slots of the Graph as seen by its traversal contexts. Every slot stays in its first generation.
+     */
+    private class Slots implements TraversalSlots<T> {
+        public int slotOf(T vertex) {
+            return indexFinder(vertex);
+        }
+
+        public int getSlotLimit() {
+            return Math.min(nextSlot.get(), directory.length << SEGMENT_SHIFT);
+        }
+
+        public T vertexAt(int slot) {
+            Adjacency<T> adjacency = recordOf(slot);
+            return adjacency == null ? null : adjacency.vertex;
+        }
+
+        public int generationOf(int slot) {
+            return 0;
+        }
+    }
+}
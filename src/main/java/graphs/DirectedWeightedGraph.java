@@ -1,21 +1,34 @@
 package graphs;
 
 import nodes.Node;
+import structures.VertexIndex;
 import java.util.*;
 
-public class DirectedWeightedGraph<T> implements GraphInterface<T> {
+public class DirectedWeightedGraph<T> implements GraphInterface<T>, StorageStatistics, MutationSource<T> {
+    private static final long NODE_BYTES = 24;
     private int capacity;
     private int totalVertices = 0;
+    private int totalEdges = 0;
     private Node<T>[] vertexArray;
-    private boolean[] seenVertexArray;
+    private Node<T>[] tailArray;
+    private Node<T>[] inEdgeArray;
+    private int[] slotGenerations;
+    private int baseGeneration = 0;
+    private int[] freeSlots;
+    private int totalFreeSlots = 0;
+    private int nextSlot = 0;
+    private final TraversalContext<T> defaultTraversal;
+    private VertexIndex<T> vertexIndex;
+    private long version = 0;
+    private ResizeListener resizeListener;
+    private final MutationListeners<T> mutationListeners = new MutationListeners<>();
     private final double LOAD_THRESHOLD = .75;
 
     /**
      * Constructor initializes capacity to 25 elements.
      */
     public DirectedWeightedGraph() {
-        vertexArray = new Node[capacity = 25];
-        seenVertexArray = new boolean[capacity];
+        this(25, false);
     }
 
     /**
@@ -24,34 +37,48 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
      * @param cap The non-negative vertex capacity.
      */
     public DirectedWeightedGraph(int cap) {
+        this(cap, false);
+    }
+
+    /**
+     * Constructor initializes capacity to a positive user-defined number and optionally indexes in-edges. The index
+     * keeps a list of incoming edges per vertex, so predecessors are enumerated and a vertex is removed without
+     * scanning every adjacency list, at the cost of a second node per edge. If the capacity is negative the default
+     * capacity is invoked.
+     * @param cap The non-negative vertex capacity.
+     * @param indexInEdges True to keep an in-edge index, false otherwise.
+     */
+    public DirectedWeightedGraph(int cap, boolean indexInEdges) {
         capacity = cap > 0 ? cap : 25;
         vertexArray = new Node[capacity];
-        seenVertexArray = new boolean[capacity];
+        tailArray = new Node[capacity];
+        inEdgeArray = indexInEdges ? new Node[capacity] : null;
+        slotGenerations = new int[capacity];
+        freeSlots = new int[capacity];
+        vertexIndex = new VertexIndex<>(capacity);
+        defaultTraversal = new TraversalContext<>(new Slots());
     }
 
     /**
-     * addVertex Adds a vertex to the Graph.
+     * addVertex Adds a vertex to the Graph, reusing the most recently vacated slot if there is one.
      * @param vertex The vertex to add.
-     * @return True if the vertex is added, false otherwise.
+     * @return True if the vertex is added, false if it is null or already present.
      */
     public boolean addVertex(T vertex) {
-        if(totalVertices < capacity) {
-            if(vertexArray[totalVertices] == null) {
-                vertexArray[totalVertices] = new Node<>(vertex);
-            } else {
-                for(int i = 0; i < vertexArray.length; i++) {
-                    if(vertexArray[i] == null) {
-                        vertexArray[i] = new Node<>(vertex);
-                    }
-                }
-            }
-            totalVertices++;
-            if((double) (totalVertices / capacity) >= LOAD_THRESHOLD) {
-                resize();
-            }
-            return true;
+        if(vertex == null || vertexIndex.containsKey(vertex)) {
+            return false;
         }
-        return false;
+        int slot = totalFreeSlots > 0 ? freeSlots[--totalFreeSlots] : nextSlot++;
+        vertexArray[slot] = new Node<>(vertex);
+        tailArray[slot] = vertexArray[slot];
+        vertexIndex.put(vertex, slot);
+        totalVertices++;
+        version++;
+        if(nextSlot == capacity) {
+            resize(capacity * 2);
+        }
+        mutationListeners.vertexAdded(vertex, version);
+        return true;
     }
 
     /**
@@ -60,20 +87,13 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
      * @return True if the vertex is present, false otherwise.
      */
     public boolean hasVertex(T vertex) {
-        for(int i = 0; i < totalVertices; i++) {
-            try {
-                if(vertexArray[i].getData().equals(vertex)) {
-                    return true;
-                }
-            } catch(NullPointerException e) {
-                continue;
-            }
-        }
-        return false;
+        return vertexIndex.containsKey(vertex);
     }
 
     /**
-     * removeVertex Removes a vertex from the Graph if present and edges to this vertex if found.
+     * removeVertex Removes a vertex from the Graph if present, along with its out-edges and every edge pointing at it.
+     * With the in-edge index only the adjacency lists of the vertex's neighbors are visited, otherwise every
+     * adjacency list is scanned.
      * @param vertex The vertex to remove.
      * @return True if the vertex is removed, false otherwise.
      */
@@ -82,23 +102,89 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
         if(index < 0) {
             return false;
         }
-        Queue<Integer> queue = getAdjacentVertexIndices(vertex);
-        while(!queue.isEmpty()) {
-            int dequeue = queue.poll();
-            Node<T> parser = vertexArray[dequeue];
-            while(true) {
-                if(parser.getNext().getData() == vertex) {
-                    parser.setNext(parser.getNext().getNext());
-                    break;
+        Node<T> outEdges = vertexArray[index];
+        Node<T> inEdges = null;
+        if(inEdgeArray != null) {
+            inEdges = inEdgeArray[index];
+            for(Node<T> in = inEdgeArray[index]; in != null; in = in.getNext()) {
+                int source = indexFinder(in.getData());
+                if(source != index) {
+                    unlinkOutEdge(source, vertex);
                 }
-                parser = parser.getNext();
             }
+            for(Node<T> out = vertexArray[index].getNext(); out != null; out = out.getNext()) {
+                int destination = indexFinder(out.getData());
+                if(destination != index) {
+                    unlinkInEdge(destination, vertex, out.getWeight());
+                }
+            }
+            inEdgeArray[index] = null;
+        } else {
+            if(mutationListeners.isListening()) {
+                inEdges = collectInEdges(vertex);
+            }
+            for(int i = 0; i < nextSlot; i++) {
+                if(i != index && vertexArray[i] != null) {
+                    unlinkAllOutEdges(i, vertex);
+                }
+            }
+        }
+        for(Node<T> out = vertexArray[index].getNext(); out != null; out = out.getNext()) {
+            totalEdges--;
         }
         vertexArray[index] = null;
+        tailArray[index] = null;
+        slotGenerations[index]++;
+        freeSlots[totalFreeSlots++] = index;
+        vertexIndex.remove(vertex);
         totalVertices--;
+        version++;
+        if(mutationListeners.isListening()) {
+            reportRemovedVertex(vertex, outEdges, inEdges);
+        }
         return true;
     }
 
+    /**
+     * collectInEdges Gathers the edges from other vertices to a vertex as a chain of in-edge entries, the way the
+     * in-edge index keeps them, by scanning every adjacency list.
+     * @param vertex The destination vertex.
+     * @return The first in-edge entry, or null if no other vertex has an edge to the vertex.
+     */
+    private Node<T> collectInEdges(T vertex) {
+        Node<T> first = null;
+        for(int i = 0; i < nextSlot; i++) {
+            if(vertexArray[i] != null && !vertexArray[i].getData().equals(vertex)) {
+                for(Node<T> parser = vertexArray[i].getNext(); parser != null; parser = parser.getNext()) {
+                    if(parser.getData().equals(vertex)) {
+                        Node<T> in = new Node<>(vertexArray[i].getData(), parser.getWeight());
+                        in.setNext(first);
+                        first = in;
+                    }
+                }
+            }
+        }
+        return first;
+    }
+
+    /**
+     * reportRemovedVertex Tells the listeners about every edge that went with a removed vertex, then the vertex.
+     * @param vertex The removed vertex.
+     * @param outEdges The head node of the vertex's former adjacency list.
+     * @param inEdges The first in-edge entry of the vertex, self loops included, or null if there were none.
+     */
+    private void reportRemovedVertex(T vertex, Node<T> outEdges, Node<T> inEdges) {
+        for(Node<T> out = outEdges.getNext(); out != null; out = out.getNext()) {
+            mutationListeners.edgeRemoved(vertex, out.getData(), out.getWeight(), version);
+        }
+        for(Node<T> in = inEdges; in != null; in = in.getNext()) {
+            if(!in.getData().equals(vertex)) {
+                mutationListeners.edgeRemoved(in.getData(), vertex, in.getWeight(), version);
+            }
+        }
+        mutationListeners.vertexRemoved(vertex, version);
+    }
+
     /**
      * getTotalVertices Returns the total number of vertices present in the Graph.
      * @return The total number of vertices.
@@ -119,20 +205,34 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
             return false;
         }
         int sourceIndex = indexFinder(source);
-        if(sourceIndex < 0) {
+        int destinationIndex = indexFinder(destination);
+        if(sourceIndex < 0 || destinationIndex < 0) {
             return false;
         }
-        Node<T> parser = vertexArray[sourceIndex];
-        while(true) {
-            if(parser.getNext() == null) {
-                parser.setNext(new Node<>(destination, weight));
-                break;
-            }
-            parser = parser.getNext();
+        Node<T> node = new Node<>(destination, weight);
+        tailArray[sourceIndex].setNext(node);
+        tailArray[sourceIndex] = node;
+        totalEdges++;
+        if(inEdgeArray != null) {
+            Node<T> in = new Node<>(vertexArray[sourceIndex].getData(), weight);
+            in.setNext(inEdgeArray[destinationIndex]);
+            inEdgeArray[destinationIndex] = in;
         }
+        version++;
+        mutationListeners.edgeAdded(source, destination, weight, version);
         return true;
     }
 
+    /**
+     * addVertices Adds a batch of vertices to the Graph, resizing the internal arrays at most once beforehand.
+     * @param vertices The vertices to add.
+     * @return The number of vertices added.
+     */
+    public int addVertices(Collection<? extends T> vertices) {
+        ensureCapacity(totalVertices + vertices.size());
+        return GraphInterface.super.addVertices(vertices);
+    }
+
     /**
      * getEdge Returns the weight of an edge between two vertices if present.
      * @param source The source vertex.
@@ -144,9 +244,9 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
         if(index < 0) {
             return -1;
         }
-        Node<T> parser = vertexArray[index];
+        Node<T> parser = vertexArray[index].getNext();
         while(parser != null) {
-            if(parser.getData() == destination) {
+            if(parser.getData().equals(destination)) {
                 return parser.getWeight();
             }
             parser = parser.getNext();
@@ -165,9 +265,9 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
         if(index < 0) {
             return false;
         }
-        Node<T> parser = vertexArray[index];
+        Node<T> parser = vertexArray[index].getNext();
         while(parser != null) {
-            if(parser.getData() == destination) {
+            if(parser.getData().equals(destination)) {
                 return true;
             }
             parser = parser.getNext();
@@ -183,36 +283,142 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
      */
     public boolean removeEdge(T source, T destination) {
         int index = indexFinder(source);
-        if(index < 0) {
+        int weight = index < 0 ? -1 : unlinkOutEdge(index, destination);
+        if(weight < 0) {
             return false;
         }
+        if(inEdgeArray != null) {
+            unlinkInEdge(indexFinder(destination), source, weight);
+        }
+        version++;
+        mutationListeners.edgeRemoved(source, destination, weight, version);
+        return true;
+    }
+
+    /**
+     * getPredecessors Creates a Queue of all vertices with an edge to a particular vertex, once per edge and in no
+     * particular order. With the in-edge index this takes time proportional to the in-degree of the vertex, otherwise
+     * every adjacency list is scanned.
+     * @param vertex The vertex where all of its predecessors are desired.
+     * @return A Queue of predecessors.
+     */
+    public Queue<T> getPredecessors(T vertex) {
+        Queue<T> queue = new LinkedList<>();
+        forEachPredecessor(vertex, (predecessor, weight) -> queue.offer(predecessor));
+        return queue;
+    }
+
+    /**
+     * forEachPredecessor Passes every vertex with an edge to a particular vertex, with the weight of that edge, to a
+     * consumer in the same order as getPredecessors. Nothing is allocated per predecessor.
+     * @param vertex The vertex where all of its predecessors are desired.
+     * @param consumer The consumer receiving each predecessor and edge weight.
+     */
+    public void forEachPredecessor(T vertex, NeighborConsumer<T> consumer) {
+        int destination = indexFinder(vertex);
+        if(destination < 0) {
+            return;
+        }
+        if(inEdgeArray != null) {
+            for(Node<T> in = inEdgeArray[destination]; in != null; in = in.getNext()) {
+                consumer.accept(in.getData(), in.getWeight());
+            }
+            return;
+        }
+        for(int i = 0; i < nextSlot; i++) {
+            if(vertexArray[i] != null) {
+                for(Node<T> parser = vertexArray[i].getNext(); parser != null; parser = parser.getNext()) {
+                    if(parser.getData().equals(vertex)) {
+                        consumer.accept(vertexArray[i].getData(), parser.getWeight());
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * hasInEdgeIndex Checks if the Graph keeps an in-edge index.
+     * @return True if in-edges are indexed, false otherwise.
+     */
+    public boolean hasInEdgeIndex() {
+        return inEdgeArray != null;
+    }
+
+    /**
+     * unlinkOutEdge Removes the first edge from a vertex to a destination.
+     * @param index The index of the source vertex.
+     * @param destination The destination vertex.
+     * @return The weight of the removed edge, or -1 if no edge is removed.
+     */
+    private int unlinkOutEdge(int index, T destination) {
+        for(Node<T> parser = vertexArray[index]; parser.getNext() != null; parser = parser.getNext()) {
+            if(parser.getNext().getData().equals(destination)) {
+                int weight = parser.getNext().getWeight();
+                unlinkNext(index, parser);
+                return weight;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * unlinkAllOutEdges Removes every edge from a vertex to a destination.
+     * @param index The index of the source vertex.
+     * @param destination The destination vertex.
+     */
+    private void unlinkAllOutEdges(int index, T destination) {
         Node<T> parser = vertexArray[index];
-        while(parser != null) {
-            if(parser.getNext().getData() == destination) {
-                parser.setNext(parser.getNext().getNext());
-                return true;
+        while(parser.getNext() != null) {
+            if(parser.getNext().getData().equals(destination)) {
+                unlinkNext(index, parser);
+            } else {
+                parser = parser.getNext();
             }
-            parser = parser.getNext();
         }
-        return false;
     }
 
     /**
-     * indexFinder Returns the index of a vertex.
-     * @param vertex The vertex to search for.
-     * @return The index of the vertex, or a negative number if the vertex was not found.
+     * unlinkInEdge Removes an entry for a source from a vertex's in-edge list. The weight picks the matching entry
+     * when parallel edges join the same vertices.
+     * @param index The index of the destination vertex.
+     * @param source The source vertex.
+     * @param weight The weight of the removed edge.
      */
-    private int indexFinder(T vertex) {
-        for(int i = 0; i < vertexArray.length; i++) {
-            try {
-                if (vertexArray[i].getData().equals(vertex)) {
-                    return i;
+    private void unlinkInEdge(int index, T source, int weight) {
+        Node<T> previous = null;
+        for(Node<T> in = inEdgeArray[index]; in != null; previous = in, in = in.getNext()) {
+            if(in.getWeight() == weight && in.getData().equals(source)) {
+                if(previous == null) {
+                    inEdgeArray[index] = in.getNext();
+                } else {
+                    previous.setNext(in.getNext());
                 }
-            } catch(NullPointerException e) {
-                continue;
+                return;
             }
         }
-        return -1;
+    }
+
+    /**
+     * unlinkNext Removes the node following a node of a vertex's adjacency list, moving the tail back if the removed
+     * node was the last one.
+     * @param index The index of the vertex owning the list.
+     * @param parser The node before the node to remove.
+     */
+    private void unlinkNext(int index, Node<T> parser) {
+        if(parser.getNext() == tailArray[index]) {
+            tailArray[index] = parser;
+        }
+        parser.setNext(parser.getNext().getNext());
+        totalEdges--;
+    }
+
+    /**
+     * indexFinder Returns the index of a vertex in constant time through the vertex index.
+     * @param vertex The vertex to search for.
+     * @return The index of the vertex, or a negative number if the vertex was not found.
+     */
+    private int indexFinder(T vertex) {
+        return vertexIndex.get(vertex);
     }
 
     /**
@@ -253,97 +459,290 @@ public class DirectedWeightedGraph<T> implements GraphInterface<T> {
     }
 
     /**
-     * getAdjacentVertexIndices Creates a Queue of the indexes of all vertices that are adjacent to a particular vertex.
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in the same order as getAdjacentVertices. Nothing is allocated per neighbor.
      * @param vertex The vertex where all of its adjacent vertices are desired.
-     * @return A Queue of adjacent vertex indices.
+     * @param consumer The consumer receiving each neighbor and edge weight.
      */
-    private Queue<Integer> getAdjacentVertexIndices(T vertex) {
-        Queue<Integer> queue = new LinkedList<>();
-        int index = indexFinder(vertex);
-        if(vertexArray[index].getNext() == null) {
-            return queue;
-        }
-        Set<T> set = new HashSet<>();
-        Node<T> parser = vertexArray[index];
-        while(parser != null) {
-            set.add(parser.getData());
-            parser = parser.getNext();
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        int source = indexFinder(vertex);
+        if(source < 0) {
+            return;
         }
-        for(T t : set) {
-            queue.offer(indexFinder(t));
+        for(Node<T> parser = vertexArray[source].getNext(); parser != null; parser = parser.getNext()) {
+            consumer.accept(parser.getData(), parser.getWeight());
         }
-        return queue;
     }
 
     /**
-     * markVertex Marks a vertex as seen.
+     * markVertex Marks a vertex as seen in the Graph's default traversal context.
      * @param vertex The vertex to mark.
      */
     public void markVertex(T vertex) {
-        for(int i = 0; i < totalVertices; i++) {
-            try {
-                if(vertexArray[i].getData().equals(vertex)) {
-                    seenVertexArray[i] = true;
-                }
-            } catch(NullPointerException e) {
-                continue;
-            }
-        }
+        defaultTraversal.markVertex(vertex);
     }
 
     /**
-     * isMarked Checks if a vertex is marked as seen.
+     * isMarked Checks if a vertex is marked as seen in the Graph's default traversal context.
      * @param vertex The vertex to check.
      * @return True if the vertex is marked, false otherwise.
      */
     public boolean isMarked(T vertex) {
-        for(int i = 0; i < totalVertices; i++) {
-            try {
-                if(vertexArray[i].getData().equals(vertex) && seenVertexArray[i]) {
-                    return true;
-                }
-            } catch(NullPointerException e) {
-                continue;
-            }
-        }
-        return false;
+        return defaultTraversal.isMarked(vertex);
     }
 
     /**
-     * clearAllMarks Clears the seenVertexArray of all seen marks, setting each value to false.
+     * clearAllMarks Clears every mark of the Graph's default traversal context in constant time.
      */
     public void clearAllMarks() {
-        Arrays.fill(seenVertexArray, false);
+        defaultTraversal.clearAllMarks();
     }
 
     /**
-     * getAnUnmarkedVertex Returns a vertex that is not marked in no particular order.
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the Graph's default traversal context in no
+     * particular order.
      * @return A vertex that is not marked.
      */
     public T getAnUnmarkedVertex() {
-        for(int i = 0; i < totalVertices; i++) {
-            if(!seenVertexArray[i] && vertexArray[i] != null) {
-                return vertexArray[i].getData();
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context with its own marks, independent of the default context and of every
+     * other context.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        return new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * getVersion Returns the mutation version of the Graph, which advances every time a vertex or an edge is added or
+     * removed. Equal versions mean the Graph has not changed in between.
+     * @return The mutation version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * freeze Compiles the Graph into an immutable compressed sparse row snapshot. Vertices are renumbered densely in
+     * slot order, edges keep their insertion order, and edges to removed vertices are dropped. Later changes to this
+     * Graph are not reflected in the snapshot.
+     * @return The snapshot of the Graph.
+     */
+    public CompressedSparseRowGraph<T> freeze() {
+        int[] denseSlot = new int[capacity];
+        T[] vertices = (T[])new Object[totalVertices];
+        int totalEdges = 0;
+        int next = 0;
+        for(int i = 0; i < vertexArray.length; i++) {
+            if(vertexArray[i] != null) {
+                denseSlot[i] = next;
+                vertices[next++] = vertexArray[i].getData();
+                for(Node<T> parser = vertexArray[i].getNext(); parser != null; parser = parser.getNext()) {
+                    if(indexFinder(parser.getData()) >= 0) {
+                        totalEdges++;
+                    }
+                }
+            }
+        }
+        int[] offsets = new int[totalVertices + 1];
+        int[] targets = new int[totalEdges];
+        int[] weights = new int[totalEdges];
+        int edge = 0;
+        next = 0;
+        for(int i = 0; i < vertexArray.length; i++) {
+            if(vertexArray[i] != null) {
+                offsets[next++] = edge;
+                for(Node<T> parser = vertexArray[i].getNext(); parser != null; parser = parser.getNext()) {
+                    int target = indexFinder(parser.getData());
+                    if(target >= 0) {
+                        targets[edge] = denseSlot[target];
+                        weights[edge++] = parser.getWeight();
+                    }
+                }
             }
         }
-        return null;
+        offsets[totalVertices] = edge;
+        return new CompressedSparseRowGraph<>(vertices, offsets, targets, weights);
     }
 
     /**
-     * resize Resizes the internal arrays to double capacity if the original array's load threshold is met or exceeded.
+     * compact Renumbers the vertices densely into the lowest slots, keeping their order, and shrinks the internal
+     * arrays to fit them. Removed vertices leave vacated slots that are reused by later additions, so compacting is
+     * only worthwhile after removing many more vertices than will be added back. Marks of every traversal context
+     * are cleared.
      */
-    private void resize() {
-        Node<T>[] resizedArray = new Node[capacity *= 2];
-        boolean[] resizedSeenArray = new boolean[capacity];
-        for(int i = 0; i < vertexArray.length; i++) {
+    public void compact() {
+        int next = 0;
+        for(int i = 0; i < nextSlot; i++) {
             if(vertexArray[i] != null) {
-                resizedArray[i] = vertexArray[i];
+                vertexArray[next] = vertexArray[i];
+                tailArray[next] = tailArray[i];
+                if(inEdgeArray != null) {
+                    inEdgeArray[next] = inEdgeArray[i];
+                }
+                vertexIndex.put(vertexArray[next].getData(), next);
+                next++;
             }
-            if(seenVertexArray[i]) {
-                resizedSeenArray[i] = true;
+        }
+        Arrays.fill(vertexArray, next, nextSlot, null);
+        Arrays.fill(tailArray, next, nextSlot, null);
+        if(inEdgeArray != null) {
+            Arrays.fill(inEdgeArray, next, nextSlot, null);
+        }
+        for(int generation : slotGenerations) {
+            baseGeneration = Math.max(baseGeneration, generation + 1);
+        }
+        Arrays.fill(slotGenerations, baseGeneration);
+        nextSlot = next;
+        totalFreeSlots = 0;
+        int compacted = Math.max(totalVertices + 1, (int) Math.ceil(totalVertices / LOAD_THRESHOLD));
+        if(compacted < capacity) {
+            long start = resizeListener == null ? 0 : System.nanoTime();
+            int oldCapacity = capacity;
+            capacity = compacted;
+            vertexArray = Arrays.copyOf(vertexArray, capacity);
+            tailArray = Arrays.copyOf(tailArray, capacity);
+            if(inEdgeArray != null) {
+                inEdgeArray = Arrays.copyOf(inEdgeArray, capacity);
             }
+            slotGenerations = Arrays.copyOf(slotGenerations, capacity);
+            freeSlots = new int[capacity];
+            if(resizeListener != null) {
+                resizeListener.resized(oldCapacity, capacity, System.nanoTime() - start);
+            }
+        }
+    }
+
+    /**
+     * getCapacity Returns the number of vertices the internal arrays hold before the next resize.
+     * @return The vertex capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * getAverageProbeLength Returns the mean number of buckets a vertex lookup inspects in the vertex index.
+     * @return The average probe length.
+     */
+    public double getAverageProbeLength() {
+        return vertexIndex.getAverageProbeLength();
+    }
+
+    /**
+     * getMaxProbeLength Returns the largest number of buckets a vertex lookup inspects in the vertex index.
+     * @return The longest probe length.
+     */
+    public int getMaxProbeLength() {
+        return vertexIndex.getMaxProbeLength();
+    }
+
+    /**
+     * estimateMemoryBytes Returns the estimated heap held by the Graph's internal arrays, adjacency nodes and vertex
+     * index, assuming compressed references and excluding the vertices themselves.
+     * @return The estimated size in bytes.
+     */
+    public long estimateMemoryBytes() {
+        int arrays = inEdgeArray == null ? 4 : 5;
+        long nodes = totalVertices + (inEdgeArray == null ? 1L : 2L) * totalEdges;
+        return arrays * (16 + (long) capacity * Integer.BYTES) + nodes * NODE_BYTES + vertexIndex.estimateBytes();
+    }
+
+    /**
+     * setResizeListener Sets the callback notified after every resize of the internal arrays, including the shrink
+     * done by compact.
+     * @param listener The callback, or null to stop timing resizes.
+     */
+    public void setResizeListener(ResizeListener listener) {
+        resizeListener = listener;
+    }
+
+    /**
+     * addMutationListener Adds a callback told about every successful addVertex, removeVertex, addEdge and removeEdge,
+     * after the callbacks added before it. Edges are kept in parallel rather than replaced, so this Graph never reports
+     * a reweighted edge.
+     * @param listener The callback to add. Null is ignored.
+     */
+    public void addMutationListener(MutationListener<T> listener) {
+        mutationListeners.add(listener);
+    }
+
+    /**
+     * removeMutationListener Removes a callback added with addMutationListener, leaving every other callback in place.
+     * @param listener The callback to remove.
+     * @return True if the callback is removed, false if it was not added.
+     */
+    public boolean removeMutationListener(MutationListener<T> listener) {
+        return mutationListeners.remove(listener);
+    }
+
+    /**
+     * getTotalFreeSlots Returns the number of vacated slots waiting to be reused.
+     * @return The number of vacated slots.
+     */
+    public int getTotalFreeSlots() {
+        return totalFreeSlots;
+    }
+
+    /**
+     * ensureCapacity Doubles the capacity until a number of vertices fits without triggering another resize.
+     * @param expected The number of vertices the Graph should hold.
+     */
+    private void ensureCapacity(int expected) {
+        int resized = capacity;
+        while(resized <= expected) {
+            resized *= 2;
+        }
+        if(resized > capacity) {
+            resize(resized);
+        }
+        vertexIndex.ensureCapacity(expected);
+    }
+
+    /**
+     * resize Resizes the internal arrays to a larger capacity, keeping every vertex in its slot.
+     * @param resized The new capacity.
+     */
+    private void resize(int resized) {
+        long start = resizeListener == null ? 0 : System.nanoTime();
+        int oldCapacity = capacity;
+        capacity = resized;
+        vertexArray = Arrays.copyOf(vertexArray, capacity);
+        tailArray = Arrays.copyOf(tailArray, capacity);
+        if(inEdgeArray != null) {
+            inEdgeArray = Arrays.copyOf(inEdgeArray, capacity);
+        }
+        slotGenerations = Arrays.copyOf(slotGenerations, capacity);
+        Arrays.fill(slotGenerations, oldCapacity, capacity, baseGeneration);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        if(resizeListener != null) {
+            resizeListener.resized(oldCapacity, capacity, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Slots of the Graph as seen by its traversal contexts. A slot's generation advances each time its vertex is
+     * removed, since removed slots are handed to the next added vertex, and every generation moves past all earlier
+     * ones when the Graph is compacted.
+     */
+    private class Slots implements TraversalSlots<T> {
+        public int slotOf(T vertex) {
+            return indexFinder(vertex);
+        }
+
+        public int getSlotLimit() {
+            return nextSlot;
+        }
+
+        public T vertexAt(int slot) {
+            return vertexArray[slot] == null ? null : vertexArray[slot].getData();
+        }
+
+        public int generationOf(int slot) {
+            return slot < slotGenerations.length ? slotGenerations[slot] : 0;
         }
-        vertexArray = resizedArray;
-        seenVertexArray = resizedSeenArray;
     }
 }
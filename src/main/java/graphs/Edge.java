@@ -0,0 +1,72 @@
+package graphs;
+
+import java.util.Objects;
+
+/**
+ * Immutable weighted edge between two vertices, used to hand batches of edges to a Graph.
+ * @param <T> The vertex type.
+ */
+public class Edge<T> {
+    private final T source;
+    private final T destination;
+    private final int weight;
+
+    /**
+     * Constructor sets the endpoints and weight of the edge.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @param weight The weight of the edge.
+     */
+    public Edge(T source, T destination, int weight) {
+        this.source = source;
+        this.destination = destination;
+        this.weight = weight;
+    }
+
+    /**
+     * getSource Returns the source vertex of the edge.
+     * @return The source vertex.
+     */
+    public T getSource() {
+        return source;
+    }
+
+    /**
+     * getDestination Returns the destination vertex of the edge.
+     * @return The destination vertex.
+     */
+    public T getDestination() {
+        return destination;
+    }
+
+    /**
+     * getWeight Returns the weight of the edge.
+     * @return The weight.
+     */
+    public int getWeight() {
+        return weight;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if(this == o) {
+            return true;
+        }
+        if(!(o instanceof Edge)) {
+            return false;
+        }
+        Edge<?> other = (Edge<?>) o;
+        return weight == other.weight && Objects.equals(source, other.source) &&
+                Objects.equals(destination, other.destination);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(source, destination, weight);
+    }
+
+    @Override
+    public String toString() {
+        return source + " -> " + destination + " (" + weight + ")";
+    }
+}
@@ -0,0 +1,169 @@
+package graphs;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+
+/**
+ * Off-heap storage for blocks of edges, each edge being a destination slot and a weight packed into 8 bytes. Blocks
+ * hold a power of two number of edges and are carved out of direct buffers that double in size up to a limit, so
+ * the heap only holds the chunk table and the free lists. A block is addressed by a long holding its chunk in the
+ * upper 32 bits and its byte offset in the lower 32 bits. Freed blocks are kept on a free list per size and handed
+ * out again before any new space is carved.
+ */
+final class EdgeArena implements AutoCloseable {
+    static final int EDGE_BYTES = 8;
+    static final int MIN_BLOCK_EDGES = 4;
+    private static final int FIRST_CHUNK_BYTES = 1 << 16;
+    private static final int MAX_CHUNK_BYTES = 1 << 26;
+    private static final Method INVOKE_CLEANER;
+    private static final Object UNSAFE;
+    private ByteBuffer[] chunks = new ByteBuffer[8];
+    private int totalChunks = 0;
+    private int used = 0;
+    private long[][] freeBlocks = new long[32][];
+    private final int[] totalFree = new int[32];
+    private long allocatedBytes = 0;
+
+    static {
+        Method invokeCleaner = null;
+        Object unsafe = null;
+        try {
+            Class<?> type = Class.forName("sun.misc.Unsafe");
+            Field field = type.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            unsafe = field.get(null);
+            invokeCleaner = type.getMethod("invokeCleaner", ByteBuffer.class);
+        } catch(ReflectiveOperationException | RuntimeException e) {
+            unsafe = null;
+            invokeCleaner = null;
+        }
+        UNSAFE = unsafe;
+        INVOKE_CLEANER = invokeCleaner;
+    }
+
+    /**
+     * allocate Returns a block for a number of edges, reusing a freed block of the same size if there is one.
+     * @param edges The number of edges, a power of two of at least MIN_BLOCK_EDGES.
+     * @return The address of the block.
+     */
+    long allocate(int edges) {
+        int sizeClass = Integer.numberOfTrailingZeros(edges);
+        if(totalFree[sizeClass] > 0) {
+            return freeBlocks[sizeClass][--totalFree[sizeClass]];
+        }
+        int bytes = edges * EDGE_BYTES;
+        if(totalChunks == 0 || chunks[totalChunks - 1].capacity() - used < bytes) {
+            int previous = totalChunks == 0 ? FIRST_CHUNK_BYTES / 2 : chunks[totalChunks - 1].capacity();
+            addChunk(Math.max(bytes, Math.min(previous * 2, MAX_CHUNK_BYTES)));
+        }
+        long address = (long) (totalChunks - 1) << 32 | used;
+        used += bytes;
+        return address;
+    }
+
+    /**
+     * free Returns a block to the free list of its size.
+     * @param address The address of the block.
+     * @param edges The number of edges the block was allocated for.
+     */
+    void free(long address, int edges) {
+        int sizeClass = Integer.numberOfTrailingZeros(edges);
+        long[] list = freeBlocks[sizeClass];
+        if(list == null) {
+            list = freeBlocks[sizeClass] = new long[16];
+        } else if(totalFree[sizeClass] == list.length) {
+            list = freeBlocks[sizeClass] = Arrays.copyOf(list, list.length * 2);
+        }
+        list[totalFree[sizeClass]++] = address;
+    }
+
+    /**
+     * target Returns the destination slot of an edge of a block.
+     * @param address The address of the block.
+     * @param index The position of the edge in the block.
+     * @return The destination slot.
+     */
+    int target(long address, int index) {
+        return chunks[(int) (address >>> 32)].getInt((int) address + index * EDGE_BYTES);
+    }
+
+    /**
+     * weight Returns the weight of an edge of a block.
+     * @param address The address of the block.
+     * @param index The position of the edge in the block.
+     * @return The weight.
+     */
+    int weight(long address, int index) {
+        return chunks[(int) (address >>> 32)].getInt((int) address + index * EDGE_BYTES + Integer.BYTES);
+    }
+
+    /**
+     * set Writes an edge into a block.
+     * @param address The address of the block.
+     * @param index The position of the edge in the block.
+     * @param target The destination slot.
+     * @param weight The weight.
+     */
+    void set(long address, int index, int target, int weight) {
+        ByteBuffer chunk = chunks[(int) (address >>> 32)];
+        int offset = (int) address + index * EDGE_BYTES;
+        chunk.putInt(offset, target);
+        chunk.putInt(offset + Integer.BYTES, weight);
+    }
+
+    /**
+     * getAllocatedBytes Returns the off-heap memory reserved by the arena, including freed blocks and unused space at
+     * the end of the last chunk.
+     * @return The reserved size in bytes.
+     */
+    long getAllocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * close Releases every chunk. The memory is freed immediately where the runtime exposes the direct buffer cleaner,
+     * and otherwise once the buffers are garbage collected. No block may be used afterwards.
+     */
+    public void close() {
+        for(int i = 0; i < totalChunks; i++) {
+            release(chunks[i]);
+            chunks[i] = null;
+        }
+        totalChunks = 0;
+        used = 0;
+        allocatedBytes = 0;
+        Arrays.fill(totalFree, 0);
+        freeBlocks = new long[32][];
+    }
+
+    /**
+     * addChunk Appends a new direct buffer and carves the following blocks from its start.
+     * @param bytes The size of the buffer.
+     */
+    private void addChunk(int bytes) {
+        if(totalChunks == chunks.length) {
+            chunks = Arrays.copyOf(chunks, totalChunks * 2);
+        }
+        chunks[totalChunks++] = ByteBuffer.allocateDirect(bytes).order(ByteOrder.nativeOrder());
+        used = 0;
+        allocatedBytes += bytes;
+    }
+
+    /**
+     * release Frees the memory of a direct buffer through its cleaner if the runtime allows it.
+     * @param buffer The buffer to free.
+     */
+    private static void release(ByteBuffer buffer) {
+        if(INVOKE_CLEANER == null) {
+            return;
+        }
+        try {
+            INVOKE_CLEANER.invoke(UNSAFE, buffer);
+        } catch(ReflectiveOperationException e) {
+            // The buffer is freed when it is garbage collected instead.
+        }
+    }
+}
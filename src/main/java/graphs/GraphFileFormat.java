@@ -0,0 +1,64 @@
+package graphs;
+
+import java.util.Arrays;
+
+/**
+ * Layout of a graph file. Every number is little-endian. A fixed header is followed by six sections, each starting on
+ * an eight byte boundary:
+ * offsets, int[vertices + 1], the start of each vertex's edges followed by the total number of edges;
+ * targets, int[edges], the destination slot of each edge;
+ * weights, int[edges], the weight of each edge;
+ * vertex positions, long[vertices + 1], the start of each vertex's encoding in the vertex data followed by its length;
+ * vertex index, int[table size], an open-addressing table holding slot + 1 of each vertex, or 0 for an empty bucket;
+ * vertex data, the encoded vertices back to back.
+ * The header holds the magic number, the version, the number of vertices, the vertex index table size, the number of
+ * edges, and the file position of each section.
+ */
+final class GraphFileFormat {
+    static final int MAGIC = 0x46524757;
+    static final int VERSION = 1;
+    static final int OFFSETS = 0;
+    static final int TARGETS = 1;
+    static final int WEIGHTS = 2;
+    static final int VERTEX_POSITIONS = 3;
+    static final int VERTEX_INDEX = 4;
+    static final int VERTEX_DATA = 5;
+    static final int SECTIONS = 6;
+    static final int HEADER_BYTES = 4 * Integer.BYTES + Long.BYTES + SECTIONS * Long.BYTES;
+
+    private GraphFileFormat() {
+    }
+
+    /**
+     * tableSizeFor Returns the vertex index table size for a number of vertices, a power of two at most half full.
+     * @param vertices The number of vertices.
+     * @return The table size.
+     */
+    static int tableSizeFor(int vertices) {
+        int size = 2;
+        while(size < vertices * 2) {
+            size <<= 1;
+        }
+        return size;
+    }
+
+    /**
+     * hash Spreads the hash of an encoded vertex. The result only depends on the bytes, so it is the same in every
+     * process that opens the file.
+     * @param encoded The encoded vertex.
+     * @return The spread hash.
+     */
+    static int hash(byte[] encoded) {
+        int h = Arrays.hashCode(encoded) * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    /**
+     * align Rounds a file position up to the next eight byte boundary.
+     * @param position The file position.
+     * @return The aligned position.
+     */
+    static long align(long position) {
+        return (position + 7) & ~7L;
+    }
+}
@@ -0,0 +1,85 @@
+package graphs;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Opens files written by GraphFileWriter as read-only Graphs. Each section is mapped into memory and queried in
+ * place, so opening a file only reads its header and no vertex or edge is deserialized up front.
+ */
+public final class GraphFileReader {
+    private GraphFileReader() {
+    }
+
+    /**
+     * open Maps a graph file. The mapping stays valid after this method returns and is released once the returned
+     * Graph is no longer reachable.
+     * @param path The file to open.
+     * @param codec The codec the file was written with.
+     * @param <T> The vertex type.
+     * @return The mapped Graph.
+     * @throws IOException If the file cannot be read or is not a graph file.
+     */
+    public static <T> MappedGraph<T> open(Path path, VertexCodec<T> codec) throws IOException {
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long fileSize = channel.size();
+            if(fileSize < GraphFileFormat.HEADER_BYTES) {
+                throw new IOException("Not a graph file: " + path);
+            }
+            ByteBuffer header = map(channel, 0, GraphFileFormat.HEADER_BYTES);
+            if(header.getInt() != GraphFileFormat.MAGIC) {
+                throw new IOException("Not a graph file: " + path);
+            }
+            int version = header.getInt();
+            if(version != GraphFileFormat.VERSION) {
+                throw new IOException("Unsupported graph file version " + version + ": " + path);
+            }
+            int vertices = header.getInt();
+            int tableSize = header.getInt();
+            long edges = header.getLong();
+            long[] positions = new long[GraphFileFormat.SECTIONS + 1];
+            for(int i = 0; i < GraphFileFormat.SECTIONS; i++) {
+                positions[i] = header.getLong();
+            }
+            positions[GraphFileFormat.SECTIONS] = fileSize;
+            long[] lengths = new long[GraphFileFormat.SECTIONS];
+            lengths[GraphFileFormat.OFFSETS] = (vertices + 1L) * Integer.BYTES;
+            lengths[GraphFileFormat.TARGETS] = edges * Integer.BYTES;
+            lengths[GraphFileFormat.WEIGHTS] = edges * Integer.BYTES;
+            lengths[GraphFileFormat.VERTEX_POSITIONS] = (vertices + 1L) * Long.BYTES;
+            lengths[GraphFileFormat.VERTEX_INDEX] = (long) tableSize * Integer.BYTES;
+            ByteBuffer[] sections = new ByteBuffer[GraphFileFormat.SECTIONS];
+            for(int i = 0; i < GraphFileFormat.SECTIONS; i++) {
+                long available = positions[i + 1] - positions[i];
+                if(i == GraphFileFormat.VERTEX_DATA) {
+                    lengths[i] = available;
+                }
+                if(vertices < 0 || edges < 0 || Integer.bitCount(tableSize) != 1 || tableSize < 2L * vertices ||
+                        positions[i] < 0 || lengths[i] > available || lengths[i] > Integer.MAX_VALUE) {
+                    throw new IOException("Corrupt graph file: " + path);
+                }
+                sections[i] = map(channel, positions[i], lengths[i]);
+            }
+            return new MappedGraph<>(codec, vertices, (int) edges, sections[GraphFileFormat.OFFSETS].asIntBuffer(),
+                    sections[GraphFileFormat.TARGETS].asIntBuffer(), sections[GraphFileFormat.WEIGHTS].asIntBuffer(),
+                    sections[GraphFileFormat.VERTEX_POSITIONS].asLongBuffer(),
+                    sections[GraphFileFormat.VERTEX_INDEX].asIntBuffer(), sections[GraphFileFormat.VERTEX_DATA]);
+        }
+    }
+
+    /**
+     * map Maps a little-endian read-only region of a file.
+     * @param channel The file channel.
+     * @param position The start of the region.
+     * @param length The length of the region.
+     * @return The mapped region.
+     * @throws IOException If the region cannot be mapped.
+     */
+    private static ByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        return channel.map(FileChannel.MapMode.READ_ONLY, position, length).order(ByteOrder.LITTLE_ENDIAN);
+    }
+}
@@ -0,0 +1,125 @@
+package graphs;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Writes Graphs to the binary file format read by GraphFileReader. The Graph is frozen first and the file is filled
+ * through a writable mapping, one section at a time.
+ */
+public final class GraphFileWriter {
+    private GraphFileWriter() {
+    }
+
+    /**
+     * write Writes a snapshot of a Graph to a file, replacing the file if it exists.
+     * @param graph The Graph to write.
+     * @param codec The codec encoding each vertex.
+     * @param path The file to write.
+     * @param <T> The vertex type.
+     * @throws IOException If the file cannot be written.
+     */
+    public static <T> void write(GraphInterface<T> graph, VertexCodec<T> codec, Path path) throws IOException {
+        write(graph.freeze(), codec, path);
+    }
+
+    /**
+     * write Writes a compressed sparse row snapshot to a file, replacing the file if it exists.
+     * @param graph The snapshot to write.
+     * @param codec The codec encoding each vertex.
+     * @param path The file to write.
+     * @param <T> The vertex type.
+     * @throws IOException If the file cannot be written.
+     * @throws IllegalArgumentException If a section of the file would exceed 2 GB.
+     */
+    public static <T> void write(CompressedSparseRowGraph<T> graph, VertexCodec<T> codec, Path path)
+            throws IOException {
+        int vertices = graph.getTotalVertices();
+        int edges = graph.getTotalEdges();
+        byte[][] encoded = new byte[vertices][];
+        long dataBytes = 0;
+        for(int i = 0; i < vertices; i++) {
+            encoded[i] = codec.encode(graph.vertexAt(i));
+            dataBytes += encoded[i].length;
+        }
+        int tableSize = GraphFileFormat.tableSizeFor(vertices);
+        long[] lengths = new long[GraphFileFormat.SECTIONS];
+        lengths[GraphFileFormat.OFFSETS] = (vertices + 1L) * Integer.BYTES;
+        lengths[GraphFileFormat.TARGETS] = (long) edges * Integer.BYTES;
+        lengths[GraphFileFormat.WEIGHTS] = (long) edges * Integer.BYTES;
+        lengths[GraphFileFormat.VERTEX_POSITIONS] = (vertices + 1L) * Long.BYTES;
+        lengths[GraphFileFormat.VERTEX_INDEX] = (long) tableSize * Integer.BYTES;
+        lengths[GraphFileFormat.VERTEX_DATA] = dataBytes;
+        long[] positions = new long[GraphFileFormat.SECTIONS];
+        long position = GraphFileFormat.align(GraphFileFormat.HEADER_BYTES);
+        for(int i = 0; i < GraphFileFormat.SECTIONS; i++) {
+            if(lengths[i] > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Graph section " + i + " exceeds 2 GB");
+            }
+            positions[i] = position;
+            position = GraphFileFormat.align(position + lengths[i]);
+        }
+        try(FileChannel channel = FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            MappedByteBuffer header = map(channel, 0, GraphFileFormat.HEADER_BYTES);
+            header.putInt(GraphFileFormat.MAGIC).putInt(GraphFileFormat.VERSION).putInt(vertices).putInt(tableSize);
+            header.putLong(edges);
+            for(long sectionPosition : positions) {
+                header.putLong(sectionPosition);
+            }
+            header.force();
+            MappedByteBuffer offsets = map(channel, positions[GraphFileFormat.OFFSETS],
+                    lengths[GraphFileFormat.OFFSETS]);
+            offsets.asIntBuffer().put(graph.getOffsets());
+            offsets.force();
+            MappedByteBuffer targets = map(channel, positions[GraphFileFormat.TARGETS],
+                    lengths[GraphFileFormat.TARGETS]);
+            targets.asIntBuffer().put(graph.getTargets());
+            targets.force();
+            MappedByteBuffer weights = map(channel, positions[GraphFileFormat.WEIGHTS],
+                    lengths[GraphFileFormat.WEIGHTS]);
+            weights.asIntBuffer().put(graph.getWeights());
+            weights.force();
+            MappedByteBuffer vertexPositions = map(channel, positions[GraphFileFormat.VERTEX_POSITIONS],
+                    lengths[GraphFileFormat.VERTEX_POSITIONS]);
+            MappedByteBuffer vertexData = map(channel, positions[GraphFileFormat.VERTEX_DATA],
+                    lengths[GraphFileFormat.VERTEX_DATA]);
+            int[] table = new int[tableSize];
+            int mask = tableSize - 1;
+            for(int i = 0; i < vertices; i++) {
+                vertexPositions.putLong(vertexData.position());
+                vertexData.put(encoded[i]);
+                int bucket = GraphFileFormat.hash(encoded[i]) & mask;
+                while(table[bucket] != 0) {
+                    bucket = (bucket + 1) & mask;
+                }
+                table[bucket] = i + 1;
+            }
+            vertexPositions.putLong(vertexData.position());
+            vertexPositions.force();
+            vertexData.force();
+            MappedByteBuffer vertexIndex = map(channel, positions[GraphFileFormat.VERTEX_INDEX],
+                    lengths[GraphFileFormat.VERTEX_INDEX]);
+            vertexIndex.asIntBuffer().put(table);
+            vertexIndex.force();
+        }
+    }
+
+    /**
+     * map Maps a little-endian writable region of a file.
+     * @param channel The file channel.
+     * @param position The start of the region.
+     * @param length The length of the region.
+     * @return The mapped region.
+     * @throws IOException If the region cannot be mapped.
+     */
+    private static MappedByteBuffer map(FileChannel channel, long position, long length) throws IOException {
+        MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, position, length);
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        return buffer;
+    }
+}
@@ -1,21 +1,32 @@
 package graphs;
 
-import java.util.Queue;
+import java.util.Collection;
 
-public interface GraphInterface<T> {
+public interface GraphInterface<T> extends ReadOnlyGraphInterface<T> {
     boolean addVertex(T vertex);
-    boolean hasVertex(T vertex);
     boolean removeVertex(T vertex);
-    int getTotalVertices();
     boolean addEdge(T source, T destination, int weight);
-    int getEdge(T source, T destination);
-    boolean containsEdge(T source, T destination);
     boolean removeEdge(T source, T destination);
-    boolean isEmpty();
     boolean isFull();
-    Queue<T> getAdjacentVertices(T vertex);
-    void markVertex(T vertex);
-    boolean isMarked(T vertex);
-    void clearAllMarks();
-    T getAnUnmarkedVertex();
+    CompressedSparseRowGraph<T> freeze();
+
+    default int addVertices(Collection<? extends T> vertices) {
+        int added = 0;
+        for(T vertex : vertices) {
+            if(addVertex(vertex)) {
+                added++;
+            }
+        }
+        return added;
+    }
+
+    default int addEdges(Collection<? extends Edge<? extends T>> edges) {
+        int added = 0;
+        for(Edge<? extends T> edge : edges) {
+            if(addEdge(edge.getSource(), edge.getDestination(), edge.getWeight())) {
+                added++;
+            }
+        }
+        return added;
+    }
 }
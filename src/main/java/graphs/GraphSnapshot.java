@@ -0,0 +1,189 @@
+package graphs;
+
+import java.util.Queue;
+
+/**
+ * Read-only view of a VersionedDirectedWeightedGraph pinned at one version. Every query answers from that version
+ * alone, however far writers move the Graph on, so a long-running reader never sees a half-applied change. Taking a
+ * snapshot costs constant time because versions share their structure.
+ *
+ * While open, the snapshot keeps the Graph from reclaiming the bookkeeping its version needs. Closing it releases
+ * the pin, after which any query throws IllegalStateException. Marks belong to the snapshot and are not shared with
+ * the Graph or other snapshots.
+ * @param <T> The vertex type.
+ */
+public final class GraphSnapshot<T> implements ReadOnlyGraphInterface<T>, AutoCloseable {
+    private final VersionedDirectedWeightedGraph<T> graph;
+    private final VersionedState<T> state;
+    private final TraversalContext<T> defaultTraversal;
+    private volatile boolean closed = false;
+
+    /**
+     * Constructor wraps a pinned version.
+     * @param graph The Graph the version belongs to.
+     * @param state The pinned version.
+     */
+    GraphSnapshot(VersionedDirectedWeightedGraph<T> graph, VersionedState<T> state) {
+        this.graph = graph;
+        this.state = state;
+        defaultTraversal = new TraversalContext<>(new VersionedState.Slots<>(state));
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present at the pinned version.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(T vertex) {
+        return pinned().slotOf(vertex) >= 0;
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices at the pinned version.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        return pinned().totalVertices;
+    }
+
+    /**
+     * getEdge Returns the weight of an edge between two vertices at the pinned version.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(T source, T destination) {
+        return pinned().getEdge(source, destination);
+    }
+
+    /**
+     * containsEdge Checks if an edge exists between two vertices at the pinned version.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        return pinned().getEdge(source, destination) >= 0;
+    }
+
+    /**
+     * isEmpty Checks if the Graph was empty at the pinned version.
+     * @return True if the Graph was empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return pinned().totalVertices == 0;
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of all vertices that are adjacent to a particular vertex at the pinned
+     * version.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    public Queue<T> getAdjacentVertices(T vertex) {
+        return pinned().getAdjacentVertices(vertex);
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex at the pinned version, with the weight of the
+     * connecting edge, to a consumer in insertion order.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        pinned().forEachNeighbor(vertex, consumer);
+    }
+
+    /**
+     * markVertex Marks a vertex as seen in the snapshot's default traversal context.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        pinned();
+        defaultTraversal.markVertex(vertex);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen in the snapshot's default traversal context.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        pinned();
+        return defaultTraversal.isMarked(vertex);
+    }
+
+    /**
+     * clearAllMarks Clears every mark of the snapshot's default traversal context in constant time.
+     */
+    public void clearAllMarks() {
+        defaultTraversal.clearAllMarks();
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex of the pinned version that is not marked in the snapshot's default
+     * traversal context in no particular order.
+     * @return A vertex that is not marked.
+     */
+    public T getAnUnmarkedVertex() {
+        pinned();
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context over the pinned version with its own marks.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        return new TraversalContext<>(new VersionedState.Slots<>(pinned()));
+    }
+
+    /**
+     * getVersion Returns the version the snapshot is pinned at.
+     * @return The pinned version.
+     */
+    public long getVersion() {
+        return state.version;
+    }
+
+    /**
+     * freeze Compiles the pinned version into an immutable compressed sparse row snapshot for the algorithms that
+     * take one. The result stays valid after the snapshot is closed.
+     * @return The compressed snapshot of the pinned version.
+     */
+    public CompressedSparseRowGraph<T> freeze() {
+        return pinned().freeze();
+    }
+
+    /**
+     * isClosed Checks if the snapshot has released its pin.
+     * @return True if close has been called, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * close Releases the pin on the version. Calling close again has no effect.
+     */
+    public void close() {
+        synchronized(this) {
+            if(closed) {
+                return;
+            }
+            closed = true;
+        }
+        graph.unpin(state.version);
+    }
+
+    /**
+     * pinned Returns the pinned version, rejecting queries on a closed snapshot.
+     * @return The pinned version.
+     */
+    private VersionedState<T> pinned() {
+        if(closed) {
+            throw new IllegalStateException("Snapshot is closed");
+        }
+        return state;
+    }
+}
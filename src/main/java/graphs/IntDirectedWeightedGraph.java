@@ -0,0 +1,79 @@
+package graphs;
+
+public class IntDirectedWeightedGraph extends IntWeightedGraph {
+
+    /**
+     * Constructor initializes capacity to 25 elements.
+     */
+    public IntDirectedWeightedGraph() {
+        super(25);
+    }
+
+    /**
+     * Constructor initializes capacity to a positive user-defined number. If the parameter is negative the default
+     * capacity is invoked.
+     * @param cap The non-negative vertex capacity.
+     */
+    public IntDirectedWeightedGraph(int cap) {
+        super(cap);
+    }
+
+    /**
+     * addEdge Adds a weighted edge from one vertex to another, after any existing edges of the source.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @param weight The weight of the edge.
+     * @return True if edge is added successfully, false otherwise.
+     */
+    public boolean addEdge(int source, int destination, int weight) {
+        if(weight < 0) {
+            return false;
+        }
+        int row = slotOf(source);
+        int col = slotOf(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        appendEdge(row, col, weight);
+        return true;
+    }
+
+    /**
+     * removeEdge Removes an edge from one vertex to another if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if the edge is removed, false if the edge was not found.
+     */
+    public boolean removeEdge(int source, int destination) {
+        int row = slotOf(source);
+        int col = slotOf(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        int position = edgePosition(row, col);
+        if(position < 0) {
+            return false;
+        }
+        deleteEdge(row, position);
+        return true;
+    }
+
+    /**
+     * removeEdgesTo Removes the edges that point at a slot. Out-edges are not indexed by destination, so every slot
+     * is scanned.
+     * @param slot The slot of the vertex being removed.
+     */
+    protected void removeEdgesTo(int slot) {
+        for(int row = 0; row < getSlotLimit(); row++) {
+            int[] targets = targetArray[row];
+            int kept = 0;
+            for(int i = 0; i < degreeArray[row]; i++) {
+                if(targets[i] != slot) {
+                    targets[kept] = targets[i];
+                    weightArray[row][kept++] = weightArray[row][i];
+                }
+            }
+            degreeArray[row] = kept;
+        }
+    }
+}
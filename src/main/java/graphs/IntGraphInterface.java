@@ -0,0 +1,23 @@
+package graphs;
+
+public interface IntGraphInterface {
+    int NO_VERTEX = Integer.MIN_VALUE;
+
+    boolean addVertex(int vertex);
+    boolean hasVertex(int vertex);
+    boolean removeVertex(int vertex);
+    int getTotalVertices();
+    boolean addEdge(int source, int destination, int weight);
+    int getEdge(int source, int destination);
+    boolean containsEdge(int source, int destination);
+    boolean removeEdge(int source, int destination);
+    boolean isEmpty();
+    boolean isFull();
+    int[] getAdjacentVertices(int vertex);
+    void forEachNeighbor(int vertex, IntNeighborConsumer consumer);
+    void markVertex(int vertex);
+    boolean isMarked(int vertex);
+    void clearAllMarks();
+    int getAnUnmarkedVertex();
+    IntTraversalContext newTraversal();
+}
@@ -0,0 +1,10 @@
+package graphs;
+
+/**
+ * Callback receiving the neighbors of a primitive int vertex one edge at a time, together with the weight of the
+ * connecting edge.
+ */
+@FunctionalInterface
+public interface IntNeighborConsumer {
+    void accept(int neighbor, int weight);
+}
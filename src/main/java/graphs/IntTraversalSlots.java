@@ -0,0 +1,11 @@
+package graphs;
+
+/**
+ * View of an int Graph's internal slots used by traversal contexts to keep their marks in arrays indexed by slot.
+ */
+interface IntTraversalSlots {
+    int slotOf(int vertex);
+    int getSlotLimit();
+    int vertexAt(int slot);
+    int generationOf(int slot);
+}
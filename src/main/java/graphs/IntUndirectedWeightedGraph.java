@@ -0,0 +1,144 @@
+package graphs;
+
+import java.util.Arrays;
+
+public class IntUndirectedWeightedGraph extends IntWeightedGraph {
+
+    /**
+     * Constructor initializes capacity to 25 elements.
+     */
+    public IntUndirectedWeightedGraph() {
+        super(25);
+    }
+
+    /**
+     * Constructor initializes capacity to a positive user-defined number. If the parameter is negative the default
+     * capacity is invoked.
+     * @param cap The non-negative vertex capacity.
+     */
+    public IntUndirectedWeightedGraph(int cap) {
+        super(cap);
+    }
+
+    /**
+     * addEdge Adds a weighted edge between two vertices in the Graph, replacing the weight of an existing edge.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @param weight The weight of the edge.
+     * @return True if edge is added successfully, false otherwise.
+     */
+    public boolean addEdge(int source, int destination, int weight) {
+        if(weight < 0) {
+            return false;
+        }
+        int row = slotOf(source);
+        int col = slotOf(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        setEdge(row, col, weight);
+        if(row != col) {
+            setEdge(col, row, weight);
+        }
+        return true;
+    }
+
+    /**
+     * removeEdge Removes an edge between two vertices if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if the edge is removed, false if either vertex was not found.
+     */
+    public boolean removeEdge(int source, int destination) {
+        int row = slotOf(source);
+        int col = slotOf(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        clearEdge(row, col);
+        clearEdge(col, row);
+        return true;
+    }
+
+    /**
+     * getAdjacentVertices Returns all vertices that are adjacent to a particular vertex in insertion order. A vertex is
+     * not its own neighbor, so a self loop is left out.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return An array of adjacent vertices, empty if the vertex is not present.
+     */
+    public int[] getAdjacentVertices(int vertex) {
+        int slot = slotOf(vertex);
+        if(slot < 0) {
+            return NO_EDGES;
+        }
+        int[] adjacent = new int[degreeArray[slot]];
+        int total = 0;
+        for(int i = 0; i < degreeArray[slot]; i++) {
+            if(targetArray[slot][i] != slot) {
+                adjacent[total++] = vertexArray[targetArray[slot][i]];
+            }
+        }
+        return total == adjacent.length ? adjacent : Arrays.copyOf(adjacent, total);
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in insertion order, leaving out a self loop. Nothing is allocated per neighbor.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(int vertex, IntNeighborConsumer consumer) {
+        int slot = slotOf(vertex);
+        if(slot < 0) {
+            return;
+        }
+        int[] targets = targetArray[slot];
+        int[] weights = weightArray[slot];
+        for(int i = 0; i < degreeArray[slot]; i++) {
+            if(targets[i] != slot) {
+                consumer.accept(vertexArray[targets[i]], weights[i]);
+            }
+        }
+    }
+
+    /**
+     * removeEdgesTo Removes the edges that point at a slot. Edges are stored in both directions, so only the slot's
+     * own neighbors are visited.
+     * @param slot The slot of the vertex being removed.
+     */
+    protected void removeEdgesTo(int slot) {
+        for(int i = 0; i < degreeArray[slot]; i++) {
+            int neighbor = targetArray[slot][i];
+            if(neighbor != slot) {
+                clearEdge(neighbor, slot);
+            }
+        }
+    }
+
+    /**
+     * setEdge Writes the weight of the edge from one slot to another, appending the edge if it is not present.
+     * @param row The source slot.
+     * @param col The destination slot.
+     * @param weight The weight of the edge.
+     */
+    private void setEdge(int row, int col, int weight) {
+        int position = edgePosition(row, col);
+        if(position < 0) {
+            appendEdge(row, col, weight);
+        } else {
+            weightArray[row][position] = weight;
+        }
+    }
+
+    /**
+     * clearEdge Removes the edge from one slot to another if present.
+     * @param row The source slot.
+     * @param col The destination slot.
+     */
+    private void clearEdge(int row, int col) {
+        int position = edgePosition(row, col);
+        if(position >= 0) {
+            deleteEdge(row, position);
+        }
+    }
+}
@@ -0,0 +1,334 @@
+package graphs;
+
+import structures.IntIndexMap;
+import java.util.Arrays;
+
+/**
+ * Shared storage for Graphs keyed by primitive int vertices. Each slot keeps its edges in a pair of growable int
+ * arrays holding destination slots and weights, so adding, finding and removing edges never boxes a vertex or
+ * allocates a node per edge.
+ */
+public abstract class IntWeightedGraph implements IntGraphInterface {
+    protected static final int[] NO_EDGES = new int[0];
+    protected int capacity;
+    protected int totalVertices = 0;
+    protected int[] vertexArray;
+    protected boolean[] occupiedArray;
+    protected int[][] targetArray;
+    protected int[][] weightArray;
+    protected int[] degreeArray;
+    private int[] slotGenerations;
+    private final IntTraversalContext defaultTraversal;
+    private int[] freeSlots;
+    private int totalFreeSlots = 0;
+    private int nextSlot = 0;
+    private final IntIndexMap vertexIndex;
+
+    /**
+     * Constructor initializes capacity to a positive user-defined number. If the parameter is negative the default
+     * capacity is invoked.
+     * @param cap The non-negative vertex capacity.
+     */
+    protected IntWeightedGraph(int cap) {
+        capacity = cap > 0 ? cap : 25;
+        vertexArray = new int[capacity];
+        occupiedArray = new boolean[capacity];
+        targetArray = new int[capacity][];
+        weightArray = new int[capacity][];
+        degreeArray = new int[capacity];
+        slotGenerations = new int[capacity];
+        freeSlots = new int[capacity];
+        vertexIndex = new IntIndexMap(capacity);
+        Arrays.fill(targetArray, NO_EDGES);
+        Arrays.fill(weightArray, NO_EDGES);
+        defaultTraversal = new IntTraversalContext(new Slots());
+    }
+
+    /**
+     * addVertex Adds a vertex to the Graph.
+     * @param vertex The vertex to add.
+     * @return True if the vertex is added, false if it is NO_VERTEX or already present.
+     */
+    public boolean addVertex(int vertex) {
+        if(vertex == NO_VERTEX || vertexIndex.containsKey(vertex)) {
+            return false;
+        }
+        int slot = totalFreeSlots > 0 ? freeSlots[--totalFreeSlots] : nextSlot++;
+        vertexArray[slot] = vertex;
+        occupiedArray[slot] = true;
+        vertexIndex.put(vertex, slot);
+        totalVertices++;
+        if(nextSlot == capacity) {
+            resize();
+        }
+        return true;
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present in the Graph.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(int vertex) {
+        return vertexIndex.containsKey(vertex);
+    }
+
+    /**
+     * removeVertex Removes a vertex from the Graph if present and edges to this vertex if found.
+     * @param vertex The vertex to remove.
+     * @return True if the vertex is removed, false otherwise.
+     */
+    public boolean removeVertex(int vertex) {
+        int slot = vertexIndex.get(vertex);
+        if(slot < 0) {
+            return false;
+        }
+        removeEdgesTo(slot);
+        vertexIndex.remove(vertex);
+        occupiedArray[slot] = false;
+        slotGenerations[slot]++;
+        targetArray[slot] = NO_EDGES;
+        weightArray[slot] = NO_EDGES;
+        degreeArray[slot] = 0;
+        freeSlots[totalFreeSlots++] = slot;
+        totalVertices--;
+        return true;
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices present in the Graph.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        return totalVertices;
+    }
+
+    /**
+     * getEdge Returns the weight of an edge between two vertices if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(int source, int destination) {
+        int row = vertexIndex.get(source);
+        int col = vertexIndex.get(destination);
+        if(row < 0 || col < 0) {
+            return -1;
+        }
+        int position = edgePosition(row, col);
+        return position < 0 ? -1 : weightArray[row][position];
+    }
+
+    /**
+     * containsEdge Checks if an edge exists between two vertices.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(int source, int destination) {
+        int row = vertexIndex.get(source);
+        int col = vertexIndex.get(destination);
+        return row >= 0 && col >= 0 && edgePosition(row, col) >= 0;
+    }
+
+    /**
+     * isEmpty Checks if the Graph is empty.
+     * @return True if the Graph is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return totalVertices == 0;
+    }
+
+    /**
+     * isFull Checks if the Graph is full.
+     * @return True if the Graph is full, false otherwise.
+     */
+    public boolean isFull() {
+        return totalVertices == capacity;
+    }
+
+    /**
+     * getAdjacentVertices Returns all vertices that are adjacent to a particular vertex in insertion order.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return An array of adjacent vertices, empty if the vertex is not present.
+     */
+    public int[] getAdjacentVertices(int vertex) {
+        int slot = vertexIndex.get(vertex);
+        if(slot < 0) {
+            return NO_EDGES;
+        }
+        int[] adjacent = new int[degreeArray[slot]];
+        for(int i = 0; i < adjacent.length; i++) {
+            adjacent[i] = vertexArray[targetArray[slot][i]];
+        }
+        return adjacent;
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in insertion order. Nothing is allocated per neighbor.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(int vertex, IntNeighborConsumer consumer) {
+        int slot = vertexIndex.get(vertex);
+        if(slot < 0) {
+            return;
+        }
+        int[] targets = targetArray[slot];
+        int[] weights = weightArray[slot];
+        for(int i = 0; i < degreeArray[slot]; i++) {
+            consumer.accept(vertexArray[targets[i]], weights[i]);
+        }
+    }
+
+    /**
+     * markVertex Marks a vertex as seen in the Graph's default traversal context.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(int vertex) {
+        defaultTraversal.markVertex(vertex);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen in the Graph's default traversal context.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(int vertex) {
+        return defaultTraversal.isMarked(vertex);
+    }
+
+    /**
+     * clearAllMarks Clears every mark of the Graph's default traversal context in constant time.
+     */
+    public void clearAllMarks() {
+        defaultTraversal.clearAllMarks();
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the Graph's default traversal context in no
+     * particular order.
+     * @return A vertex that is not marked, or NO_VERTEX if every vertex is marked.
+     */
+    public int getAnUnmarkedVertex() {
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context with its own marks, independent of the default context and of every
+     * other context.
+     * @return A traversal context with no vertex marked.
+     */
+    public IntTraversalContext newTraversal() {
+        return new IntTraversalContext(new Slots());
+    }
+
+    /**
+     * slotOf Returns the slot of a vertex.
+     * @param vertex The vertex to search for.
+     * @return The slot of the vertex, or a negative number if the vertex was not found.
+     */
+    protected int slotOf(int vertex) {
+        return vertexIndex.get(vertex);
+    }
+
+    /**
+     * removeEdgesTo Removes the edges that point at a slot from every other slot's edge arrays.
+     * @param slot The slot of the vertex being removed.
+     */
+    protected abstract void removeEdgesTo(int slot);
+
+    /**
+     * edgePosition Returns the position of the first edge from one slot to another.
+     * @param row The source slot.
+     * @param col The destination slot.
+     * @return The position of the edge in the source slot's arrays, or a negative number if there was no edge.
+     */
+    protected int edgePosition(int row, int col) {
+        int[] targets = targetArray[row];
+        for(int i = 0; i < degreeArray[row]; i++) {
+            if(targets[i] == col) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * appendEdge Appends an edge to the end of a slot's edge arrays, growing them if they are full.
+     * @param row The source slot.
+     * @param col The destination slot.
+     * @param weight The weight of the edge.
+     */
+    protected void appendEdge(int row, int col, int weight) {
+        int degree = degreeArray[row];
+        if(degree == targetArray[row].length) {
+            int grown = Math.max(4, degree * 2);
+            targetArray[row] = Arrays.copyOf(targetArray[row], grown);
+            weightArray[row] = Arrays.copyOf(weightArray[row], grown);
+        }
+        targetArray[row][degree] = col;
+        weightArray[row][degree] = weight;
+        degreeArray[row]++;
+    }
+
+    /**
+     * deleteEdge Removes the edge at a position of a slot's edge arrays, keeping the remaining edges in order.
+     * @param row The source slot.
+     * @param position The position of the edge.
+     */
+    protected void deleteEdge(int row, int position) {
+        int moved = degreeArray[row] - position - 1;
+        System.arraycopy(targetArray[row], position + 1, targetArray[row], position, moved);
+        System.arraycopy(weightArray[row], position + 1, weightArray[row], position, moved);
+        degreeArray[row]--;
+    }
+
+    /**
+     * getSlotLimit Returns one past the highest slot that has ever held a vertex.
+     * @return The exclusive upper bound of used slots.
+     */
+    protected int getSlotLimit() {
+        return nextSlot;
+    }
+
+    /**
+     * resize Resizes the internal arrays to double capacity once every slot has been handed out.
+     */
+    private void resize() {
+        capacity *= 2;
+        vertexArray = Arrays.copyOf(vertexArray, capacity);
+        occupiedArray = Arrays.copyOf(occupiedArray, capacity);
+        slotGenerations = Arrays.copyOf(slotGenerations, capacity);
+        degreeArray = Arrays.copyOf(degreeArray, capacity);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        int oldCapacity = targetArray.length;
+        targetArray = Arrays.copyOf(targetArray, capacity);
+        weightArray = Arrays.copyOf(weightArray, capacity);
+        Arrays.fill(targetArray, oldCapacity, capacity, NO_EDGES);
+        Arrays.fill(weightArray, oldCapacity, capacity, NO_EDGES);
+    }
+
+    /**
+     * Slots of the Graph as seen by its traversal contexts. A slot's generation advances each time its vertex is
+     * removed, since removed slots are handed to the next added vertex.
+     */
+    private class Slots implements IntTraversalSlots {
+        public int slotOf(int vertex) {
+            return vertexIndex.get(vertex);
+        }
+
+        public int getSlotLimit() {
+            return nextSlot;
+        }
+
+        public int vertexAt(int slot) {
+            return occupiedArray[slot] ? vertexArray[slot] : NO_VERTEX;
+        }
+
+        public int generationOf(int slot) {
+            return slot < slotGenerations.length ? slotGenerations[slot] : 0;
+        }
+    }
+}
@@ -0,0 +1,295 @@
+package graphs;
+
+import java.nio.ByteBuffer;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Read-only Graph answering queries directly from a memory-mapped graph file. Edges are read from the mapped offsets,
+ * targets and weights, a vertex is found through the file's own hash index by comparing encodings, and a vertex is
+ * only decoded when a query returns it. The file must not be modified while it is mapped.
+ * @param <T> The vertex type.
+ */
+public class MappedGraph<T> implements ReadOnlyGraphInterface<T> {
+    private final VertexCodec<T> codec;
+    private final int totalVertices;
+    private final int totalEdges;
+    private final IntBuffer offsets;
+    private final IntBuffer targets;
+    private final IntBuffer weights;
+    private final LongBuffer vertexPositions;
+    private final IntBuffer vertexIndex;
+    private final ByteBuffer vertexData;
+    private final int indexMask;
+    private final TraversalContext<T> defaultTraversal;
+
+    /**
+     * Constructor wraps the mapped sections of a graph file.
+     * @param codec The codec the file was written with.
+     * @param totalVertices The number of vertices.
+     * @param totalEdges The number of edges.
+     * @param offsets The start of each slot's edges followed by the total number of edges.
+     * @param targets The destination slot of each edge.
+     * @param weights The weight of each edge.
+     * @param vertexPositions The start of each slot's encoding followed by the length of the vertex data.
+     * @param vertexIndex The open-addressing table holding slot + 1 of each vertex.
+     * @param vertexData The encoded vertices.
+     */
+    MappedGraph(VertexCodec<T> codec, int totalVertices, int totalEdges, IntBuffer offsets, IntBuffer targets,
+                IntBuffer weights, LongBuffer vertexPositions, IntBuffer vertexIndex, ByteBuffer vertexData) {
+        this.codec = codec;
+        this.totalVertices = totalVertices;
+        this.totalEdges = totalEdges;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.weights = weights;
+        this.vertexPositions = vertexPositions;
+        this.vertexIndex = vertexIndex;
+        this.vertexData = vertexData;
+        indexMask = vertexIndex.capacity() - 1;
+        defaultTraversal = new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present in the Graph.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(T vertex) {
+        return slotOf(vertex) >= 0;
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices present in the Graph.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        return totalVertices;
+    }
+
+    /**
+     * getTotalEdges Returns the total number of edges present in the Graph.
+     * @return The total number of edges.
+     */
+    public int getTotalEdges() {
+        return totalEdges;
+    }
+
+    /**
+     * getEdge Returns the weight of an edge between two vertices if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(T source, T destination) {
+        int position = edgePosition(source, destination);
+        return position < 0 ? -1 : weights.get(position);
+    }
+
+    /**
+     * containsEdge Checks if an edge exists between two vertices.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        return edgePosition(source, destination) >= 0;
+    }
+
+    /**
+     * isEmpty Checks if the Graph is empty.
+     * @return True if the Graph is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return totalVertices == 0;
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of all vertices that are adjacent to a particular vertex.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    public Queue<T> getAdjacentVertices(T vertex) {
+        Queue<T> queue = new LinkedList<>();
+        int source = slotOf(vertex);
+        if(source < 0) {
+            return queue;
+        }
+        for(int i = offsets.get(source); i < offsets.get(source + 1); i++) {
+            queue.offer(vertexAt(targets.get(i)));
+        }
+        return queue;
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in the same order as getAdjacentVertices.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        int source = slotOf(vertex);
+        if(source < 0) {
+            return;
+        }
+        for(int i = offsets.get(source); i < offsets.get(source + 1); i++) {
+            consumer.accept(vertexAt(targets.get(i)), weights.get(i));
+        }
+    }
+
+    /**
+     * markVertex Marks a vertex as seen in the Graph's default traversal context.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        defaultTraversal.markVertex(vertex);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen in the Graph's default traversal context.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        return defaultTraversal.isMarked(vertex);
+    }
+
+    /**
+     * clearAllMarks Clears every mark of the Graph's default traversal context in constant time.
+     */
+    public void clearAllMarks() {
+        defaultTraversal.clearAllMarks();
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the Graph's default traversal context in no
+     * particular order.
+     * @return A vertex that is not marked.
+     */
+    public T getAnUnmarkedVertex() {
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context with its own marks, independent of the default context and of every
+     * other context.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        return new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * getVersion Returns the mutation version of the Graph. The snapshot never changes, so the version is always 0.
+     * @return The mutation version.
+     */
+    public long getVersion() {
+        return 0;
+    }
+
+    /**
+     * slotOf Returns the slot of a vertex by probing the file's vertex index. The probe visits each bucket at most
+     * once, so an index without an empty bucket cannot make a lookup spin.
+     * @param vertex The vertex to search for.
+     * @return The slot of the vertex, or a negative number if the vertex was not found.
+     */
+    public int slotOf(T vertex) {
+        if(vertex == null) {
+            return -1;
+        }
+        byte[] encoded = codec.encode(vertex);
+        int bucket = GraphFileFormat.hash(encoded) & indexMask;
+        for(int probes = 0; probes <= indexMask; probes++) {
+            int entry = vertexIndex.get(bucket);
+            if(entry == 0) {
+                return -1;
+            }
+            if(encodingEquals(entry - 1, encoded)) {
+                return entry - 1;
+            }
+            bucket = (bucket + 1) & indexMask;
+        }
+        return -1;
+    }
+
+    /**
+     * vertexAt Decodes the vertex held by a slot.
+     * @param slot The slot of the vertex.
+     * @return The vertex held by the slot.
+     */
+    public T vertexAt(int slot) {
+        int position = (int) vertexPositions.get(slot);
+        return codec.decode(vertexData, position, (int) vertexPositions.get(slot + 1) - position);
+    }
+
+    /**
+     * getOutDegree Returns the number of out-edges of the vertex in a slot.
+     * @param slot The slot of the vertex.
+     * @return The number of out-edges.
+     */
+    public int getOutDegree(int slot) {
+        return offsets.get(slot + 1) - offsets.get(slot);
+    }
+
+    /**
+     * encodingEquals Checks if the vertex in a slot has a particular encoding.
+     * @param slot The slot of the vertex.
+     * @param encoded The encoding to compare with.
+     * @return True if the stored encoding is identical, false otherwise.
+     */
+    private boolean encodingEquals(int slot, byte[] encoded) {
+        int position = (int) vertexPositions.get(slot);
+        if((int) vertexPositions.get(slot + 1) - position != encoded.length) {
+            return false;
+        }
+        for(int i = 0; i < encoded.length; i++) {
+            if(vertexData.get(position + i) != encoded[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * edgePosition Returns the position of the first edge between two vertices.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return The position of the edge in the targets section, or a negative number if there was no edge.
+     */
+    private int edgePosition(T source, T destination) {
+        int row = slotOf(source);
+        int col = slotOf(destination);
+        if(row < 0 || col < 0) {
+            return -1;
+        }
+        for(int i = offsets.get(row); i < offsets.get(row + 1); i++) {
+            if(targets.get(i) == col) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Slots of the mapped file as seen by its traversal contexts. Every slot stays in its first generation.
+     */
+    private class Slots implements TraversalSlots<T> {
+        public int slotOf(T vertex) {
+            return MappedGraph.this.slotOf(vertex);
+        }
+
+        public int getSlotLimit() {
+            return totalVertices;
+        }
+
+        public T vertexAt(int slot) {
+            return MappedGraph.this.vertexAt(slot);
+        }
+
+        public int generationOf(int slot) {
+            return 0;
+        }
+    }
+}
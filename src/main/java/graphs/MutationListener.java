@@ -0,0 +1,16 @@
+package graphs;
+
+/**
+ * Callback told about every successful change to a Graph, right after the change and together with the version it
+ * produced. Removing a vertex first reports each edge that went with it as removed, then the vertex itself, all with
+ * the one version the removal produced. Calls happen on the thread that changed the Graph, so a listener should hand
+ * the change off rather than do slow work itself.
+ * @param <T> The vertex type.
+ */
+public interface MutationListener<T> {
+    void vertexAdded(T vertex, long version);
+    void vertexRemoved(T vertex, long version);
+    void edgeAdded(T source, T destination, int weight, long version);
+    void edgeRemoved(T source, T destination, int weight, long version);
+    void edgeReweighted(T source, T destination, int oldWeight, int newWeight, long version);
+}
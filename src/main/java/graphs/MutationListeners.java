@@ -0,0 +1,86 @@
+package graphs;
+
+import java.util.Arrays;
+
+/**
+ * The MutationListeners added to one Graph, told about each change in the order they were added. The listeners sit in
+ * an array that is replaced rather than changed on every add and remove, so reporting a change walks a plain array and
+ * a listener may add or remove listeners, itself included, while it is being told about a change.
+ * @param <T> The vertex type.
+ */
+final class MutationListeners<T> implements MutationListener<T> {
+    private MutationListener<T>[] listeners = newArray();
+
+    /**
+     * add Appends a listener, which is told about changes after every listener added before it.
+     * @param listener The listener to add. Null is ignored.
+     */
+    void add(MutationListener<T> listener) {
+        if(listener == null) {
+            return;
+        }
+        MutationListener<T>[] grown = Arrays.copyOf(listeners, listeners.length + 1);
+        grown[listeners.length] = listener;
+        listeners = grown;
+    }
+
+    /**
+     * remove Removes the earliest added occurrence of a listener.
+     * @param listener The listener to remove.
+     * @return True if the listener is removed, false if it was never added.
+     */
+    boolean remove(MutationListener<T> listener) {
+        for(int i = 0; i < listeners.length; i++) {
+            if(listeners[i] == listener) {
+                MutationListener<T>[] shrunk = Arrays.copyOf(listeners, listeners.length - 1);
+                System.arraycopy(listeners, i + 1, shrunk, i, listeners.length - i - 1);
+                listeners = shrunk;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * isListening Checks if any listener is added, so a Graph can skip gathering what only a listener would need.
+     * @return True if at least one listener is added, false otherwise.
+     */
+    boolean isListening() {
+        return listeners.length > 0;
+    }
+
+    public void vertexAdded(T vertex, long version) {
+        for(MutationListener<T> listener : listeners) {
+            listener.vertexAdded(vertex, version);
+        }
+    }
+
+    public void vertexRemoved(T vertex, long version) {
+        for(MutationListener<T> listener : listeners) {
+            listener.vertexRemoved(vertex, version);
+        }
+    }
+
+    public void edgeAdded(T source, T destination, int weight, long version) {
+        for(MutationListener<T> listener : listeners) {
+            listener.edgeAdded(source, destination, weight, version);
+        }
+    }
+
+    public void edgeRemoved(T source, T destination, int weight, long version) {
+        for(MutationListener<T> listener : listeners) {
+            listener.edgeRemoved(source, destination, weight, version);
+        }
+    }
+
+    public void edgeReweighted(T source, T destination, int oldWeight, int newWeight, long version) {
+        for(MutationListener<T> listener : listeners) {
+            listener.edgeReweighted(source, destination, oldWeight, newWeight, version);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> MutationListener<T>[] newArray() {
+        return (MutationListener<T>[]) new MutationListener<?>[0];
+    }
+}
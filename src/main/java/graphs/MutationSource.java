@@ -0,0 +1,11 @@
+package graphs;
+
+/**
+ * A Graph that reports its changes to any number of MutationListeners, each told in the order it was added. Nothing
+ * is reported while no listener is added, and the only cost left on the Graph's own operations is an empty loop.
+ * @param <T> The vertex type.
+ */
+public interface MutationSource<T> {
+    void addMutationListener(MutationListener<T> listener);
+    boolean removeMutationListener(MutationListener<T> listener);
+}
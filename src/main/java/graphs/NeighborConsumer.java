@@ -0,0 +1,10 @@
+package graphs;
+
+/**
+ * Callback receiving the neighbors of a vertex one edge at a time, together with the weight of the connecting edge.
+ * @param <T> The vertex type.
+ */
+@FunctionalInterface
+public interface NeighborConsumer<T> {
+    void accept(T neighbor, int weight);
+}
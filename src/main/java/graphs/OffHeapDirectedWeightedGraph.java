@@ -0,0 +1,497 @@
+package graphs;
+
+import structures.VertexIndex;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedList;
+import java.util.Queue;
+
+/**
+ * Directed Graph whose edges live off-heap. Each vertex's out-edges are a contiguous block of destination slots and
+ * weights in an EdgeArena of direct buffers, so millions of edges add no objects for the garbage collector to trace.
+ * The heap only holds a thin vertex table: the vertex, its block address, block size and degree per slot.
+ *
+ * Slots are never reused: edges pointing at a removed vertex are skipped by readers and dropped the next time their
+ * source's block fills up. The Graph holds off-heap memory until close is called, after which it must not be used.
+ * @param <T> The vertex type.
+ */
+public class OffHeapDirectedWeightedGraph<T> implements GraphInterface<T>, AutoCloseable {
+    private static final long NO_BLOCK = -1;
+    private int capacity;
+    private int totalVertices = 0;
+    private int nextSlot = 0;
+    private T[] vertexArray;
+    private long[] blockArray;
+    private int[] blockEdgesArray;
+    private int[] degreeArray;
+    private final EdgeArena arena = new EdgeArena();
+    private final TraversalContext<T> defaultTraversal;
+    private final VertexIndex<T> vertexIndex;
+    private long version = 0;
+    private boolean closed = false;
+
+    /**
+     * Constructor initializes capacity to 25 elements.
+     */
+    public OffHeapDirectedWeightedGraph() {
+        this(25);
+    }
+
+    /**
+     * Constructor initializes capacity to a positive user-defined number. If the parameter is negative the default
+     * capacity is invoked.
+     * @param cap The non-negative vertex capacity.
+     */
+    public OffHeapDirectedWeightedGraph(int cap) {
+        capacity = cap > 0 ? cap : 25;
+        vertexArray = (T[])new Object[capacity];
+        blockArray = new long[capacity];
+        blockEdgesArray = new int[capacity];
+        degreeArray = new int[capacity];
+        vertexIndex = new VertexIndex<>(capacity);
+        defaultTraversal = new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * addVertex Adds a vertex to the Graph.
+     * @param vertex The vertex to add.
+     * @return True if the vertex is added, false if it is null or already present.
+     */
+    public boolean addVertex(T vertex) {
+        checkOpen();
+        if(vertex == null || vertexIndex.containsKey(vertex)) {
+            return false;
+        }
+        if(nextSlot == capacity) {
+            resize(capacity * 2);
+        }
+        int slot = nextSlot++;
+        vertexArray[slot] = vertex;
+        blockArray[slot] = NO_BLOCK;
+        vertexIndex.put(vertex, slot);
+        totalVertices++;
+        version++;
+        return true;
+    }
+
+    /**
+     * addVertices Adds a batch of vertices to the Graph, resizing the vertex table at most once beforehand.
+     * @param vertices The vertices to add.
+     * @return The number of vertices added.
+     */
+    public int addVertices(Collection<? extends T> vertices) {
+        checkOpen();
+        int expected = nextSlot + vertices.size();
+        if(expected > capacity) {
+            resize(expected);
+        }
+        vertexIndex.ensureCapacity(totalVertices + vertices.size());
+        return GraphInterface.super.addVertices(vertices);
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present in the Graph.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(T vertex) {
+        checkOpen();
+        return vertexIndex.containsKey(vertex);
+    }
+
+    /**
+     * removeVertex Removes a vertex and its out-edges from the Graph if present, returning its block to the arena.
+     * Edges from other vertices to it stop being reported immediately.
+     * @param vertex The vertex to remove.
+     * @return True if the vertex is removed, false otherwise.
+     */
+    public boolean removeVertex(T vertex) {
+        checkOpen();
+        int slot = indexFinder(vertex);
+        if(slot < 0) {
+            return false;
+        }
+        if(blockArray[slot] != NO_BLOCK) {
+            arena.free(blockArray[slot], blockEdgesArray[slot]);
+        }
+        vertexArray[slot] = null;
+        blockArray[slot] = NO_BLOCK;
+        blockEdgesArray[slot] = 0;
+        degreeArray[slot] = 0;
+        vertexIndex.remove(vertex);
+        totalVertices--;
+        version++;
+        return true;
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices present in the Graph.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        checkOpen();
+        return totalVertices;
+    }
+
+    /**
+     * addEdge Adds a weighted edge from one vertex to another, after any existing edges of the source.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @param weight The weight of the edge.
+     * @return True if edge is added successfully, false otherwise.
+     */
+    public boolean addEdge(T source, T destination, int weight) {
+        checkOpen();
+        if(weight < 0) {
+            return false;
+        }
+        int row = indexFinder(source);
+        int col = indexFinder(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        if(degreeArray[row] == blockEdgesArray[row]) {
+            growBlock(row);
+        }
+        arena.set(blockArray[row], degreeArray[row]++, col, weight);
+        version++;
+        return true;
+    }
+
+    /**
+     * getEdge Returns the weight of an edge between two vertices if present.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(T source, T destination) {
+        checkOpen();
+        int row = indexFinder(source);
+        int col = indexFinder(destination);
+        if(row < 0 || col < 0) {
+            return -1;
+        }
+        int position = edgePosition(row, col);
+        return position < 0 ? -1 : arena.weight(blockArray[row], position);
+    }
+
+    /**
+     * containsEdge Checks if an edge exists between two vertices.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        return getEdge(source, destination) >= 0;
+    }
+
+    /**
+     * removeEdge Removes an edge between two vertices if present, keeping the remaining edges in order.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if the edge is removed, false if the edge was not found.
+     */
+    public boolean removeEdge(T source, T destination) {
+        checkOpen();
+        int row = indexFinder(source);
+        int col = indexFinder(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        int position = edgePosition(row, col);
+        if(position < 0) {
+            return false;
+        }
+        long block = blockArray[row];
+        int degree = degreeArray[row];
+        for(int i = position + 1; i < degree; i++) {
+            arena.set(block, i - 1, arena.target(block, i), arena.weight(block, i));
+        }
+        degreeArray[row]--;
+        version++;
+        return true;
+    }
+
+    /**
+     * isEmpty Checks if the Graph is empty.
+     * @return True if the Graph is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        checkOpen();
+        return totalVertices == 0;
+    }
+
+    /**
+     * isFull Checks if the Graph is full. The vertex table grows on demand, so the Graph is never full.
+     * @return False.
+     */
+    public boolean isFull() {
+        checkOpen();
+        return false;
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of all vertices that are adjacent to a particular vertex.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    public Queue<T> getAdjacentVertices(T vertex) {
+        Queue<T> queue = new LinkedList<>();
+        forEachNeighbor(vertex, (neighbor, weight) -> queue.offer(neighbor));
+        return queue;
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in insertion order. Edges are read straight from off-heap memory and nothing is allocated per
+     * neighbor.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        checkOpen();
+        int row = indexFinder(vertex);
+        if(row < 0) {
+            return;
+        }
+        long block = blockArray[row];
+        for(int i = 0; i < degreeArray[row]; i++) {
+            T neighbor = vertexArray[arena.target(block, i)];
+            if(neighbor != null) {
+                consumer.accept(neighbor, arena.weight(block, i));
+            }
+        }
+    }
+
+    /**
+     * markVertex Marks a vertex as seen in the Graph's default traversal context.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        checkOpen();
+        defaultTraversal.markVertex(vertex);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen in the Graph's default traversal context.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        checkOpen();
+        return defaultTraversal.isMarked(vertex);
+    }
+
+    /**
+     * clearAllMarks Clears every mark of the Graph's default traversal context in constant time.
+     */
+    public void clearAllMarks() {
+        checkOpen();
+        defaultTraversal.clearAllMarks();
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the Graph's default traversal context in no
+     * particular order.
+     * @return A vertex that is not marked.
+     */
+    public T getAnUnmarkedVertex() {
+        checkOpen();
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context with its own marks, independent of the default context and of every
+     * other context.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        checkOpen();
+        return new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * getVersion Returns the mutation version of the Graph, which advances every time a vertex or an edge is added or
+     * removed. Equal versions mean the Graph has not changed in between.
+     * @return The mutation version.
+     */
+    public long getVersion() {
+        checkOpen();
+        return version;
+    }
+
+    /**
+     * freeze Compiles the Graph into an immutable compressed sparse row snapshot on the heap. Vertices are renumbered
+     * densely in slot order, edges keep their insertion order, and edges to removed vertices are dropped. Later
+     * changes to this Graph are not reflected in the snapshot, which stays valid after close.
+     * @return The snapshot of the Graph.
+     */
+    public CompressedSparseRowGraph<T> freeze() {
+        checkOpen();
+        int[] denseSlot = new int[nextSlot];
+        T[] vertices = (T[])new Object[totalVertices];
+        int totalEdges = 0;
+        int next = 0;
+        for(int i = 0; i < nextSlot; i++) {
+            if(vertexArray[i] != null) {
+                denseSlot[i] = next;
+                vertices[next++] = vertexArray[i];
+                for(int j = 0; j < degreeArray[i]; j++) {
+                    if(vertexArray[arena.target(blockArray[i], j)] != null) {
+                        totalEdges++;
+                    }
+                }
+            }
+        }
+        int[] offsets = new int[totalVertices + 1];
+        int[] targets = new int[totalEdges];
+        int[] weights = new int[totalEdges];
+        int edge = 0;
+        next = 0;
+        for(int i = 0; i < nextSlot; i++) {
+            if(vertexArray[i] != null) {
+                offsets[next++] = edge;
+                long block = blockArray[i];
+                for(int j = 0; j < degreeArray[i]; j++) {
+                    int target = arena.target(block, j);
+                    if(vertexArray[target] != null) {
+                        targets[edge] = denseSlot[target];
+                        weights[edge++] = arena.weight(block, j);
+                    }
+                }
+            }
+        }
+        offsets[totalVertices] = edge;
+        return new CompressedSparseRowGraph<>(vertices, offsets, targets, weights);
+    }
+
+    /**
+     * getOffHeapBytes Returns the off-heap memory reserved for edges, including blocks freed for reuse.
+     * @return The reserved size in bytes.
+     */
+    public long getOffHeapBytes() {
+        return arena.getAllocatedBytes();
+    }
+
+    /**
+     * isClosed Checks if the Graph's off-heap memory has been released.
+     * @return True if close has been called, false otherwise.
+     */
+    public boolean isClosed() {
+        return closed;
+    }
+
+    /**
+     * close Releases the off-heap memory of every edge. Calling close again has no effect, and any other operation
+     * on a closed Graph but isClosed and getOffHeapBytes throws IllegalStateException.
+     */
+    public void close() {
+        if(closed) {
+            return;
+        }
+        closed = true;
+        arena.close();
+        Arrays.fill(blockArray, NO_BLOCK);
+        Arrays.fill(degreeArray, 0);
+    }
+
+    /**
+     * indexFinder Returns the index of a vertex in constant time through the vertex index.
+     * @param vertex The vertex to search for.
+     * @return The index of the vertex, or a negative number if the vertex was not found.
+     */
+    private int indexFinder(T vertex) {
+        return vertexIndex.get(vertex);
+    }
+
+    /**
+     * edgePosition Returns the position of the first edge from one slot to another.
+     * @param row The source slot.
+     * @param col The destination slot.
+     * @return The position of the edge in the source slot's block, or a negative number if there was no edge.
+     */
+    private int edgePosition(int row, int col) {
+        long block = blockArray[row];
+        for(int i = 0; i < degreeArray[row]; i++) {
+            if(arena.target(block, i) == col) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * growBlock Makes room for another edge of a full slot. Edges to removed vertices are dropped first, and if that
+     * frees nothing the edges move to a block twice the size and the old block is returned to the arena.
+     * @param row The source slot.
+     */
+    private void growBlock(int row) {
+        long block = blockArray[row];
+        int degree = degreeArray[row];
+        int kept = 0;
+        for(int i = 0; i < degree; i++) {
+            int target = arena.target(block, i);
+            if(vertexArray[target] != null) {
+                arena.set(block, kept++, target, arena.weight(block, i));
+            }
+        }
+        degreeArray[row] = kept;
+        if(kept < blockEdgesArray[row]) {
+            return;
+        }
+        int grown = Math.max(EdgeArena.MIN_BLOCK_EDGES, blockEdgesArray[row] * 2);
+        long resized = arena.allocate(grown);
+        for(int i = 0; i < kept; i++) {
+            arena.set(resized, i, arena.target(block, i), arena.weight(block, i));
+        }
+        if(block != NO_BLOCK) {
+            arena.free(block, blockEdgesArray[row]);
+        }
+        blockArray[row] = resized;
+        blockEdgesArray[row] = grown;
+    }
+
+    /**
+     * resize Resizes the vertex table to a larger capacity, keeping every vertex in its slot.
+     * @param resized The new capacity.
+     */
+    private void resize(int resized) {
+        capacity = resized;
+        vertexArray = Arrays.copyOf(vertexArray, capacity);
+        blockArray = Arrays.copyOf(blockArray, capacity);
+        blockEdgesArray = Arrays.copyOf(blockEdgesArray, capacity);
+        degreeArray = Arrays.copyOf(degreeArray, capacity);
+        vertexIndex.ensureCapacity(capacity);
+    }
+
+    /**
+     * checkOpen Rejects operations on a Graph whose off-heap memory has been released.
+     */
+    private void checkOpen() {
+        if(closed) {
+            throw new IllegalStateException("Graph is closed");
+        }
+    }
+
+    /**
+     * Slots of the Graph as seen by its traversal contexts. Slots are never reused, so every slot stays in its first
+     * generation.
+     */
+    private class Slots implements TraversalSlots<T> {
+        public int slotOf(T vertex) {
+            return indexFinder(vertex);
+        }
+
+        public int getSlotLimit() {
+            return nextSlot;
+        }
+
+        public T vertexAt(int slot) {
+            return vertexArray[slot];
+        }
+
+        public int generationOf(int slot) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package graphs;
+
+import java.util.Queue;
+
+public interface ReadOnlyGraphInterface<T> {
+    boolean hasVertex(T vertex);
+    int getTotalVertices();
+    int getEdge(T source, T destination);
+    boolean containsEdge(T source, T destination);
+    boolean isEmpty();
+    Queue<T> getAdjacentVertices(T vertex);
+    void forEachNeighbor(T vertex, NeighborConsumer<T> consumer);
+    void markVertex(T vertex);
+    boolean isMarked(T vertex);
+    void clearAllMarks();
+    T getAnUnmarkedVertex();
+    TraversalContext<T> newTraversal();
+    long getVersion();
+}
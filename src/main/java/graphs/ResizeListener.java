@@ -0,0 +1,9 @@
+package graphs;
+
+/**
+ * Callback notified each time a Graph moves its vertex storage to a new capacity, together with how long the copy took.
+ */
+@FunctionalInterface
+public interface ResizeListener {
+    void resized(int oldCapacity, int newCapacity, long nanos);
+}
@@ -0,0 +1,14 @@
+package graphs;
+
+/**
+ * Internal storage figures of a Graph, read on demand by instrumentation. Nothing is measured on the Graph's own
+ * operations: probe lengths and memory are computed when asked for, and resizes are only timed while a listener is
+ * set.
+ */
+public interface StorageStatistics {
+    int getCapacity();
+    double getAverageProbeLength();
+    int getMaxProbeLength();
+    long estimateMemoryBytes();
+    void setResizeListener(ResizeListener listener);
+}
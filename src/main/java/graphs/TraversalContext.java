@@ -0,0 +1,93 @@
+package graphs;
+
+import java.util.Arrays;
+
+/**
+ * Visited state of one traversal over a Graph. Marks are epoch stamps indexed by the vertex's slot, so marking and
+ * checking a vertex take constant time and clearing every mark only advances the epoch. Each stamp also records the
+ * generation of its slot, so a slot freed by removeVertex and handed to a new vertex does not inherit the old mark.
+ * Contexts are independent of each other and of the Graph's own marks, so several traversals can run over the same
+ * Graph at once as long as it is not modified meanwhile. A single context must not be shared between threads.
+ * @param <T> The vertex type.
+ */
+public class TraversalContext<T> {
+    private final TraversalSlots<T> slots;
+    private int[] stamps;
+    private int[] generations;
+    private int epoch = 1;
+
+    /**
+     * Constructor sizes the stamps to the slots the Graph currently uses.
+     * @param slots The Graph's slots.
+     */
+    TraversalContext(TraversalSlots<T> slots) {
+        this.slots = slots;
+        int length = Math.max(slots.getSlotLimit(), 1);
+        stamps = new int[length];
+        generations = new int[length];
+    }
+
+    /**
+     * markVertex Marks a vertex as seen.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        int slot = slots.slotOf(vertex);
+        if(slot < 0) {
+            return;
+        }
+        if(slot >= stamps.length) {
+            int length = Math.max(slot + 1, stamps.length * 2);
+            stamps = Arrays.copyOf(stamps, length);
+            generations = Arrays.copyOf(generations, length);
+        }
+        stamps[slot] = epoch;
+        generations[slot] = slots.generationOf(slot);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        int slot = slots.slotOf(vertex);
+        return slot >= 0 && isSlotMarked(slot);
+    }
+
+    /**
+     * clearAllMarks Clears every mark by advancing the epoch. The stamps are only rewritten when the epoch wraps
+     * around.
+     */
+    public void clearAllMarks() {
+        epoch++;
+        if(epoch == 0) {
+            Arrays.fill(stamps, 0);
+            epoch = 1;
+        }
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in no particular order.
+     * @return A vertex that is not marked, or null if every vertex is marked.
+     */
+    public T getAnUnmarkedVertex() {
+        int limit = slots.getSlotLimit();
+        for(int i = 0; i < limit; i++) {
+            T vertex = slots.vertexAt(i);
+            if(vertex != null && !isSlotMarked(i)) {
+                return vertex;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * isSlotMarked Checks if the vertex in a slot is marked as seen.
+     * @param slot The slot of the vertex.
+     * @return True if the slot carries a stamp of the current epoch and generation, false otherwise.
+     */
+    private boolean isSlotMarked(int slot) {
+        return slot < stamps.length && stamps[slot] == epoch && generations[slot] == slots.generationOf(slot);
+    }
+}
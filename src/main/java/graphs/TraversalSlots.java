@@ -0,0 +1,12 @@
+package graphs;
+
+/**
+ * View of a Graph's internal slots used by traversal contexts to keep their marks in arrays indexed by slot.
+ * @param <T> The vertex type.
+ */
+interface TraversalSlots<T> {
+    int slotOf(T vertex);
+    int getSlotLimit();
+    T vertexAt(int slot);
+    int generationOf(int slot);
+}
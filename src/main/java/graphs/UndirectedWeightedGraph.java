@@ -1,70 +1,129 @@
 package graphs;
 
+import nodes.Node;
+import structures.UnionFind;
+import structures.VertexIndex;
 import java.util.Queue;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.LinkedList;
 
-public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
+public class UndirectedWeightedGraph<T> implements GraphInterface<T>, StorageStatistics, MutationSource<T> {
+    /**
+     * Internal edge storage of an UndirectedWeightedGraph. DENSE keeps a capacity by capacity adjacency matrix, which
+     * suits graphs where most vertex pairs are connected. SPARSE keeps a linked list of neighbors per vertex, using
+     * memory proportional to the number of vertices and edges and enumerating neighbors in time proportional to the
+     * degree of the vertex.
+     */
+    public enum StorageMode {
+        DENSE,
+        SPARSE
+    }
+
+    private static final long NODE_BYTES = 24;
     private final int UNINITIALIZED_EDGE = -1;
+    private final StorageMode storageMode;
     private int capacity;
     private int totalVertices = 0;
+    private int totalNodes = 0;
     private T[] vertexArray;
     private int[][] edgeMatrix;
-    private boolean[] seenVertexArray;
+    private Node<T>[] adjacencyArray;
+    private int[] slotGenerations;
+    private int baseGeneration = 0;
+    private int[] freeSlots;
+    private int totalFreeSlots = 0;
+    private int nextSlot = 0;
+    private final TraversalContext<T> defaultTraversal;
+    private VertexIndex<T> vertexIndex;
+    private UnionFind components;
+    private boolean componentsStale = false;
+    private long version = 0;
+    private ResizeListener resizeListener;
+    private final MutationListeners<T> mutationListeners = new MutationListeners<>();
     private final double LOAD_THRESHOLD = .75;
 
     /**
-     * Constructor initializes capacity to 25 elements.
+     * Constructor initializes capacity to 25 elements with dense storage.
      */
     public UndirectedWeightedGraph() {
-        vertexArray = (T[])new Object[capacity = 25];
-        edgeMatrix = new int[capacity][capacity];
-        seenVertexArray = new boolean[capacity];
+        this(25, StorageMode.DENSE);
     }
 
     /**
-     * Constructor initializes capacity to a positive user-defined number. If the parameter is negative the default
-     * capacity is invoked.
+     * Constructor initializes capacity to a positive user-defined number with dense storage. If the parameter is
+     * negative the default capacity is invoked.
      * @param cap The non-negative vertex capacity.
      */
     public UndirectedWeightedGraph(int cap) {
+        this(cap, StorageMode.DENSE);
+    }
+
+    /**
+     * Constructor initializes capacity to 25 elements with a user-defined storage mode.
+     * @param mode The internal edge storage.
+     */
+    public UndirectedWeightedGraph(StorageMode mode) {
+        this(25, mode);
+    }
+
+    /**
+     * Constructor initializes capacity to a positive user-defined number with a user-defined storage mode. If the
+     * capacity is negative the default capacity is invoked.
+     * @param cap The non-negative vertex capacity.
+     * @param mode The internal edge storage.
+     */
+    public UndirectedWeightedGraph(int cap, StorageMode mode) {
         capacity = cap > 0 ? cap : 25;
+        storageMode = mode;
         vertexArray = (T[])new Object[capacity];
-        edgeMatrix = new int[capacity][capacity];
-        seenVertexArray = new boolean[capacity];
+        if(storageMode == StorageMode.DENSE) {
+            edgeMatrix = new int[capacity][capacity];
+        } else {
+            adjacencyArray = new Node[capacity];
+        }
+        slotGenerations = new int[capacity];
+        freeSlots = new int[capacity];
+        vertexIndex = new VertexIndex<>(capacity);
+        components = new UnionFind(capacity);
+        defaultTraversal = new TraversalContext<>(new Slots());
     }
 
     /**
-     * addVertex Adds a vertex to the Graph.
+     * getStorageMode Returns the internal edge storage of the Graph.
+     * @return The storage mode chosen at construction.
+     */
+    public StorageMode getStorageMode() {
+        return storageMode;
+    }
+
+    /**
+     * addVertex Adds a vertex to the Graph, reusing the most recently vacated slot if there is one.
      * @param vertex The vertex to add.
-     * @return True if the vertex is added, false otherwise.
+     * @return True if the vertex is added, false if it is null or already present.
      */
     public boolean addVertex(T vertex) {
-        if(totalVertices < capacity) {
-            if(vertexArray[totalVertices] == null) {
-                vertexArray[totalVertices] = vertex;
-                for(int i = 0; i < totalVertices; i++) {
-                    edgeMatrix[totalVertices][i] = UNINITIALIZED_EDGE;
-                    edgeMatrix[i][totalVertices] = UNINITIALIZED_EDGE;
-                }
-            } else {
-                for(int i = 0; i < vertexArray.length; i++) {
-                    if(vertexArray[i] == null) {
-                        vertexArray[i] = vertex;
-                        for(int j = 0; j < totalVertices; j++) {
-                            edgeMatrix[totalVertices][j] = UNINITIALIZED_EDGE;
-                            edgeMatrix[j][totalVertices] = UNINITIALIZED_EDGE;
-                        }
-                    }
-                }
-            }
-            totalVertices++;
-            if((double) (totalVertices / capacity) >= LOAD_THRESHOLD) {
-                resize();
+        if(vertex == null || vertexIndex.containsKey(vertex)) {
+            return false;
+        }
+        int slot = totalFreeSlots > 0 ? freeSlots[--totalFreeSlots] : nextSlot++;
+        vertexArray[slot] = vertex;
+        if(storageMode == StorageMode.DENSE) {
+            Arrays.fill(edgeMatrix[slot], UNINITIALIZED_EDGE);
+            for(int i = 0; i < capacity; i++) {
+                edgeMatrix[i][slot] = UNINITIALIZED_EDGE;
             }
-            return true;
+        } else {
+            adjacencyArray[slot] = null;
         }
-        return false;
+        vertexIndex.put(vertex, slot);
+        totalVertices++;
+        version++;
+        if(nextSlot == capacity) {
+            resize(capacity * 2);
+        }
+        mutationListeners.vertexAdded(vertex, version);
+        return true;
     }
 
     /**
@@ -73,16 +132,7 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
      * @return True if the vertex is present, false otherwise.
      */
     public boolean hasVertex(T vertex) {
-        for(int i = 0; i < totalVertices; i++) {
-            try {
-                if(vertexArray[i].equals(vertex)) {
-                    return true;
-                }
-            } catch(NullPointerException e) {
-                continue;
-            }
-        }
-        return false;
+        return vertexIndex.containsKey(vertex);
     }
 
     /**
@@ -96,15 +146,33 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
             return false;
         }
         Queue<Integer> queue = getAdjacentVertexIndices(vertex);
+        if(!queue.isEmpty()) {
+            componentsStale = true;
+        }
+        Node<T> removedEdges = null;
         while(!queue.isEmpty()) {
             int dequeue = queue.poll();
-            if(edgeMatrix[index][dequeue] != UNINITIALIZED_EDGE) {
-                edgeMatrix[index][dequeue] = UNINITIALIZED_EDGE;
-                edgeMatrix[dequeue][index] = UNINITIALIZED_EDGE;
+            int weight = readEdge(index, dequeue);
+            if(weight != UNINITIALIZED_EDGE) {
+                if(mutationListeners.isListening()) {
+                    Node<T> removed = new Node<>(vertexArray[dequeue], weight);
+                    removed.setNext(removedEdges);
+                    removedEdges = removed;
+                }
+                clearEdge(index, dequeue);
+                clearEdge(dequeue, index);
             }
         }
         vertexArray[index] = null;
+        slotGenerations[index]++;
+        freeSlots[totalFreeSlots++] = index;
+        vertexIndex.remove(vertex);
         totalVertices--;
+        version++;
+        for(Node<T> removed = removedEdges; removed != null; removed = removed.getNext()) {
+            mutationListeners.edgeRemoved(vertex, removed.getData(), removed.getWeight(), version);
+        }
+        mutationListeners.vertexRemoved(vertex, version);
         return true;
     }
 
@@ -117,7 +185,8 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
     }
 
     /**
-     * addEdge Adds a weighted edge between two vertices in the Graph.
+     * addEdge Adds a weighted edge between two vertices in the Graph, replacing the weight of an edge already there.
+     * Adding an edge with its current weight changes nothing, not even the version.
      * @param source The source vertex.
      * @param destination The destination vertex.
      * @param weight The weight of the edge.
@@ -132,11 +201,35 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
         if(row < 0 || col < 0) {
             return false;
         }
-        edgeMatrix[row][col] = weight;
-        edgeMatrix[col][row] = weight;
+        int previous = readEdge(row, col);
+        if(previous == weight) {
+            return true;
+        }
+        writeEdge(row, col, weight);
+        writeEdge(col, row, weight);
+        if(!componentsStale) {
+            components.union(row, col);
+        }
+        version++;
+        if(previous == UNINITIALIZED_EDGE) {
+            mutationListeners.edgeAdded(source, destination, weight, version);
+        } else {
+            mutationListeners.edgeReweighted(source, destination, previous, weight, version);
+        }
         return true;
     }
 
+    /**
+     * addVertices Adds a batch of vertices to the Graph, resizing the internal arrays at most once beforehand. With
+     * dense storage this copies the edge matrix once instead of once per doubling.
+     * @param vertices The vertices to add.
+     * @return The number of vertices added.
+     */
+    public int addVertices(Collection<? extends T> vertices) {
+        ensureCapacity(totalVertices + vertices.size());
+        return GraphInterface.super.addVertices(vertices);
+    }
+
     /**
      * getEdge Returns the weight of an edge between two vertices if present.
      * @param source The source vertex.
@@ -149,7 +242,7 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
         if(row < 0 || col < 0) {
             return -1;
         }
-        return edgeMatrix[row][col];
+        return readEdge(row, col);
     }
 
     /**
@@ -164,7 +257,7 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
         if(row < 0 || col < 0) {
             return false;
         }
-        return edgeMatrix[row][col] != UNINITIALIZED_EDGE;
+        return readEdge(row, col) != UNINITIALIZED_EDGE;
     }
 
     /**
@@ -179,27 +272,137 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
         if(row < 0 || col < 0) {
             return false;
         }
-        edgeMatrix[row][col] = UNINITIALIZED_EDGE;
-        edgeMatrix[col][row] = UNINITIALIZED_EDGE;
+        int weight = readEdge(row, col);
+        clearEdge(row, col);
+        clearEdge(col, row);
+        if(weight != UNINITIALIZED_EDGE) {
+            componentsStale = true;
+            version++;
+            mutationListeners.edgeRemoved(source, destination, weight, version);
+        }
         return true;
     }
 
     /**
-     * indexFinder Returns the index of a vertex.
+     * isConnected Checks if a path joins two vertices. Every added edge merges its endpoints in a union-find over the
+     * slots, so the check runs in near-constant time. Removing an edge or a vertex with edges marks the union-find
+     * stale, and the next check rebuilds it from the remaining edges in one pass.
+     * @param source The first vertex.
+     * @param destination The second vertex.
+     * @return True if both vertices are present and connected by a path, false otherwise.
+     */
+    public boolean isConnected(T source, T destination) {
+        int row = indexFinder(source);
+        int col = indexFinder(destination);
+        if(row < 0 || col < 0) {
+            return false;
+        }
+        if(componentsStale) {
+            rebuildComponents();
+        }
+        return components.connected(row, col);
+    }
+
+    /**
+     * getTotalComponents Returns the number of connected components of the Graph, counting isolated vertices, from
+     * the same union-find as isConnected.
+     * @return The number of connected components.
+     */
+    public int getTotalComponents() {
+        if(componentsStale) {
+            rebuildComponents();
+        }
+        return components.getTotalSets() - (capacity - totalVertices);
+    }
+
+    /**
+     * indexFinder Returns the index of a vertex in constant time through the vertex index.
      * @param vertex The vertex to search for.
      * @return The index of the vertex, or a negative number if the vertex was not found.
      */
     private int indexFinder(T vertex) {
-        for(int i = 0; i < vertexArray.length; i++) {
-            try {
-                if (vertexArray[i].equals(vertex)) {
-                    return i;
-                }
-            } catch(NullPointerException e) {
-                continue;
+        return vertexIndex.get(vertex);
+    }
+
+    /**
+     * readEdge Returns the weight stored for the edge from one index to another.
+     * @param row The index of the source vertex.
+     * @param col The index of the destination vertex.
+     * @return The weight of the edge, or UNINITIALIZED_EDGE if there was no edge.
+     */
+    private int readEdge(int row, int col) {
+        if(storageMode == StorageMode.DENSE) {
+            return edgeMatrix[row][col];
+        }
+        T destination = vertexArray[col];
+        for(Node<T> parser = adjacencyArray[row]; parser != null; parser = parser.getNext()) {
+            if(parser.getData().equals(destination)) {
+                return parser.getWeight();
             }
         }
-        return -1;
+        return UNINITIALIZED_EDGE;
+    }
+
+    /**
+     * writeEdge Stores the weight of the edge from one index to another, replacing the weight of an existing edge.
+     * @param row The index of the source vertex.
+     * @param col The index of the destination vertex.
+     * @param weight The weight of the edge.
+     */
+    private void writeEdge(int row, int col, int weight) {
+        if(storageMode == StorageMode.DENSE) {
+            edgeMatrix[row][col] = weight;
+            return;
+        }
+        T destination = vertexArray[col];
+        Node<T> parser = adjacencyArray[row];
+        if(parser == null) {
+            adjacencyArray[row] = new Node<>(destination, weight);
+            totalNodes++;
+            return;
+        }
+        while(true) {
+            if(parser.getData().equals(destination)) {
+                parser.setWeight(weight);
+                return;
+            }
+            if(parser.getNext() == null) {
+                parser.setNext(new Node<>(destination, weight));
+                totalNodes++;
+                return;
+            }
+            parser = parser.getNext();
+        }
+    }
+
+    /**
+     * clearEdge Removes the edge from one index to another if present.
+     * @param row The index of the source vertex.
+     * @param col The index of the destination vertex.
+     */
+    private void clearEdge(int row, int col) {
+        if(storageMode == StorageMode.DENSE) {
+            edgeMatrix[row][col] = UNINITIALIZED_EDGE;
+            return;
+        }
+        T destination = vertexArray[col];
+        Node<T> parser = adjacencyArray[row];
+        if(parser == null) {
+            return;
+        }
+        if(parser.getData().equals(destination)) {
+            adjacencyArray[row] = parser.getNext();
+            totalNodes--;
+            return;
+        }
+        while(parser.getNext() != null) {
+            if(parser.getNext().getData().equals(destination)) {
+                parser.setNext(parser.getNext().getNext());
+                totalNodes--;
+                return;
+            }
+            parser = parser.getNext();
+        }
     }
 
     /**
@@ -229,7 +432,15 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
         if(source < 0) {
             return queue;
         }
-        for(int i = 0; i < vertexArray.length; i++) {
+        if(storageMode == StorageMode.SPARSE) {
+            for(Node<T> parser = adjacencyArray[source]; parser != null; parser = parser.getNext()) {
+                if(!parser.getData().equals(vertex)) {
+                    queue.offer(parser.getData());
+                }
+            }
+            return queue;
+        }
+        for(int i = 0; i < nextSlot; i++) {
             if(edgeMatrix[source][i] != UNINITIALIZED_EDGE && vertexArray[i] != vertex && vertexArray[i] != null) {
                 queue.offer(vertexArray[i]);
             }
@@ -237,6 +448,33 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
         return queue;
     }
 
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex, with the weight of the connecting edge, to a
+     * consumer in the same order as getAdjacentVertices. Nothing is allocated per neighbor.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        int source = indexFinder(vertex);
+        if(source < 0) {
+            return;
+        }
+        if(storageMode == StorageMode.SPARSE) {
+            for(Node<T> parser = adjacencyArray[source]; parser != null; parser = parser.getNext()) {
+                if(!parser.getData().equals(vertex)) {
+                    consumer.accept(parser.getData(), parser.getWeight());
+                }
+            }
+            return;
+        }
+        int[] row = edgeMatrix[source];
+        for(int i = 0; i < nextSlot; i++) {
+            if(row[i] != UNINITIALIZED_EDGE && vertexArray[i] != vertex && vertexArray[i] != null) {
+                consumer.accept(vertexArray[i], row[i]);
+            }
+        }
+    }
+
     /**
      * getAdjacentVertexIndices Creates a Queue of the indexes of all vertices that are adjacent to a particular vertex.
      * @param vertex The vertex where all of its adjacent vertices are desired.
@@ -245,7 +483,13 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
     private Queue<Integer> getAdjacentVertexIndices(T vertex) {
         Queue<Integer> queue = new LinkedList<>();
         int source = indexFinder(vertex);
-        for(int i = 0; i < totalVertices; i++) {
+        if(storageMode == StorageMode.SPARSE) {
+            for(Node<T> parser = adjacencyArray[source]; parser != null; parser = parser.getNext()) {
+                queue.offer(indexFinder(parser.getData()));
+            }
+            return queue;
+        }
+        for(int i = 0; i < nextSlot; i++) {
             if(edgeMatrix[source][i] != UNINITIALIZED_EDGE) {
                 queue.offer(i);
             }
@@ -254,81 +498,348 @@ public class UndirectedWeightedGraph<T> implements GraphInterface<T>{
     }
 
     /**
-     * markVertex Marks a vertex as seen.
+     * markVertex Marks a vertex as seen in the Graph's default traversal context.
      * @param vertex The vertex to mark.
      */
     public void markVertex(T vertex) {
-        for(int i = 0; i < totalVertices; i++) {
-            try {
-                if(vertexArray[i].equals(vertex)) {
-                    seenVertexArray[i] = true;
-                }
-            } catch(NullPointerException e) {
-                continue;
-            }
-        }
+        defaultTraversal.markVertex(vertex);
     }
 
     /**
-     * isMarked Checks if a vertex is marked as seen.
+     * isMarked Checks if a vertex is marked as seen in the Graph's default traversal context.
      * @param vertex The vertex to check.
      * @return True if the vertex is marked, false otherwise.
      */
     public boolean isMarked(T vertex) {
-        for(int i = 0; i < totalVertices; i++) {
-            try {
-                if (vertexArray[i].equals(vertex) && seenVertexArray[i]) {
-                    return true;
-                }
-            } catch(NullPointerException e) {
-                continue;
-            }
-        }
-        return false;
+        return defaultTraversal.isMarked(vertex);
     }
 
     /**
-     * clearAllMarks Clears the seenVertexArray of all seen marks, setting each value to false.
+     * clearAllMarks Clears every mark of the Graph's default traversal context in constant time.
      */
     public void clearAllMarks() {
-        Arrays.fill(seenVertexArray, false);
+        defaultTraversal.clearAllMarks();
     }
 
     /**
-     * getAnUnmarkedVertex Returns a vertex that is not marked in no particular order.
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the Graph's default traversal context in no
+     * particular order.
      * @return A vertex that is not marked.
      */
     public T getAnUnmarkedVertex() {
-        for(int i = 0; i < totalVertices; i++) {
-            if(!seenVertexArray[i]) {
-                return vertexArray[i];
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context with its own marks, independent of the default context and of every
+     * other context.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        return new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * getVersion Returns the mutation version of the Graph, which advances every time a vertex or an edge is added or
+     * removed. Equal versions mean the Graph has not changed in between.
+     * @return The mutation version.
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * freeze Compiles the Graph into an immutable compressed sparse row snapshot. Vertices are renumbered densely in
+     * slot order and every edge is stored once from each endpoint, in the order of getAdjacentVertices. Later changes
+     * to this Graph are not reflected in the snapshot.
+     * @return The snapshot of the Graph.
+     */
+    public CompressedSparseRowGraph<T> freeze() {
+        int[] denseSlot = new int[capacity];
+        T[] vertices = (T[])new Object[totalVertices];
+        int totalEdges = 0;
+        int next = 0;
+        for(int i = 0; i < vertexArray.length; i++) {
+            if(vertexArray[i] != null) {
+                denseSlot[i] = next;
+                vertices[next++] = vertexArray[i];
+                totalEdges = copyNeighbors(i, denseSlot, null, null, totalEdges);
+            }
+        }
+        int[] offsets = new int[totalVertices + 1];
+        int[] targets = new int[totalEdges];
+        int[] weights = new int[totalEdges];
+        int edge = 0;
+        next = 0;
+        for(int i = 0; i < vertexArray.length; i++) {
+            if(vertexArray[i] != null) {
+                offsets[next++] = edge;
+                edge = copyNeighbors(i, denseSlot, targets, weights, edge);
             }
         }
-        return null;
+        offsets[totalVertices] = edge;
+        return new CompressedSparseRowGraph<>(vertices, offsets, targets, weights);
     }
 
     /**
-     * resize Resizes the internal arrays to double capacity if the original array's load threshold is met or exceeded.
+     * copyNeighbors Copies the edges of a vertex, other than a self-loop, into snapshot arrays.
+     * @param slot The index of the vertex.
+     * @param denseSlot The snapshot slot of every index.
+     * @param targets The snapshot destination slots, or null to only count the edges.
+     * @param weights The snapshot weights, or null to only count the edges.
+     * @param edge The position of the first edge to write.
+     * @return The position after the last edge written.
      */
-    private void resize() {
-        T[] resizedArray = (T[])new Object[capacity *= 2];
-        int[][] resizedMatrix = new int[capacity][capacity];
-        boolean[] resizedSeenArray = new boolean[capacity];
-        for(int i = 0; i < vertexArray.length; i++) {
+    private int copyNeighbors(int slot, int[] denseSlot, int[] targets, int[] weights, int edge) {
+        if(storageMode == StorageMode.SPARSE) {
+            for(Node<T> parser = adjacencyArray[slot]; parser != null; parser = parser.getNext()) {
+                int col = indexFinder(parser.getData());
+                if(col >= 0 && col != slot) {
+                    if(targets != null) {
+                        targets[edge] = denseSlot[col];
+                        weights[edge] = parser.getWeight();
+                    }
+                    edge++;
+                }
+            }
+            return edge;
+        }
+        int[] row = edgeMatrix[slot];
+        for(int col = 0; col < nextSlot; col++) {
+            if(row[col] != UNINITIALIZED_EDGE && col != slot && vertexArray[col] != null) {
+                if(targets != null) {
+                    targets[edge] = denseSlot[col];
+                    weights[edge] = row[col];
+                }
+                edge++;
+            }
+        }
+        return edge;
+    }
+
+    /**
+     * rebuildComponents Rebuilds the union-find over the slots from every edge of the Graph.
+     */
+    private void rebuildComponents() {
+        components = new UnionFind(capacity);
+        for(int row = 0; row < nextSlot; row++) {
+            if(vertexArray[row] == null) {
+                continue;
+            }
+            if(storageMode == StorageMode.SPARSE) {
+                for(Node<T> parser = adjacencyArray[row]; parser != null; parser = parser.getNext()) {
+                    int col = indexFinder(parser.getData());
+                    if(col > row) {
+                        components.union(row, col);
+                    }
+                }
+            } else {
+                for(int col = row + 1; col < nextSlot; col++) {
+                    if(edgeMatrix[row][col] != UNINITIALIZED_EDGE && vertexArray[col] != null) {
+                        components.union(row, col);
+                    }
+                }
+            }
+        }
+        componentsStale = false;
+    }
+
+    /**
+     * compact Renumbers the vertices densely into the lowest slots, keeping their order, and shrinks the internal
+     * arrays to fit them. Dense storage copies the live rows and columns of the edge matrix into a smaller matrix.
+     * Removed vertices leave vacated slots that are reused by later additions, so compacting is only worthwhile after
+     * removing many more vertices than will be added back. Marks of every traversal context are cleared.
+     */
+    public void compact() {
+        int[] liveSlots = new int[totalVertices];
+        int next = 0;
+        for(int i = 0; i < nextSlot; i++) {
             if(vertexArray[i] != null) {
-                resizedArray[i] = vertexArray[i];
+                liveSlots[next++] = i;
+            }
+        }
+        long start = resizeListener == null ? 0 : System.nanoTime();
+        int compacted = Math.min(capacity, Math.max(totalVertices + 1,
+                (int) Math.ceil(totalVertices / LOAD_THRESHOLD)));
+        if(storageMode == StorageMode.DENSE) {
+            int[][] compactedMatrix = new int[compacted][compacted];
+            for(int row = 0; row < compacted; row++) {
+                int[] source = row < totalVertices ? edgeMatrix[liveSlots[row]] : null;
+                for(int col = 0; col < compacted; col++) {
+                    compactedMatrix[row][col] = source != null && col < totalVertices ? source[liveSlots[col]]
+                            : UNINITIALIZED_EDGE;
+                }
             }
-            if(seenVertexArray[i]) {
-                resizedSeenArray[i] = true;
+            edgeMatrix = compactedMatrix;
+        }
+        for(int i = 0; i < totalVertices; i++) {
+            vertexArray[i] = vertexArray[liveSlots[i]];
+            if(storageMode == StorageMode.SPARSE) {
+                adjacencyArray[i] = adjacencyArray[liveSlots[i]];
             }
+            vertexIndex.put(vertexArray[i], i);
         }
-        for(int i = 0; i < edgeMatrix.length; i++) {
-            for(int j = 0; j < edgeMatrix[i].length; j++) {
-                resizedMatrix[i][j] = edgeMatrix[i][j] == UNINITIALIZED_EDGE ? UNINITIALIZED_EDGE : edgeMatrix[i][j];
+        Arrays.fill(vertexArray, totalVertices, nextSlot, null);
+        if(storageMode == StorageMode.SPARSE) {
+            Arrays.fill(adjacencyArray, totalVertices, nextSlot, null);
+        }
+        for(int generation : slotGenerations) {
+            baseGeneration = Math.max(baseGeneration, generation + 1);
+        }
+        Arrays.fill(slotGenerations, baseGeneration);
+        nextSlot = totalVertices;
+        totalFreeSlots = 0;
+        if(compacted < capacity) {
+            int oldCapacity = capacity;
+            capacity = compacted;
+            vertexArray = Arrays.copyOf(vertexArray, capacity);
+            if(storageMode == StorageMode.SPARSE) {
+                adjacencyArray = Arrays.copyOf(adjacencyArray, capacity);
+            }
+            slotGenerations = Arrays.copyOf(slotGenerations, capacity);
+            freeSlots = new int[capacity];
+            if(resizeListener != null) {
+                resizeListener.resized(oldCapacity, capacity, System.nanoTime() - start);
             }
         }
-        vertexArray = resizedArray;
-        edgeMatrix = resizedMatrix;
-        seenVertexArray = resizedSeenArray;
+        rebuildComponents();
+    }
+
+    /**
+     * getCapacity Returns the number of vertices the internal arrays hold before the next resize.
+     * @return The vertex capacity.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * getAverageProbeLength Returns the mean number of buckets a vertex lookup inspects in the vertex index.
+     * @return The average probe length.
+     */
+    public double getAverageProbeLength() {
+        return vertexIndex.getAverageProbeLength();
+    }
+
+    /**
+     * getMaxProbeLength Returns the largest number of buckets a vertex lookup inspects in the vertex index.
+     * @return The longest probe length.
+     */
+    public int getMaxProbeLength() {
+        return vertexIndex.getMaxProbeLength();
+    }
+
+    /**
+     * estimateMemoryBytes Returns the estimated heap held by the Graph's internal arrays, edge storage, union-find and
+     * vertex index, assuming compressed references and excluding the vertices themselves. Dense storage counts the
+     * whole edge matrix whether or not its cells hold edges.
+     * @return The estimated size in bytes.
+     */
+    public long estimateMemoryBytes() {
+        long array = 16 + (long) capacity * Integer.BYTES;
+        long edges = storageMode == StorageMode.DENSE ? (capacity + 1) * array : array + totalNodes * NODE_BYTES;
+        return 5 * array + edges + vertexIndex.estimateBytes();
+    }
+
+    /**
+     * setResizeListener Sets the callback notified after every resize of the internal arrays, including the shrink
+     * done by compact.
+     * @param listener The callback, or null to stop timing resizes.
+     */
+    public void setResizeListener(ResizeListener listener) {
+        resizeListener = listener;
+    }
+
+    /**
+     * addMutationListener Adds a callback told about every successful addVertex, removeVertex, addEdge and removeEdge,
+     * after the callbacks added before it. Adding an edge between two already connected vertices is reported as a
+     * reweighted edge, unless the weight is unchanged, which is not reported at all.
+     * @param listener The callback to add. Null is ignored.
+     */
+    public void addMutationListener(MutationListener<T> listener) {
+        mutationListeners.add(listener);
+    }
+
+    /**
+     * removeMutationListener Removes a callback added with addMutationListener, leaving every other callback in place.
+     * @param listener The callback to remove.
+     * @return True if the callback is removed, false if it was not added.
+     */
+    public boolean removeMutationListener(MutationListener<T> listener) {
+        return mutationListeners.remove(listener);
+    }
+
+    /**
+     * getTotalFreeSlots Returns the number of vacated slots waiting to be reused.
+     * @return The number of vacated slots.
+     */
+    public int getTotalFreeSlots() {
+        return totalFreeSlots;
+    }
+
+    /**
+     * ensureCapacity Doubles the capacity until a number of vertices fits without triggering another resize.
+     * @param expected The number of vertices the Graph should hold.
+     */
+    private void ensureCapacity(int expected) {
+        int resized = capacity;
+        while(resized <= expected) {
+            resized *= 2;
+        }
+        if(resized > capacity) {
+            resize(resized);
+        }
+        vertexIndex.ensureCapacity(expected);
+    }
+
+    /**
+     * resize Resizes the internal arrays to a larger capacity, keeping every vertex in its slot. Dense storage copies
+     * each matrix row in bulk, sparse storage only copies the neighbor list heads.
+     * @param resized The new capacity.
+     */
+    private void resize(int resized) {
+        long start = resizeListener == null ? 0 : System.nanoTime();
+        int oldCapacity = capacity;
+        capacity = resized;
+        vertexArray = Arrays.copyOf(vertexArray, capacity);
+        slotGenerations = Arrays.copyOf(slotGenerations, capacity);
+        Arrays.fill(slotGenerations, oldCapacity, capacity, baseGeneration);
+        freeSlots = Arrays.copyOf(freeSlots, capacity);
+        components.grow(capacity);
+        if(storageMode == StorageMode.DENSE) {
+            int[][] resizedMatrix = new int[capacity][capacity];
+            for(int i = 0; i < oldCapacity; i++) {
+                System.arraycopy(edgeMatrix[i], 0, resizedMatrix[i], 0, oldCapacity);
+            }
+            edgeMatrix = resizedMatrix;
+        } else {
+            adjacencyArray = Arrays.copyOf(adjacencyArray, capacity);
+        }
+        if(resizeListener != null) {
+            resizeListener.resized(oldCapacity, capacity, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Slots of the Graph as seen by its traversal contexts. A slot's generation advances each time its vertex is
+     * removed, since removed slots are handed to the next added vertex, and every generation moves past all earlier
+     * ones when the Graph is compacted.
+     */
+    private class Slots implements TraversalSlots<T> {
+        public int slotOf(T vertex) {
+            return indexFinder(vertex);
+        }
+
+        public int getSlotLimit() {
+            return nextSlot;
+        }
+
+        public T vertexAt(int slot) {
+            return vertexArray[slot];
+        }
+
+        public int generationOf(int slot) {
+            return slot < slotGenerations.length ? slotGenerations[slot] : 0;
+        }
     }
 }
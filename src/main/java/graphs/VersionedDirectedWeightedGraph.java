@@ -0,0 +1,466 @@
+package graphs;
+
+import structures.PersistentArray;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Directed Graph keeping multiple versions so that readers get consistent views while writers keep going.
+ *
+ * Every successful change publishes a new immutable version. Adjacency records live in a persistent array, so a
+ * change copies one record and the few tree nodes above it and shares everything else with the previous version.
+ * snapshot pins the current version in constant time and returns a GraphSnapshot that answers every query from it,
+ * however long the reader takes and however many changes happen meanwhile. Writers are serialized by one lock and
+ * readers never lock.
+ *
+ * Slots are never reused: edges pointing at a removed vertex are skipped by readers and dropped the next time their
+ * source's record is copied. A version that no snapshot holds is reclaimed by the garbage collector, and the vertex
+ * index forgets a removed vertex's slot once no pinned version can still see it.
+ * @param <T> The vertex type.
+ */
+public class VersionedDirectedWeightedGraph<T> implements GraphInterface<T> {
+    private static final int[] NO_EDGES = new int[0];
+    private final ConcurrentHashMap<T, int[]> vertexIndex = new ConcurrentHashMap<>();
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final TreeMap<Long, Integer> pins = new TreeMap<>();
+    private final ArrayDeque<Retired<T>> retired = new ArrayDeque<>();
+    private final TraversalContext<T> defaultTraversal;
+    private volatile VersionedState<T> state;
+    private volatile boolean reclaimPending = false;
+
+    /**
+     * A slot vacated by a removed vertex, kept in the vertex index until every version that still holds it is gone.
+     */
+    private static final class Retired<T> {
+        final T vertex;
+        final int slot;
+        final long version;
+
+        Retired(T vertex, int slot, long version) {
+            this.vertex = vertex;
+            this.slot = slot;
+            this.version = version;
+        }
+    }
+
+    /**
+     * Constructor initializes an empty Graph at version 0.
+     */
+    public VersionedDirectedWeightedGraph() {
+        state = new VersionedState<>(0, PersistentArray.empty(), 0, 0, vertexIndex);
+        defaultTraversal = new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * snapshot Pins the current version and returns a read-only view of it. The view must be closed once the reader
+     * is done, best with try-with-resources, so the Graph can reclaim the bookkeeping of that version.
+     * @return The snapshot of the current version.
+     */
+    public GraphSnapshot<T> snapshot() {
+        VersionedState<T> pinned;
+        synchronized(pins) {
+            pinned = state;
+            pins.merge(pinned.version, 1, Integer::sum);
+        }
+        return new GraphSnapshot<>(this, pinned);
+    }
+
+    /**
+     * getTotalPinnedSnapshots Returns the number of snapshots that are still open.
+     * @return The number of open snapshots.
+     */
+    public int getTotalPinnedSnapshots() {
+        synchronized(pins) {
+            int total = 0;
+            for(int count : pins.values()) {
+                total += count;
+            }
+            return total;
+        }
+    }
+
+    /**
+     * getOldestPinnedVersion Returns the oldest version an open snapshot is pinned at.
+     * @return The oldest pinned version, or the current version if no snapshot is open.
+     */
+    public long getOldestPinnedVersion() {
+        synchronized(pins) {
+            return pins.isEmpty() ? state.version : pins.firstKey();
+        }
+    }
+
+    /**
+     * getTotalIndexedSlots Returns the number of slots the vertex index still maps, including retired slots that a
+     * pinned version may need.
+     * @return The number of indexed slots.
+     */
+    public int getTotalIndexedSlots() {
+        int total = 0;
+        for(int[] history : vertexIndex.values()) {
+            total += history.length;
+        }
+        return total;
+    }
+
+    /**
+     * addVertex Adds a vertex to the Graph.
+     * @param vertex The vertex to add.
+     * @return True if the vertex is added, false if it is null or already present.
+     */
+    public boolean addVertex(T vertex) {
+        if(vertex == null) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            VersionedState<T> current = state;
+            if(current.slotOf(vertex) >= 0) {
+                return false;
+            }
+            int slot = current.slotLimit;
+            vertexIndex.merge(vertex, new int[] {slot}, (history, added) -> {
+                int[] grown = Arrays.copyOf(history, history.length + 1);
+                grown[history.length] = slot;
+                return grown;
+            });
+            publish(new VersionedState<>(current.version + 1, current.slots.set(slot,
+                    new VersionedState.Adjacency<>(vertex, NO_EDGES, NO_EDGES, 0)), slot + 1,
+                    current.totalVertices + 1, vertexIndex));
+            return true;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present in the current version.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(T vertex) {
+        return state.slotOf(vertex) >= 0;
+    }
+
+    /**
+     * removeVertex Removes a vertex and its out-edges from the Graph if present. Edges from other vertices to it stop
+     * being reported from the next version on, while pinned versions keep reporting them.
+     * @param vertex The vertex to remove.
+     * @return True if the vertex is removed, false otherwise.
+     */
+    public boolean removeVertex(T vertex) {
+        writeLock.lock();
+        try {
+            VersionedState<T> current = state;
+            int slot = current.slotOf(vertex);
+            if(slot < 0) {
+                return false;
+            }
+            long version = current.version + 1;
+            retired.add(new Retired<>(vertex, slot, version));
+            publish(new VersionedState<>(version, current.slots.set(slot, null), current.slotLimit,
+                    current.totalVertices - 1, vertexIndex));
+            return true;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices present in the current version.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        return state.totalVertices;
+    }
+
+    /**
+     * addEdge Adds a weighted edge from one vertex to another, after any existing edges of the source.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @param weight The weight of the edge.
+     * @return True if edge is added successfully, false otherwise.
+     */
+    public boolean addEdge(T source, T destination, int weight) {
+        if(weight < 0) {
+            return false;
+        }
+        writeLock.lock();
+        try {
+            VersionedState<T> current = state;
+            int row = current.slotOf(source);
+            int col = current.slotOf(destination);
+            if(row < 0 || col < 0) {
+                return false;
+            }
+            VersionedState.Adjacency<T> adjacency = current.recordOf(row);
+            int[] targets = adjacency.targets;
+            int[] weights = adjacency.weights;
+            if(adjacency.size == targets.length) {
+                int grown = Math.max(4, adjacency.size * 2);
+                targets = Arrays.copyOf(targets, grown);
+                weights = Arrays.copyOf(weights, grown);
+            }
+            targets[adjacency.size] = col;
+            weights[adjacency.size] = weight;
+            publish(new VersionedState<>(current.version + 1, current.slots.set(row,
+                    new VersionedState.Adjacency<>(adjacency.vertex, targets, weights, adjacency.size + 1)),
+                    current.slotLimit, current.totalVertices, vertexIndex));
+            return true;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    /**
+     * getEdge Returns the weight of an edge between two vertices in the current version.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(T source, T destination) {
+        return state.getEdge(source, destination);
+    }
+
+    /**
+     * containsEdge Checks if an edge exists between two vertices in the current version.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        return state.getEdge(source, destination) >= 0;
+    }
+
+    /**
+     * removeEdge Removes an edge between two vertices if present. The source's remaining edges are copied into a new
+     * record, dropping edges to removed vertices on the way.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if the edge is removed, false if the edge was not found.
+     */
+    public boolean removeEdge(T source, T destination) {
+        writeLock.lock();
+        try {
+            VersionedState<T> current = state;
+            int row = current.slotOf(source);
+            int col = current.slotOf(destination);
+            if(row < 0 || col < 0) {
+                return false;
+            }
+            VersionedState.Adjacency<T> adjacency = current.recordOf(row);
+            int[] targets = new int[adjacency.targets.length];
+            int[] weights = new int[adjacency.targets.length];
+            int kept = 0;
+            boolean removed = false;
+            for(int i = 0; i < adjacency.size; i++) {
+                int target = adjacency.targets[i];
+                if(!removed && target == col) {
+                    removed = true;
+                } else if(current.recordOf(target) != null) {
+                    targets[kept] = target;
+                    weights[kept++] = adjacency.weights[i];
+                }
+            }
+            if(removed) {
+                publish(new VersionedState<>(current.version + 1, current.slots.set(row,
+                        new VersionedState.Adjacency<>(adjacency.vertex, targets, weights, kept)),
+                        current.slotLimit, current.totalVertices, vertexIndex));
+            }
+            return removed;
+        } finally {
+            releaseWriteLock();
+        }
+    }
+
+    /**
+     * isEmpty Checks if the current version is empty.
+     * @return True if the Graph is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return state.totalVertices == 0;
+    }
+
+    /**
+     * isFull Checks if the Graph is full. The Graph grows without bound, so it is never full.
+     * @return False.
+     */
+    public boolean isFull() {
+        return false;
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of all vertices that are adjacent to a particular vertex in the current
+     * version.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    public Queue<T> getAdjacentVertices(T vertex) {
+        return state.getAdjacentVertices(vertex);
+    }
+
+    /**
+     * forEachNeighbor Passes every vertex adjacent to a particular vertex in the current version, with the weight of
+     * the connecting edge, to a consumer in insertion order.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        state.forEachNeighbor(vertex, consumer);
+    }
+
+    /**
+     * markVertex Marks a vertex as seen in the Graph's default traversal context.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        defaultTraversal.markVertex(vertex);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked as seen in the Graph's default traversal context.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        return defaultTraversal.isMarked(vertex);
+    }
+
+    /**
+     * clearAllMarks Clears every mark of the Graph's default traversal context in constant time.
+     */
+    public void clearAllMarks() {
+        defaultTraversal.clearAllMarks();
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the Graph's default traversal context in no
+     * particular order.
+     * @return A vertex that is not marked.
+     */
+    public T getAnUnmarkedVertex() {
+        return defaultTraversal.getAnUnmarkedVertex();
+    }
+
+    /**
+     * newTraversal Creates a traversal context over the current version of every query, with its own marks. Slots are
+     * never reused, so marks never carry over to a vertex added later.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        return new TraversalContext<>(new Slots());
+    }
+
+    /**
+     * getVersion Returns the current version, which advances by one on every successful addVertex, removeVertex,
+     * addEdge and removeEdge.
+     * @return The current version.
+     */
+    public long getVersion() {
+        return state.version;
+    }
+
+    /**
+     * freeze Compiles the current version into an immutable compressed sparse row snapshot. Unlike a Graph that is
+     * frozen while writers run, the result reflects exactly one version.
+     * @return The snapshot of the Graph.
+     */
+    public CompressedSparseRowGraph<T> freeze() {
+        return state.freeze();
+    }
+
+    /**
+     * unpin Releases one pin on a version and reclaims the bookkeeping it held. If a writer is busy, the reclaim is
+     * left to that writer, which runs it before releasing the lock.
+     * @param version The version the closed snapshot was pinned at.
+     */
+    void unpin(long version) {
+        synchronized(pins) {
+            Integer count = pins.get(version);
+            if(count == null) {
+                return;
+            }
+            if(count == 1) {
+                pins.remove(version);
+            } else {
+                pins.put(version, count - 1);
+            }
+        }
+        reclaimPending = true;
+        if(writeLock.tryLock()) {
+            releaseWriteLock();
+        }
+    }
+
+    /**
+     * releaseWriteLock Runs any reclaim requested by unpin while the lock was held, then releases the lock. A request
+     * that arrives just as the lock is released is picked up by taking the lock again, so none is lost.
+     */
+    private void releaseWriteLock() {
+        do {
+            if(reclaimPending) {
+                reclaimPending = false;
+                reclaim();
+            }
+            writeLock.unlock();
+        } while(reclaimPending && writeLock.tryLock());
+    }
+
+    /**
+     * publish Makes a new version current and reclaims what older versions no longer need. Called with the write
+     * lock held.
+     * @param next The new version.
+     */
+    private void publish(VersionedState<T> next) {
+        state = next;
+        reclaim();
+    }
+
+    /**
+     * reclaim Drops retired slots from the vertex index once the oldest version still in use was made after their
+     * vertex was removed. Called with the write lock held.
+     */
+    private void reclaim() {
+        long oldest = getOldestPinnedVersion();
+        while(!retired.isEmpty() && retired.peek().version <= oldest) {
+            Retired<T> slot = retired.poll();
+            vertexIndex.computeIfPresent(slot.vertex, (vertex, history) -> {
+                if(history.length == 1) {
+                    return history[0] == slot.slot ? null : history;
+                }
+                int[] kept = new int[history.length - 1];
+                int next = 0;
+                for(int held : history) {
+                    if(held != slot.slot && next < kept.length) {
+                        kept[next++] = held;
+                    }
+                }
+                return next == kept.length ? kept : history;
+            });
+        }
+    }
+
+    /**
+     * Slots of the current version as seen by traversal contexts. Every slot stays in its first generation.
+     */
+    private class Slots implements TraversalSlots<T> {
+        public int slotOf(T vertex) {
+            return state.slotOf(vertex);
+        }
+
+        public int getSlotLimit() {
+            return state.slotLimit;
+        }
+
+        public T vertexAt(int slot) {
+            return state.vertexAt(slot);
+        }
+
+        public int generationOf(int slot) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,215 @@
+package graphs;
+
+import structures.PersistentArray;
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * One immutable version of a VersionedDirectedWeightedGraph. Slots hold adjacency records in a persistent array, so
+ * a version shares every record and tree node it did not change with the version before it. The vertex index is shared
+ * by every version and maps each vertex to the ascending slots it has held. A version finds a vertex in the highest
+ * of those slots below its slot limit, and the vertex is present only if that slot still holds its record.
+ * @param <T> The vertex type.
+ */
+final class VersionedState<T> {
+    final long version;
+    final PersistentArray<Adjacency<T>> slots;
+    final int slotLimit;
+    final int totalVertices;
+    final ConcurrentHashMap<T, int[]> vertexIndex;
+
+    /**
+     * Immutable out-edge list of one vertex. Appending writes past the end of the shared arrays and publishes a new
+     * record with a larger size, so records of older versions never observe the change.
+     */
+    static final class Adjacency<T> {
+        final T vertex;
+        final int[] targets;
+        final int[] weights;
+        final int size;
+
+        Adjacency(T vertex, int[] targets, int[] weights, int size) {
+            this.vertex = vertex;
+            this.targets = targets;
+            this.weights = weights;
+            this.size = size;
+        }
+    }
+
+    VersionedState(long version, PersistentArray<Adjacency<T>> slots, int slotLimit, int totalVertices,
+                   ConcurrentHashMap<T, int[]> vertexIndex) {
+        this.version = version;
+        this.slots = slots;
+        this.slotLimit = slotLimit;
+        this.totalVertices = totalVertices;
+        this.vertexIndex = vertexIndex;
+    }
+
+    /**
+     * slotOf Returns the slot a vertex holds in this version.
+     * @param vertex The vertex to search for.
+     * @return The slot of the vertex, or a negative number if the vertex is not present in this version.
+     */
+    int slotOf(T vertex) {
+        if(vertex == null) {
+            return -1;
+        }
+        int[] history = vertexIndex.get(vertex);
+        if(history == null) {
+            return -1;
+        }
+        for(int i = history.length - 1; i >= 0; i--) {
+            if(history[i] < slotLimit) {
+                return slots.get(history[i]) == null ? -1 : history[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * recordOf Returns the adjacency record of a slot in this version.
+     * @param slot The slot to read.
+     * @return The record, or null if the slot holds no vertex.
+     */
+    Adjacency<T> recordOf(int slot) {
+        return slots.get(slot);
+    }
+
+    /**
+     * vertexAt Returns the vertex held by a slot in this version.
+     * @param slot The slot to read.
+     * @return The vertex, or null if the slot holds no vertex.
+     */
+    T vertexAt(int slot) {
+        Adjacency<T> adjacency = slots.get(slot);
+        return adjacency == null ? null : adjacency.vertex;
+    }
+
+    /**
+     * getEdge Returns the weight of the first edge between two vertices in this version.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    int getEdge(T source, T destination) {
+        int row = slotOf(source);
+        int col = slotOf(destination);
+        if(row < 0 || col < 0) {
+            return -1;
+        }
+        Adjacency<T> adjacency = slots.get(row);
+        for(int i = 0; i < adjacency.size; i++) {
+            if(adjacency.targets[i] == col) {
+                return adjacency.weights[i];
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * forEachNeighbor Passes every neighbor of a vertex in this version, with the weight of the connecting edge, to a
+     * consumer in insertion order.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        int source = slotOf(vertex);
+        if(source < 0) {
+            return;
+        }
+        Adjacency<T> adjacency = slots.get(source);
+        for(int i = 0; i < adjacency.size; i++) {
+            Adjacency<T> target = slots.get(adjacency.targets[i]);
+            if(target != null) {
+                consumer.accept(target.vertex, adjacency.weights[i]);
+            }
+        }
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of every neighbor of a vertex in this version.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    Queue<T> getAdjacentVertices(T vertex) {
+        Queue<T> queue = new LinkedList<>();
+        forEachNeighbor(vertex, (neighbor, weight) -> queue.offer(neighbor));
+        return queue;
+    }
+
+    /**
+     * freeze Compiles this version into a compressed sparse row snapshot. Vertices are renumbered densely in slot
+     * order, edges keep their insertion order, and edges to removed vertices are dropped.
+     * @return The snapshot of this version.
+     */
+    CompressedSparseRowGraph<T> freeze() {
+        Adjacency<T>[] records = new Adjacency[slotLimit];
+        int[] denseSlot = new int[slotLimit];
+        int totalLive = 0;
+        for(int i = 0; i < slotLimit; i++) {
+            records[i] = slots.get(i);
+            if(records[i] != null) {
+                denseSlot[i] = totalLive++;
+            }
+        }
+        T[] vertices = (T[])new Object[totalLive];
+        int totalEdges = 0;
+        for(int i = 0; i < slotLimit; i++) {
+            if(records[i] != null) {
+                vertices[denseSlot[i]] = records[i].vertex;
+                for(int j = 0; j < records[i].size; j++) {
+                    if(records[records[i].targets[j]] != null) {
+                        totalEdges++;
+                    }
+                }
+            }
+        }
+        int[] offsets = new int[totalLive + 1];
+        int[] targets = new int[totalEdges];
+        int[] weights = new int[totalEdges];
+        int edge = 0;
+        for(int i = 0; i < slotLimit; i++) {
+            if(records[i] != null) {
+                offsets[denseSlot[i]] = edge;
+                for(int j = 0; j < records[i].size; j++) {
+                    int target = records[i].targets[j];
+                    if(records[target] != null) {
+                        targets[edge] = denseSlot[target];
+                        weights[edge++] = records[i].weights[j];
+                    }
+                }
+            }
+        }
+        offsets[totalLive] = edge;
+        return new CompressedSparseRowGraph<>(vertices, offsets, targets, weights);
+    }
+
+    /**
+     * Slots of one version as seen by traversal contexts. Slots are never reused, so every slot stays in its first
+     * generation.
+     */
+    static final class Slots<T> implements TraversalSlots<T> {
+        private final VersionedState<T> state;
+
+        Slots(VersionedState<T> state) {
+            this.state = state;
+        }
+
+        public int slotOf(T vertex) {
+            return state.slotOf(vertex);
+        }
+
+        public int getSlotLimit() {
+            return state.slotLimit;
+        }
+
+        public T vertexAt(int slot) {
+            return state.vertexAt(slot);
+        }
+
+        public int generationOf(int slot) {
+            return 0;
+        }
+    }
+}
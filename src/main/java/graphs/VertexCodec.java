@@ -0,0 +1,47 @@
+package graphs;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Converts vertices to and from the bytes stored in the vertex table of a graph file. Two vertices that are equal must
+ * encode to the same bytes, since mapped graphs find a vertex by comparing its encoding.
+ * @param <T> The vertex type.
+ */
+public interface VertexCodec<T> {
+    byte[] encode(T vertex);
+    T decode(ByteBuffer buffer, int position, int length);
+
+    VertexCodec<Integer> INTEGERS = new VertexCodec<>() {
+        public byte[] encode(Integer vertex) {
+            return ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN).putInt(vertex).array();
+        }
+
+        public Integer decode(ByteBuffer buffer, int position, int length) {
+            return buffer.getInt(position);
+        }
+    };
+
+    VertexCodec<Long> LONGS = new VertexCodec<>() {
+        public byte[] encode(Long vertex) {
+            return ByteBuffer.allocate(Long.BYTES).order(ByteOrder.LITTLE_ENDIAN).putLong(vertex).array();
+        }
+
+        public Long decode(ByteBuffer buffer, int position, int length) {
+            return buffer.getLong(position);
+        }
+    };
+
+    VertexCodec<String> STRINGS = new VertexCodec<>() {
+        public byte[] encode(String vertex) {
+            return vertex.getBytes(StandardCharsets.UTF_8);
+        }
+
+        public String decode(ByteBuffer buffer, int position, int length) {
+            byte[] bytes = new byte[length];
+            buffer.get(position, bytes);
+            return new String(bytes, StandardCharsets.UTF_8);
+        }
+    };
+}
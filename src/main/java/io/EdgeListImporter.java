@@ -0,0 +1,306 @@
+package io;
+
+import graphs.GraphInterface;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Streams an edge list into a Graph. Each line holds a source, a destination and an optional weight separated by
+ * spaces, tabs or commas, so CSV, TSV and SNAP-style files are all accepted. Blank lines and lines starting with # or %
+ * are ignored, missing weights default to 1, and malformed lines are skipped and counted.
+ * A reader thread cuts the input into chunks of lines, a pool of threads parses the chunks, and the calling thread adds
+ * the parsed edges to the Graph in file order. At most twice as many chunks as parser threads are held at once, so
+ * memory stays bounded regardless of the file size.
+ * @param <T> The vertex type.
+ */
+public class EdgeListImporter<T> {
+    private static final int DEFAULT_CHUNK_LINES = 8192;
+    private static final int DEFAULT_WEIGHT = 1;
+    private final Function<String, T> vertexParser;
+    private final int threads;
+    private final int chunkLines;
+    private ImportProgressListener progressListener;
+
+    /**
+     * Constructor uses one parser thread per available processor and chunks of 8192 lines.
+     * @param vertexParser The function converting a vertex token to a vertex.
+     */
+    public EdgeListImporter(Function<String, T> vertexParser) {
+        this(vertexParser, 0, 0);
+    }
+
+    /**
+     * Constructor sets the parallelism and chunk size. If either parameter is not positive the default is invoked.
+     * @param vertexParser The function converting a vertex token to a vertex.
+     * @param threads The number of parser threads.
+     * @param chunkLines The number of lines parsed as one unit of work.
+     */
+    public EdgeListImporter(Function<String, T> vertexParser, int threads, int chunkLines) {
+        this.vertexParser = vertexParser;
+        this.threads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.chunkLines = chunkLines > 0 ? chunkLines : DEFAULT_CHUNK_LINES;
+    }
+
+    /**
+     * setProgressListener Sets the callback receiving the statistics after each chunk is added to the Graph.
+     * @param listener The callback, or null for none.
+     */
+    public void setProgressListener(ImportProgressListener listener) {
+        progressListener = listener;
+    }
+
+    /**
+     * importFrom Streams an edge list file into a Graph.
+     * @param path The file to read.
+     * @param graph The Graph receiving the vertices and edges.
+     * @return The final statistics of the import.
+     * @throws IOException If the file cannot be read.
+     */
+    public ImportStatistics importFrom(Path path, GraphInterface<T> graph) throws IOException {
+        try(BufferedReader reader = Files.newBufferedReader(path)) {
+            return importFrom(reader, graph);
+        }
+    }
+
+    /**
+     * importFrom Streams an edge list into a Graph. The reader is not closed.
+     * @param reader The source of the edge list.
+     * @param graph The Graph receiving the vertices and edges.
+     * @return The final statistics of the import.
+     * @throws IOException If the reader fails or the import is interrupted.
+     */
+    public ImportStatistics importFrom(Reader reader, GraphInterface<T> graph) throws IOException {
+        long start = System.nanoTime();
+        BufferedReader lines = reader instanceof BufferedReader ? (BufferedReader) reader : new BufferedReader(reader);
+        BlockingQueue<CompletableFuture<ParsedChunk<T>>> pending = new ArrayBlockingQueue<>(threads * 2);
+        ExecutorService parsers = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "edge-list-parser");
+            thread.setDaemon(true);
+            return thread;
+        });
+        Thread producer = new Thread(() -> readChunks(lines, pending, parsers), "edge-list-reader");
+        producer.setDaemon(true);
+        producer.start();
+        long totalLines = 0;
+        long skippedLines = 0;
+        long verticesAdded = 0;
+        long edgesAdded = 0;
+        long edgesRejected = 0;
+        try {
+            while(true) {
+                ParsedChunk<T> chunk = pending.take().join();
+                if(chunk.last) {
+                    break;
+                }
+                for(int i = 0; i < chunk.edges; i++) {
+                    T source = chunk.sources[i];
+                    T destination = chunk.destinations[i];
+                    if(graph.addVertex(source)) {
+                        verticesAdded++;
+                    }
+                    if(graph.addVertex(destination)) {
+                        verticesAdded++;
+                    }
+                    if(graph.addEdge(source, destination, chunk.weights[i])) {
+                        edgesAdded++;
+                    } else {
+                        edgesRejected++;
+                    }
+                }
+                totalLines += chunk.lines;
+                skippedLines += chunk.skipped;
+                if(progressListener != null) {
+                    progressListener.onProgress(new ImportStatistics(totalLines, skippedLines, verticesAdded,
+                            edgesAdded, edgesRejected, System.nanoTime() - start));
+                }
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Edge list import interrupted");
+        } catch(CompletionException e) {
+            Throwable cause = e.getCause();
+            if(cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if(cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        } finally {
+            producer.interrupt();
+            parsers.shutdownNow();
+        }
+        return new ImportStatistics(totalLines, skippedLines, verticesAdded, edgesAdded, edgesRejected,
+                System.nanoTime() - start);
+    }
+
+    /**
+     * readChunks Reads the input on the reader thread, handing each full chunk of lines to the parser pool. Blocks
+     * while the maximum number of chunks is pending, and ends with a last chunk or the failure that stopped reading.
+     * @param lines The input.
+     * @param pending The parsed chunks in file order.
+     * @param parsers The parser pool.
+     */
+    private void readChunks(BufferedReader lines, BlockingQueue<CompletableFuture<ParsedChunk<T>>> pending,
+                            ExecutorService parsers) {
+        try {
+            try {
+                String[] chunk = new String[chunkLines];
+                int count = 0;
+                String line;
+                while((line = lines.readLine()) != null) {
+                    chunk[count++] = line;
+                    if(count == chunkLines) {
+                        submit(chunk, count, pending, parsers);
+                        chunk = new String[chunkLines];
+                        count = 0;
+                    }
+                }
+                if(count > 0) {
+                    submit(chunk, count, pending, parsers);
+                }
+                pending.put(CompletableFuture.completedFuture(ParsedChunk.last()));
+            } catch(IOException e) {
+                pending.put(CompletableFuture.failedFuture(new UncheckedIOException(e)));
+            }
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * submit Queues a chunk of lines for parsing, blocking while the maximum number of chunks is pending.
+     * @param chunk The lines.
+     * @param count The number of lines in the chunk.
+     * @param pending The parsed chunks in file order.
+     * @param parsers The parser pool.
+     * @throws InterruptedException If the import ended while waiting.
+     */
+    private void submit(String[] chunk, int count, BlockingQueue<CompletableFuture<ParsedChunk<T>>> pending,
+                        ExecutorService parsers) throws InterruptedException {
+        pending.put(CompletableFuture.supplyAsync(() -> parse(chunk, count), parsers));
+    }
+
+    /**
+     * parse Parses a chunk of lines on a parser thread.
+     * @param chunk The lines.
+     * @param count The number of lines in the chunk.
+     * @return The parsed edges.
+     */
+    private ParsedChunk<T> parse(String[] chunk, int count) {
+        ParsedChunk<T> parsed = new ParsedChunk<>(count);
+        int[] bounds = new int[6];
+        for(int i = 0; i < count; i++) {
+            String line = chunk[i];
+            int tokens = tokenize(line, bounds);
+            if(tokens == 0) {
+                continue;
+            }
+            if(tokens < 2) {
+                parsed.skipped++;
+                continue;
+            }
+            try {
+                T source = vertexParser.apply(line.substring(bounds[0], bounds[1]));
+                T destination = vertexParser.apply(line.substring(bounds[2], bounds[3]));
+                int weight = tokens > 2 ? Integer.parseInt(line, bounds[4], bounds[5], 10) : DEFAULT_WEIGHT;
+                if(source == null || destination == null) {
+                    parsed.skipped++;
+                    continue;
+                }
+                parsed.sources[parsed.edges] = source;
+                parsed.destinations[parsed.edges] = destination;
+                parsed.weights[parsed.edges++] = weight;
+            } catch(RuntimeException e) {
+                parsed.skipped++;
+            }
+        }
+        return parsed;
+    }
+
+    /**
+     * tokenize Finds the first three tokens of a line. Later tokens, such as SNAP timestamps, are ignored.
+     * @param line The line.
+     * @param bounds Receives the start and end of each token found.
+     * @return The number of tokens found, at most 3, or 0 for a blank or comment line.
+     */
+    private static int tokenize(String line, int[] bounds) {
+        int length = line.length();
+        int position = 0;
+        int tokens = 0;
+        while(tokens < 3) {
+            while(position < length && isDelimiter(line.charAt(position))) {
+                position++;
+            }
+            if(position == length) {
+                break;
+            }
+            if(tokens == 0 && (line.charAt(position) == '#' || line.charAt(position) == '%')) {
+                return 0;
+            }
+            bounds[tokens * 2] = position;
+            while(position < length && !isDelimiter(line.charAt(position))) {
+                position++;
+            }
+            bounds[tokens * 2 + 1] = position;
+            tokens++;
+        }
+        return tokens;
+    }
+
+    /**
+     * isDelimiter Checks if a character separates tokens.
+     * @param c The character.
+     * @return True for spaces, tabs, commas and carriage returns, false otherwise.
+     */
+    private static boolean isDelimiter(char c) {
+        return c == ' ' || c == '\t' || c == ',' || c == '\r';
+    }
+
+    /**
+     * Edges parsed from one chunk of lines, in line order.
+     * @param <T> The vertex type.
+     */
+    private static final class ParsedChunk<T> {
+        final T[] sources;
+        final T[] destinations;
+        final int[] weights;
+        final int lines;
+        final boolean last;
+        int edges = 0;
+        int skipped = 0;
+
+        ParsedChunk(int lines) {
+            this(lines, false);
+        }
+
+        @SuppressWarnings("unchecked")
+        private ParsedChunk(int lines, boolean last) {
+            this.lines = lines;
+            this.last = last;
+            sources = (T[])new Object[lines];
+            destinations = (T[])new Object[lines];
+            weights = new int[lines];
+        }
+
+        /**
+         * last Creates the empty chunk that marks the end of the input.
+         * @return The last chunk.
+         */
+        static <T> ParsedChunk<T> last() {
+            return new ParsedChunk<>(0, true);
+        }
+    }
+}
@@ -0,0 +1,9 @@
+package io;
+
+/**
+ * Callback receiving the progress of an edge list import after each chunk of lines is added to the Graph.
+ */
+@FunctionalInterface
+public interface ImportProgressListener {
+    void onProgress(ImportStatistics statistics);
+}
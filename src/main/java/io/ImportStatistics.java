@@ -0,0 +1,95 @@
+package io;
+
+/**
+ * Immutable counts of an edge list import at one moment.
+ */
+public class ImportStatistics {
+    private final long lines;
+    private final long skippedLines;
+    private final long verticesAdded;
+    private final long edgesAdded;
+    private final long edgesRejected;
+    private final long elapsedNanos;
+
+    /**
+     * Constructor sets every count.
+     * @param lines The number of lines read, including comments, blank and malformed lines.
+     * @param skippedLines The number of malformed lines that were skipped.
+     * @param verticesAdded The number of vertices added to the Graph.
+     * @param edgesAdded The number of edges added to the Graph.
+     * @param edgesRejected The number of well-formed edges the Graph refused.
+     * @param elapsedNanos The time since the import started.
+     */
+    public ImportStatistics(long lines, long skippedLines, long verticesAdded, long edgesAdded, long edgesRejected,
+                            long elapsedNanos) {
+        this.lines = lines;
+        this.skippedLines = skippedLines;
+        this.verticesAdded = verticesAdded;
+        this.edgesAdded = edgesAdded;
+        this.edgesRejected = edgesRejected;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    /**
+     * getLines Returns the number of lines read, including comments, blank and malformed lines.
+     * @return The number of lines.
+     */
+    public long getLines() {
+        return lines;
+    }
+
+    /**
+     * getSkippedLines Returns the number of malformed lines that were skipped.
+     * @return The number of skipped lines.
+     */
+    public long getSkippedLines() {
+        return skippedLines;
+    }
+
+    /**
+     * getVerticesAdded Returns the number of vertices added to the Graph.
+     * @return The number of vertices added.
+     */
+    public long getVerticesAdded() {
+        return verticesAdded;
+    }
+
+    /**
+     * getEdgesAdded Returns the number of edges added to the Graph.
+     * @return The number of edges added.
+     */
+    public long getEdgesAdded() {
+        return edgesAdded;
+    }
+
+    /**
+     * getEdgesRejected Returns the number of well-formed edges the Graph refused, such as negative weights or edges
+     * added while the Graph was full.
+     * @return The number of rejected edges.
+     */
+    public long getEdgesRejected() {
+        return edgesRejected;
+    }
+
+    /**
+     * getElapsedNanos Returns the time since the import started.
+     * @return The elapsed time in nanoseconds.
+     */
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    /**
+     * getEdgesPerSecond Returns the average number of edges added per second so far.
+     * @return The edge throughput, or 0 if no time has elapsed.
+     */
+    public double getEdgesPerSecond() {
+        return elapsedNanos == 0 ? 0 : edgesAdded * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return lines + " lines, " + edgesAdded + " edges, " + verticesAdded + " vertices, " + skippedLines +
+                " skipped, " + edgesRejected + " rejected, " + Math.round(getEdgesPerSecond()) + " edges/s";
+    }
+}
@@ -0,0 +1,148 @@
+package metrics;
+
+/**
+ * Immutable metrics of an instrumented Graph at one moment: call counts and sampled latencies per operation, resize
+ * events, and the storage figures of Graphs that report them.
+ */
+public class GraphMetrics {
+    private final long[] counts;
+    private final LatencySnapshot[] latencies;
+    private final long resizes;
+    private final long totalResizeNanos;
+    private final long maxResizeNanos;
+    private final int totalVertices;
+    private final int capacity;
+    private final double averageProbeLength;
+    private final int maxProbeLength;
+    private final long estimatedMemoryBytes;
+
+    /**
+     * Constructor sets every figure. Storage figures of a Graph that does not report them are negative.
+     * @param counts The number of calls of every operation, indexed by ordinal.
+     * @param latencies The latency samples of every operation, indexed by ordinal.
+     * @param resizes The number of resizes.
+     * @param totalResizeNanos The total time spent resizing.
+     * @param maxResizeNanos The longest resize.
+     * @param totalVertices The number of vertices.
+     * @param capacity The vertex capacity.
+     * @param averageProbeLength The mean probe length of a vertex lookup.
+     * @param maxProbeLength The longest probe length of a vertex lookup.
+     * @param estimatedMemoryBytes The estimated heap held by the Graph.
+     */
+    GraphMetrics(long[] counts, LatencySnapshot[] latencies, long resizes, long totalResizeNanos, long maxResizeNanos,
+                 int totalVertices, int capacity, double averageProbeLength, int maxProbeLength,
+                 long estimatedMemoryBytes) {
+        this.counts = counts;
+        this.latencies = latencies;
+        this.resizes = resizes;
+        this.totalResizeNanos = totalResizeNanos;
+        this.maxResizeNanos = maxResizeNanos;
+        this.totalVertices = totalVertices;
+        this.capacity = capacity;
+        this.averageProbeLength = averageProbeLength;
+        this.maxProbeLength = maxProbeLength;
+        this.estimatedMemoryBytes = estimatedMemoryBytes;
+    }
+
+    /**
+     * getOperationCount Returns the number of calls of an operation.
+     * @param operation The operation.
+     * @return The number of calls.
+     */
+    public long getOperationCount(GraphOperation operation) {
+        return counts[operation.ordinal()];
+    }
+
+    /**
+     * getTotalOperations Returns the number of calls of every operation together.
+     * @return The total number of calls.
+     */
+    public long getTotalOperations() {
+        long total = 0;
+        for(long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * getLatency Returns the sampled latencies of an operation.
+     * @param operation The operation.
+     * @return The latency samples.
+     */
+    public LatencySnapshot getLatency(GraphOperation operation) {
+        return latencies[operation.ordinal()];
+    }
+
+    /**
+     * getResizeCount Returns the number of times the Graph moved its vertex storage to a new capacity.
+     * @return The number of resizes.
+     */
+    public long getResizeCount() {
+        return resizes;
+    }
+
+    /**
+     * getTotalResizeNanos Returns the time spent resizing.
+     * @return The total resize time in nanoseconds.
+     */
+    public long getTotalResizeNanos() {
+        return totalResizeNanos;
+    }
+
+    /**
+     * getMaxResizeNanos Returns the duration of the longest resize.
+     * @return The longest resize in nanoseconds, or 0 if there was none.
+     */
+    public long getMaxResizeNanos() {
+        return maxResizeNanos;
+    }
+
+    /**
+     * getTotalVertices Returns the number of vertices in the Graph.
+     * @return The number of vertices.
+     */
+    public int getTotalVertices() {
+        return totalVertices;
+    }
+
+    /**
+     * getCapacity Returns the number of vertices the Graph holds before its next resize.
+     * @return The vertex capacity, or a negative number if the Graph does not report it.
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * getOccupancy Returns the share of the vertex capacity in use.
+     * @return The number of vertices divided by the capacity, or a negative number if the Graph does not report it.
+     */
+    public double getOccupancy() {
+        return capacity <= 0 ? -1 : (double) totalVertices / capacity;
+    }
+
+    /**
+     * getAverageProbeLength Returns the mean number of buckets a vertex lookup inspects in the Graph's vertex index.
+     * @return The average probe length, or a negative number if the Graph does not report it.
+     */
+    public double getAverageProbeLength() {
+        return averageProbeLength;
+    }
+
+    /**
+     * getMaxProbeLength Returns the largest number of buckets a vertex lookup inspects in the Graph's vertex index.
+     * @return The longest probe length, or a negative number if the Graph does not report it.
+     */
+    public int getMaxProbeLength() {
+        return maxProbeLength;
+    }
+
+    /**
+     * getEstimatedMemoryBytes Returns the estimated heap held by the Graph, excluding the vertices themselves.
+     * @return The estimated size in bytes, or a negative number if the Graph does not report it.
+     */
+    public long getEstimatedMemoryBytes() {
+        return estimatedMemoryBytes;
+    }
+}
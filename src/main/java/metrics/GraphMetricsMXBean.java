@@ -0,0 +1,25 @@
+package metrics;
+
+import java.util.Map;
+
+/**
+ * Management interface of an instrumented Graph. Latency maps are keyed by operation name and hold the bucket upper
+ * bound in nanoseconds. Every attribute is read fresh from the counters behind it; only the capacity, probe length and
+ * memory attributes look at the Graph's storage.
+ */
+public interface GraphMetricsMXBean {
+    long getTotalOperations();
+    Map<String, Long> getOperationCounts();
+    Map<String, Long> getMedianLatencyNanos();
+    Map<String, Long> getP99LatencyNanos();
+    Map<String, Long> getMaxLatencyNanos();
+    long getResizeCount();
+    long getTotalResizeNanos();
+    long getMaxResizeNanos();
+    int getTotalVertices();
+    int getCapacity();
+    double getAverageProbeLength();
+    int getMaxProbeLength();
+    long getEstimatedMemoryBytes();
+    void reset();
+}
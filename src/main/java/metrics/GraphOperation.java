@@ -0,0 +1,25 @@
+package metrics;
+
+/**
+ * Graph methods counted and timed by an InstrumentedGraph. Constant-time field reads such as getTotalVertices,
+ * isEmpty, isFull and getVersion are passed through without being counted.
+ */
+public enum GraphOperation {
+    ADD_VERTEX,
+    ADD_VERTICES,
+    REMOVE_VERTEX,
+    HAS_VERTEX,
+    ADD_EDGE,
+    ADD_EDGES,
+    REMOVE_EDGE,
+    GET_EDGE,
+    CONTAINS_EDGE,
+    GET_ADJACENT_VERTICES,
+    FOR_EACH_NEIGHBOR,
+    MARK_VERTEX,
+    IS_MARKED,
+    CLEAR_ALL_MARKS,
+    GET_AN_UNMARKED_VERTEX,
+    NEW_TRAVERSAL,
+    FREEZE
+}
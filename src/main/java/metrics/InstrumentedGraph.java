@@ -0,0 +1,481 @@
+package metrics;
+
+import graphs.CompressedSparseRowGraph;
+import graphs.Edge;
+import graphs.GraphInterface;
+import graphs.NeighborConsumer;
+import graphs.StorageStatistics;
+import graphs.TraversalContext;
+import java.lang.management.ManagementFactory;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.ObjectName;
+import javax.management.StandardMBean;
+
+/**
+ * Decorator counting every call of a Graph's operations and timing a sample of them. Counts are exact, while only
+ * about one call in every sample interval reads the clock, so the latency histograms cost little even on lookups
+ * that take nanoseconds. Graphs that implement StorageStatistics also report their resizes, vertex index probe
+ * lengths, capacity and estimated memory. Metrics are pulled with snapshot or through a JMX MBean.
+ *
+ * Instrumentation is opt-in: a Graph that is not wrapped runs exactly as before, and the only hook left in it is a
+ * null check on its resize listener. Counters are concurrent, so wrapping a Graph that supports concurrent use keeps
+ * it safe to share. Traversal contexts from newTraversal are handed out by the wrapped Graph and are not counted.
+ * @param <T> The vertex type.
+ */
+public class InstrumentedGraph<T> implements GraphInterface<T> {
+    private static final int DEFAULT_SAMPLE_INTERVAL = 64;
+    private static final long NOT_SAMPLED = Long.MIN_VALUE;
+    private static final GraphOperation[] OPERATIONS = GraphOperation.values();
+    private final GraphInterface<T> graph;
+    private final StorageStatistics storage;
+    private final int sampleMask;
+    private final LongAdder[] counts = new LongAdder[OPERATIONS.length];
+    private final LatencyHistogram[] latencies = new LatencyHistogram[OPERATIONS.length];
+    private final LongAdder resizes = new LongAdder();
+    private final LongAdder totalResizeNanos = new LongAdder();
+    private final LongAccumulator maxResizeNanos = new LongAccumulator(Math::max, 0);
+    private ObjectName registeredName;
+
+    /**
+     * Constructor instruments a Graph, timing about one call in 64.
+     * @param graph The Graph to instrument.
+     */
+    public InstrumentedGraph(GraphInterface<T> graph) {
+        this(graph, DEFAULT_SAMPLE_INTERVAL);
+    }
+
+    /**
+     * Constructor instruments a Graph, timing about one call in a user-defined interval rounded up to a power of two.
+     * If the parameter is not positive the default interval of 64 is invoked.
+     * @param graph The Graph to instrument.
+     * @param sampleInterval The number of calls per timed call, 1 to time every call.
+     */
+    public InstrumentedGraph(GraphInterface<T> graph, int sampleInterval) {
+        this.graph = graph;
+        int interval = sampleInterval > 0 ? sampleInterval : DEFAULT_SAMPLE_INTERVAL;
+        sampleMask = interval == 1 ? 0 : Integer.highestOneBit(interval - 1) * 2 - 1;
+        for(int i = 0; i < OPERATIONS.length; i++) {
+            counts[i] = new LongAdder();
+            latencies[i] = new LatencyHistogram();
+        }
+        storage = graph instanceof StorageStatistics ? (StorageStatistics) graph : null;
+        if(storage != null) {
+            storage.setResizeListener((oldCapacity, newCapacity, nanos) -> {
+                resizes.increment();
+                totalResizeNanos.add(nanos);
+                maxResizeNanos.accumulate(nanos);
+            });
+        }
+    }
+
+    /**
+     * getGraph Returns the instrumented Graph. Calls made on it directly are not counted.
+     * @return The wrapped Graph.
+     */
+    public GraphInterface<T> getGraph() {
+        return graph;
+    }
+
+    /**
+     * addVertex Adds a vertex to the wrapped Graph.
+     * @param vertex The vertex to add.
+     * @return True if the vertex is added, false otherwise.
+     */
+    public boolean addVertex(T vertex) {
+        long start = start();
+        boolean added = graph.addVertex(vertex);
+        finish(GraphOperation.ADD_VERTEX, start);
+        return added;
+    }
+
+    /**
+     * addVertices Adds a batch of vertices to the wrapped Graph as one counted call.
+     * @param vertices The vertices to add.
+     * @return The number of vertices added.
+     */
+    public int addVertices(Collection<? extends T> vertices) {
+        long start = start();
+        int added = graph.addVertices(vertices);
+        finish(GraphOperation.ADD_VERTICES, start);
+        return added;
+    }
+
+    /**
+     * removeVertex Removes a vertex from the wrapped Graph.
+     * @param vertex The vertex to remove.
+     * @return True if the vertex is removed, false otherwise.
+     */
+    public boolean removeVertex(T vertex) {
+        long start = start();
+        boolean removed = graph.removeVertex(vertex);
+        finish(GraphOperation.REMOVE_VERTEX, start);
+        return removed;
+    }
+
+    /**
+     * hasVertex Checks if a vertex is present in the wrapped Graph.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is present, false otherwise.
+     */
+    public boolean hasVertex(T vertex) {
+        long start = start();
+        boolean found = graph.hasVertex(vertex);
+        finish(GraphOperation.HAS_VERTEX, start);
+        return found;
+    }
+
+    /**
+     * getTotalVertices Returns the total number of vertices of the wrapped Graph without counting the call.
+     * @return The total number of vertices.
+     */
+    public int getTotalVertices() {
+        return graph.getTotalVertices();
+    }
+
+    /**
+     * addEdge Adds a weighted edge to the wrapped Graph.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @param weight The weight of the edge.
+     * @return True if edge is added successfully, false otherwise.
+     */
+    public boolean addEdge(T source, T destination, int weight) {
+        long start = start();
+        boolean added = graph.addEdge(source, destination, weight);
+        finish(GraphOperation.ADD_EDGE, start);
+        return added;
+    }
+
+    /**
+     * addEdges Adds a batch of edges to the wrapped Graph as one counted call.
+     * @param edges The edges to add.
+     * @return The number of edges added.
+     */
+    public int addEdges(Collection<? extends Edge<? extends T>> edges) {
+        long start = start();
+        int added = graph.addEdges(edges);
+        finish(GraphOperation.ADD_EDGES, start);
+        return added;
+    }
+
+    /**
+     * removeEdge Removes an edge from the wrapped Graph.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if the edge is removed, false if the edge was not found.
+     */
+    public boolean removeEdge(T source, T destination) {
+        long start = start();
+        boolean removed = graph.removeEdge(source, destination);
+        finish(GraphOperation.REMOVE_EDGE, start);
+        return removed;
+    }
+
+    /**
+     * getEdge Returns the weight of an edge of the wrapped Graph.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return the weight of the edge if found, a negative weight if there was no edge.
+     */
+    public int getEdge(T source, T destination) {
+        long start = start();
+        int weight = graph.getEdge(source, destination);
+        finish(GraphOperation.GET_EDGE, start);
+        return weight;
+    }
+
+    /**
+     * containsEdge Checks if an edge exists in the wrapped Graph.
+     * @param source The source vertex.
+     * @param destination The destination vertex.
+     * @return True if an edge exists, false otherwise.
+     */
+    public boolean containsEdge(T source, T destination) {
+        long start = start();
+        boolean found = graph.containsEdge(source, destination);
+        finish(GraphOperation.CONTAINS_EDGE, start);
+        return found;
+    }
+
+    /**
+     * isEmpty Checks if the wrapped Graph is empty without counting the call.
+     * @return True if the Graph is empty, false otherwise.
+     */
+    public boolean isEmpty() {
+        return graph.isEmpty();
+    }
+
+    /**
+     * isFull Checks if the wrapped Graph is full without counting the call.
+     * @return True if the Graph is full, false otherwise.
+     */
+    public boolean isFull() {
+        return graph.isFull();
+    }
+
+    /**
+     * getAdjacentVertices Creates a Queue of all vertices that are adjacent to a particular vertex of the wrapped
+     * Graph.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @return A Queue of adjacent vertices.
+     */
+    public Queue<T> getAdjacentVertices(T vertex) {
+        long start = start();
+        Queue<T> adjacent = graph.getAdjacentVertices(vertex);
+        finish(GraphOperation.GET_ADJACENT_VERTICES, start);
+        return adjacent;
+    }
+
+    /**
+     * forEachNeighbor Passes every neighbor of a vertex of the wrapped Graph to a consumer, timing the whole
+     * enumeration as one call.
+     * @param vertex The vertex where all of its adjacent vertices are desired.
+     * @param consumer The consumer receiving each neighbor and edge weight.
+     */
+    public void forEachNeighbor(T vertex, NeighborConsumer<T> consumer) {
+        long start = start();
+        graph.forEachNeighbor(vertex, consumer);
+        finish(GraphOperation.FOR_EACH_NEIGHBOR, start);
+    }
+
+    /**
+     * markVertex Marks a vertex as seen in the wrapped Graph's default traversal context.
+     * @param vertex The vertex to mark.
+     */
+    public void markVertex(T vertex) {
+        long start = start();
+        graph.markVertex(vertex);
+        finish(GraphOperation.MARK_VERTEX, start);
+    }
+
+    /**
+     * isMarked Checks if a vertex is marked in the wrapped Graph's default traversal context.
+     * @param vertex The vertex to check.
+     * @return True if the vertex is marked, false otherwise.
+     */
+    public boolean isMarked(T vertex) {
+        long start = start();
+        boolean marked = graph.isMarked(vertex);
+        finish(GraphOperation.IS_MARKED, start);
+        return marked;
+    }
+
+    /**
+     * clearAllMarks Clears every mark of the wrapped Graph's default traversal context.
+     */
+    public void clearAllMarks() {
+        long start = start();
+        graph.clearAllMarks();
+        finish(GraphOperation.CLEAR_ALL_MARKS, start);
+    }
+
+    /**
+     * getAnUnmarkedVertex Returns a vertex that is not marked in the wrapped Graph's default traversal context.
+     * @return A vertex that is not marked.
+     */
+    public T getAnUnmarkedVertex() {
+        long start = start();
+        T vertex = graph.getAnUnmarkedVertex();
+        finish(GraphOperation.GET_AN_UNMARKED_VERTEX, start);
+        return vertex;
+    }
+
+    /**
+     * newTraversal Creates a traversal context of the wrapped Graph. Calls made on the context are not counted.
+     * @return A traversal context with no vertex marked.
+     */
+    public TraversalContext<T> newTraversal() {
+        long start = start();
+        TraversalContext<T> traversal = graph.newTraversal();
+        finish(GraphOperation.NEW_TRAVERSAL, start);
+        return traversal;
+    }
+
+    /**
+     * getVersion Returns the mutation version of the wrapped Graph without counting the call.
+     * @return The mutation version.
+     */
+    public long getVersion() {
+        return graph.getVersion();
+    }
+
+    /**
+     * freeze Compiles the wrapped Graph into an immutable compressed sparse row snapshot.
+     * @return The snapshot of the Graph.
+     */
+    public CompressedSparseRowGraph<T> freeze() {
+        long start = start();
+        CompressedSparseRowGraph<T> snapshot = graph.freeze();
+        finish(GraphOperation.FREEZE, start);
+        return snapshot;
+    }
+
+    /**
+     * snapshot Collects the current metrics. Storage figures are computed from the wrapped Graph on the calling
+     * thread, which walks its vertex index, so the Graph must not be modified concurrently unless it supports
+     * concurrent use.
+     * @return The metrics at this moment.
+     */
+    public GraphMetrics snapshot() {
+        long[] countCopy = new long[OPERATIONS.length];
+        LatencySnapshot[] latencyCopy = new LatencySnapshot[OPERATIONS.length];
+        for(int i = 0; i < OPERATIONS.length; i++) {
+            countCopy[i] = counts[i].sum();
+            latencyCopy[i] = latencies[i].snapshot();
+        }
+        int capacity = storage == null ? -1 : storage.getCapacity();
+        double averageProbeLength = storage == null ? -1 : storage.getAverageProbeLength();
+        int maxProbeLength = storage == null ? -1 : storage.getMaxProbeLength();
+        long memory = storage == null ? -1 : storage.estimateMemoryBytes();
+        return new GraphMetrics(countCopy, latencyCopy, resizes.sum(), totalResizeNanos.sum(), maxResizeNanos.get(),
+                graph.getTotalVertices(), capacity, averageProbeLength, maxProbeLength, memory);
+    }
+
+    /**
+     * reset Drops every count, latency sample and resize event. Storage figures are unaffected.
+     */
+    public void reset() {
+        for(int i = 0; i < OPERATIONS.length; i++) {
+            counts[i].reset();
+            latencies[i].reset();
+        }
+        resizes.reset();
+        totalResizeNanos.reset();
+        maxResizeNanos.reset();
+    }
+
+    /**
+     * registerMBean Publishes the metrics on the platform MBean server under graphs:type=GraphMetrics with a
+     * user-defined name, replacing any earlier registration of this Graph.
+     * @param name The name distinguishing this Graph from other instrumented Graphs.
+     * @return The object name the MBean is registered under.
+     * @throws JMException If the name is malformed or already taken by another MBean.
+     */
+    public synchronized ObjectName registerMBean(String name) throws JMException {
+        unregisterMBean();
+        ObjectName objectName = new ObjectName("graphs:type=GraphMetrics,name=" + ObjectName.quote(name));
+        ManagementFactory.getPlatformMBeanServer().registerMBean(
+                new StandardMBean(new MetricsBean(), GraphMetricsMXBean.class, true), objectName);
+        registeredName = objectName;
+        return objectName;
+    }
+
+    /**
+     * unregisterMBean Removes the MBean published by registerMBean, if any.
+     * @throws JMException If the MBean server rejects the removal.
+     */
+    public synchronized void unregisterMBean() throws JMException {
+        if(registeredName == null) {
+            return;
+        }
+        if(ManagementFactory.getPlatformMBeanServer().isRegistered(registeredName)) {
+            ManagementFactory.getPlatformMBeanServer().unregisterMBean(registeredName);
+        }
+        registeredName = null;
+    }
+
+    /**
+     * start Reads the clock if this call is sampled.
+     * @return The start time in nanoseconds, or NOT_SAMPLED if the call is not timed.
+     */
+    private long start() {
+        return (ThreadLocalRandom.current().nextInt() & sampleMask) == 0 ? System.nanoTime() : NOT_SAMPLED;
+    }
+
+    /**
+     * finish Counts a call and records its latency if it was sampled.
+     * @param operation The operation called.
+     * @param start The start time returned by start.
+     */
+    private void finish(GraphOperation operation, long start) {
+        counts[operation.ordinal()].increment();
+        if(start != NOT_SAMPLED) {
+            latencies[operation.ordinal()].record(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * MBean view of the metrics. Each attribute reads only the counters behind it, so reading a count never walks the
+     * Graph's storage; only the storage attributes do, each on its own read.
+     */
+    private class MetricsBean implements GraphMetricsMXBean {
+        public long getTotalOperations() {
+            long total = 0;
+            for(LongAdder count : counts) {
+                total += count.sum();
+            }
+            return total;
+        }
+
+        public Map<String, Long> getOperationCounts() {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for(int i = 0; i < OPERATIONS.length; i++) {
+                map.put(OPERATIONS[i].name(), counts[i].sum());
+            }
+            return map;
+        }
+
+        public Map<String, Long> getMedianLatencyNanos() {
+            return percentiles(50);
+        }
+
+        public Map<String, Long> getP99LatencyNanos() {
+            return percentiles(99);
+        }
+
+        public Map<String, Long> getMaxLatencyNanos() {
+            return percentiles(100);
+        }
+
+        public long getResizeCount() {
+            return resizes.sum();
+        }
+
+        public long getTotalResizeNanos() {
+            return totalResizeNanos.sum();
+        }
+
+        public long getMaxResizeNanos() {
+            return maxResizeNanos.get();
+        }
+
+        public int getTotalVertices() {
+            return graph.getTotalVertices();
+        }
+
+        public int getCapacity() {
+            return storage == null ? -1 : storage.getCapacity();
+        }
+
+        public double getAverageProbeLength() {
+            return storage == null ? -1 : storage.getAverageProbeLength();
+        }
+
+        public int getMaxProbeLength() {
+            return storage == null ? -1 : storage.getMaxProbeLength();
+        }
+
+        public long getEstimatedMemoryBytes() {
+            return storage == null ? -1 : storage.estimateMemoryBytes();
+        }
+
+        public void reset() {
+            InstrumentedGraph.this.reset();
+        }
+
+        private Map<String, Long> percentiles(double percentile) {
+            Map<String, Long> map = new LinkedHashMap<>();
+            for(int i = 0; i < OPERATIONS.length; i++) {
+                map.put(OPERATIONS[i].name(), latencies[i].snapshot().getPercentileNanos(percentile));
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Concurrent histogram of latencies in nanoseconds. Every power of two is split into four equal buckets, so a
+ * reported percentile is at most a quarter above the true value, and recording a sample is one atomic increment
+ * whatever the range of latencies.
+ */
+final class LatencyHistogram {
+    static final int BUCKETS = 248;
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder total = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * record Adds a latency sample. Negative samples, from a clock stepping backwards, are recorded as zero.
+     * @param nanos The latency in nanoseconds.
+     */
+    void record(long nanos) {
+        long latency = Math.max(nanos, 0);
+        counts.incrementAndGet(bucketOf(latency));
+        total.add(latency);
+        max.accumulate(latency);
+    }
+
+    /**
+     * snapshot Copies the samples recorded so far. Samples recorded while copying may be partly included.
+     * @return The copy of the histogram.
+     */
+    LatencySnapshot snapshot() {
+        long[] copy = new long[BUCKETS];
+        for(int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+        }
+        return new LatencySnapshot(copy, total.sum(), max.get());
+    }
+
+    /**
+     * reset Drops every sample.
+     */
+    void reset() {
+        for(int i = 0; i < BUCKETS; i++) {
+            counts.set(i, 0);
+        }
+        total.reset();
+        max.reset();
+    }
+
+    /**
+     * bucketOf Returns the bucket holding a latency.
+     * @param nanos The non-negative latency in nanoseconds.
+     * @return The bucket index.
+     */
+    static int bucketOf(long nanos) {
+        if(nanos < 4) {
+            return (int) nanos;
+        }
+        int exponent = 63 - Long.numberOfLeadingZeros(nanos);
+        return (exponent - 1) * 4 + (int) ((nanos >>> (exponent - 2)) & 3);
+    }
+
+    /**
+     * upperBound Returns the largest latency a bucket holds.
+     * @param bucket The bucket index.
+     * @return The inclusive upper bound in nanoseconds.
+     */
+    static long upperBound(int bucket) {
+        if(bucket < 4) {
+            return bucket;
+        }
+        int exponent = bucket / 4 + 1;
+        return ((4L + bucket % 4 + 1) << (exponent - 2)) - 1;
+    }
+}
@@ -0,0 +1,74 @@
+package metrics;
+
+/**
+ * Immutable copy of the latency samples of one Graph operation.
+ */
+public class LatencySnapshot {
+    private final long[] counts;
+    private final long samples;
+    private final long totalNanos;
+    private final long maxNanos;
+
+    /**
+     * Constructor keeps the bucket counts of a histogram.
+     * @param counts The number of samples in every bucket.
+     * @param totalNanos The sum of every sample.
+     * @param maxNanos The largest sample.
+     */
+    LatencySnapshot(long[] counts, long totalNanos, long maxNanos) {
+        long samples = 0;
+        for(long count : counts) {
+            samples += count;
+        }
+        this.counts = counts;
+        this.samples = samples;
+        this.totalNanos = totalNanos;
+        this.maxNanos = maxNanos;
+    }
+
+    /**
+     * getSampleCount Returns the number of timed calls.
+     * @return The number of samples.
+     */
+    public long getSampleCount() {
+        return samples;
+    }
+
+    /**
+     * getMeanNanos Returns the mean latency of the timed calls.
+     * @return The mean latency in nanoseconds, or 0 if no call was timed.
+     */
+    public double getMeanNanos() {
+        return samples == 0 ? 0 : (double) totalNanos / samples;
+    }
+
+    /**
+     * getMaxNanos Returns the largest latency of the timed calls.
+     * @return The largest latency in nanoseconds, or 0 if no call was timed.
+     */
+    public long getMaxNanos() {
+        return maxNanos;
+    }
+
+    /**
+     * getPercentileNanos Returns the latency that a share of the timed calls did not exceed, rounded up to the upper
+     * bound of its histogram bucket. If the parameter is outside 0 to 100 it is clamped to that range.
+     * @param percentile The share of calls, from 0 to 100.
+     * @return The latency in nanoseconds, or 0 if no call was timed.
+     */
+    public long getPercentileNanos(double percentile) {
+        if(samples == 0) {
+            return 0;
+        }
+        double share = Math.min(Math.max(percentile, 0), 100) / 100;
+        long rank = Math.max(1, (long) Math.ceil(share * samples));
+        long seen = 0;
+        for(int i = 0; i < counts.length; i++) {
+            seen += counts[i];
+            if(seen >= rank) {
+                return Math.min(LatencyHistogram.upperBound(i), maxNanos);
+            }
+        }
+        return maxNanos;
+    }
+}
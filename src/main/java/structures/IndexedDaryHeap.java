@@ -0,0 +1,191 @@
+package structures;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Indexed d-ary min-heap of int ids ordered by long keys. Every id is held at most once and the heap remembers where
+ * each id sits, so a key can be decreased in place instead of inserting a duplicate entry.
+ */
+public class IndexedDaryHeap {
+    private static final int ABSENT = -1;
+    private final int arity;
+    private int[] heap;
+    private int[] positions;
+    private long[] keys;
+    private int size = 0;
+
+    /**
+     * Constructor initializes a 4-ary heap for ids below 25. Larger ids grow the heap on demand.
+     */
+    public IndexedDaryHeap() {
+        this(4, 25);
+    }
+
+    /**
+     * Constructor initializes a heap with a user-defined arity for ids below a user-defined bound. Larger ids grow
+     * the heap on demand.
+     * @param arity The number of children of each heap node, at least 2.
+     * @param capacity The expected exclusive upper bound of ids.
+     */
+    public IndexedDaryHeap(int arity, int capacity) {
+        if(arity < 2) {
+            throw new IllegalArgumentException("Heap arity must be at least 2: " + arity);
+        }
+        this.arity = arity;
+        int cap = Math.max(capacity, 1);
+        heap = new int[cap];
+        positions = new int[cap];
+        keys = new long[cap];
+        Arrays.fill(positions, ABSENT);
+    }
+
+    /**
+     * isEmpty Checks if the heap is empty.
+     * @return True if the heap holds no ids, false otherwise.
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * size Returns the number of ids in the heap.
+     * @return The number of ids in the heap.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * contains Checks if an id is in the heap.
+     * @param id The id to check.
+     * @return True if the id is in the heap, false otherwise.
+     */
+    public boolean contains(int id) {
+        return id < positions.length && positions[id] != ABSENT;
+    }
+
+    /**
+     * getKey Returns the key of an id in the heap.
+     * @param id The id to check.
+     * @return The key of the id.
+     */
+    public long getKey(int id) {
+        if(!contains(id)) {
+            throw new NoSuchElementException("Id is not in the heap: " + id);
+        }
+        return keys[id];
+    }
+
+    /**
+     * insertOrDecrease Inserts an id with a key, or lowers the key of an id already in the heap.
+     * @param id The non-negative id.
+     * @param key The key of the id.
+     * @return True if the id was inserted or its key lowered, false if its key was already at most the new key.
+     */
+    public boolean insertOrDecrease(int id, long key) {
+        if(contains(id)) {
+            if(keys[id] <= key) {
+                return false;
+            }
+            keys[id] = key;
+            siftUp(positions[id]);
+            return true;
+        }
+        ensureId(id);
+        keys[id] = key;
+        heap[size] = id;
+        positions[id] = size;
+        siftUp(size++);
+        return true;
+    }
+
+    /**
+     * peekMin Returns the id with the smallest key without removing it.
+     * @return The id with the smallest key.
+     */
+    public int peekMin() {
+        if(size == 0) {
+            throw new NoSuchElementException("Heap is empty");
+        }
+        return heap[0];
+    }
+
+    /**
+     * pollMin Removes and returns the id with the smallest key.
+     * @return The id with the smallest key.
+     */
+    public int pollMin() {
+        int min = peekMin();
+        positions[min] = ABSENT;
+        if(--size > 0) {
+            heap[0] = heap[size];
+            positions[heap[0]] = 0;
+            siftDown(0);
+        }
+        return min;
+    }
+
+    /**
+     * clear Removes every id from the heap.
+     */
+    public void clear() {
+        for(int i = 0; i < size; i++) {
+            positions[heap[i]] = ABSENT;
+        }
+        size = 0;
+    }
+
+    private void siftUp(int position) {
+        int id = heap[position];
+        long key = keys[id];
+        while(position > 0) {
+            int parent = (position - 1) / arity;
+            if(keys[heap[parent]] <= key) {
+                break;
+            }
+            heap[position] = heap[parent];
+            positions[heap[position]] = position;
+            position = parent;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    private void siftDown(int position) {
+        int id = heap[position];
+        long key = keys[id];
+        while(true) {
+            int first = position * arity + 1;
+            if(first >= size) {
+                break;
+            }
+            int best = first;
+            int last = Math.min(first + arity, size);
+            for(int child = first + 1; child < last; child++) {
+                if(keys[heap[child]] < keys[heap[best]]) {
+                    best = child;
+                }
+            }
+            if(keys[heap[best]] >= key) {
+                break;
+            }
+            heap[position] = heap[best];
+            positions[heap[position]] = position;
+            position = best;
+        }
+        heap[position] = id;
+        positions[id] = position;
+    }
+
+    private void ensureId(int id) {
+        if(id >= positions.length) {
+            int grown = Math.max(id + 1, positions.length * 2);
+            int oldLength = positions.length;
+            heap = Arrays.copyOf(heap, grown);
+            positions = Arrays.copyOf(positions, grown);
+            keys = Arrays.copyOf(keys, grown);
+            Arrays.fill(positions, oldLength, grown, ABSENT);
+        }
+    }
+}
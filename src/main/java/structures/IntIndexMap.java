@@ -0,0 +1,173 @@
+package structures;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from a primitive int vertex to its slot, so int-keyed Graphs never box their vertices.
+ * Uses linear probing and backward-shift deletion.
+ */
+public class IntIndexMap {
+    private static final int EMPTY = -1;
+    private static final double LOAD_THRESHOLD = .5;
+    private int[] keys;
+    private int[] slots;
+    private int mask;
+    private int size = 0;
+
+    /**
+     * Constructor initializes the table to hold the default of 25 vertices.
+     */
+    public IntIndexMap() {
+        this(25);
+    }
+
+    /**
+     * Constructor initializes the table to hold a user-defined number of vertices without rehashing.
+     * @param expected The expected number of vertices.
+     */
+    public IntIndexMap(int expected) {
+        allocate(tableSizeFor(expected));
+    }
+
+    /**
+     * get Returns the slot mapped to a vertex.
+     * @param vertex The vertex to search for.
+     * @return The slot of the vertex, or a negative number if the vertex is not indexed.
+     */
+    public int get(int vertex) {
+        int i = hash(vertex) & mask;
+        while(slots[i] != EMPTY) {
+            if(keys[i] == vertex) {
+                return slots[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * containsKey Checks if a vertex is indexed.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is indexed, false otherwise.
+     */
+    public boolean containsKey(int vertex) {
+        return get(vertex) >= 0;
+    }
+
+    /**
+     * put Maps a vertex to a slot, replacing any previous mapping.
+     * @param vertex The vertex to index.
+     * @param slot The non-negative slot of the vertex.
+     */
+    public void put(int vertex, int slot) {
+        int i = hash(vertex) & mask;
+        while(slots[i] != EMPTY) {
+            if(keys[i] == vertex) {
+                slots[i] = slot;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = vertex;
+        slots[i] = slot;
+        if(++size > keys.length * LOAD_THRESHOLD) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * remove Removes the mapping of a vertex if present.
+     * @param vertex The vertex to remove.
+     * @return The slot the vertex was mapped to, or a negative number if the vertex was not indexed.
+     */
+    public int remove(int vertex) {
+        int i = hash(vertex) & mask;
+        while(slots[i] != EMPTY) {
+            if(keys[i] == vertex) {
+                int slot = slots[i];
+                shiftBack(i);
+                size--;
+                return slot;
+            }
+            i = (i + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * size Returns the number of indexed vertices.
+     * @return The number of indexed vertices.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * ensureCapacity Grows the table so that a number of vertices can be indexed without rehashing.
+     * @param expected The expected number of vertices.
+     */
+    public void ensureCapacity(int expected) {
+        int tableSize = tableSizeFor(expected);
+        if(tableSize > keys.length) {
+            rehash(tableSize);
+        }
+    }
+
+    /**
+     * shiftBack Closes the gap left at a vacated bucket by moving later entries of the same probe run backwards.
+     * @param gap The bucket that was vacated.
+     */
+    private void shiftBack(int gap) {
+        int i = gap;
+        while(true) {
+            i = (i + 1) & mask;
+            if(slots[i] == EMPTY) {
+                break;
+            }
+            int home = hash(keys[i]) & mask;
+            if(((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                slots[gap] = slots[i];
+                gap = i;
+            }
+        }
+        slots[gap] = EMPTY;
+    }
+
+    /**
+     * rehash Moves every mapping into a table of a new size.
+     * @param tableSize The new power of two table size.
+     */
+    private void rehash(int tableSize) {
+        int[] oldKeys = keys;
+        int[] oldSlots = slots;
+        allocate(tableSize);
+        for(int j = 0; j < oldKeys.length; j++) {
+            if(oldSlots[j] != EMPTY) {
+                int i = hash(oldKeys[j]) & mask;
+                while(slots[i] != EMPTY) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                slots[i] = oldSlots[j];
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new int[tableSize];
+        slots = new int[tableSize];
+        Arrays.fill(slots, EMPTY);
+        mask = tableSize - 1;
+    }
+
+    private static int tableSizeFor(int expected) {
+        int needed = (int) Math.min(1 << 30, Math.max(4L, (long) (Math.max(expected, 1) / LOAD_THRESHOLD) + 1));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static int hash(int key) {
+        int h = key * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
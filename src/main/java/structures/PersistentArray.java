@@ -0,0 +1,90 @@
+package structures;
+
+/**
+ * Immutable array of unbounded length in which every unset index holds null. Elements sit in the leaves of a tree
+ * with 32 children per node, and set copies only the nodes on the path to the changed leaf, so a new version costs
+ * a few hundred bytes and shares everything else with the version it was made from. Any number of threads may read
+ * any version while another version is being built.
+ * @param <E> The element type.
+ */
+public final class PersistentArray<E> {
+    private static final int BITS = 5;
+    private static final int WIDTH = 1 << BITS;
+    private static final int MASK = WIDTH - 1;
+    private static final PersistentArray<?> EMPTY = new PersistentArray<>(new Object[WIDTH], 0);
+    private final Object[] root;
+    private final int shift;
+
+    private PersistentArray(Object[] root, int shift) {
+        this.root = root;
+        this.shift = shift;
+    }
+
+    /**
+     * empty Returns the array in which every index holds null.
+     * @param <E> The element type.
+     * @return The empty array.
+     */
+    public static <E> PersistentArray<E> empty() {
+        return (PersistentArray<E>) EMPTY;
+    }
+
+    /**
+     * get Returns the element at an index.
+     * @param index The non-negative index.
+     * @return The element, or null if the index was never set.
+     */
+    public E get(int index) {
+        if(index < 0 || (shift < 30 && index >>> (shift + BITS) != 0)) {
+            return null;
+        }
+        Object[] node = root;
+        for(int level = shift; level > 0; level -= BITS) {
+            node = (Object[]) node[(index >>> level) & MASK];
+            if(node == null) {
+                return null;
+            }
+        }
+        return (E) node[index & MASK];
+    }
+
+    /**
+     * set Returns a version of the array with one element replaced, leaving this version unchanged.
+     * @param index The non-negative index.
+     * @param element The new element, or null to clear the index.
+     * @return The new version.
+     */
+    public PersistentArray<E> set(int index, E element) {
+        if(index < 0) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        Object[] grownRoot = root;
+        int grownShift = shift;
+        while(grownShift < 30 && index >>> (grownShift + BITS) != 0) {
+            Object[] parent = new Object[WIDTH];
+            parent[0] = grownRoot;
+            grownRoot = parent;
+            grownShift += BITS;
+        }
+        return new PersistentArray<>(setIn(grownRoot, grownShift, index, element), grownShift);
+    }
+
+    /**
+     * setIn Copies one node on the path to an index and recurses into its child.
+     * @param node The node to copy, or null if the subtree is empty.
+     * @param level The shift of the node's level.
+     * @param index The index to set.
+     * @param element The new element.
+     * @return The copied node.
+     */
+    private static Object[] setIn(Object[] node, int level, int index, Object element) {
+        Object[] copy = node == null ? new Object[WIDTH] : node.clone();
+        if(level == 0) {
+            copy[index & MASK] = element;
+        } else {
+            int child = (index >>> level) & MASK;
+            copy[child] = setIn((Object[]) copy[child], level - BITS, index, element);
+        }
+        return copy;
+    }
+}
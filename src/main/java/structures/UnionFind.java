@@ -0,0 +1,120 @@
+package structures;
+
+import java.util.Arrays;
+
+/**
+ * Disjoint sets over the elements 0 to size - 1. Finding a root halves the path it walks and union hangs the smaller
+ * set under the larger one, so any sequence of operations runs in near-constant amortized time per operation.
+ */
+public class UnionFind {
+    private int[] parents;
+    private int[] sizes;
+    private int totalSets;
+
+    /**
+     * Constructor places every element in a set of its own. If the parameter is negative no elements are created.
+     * @param size The number of elements.
+     */
+    public UnionFind(int size) {
+        int elements = Math.max(size, 0);
+        parents = new int[elements];
+        sizes = new int[elements];
+        for(int i = 0; i < elements; i++) {
+            parents[i] = i;
+        }
+        Arrays.fill(sizes, 1);
+        totalSets = elements;
+    }
+
+    /**
+     * find Returns the root of the set holding an element, pointing every other element on the way at its
+     * grandparent.
+     * @param element The element.
+     * @return The root of the element's set.
+     */
+    public int find(int element) {
+        int current = element;
+        while(parents[current] != current) {
+            parents[current] = parents[parents[current]];
+            current = parents[current];
+        }
+        return current;
+    }
+
+    /**
+     * union Merges the sets holding two elements.
+     * @param first The first element.
+     * @param second The second element.
+     * @return True if the sets are merged, false if both elements were already in the same set.
+     */
+    public boolean union(int first, int second) {
+        int a = find(first);
+        int b = find(second);
+        if(a == b) {
+            return false;
+        }
+        if(sizes[a] < sizes[b]) {
+            int swap = a;
+            a = b;
+            b = swap;
+        }
+        parents[b] = a;
+        sizes[a] += sizes[b];
+        totalSets--;
+        return true;
+    }
+
+    /**
+     * connected Checks if two elements are in the same set.
+     * @param first The first element.
+     * @param second The second element.
+     * @return True if both elements are in the same set, false otherwise.
+     */
+    public boolean connected(int first, int second) {
+        return find(first) == find(second);
+    }
+
+    /**
+     * getSetSize Returns the number of elements in the set holding an element.
+     * @param element The element.
+     * @return The size of the element's set.
+     */
+    public int getSetSize(int element) {
+        return sizes[find(element)];
+    }
+
+    /**
+     * getTotalSets Returns the number of disjoint sets.
+     * @return The number of sets.
+     */
+    public int getTotalSets() {
+        return totalSets;
+    }
+
+    /**
+     * grow Adds elements, each in a set of its own, until there are a particular number of elements. If the
+     * parameter is not larger than the current number of elements nothing changes.
+     * @param size The new number of elements.
+     */
+    public void grow(int size) {
+        int elements = parents.length;
+        if(size <= elements) {
+            return;
+        }
+        parents = Arrays.copyOf(parents, size);
+        sizes = Arrays.copyOf(sizes, size);
+        for(int i = elements; i < size; i++) {
+            parents[i] = i;
+            sizes[i] = 1;
+        }
+        totalSets += size - elements;
+    }
+
+    /**
+     * size Returns the number of elements.
+     * @return The number of elements.
+     */
+    public int size() {
+        return parents.length;
+    }
+}
@@ -0,0 +1,237 @@
+package structures;
+
+import java.util.Arrays;
+
+/**
+ * Open-addressing hash map from vertex to its slot in a Graph's internal arrays. Uses linear probing and
+ * backward-shift deletion so lookups never have to skip tombstones.
+ * @param <T> The vertex type.
+ */
+public class VertexIndex<T> {
+    private static final int EMPTY = -1;
+    private static final double LOAD_THRESHOLD = .5;
+    private Object[] keys;
+    private int[] slots;
+    private int mask;
+    private int size = 0;
+
+    /**
+     * Constructor initializes the table to hold the default of 25 vertices.
+     */
+    public VertexIndex() {
+        this(25);
+    }
+
+    /**
+     * Constructor initializes the table to hold a user-defined number of vertices without rehashing.
+     * @param expected The expected number of vertices.
+     */
+    public VertexIndex(int expected) {
+        allocate(tableSizeFor(expected));
+    }
+
+    /**
+     * get Returns the slot mapped to a vertex.
+     * @param vertex The vertex to search for.
+     * @return The slot of the vertex, or a negative number if the vertex is not indexed.
+     */
+    public int get(T vertex) {
+        if(vertex == null) {
+            return EMPTY;
+        }
+        int i = hash(vertex) & mask;
+        while(keys[i] != null) {
+            if(keys[i].equals(vertex)) {
+                return slots[i];
+            }
+            i = (i + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * containsKey Checks if a vertex is indexed.
+     * @param vertex The vertex to search for.
+     * @return True if the vertex is indexed, false otherwise.
+     */
+    public boolean containsKey(T vertex) {
+        return get(vertex) >= 0;
+    }
+
+    /**
+     * put Maps a vertex to a slot, replacing any previous mapping.
+     * @param vertex The vertex to index.
+     * @param slot The non-negative slot of the vertex.
+     */
+    public void put(T vertex, int slot) {
+        int i = hash(vertex) & mask;
+        while(keys[i] != null) {
+            if(keys[i].equals(vertex)) {
+                slots[i] = slot;
+                return;
+            }
+            i = (i + 1) & mask;
+        }
+        keys[i] = vertex;
+        slots[i] = slot;
+        if(++size > keys.length * LOAD_THRESHOLD) {
+            rehash(keys.length * 2);
+        }
+    }
+
+    /**
+     * remove Removes the mapping of a vertex if present.
+     * @param vertex The vertex to remove.
+     * @return The slot the vertex was mapped to, or a negative number if the vertex was not indexed.
+     */
+    public int remove(T vertex) {
+        if(vertex == null) {
+            return EMPTY;
+        }
+        int i = hash(vertex) & mask;
+        while(keys[i] != null) {
+            if(keys[i].equals(vertex)) {
+                int slot = slots[i];
+                shiftBack(i);
+                size--;
+                return slot;
+            }
+            i = (i + 1) & mask;
+        }
+        return EMPTY;
+    }
+
+    /**
+     * size Returns the number of indexed vertices.
+     * @return The number of indexed vertices.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * clear Removes every mapping while keeping the current table size.
+     */
+    public void clear() {
+        Arrays.fill(keys, null);
+        size = 0;
+    }
+
+    /**
+     * getAverageProbeLength Returns the mean number of buckets a lookup of an indexed vertex inspects, computed by
+     * walking the table.
+     * @return The average probe length, or 0 if no vertex is indexed.
+     */
+    public double getAverageProbeLength() {
+        long probes = 0;
+        int indexed = 0;
+        for(int i = 0; i < keys.length; i++) {
+            if(keys[i] != null) {
+                probes += probeLength(i);
+                indexed++;
+            }
+        }
+        return indexed == 0 ? 0 : (double) probes / indexed;
+    }
+
+    /**
+     * getMaxProbeLength Returns the largest number of buckets a lookup of an indexed vertex inspects, computed by
+     * walking the table.
+     * @return The longest probe length, or 0 if no vertex is indexed.
+     */
+    public int getMaxProbeLength() {
+        int longest = 0;
+        for(int i = 0; i < keys.length; i++) {
+            if(keys[i] != null) {
+                longest = Math.max(longest, probeLength(i));
+            }
+        }
+        return longest;
+    }
+
+    /**
+     * estimateBytes Returns the estimated heap held by the table, excluding the vertices themselves, assuming
+     * compressed references.
+     * @return The estimated size in bytes.
+     */
+    public long estimateBytes() {
+        return 24 + 2 * (16 + (long) keys.length * Integer.BYTES);
+    }
+
+    /**
+     * probeLength Returns the number of buckets inspected to find the key stored in a bucket.
+     * @param bucket The occupied bucket.
+     * @return The probe length, 1 if the key sits in its home bucket.
+     */
+    private int probeLength(int bucket) {
+        return ((bucket - (hash(keys[bucket]) & mask)) & mask) + 1;
+    }
+
+    /**
+     * ensureCapacity Grows the table so that a number of vertices can be indexed without rehashing.
+     * @param expected The expected number of vertices.
+     */
+    public void ensureCapacity(int expected) {
+        int tableSize = tableSizeFor(expected);
+        if(tableSize > keys.length) {
+            rehash(tableSize);
+        }
+    }
+
+    /**
+     * shiftBack Closes the gap left at a vacated bucket by moving later entries of the same probe run backwards.
+     * @param gap The bucket that was vacated.
+     */
+    private void shiftBack(int gap) {
+        int i = gap;
+        while(true) {
+            i = (i + 1) & mask;
+            if(keys[i] == null) {
+                break;
+            }
+            int home = hash(keys[i]) & mask;
+            if(((i - home) & mask) >= ((i - gap) & mask)) {
+                keys[gap] = keys[i];
+                slots[gap] = slots[i];
+                gap = i;
+            }
+        }
+        keys[gap] = null;
+    }
+
+    /**
+     * rehash Moves every mapping into a table of a new size.
+     * @param tableSize The new power of two table size.
+     */
+    private void rehash(int tableSize) {
+        Object[] oldKeys = keys;
+        int[] oldSlots = slots;
+        allocate(tableSize);
+        for(int j = 0; j < oldKeys.length; j++) {
+            if(oldKeys[j] != null) {
+                int i = hash(oldKeys[j]) & mask;
+                while(keys[i] != null) {
+                    i = (i + 1) & mask;
+                }
+                keys[i] = oldKeys[j];
+                slots[i] = oldSlots[j];
+            }
+        }
+    }
+
+    private void allocate(int tableSize) {
+        keys = new Object[tableSize];
+        slots = new int[tableSize];
+        mask = tableSize - 1;
+    }
+
+    private static int tableSizeFor(int expected) {
+        int needed = (int) Math.min(1 << 30, Math.max(4L, (long) (Math.max(expected, 1) / LOAD_THRESHOLD) + 1));
+        return Integer.highestOneBit(needed - 1) << 1;
+    }
+
+    private static int hash(Object key) {
+        int h = key.hashCode() * 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+}
@@ -0,0 +1,98 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.CompressedSparseRowGraph;
+import graphs.DirectedWeightedGraph;
+import java.util.Queue;
+
+public class CompressedSparseRowGraphTests {
+    private final DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+
+    @Test
+    public void freezeEmptyGraph() {
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        var result = snapshot.isEmpty() && snapshot.getTotalEdges() == 0 && snapshot.getOffsets().length == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void freezeKeepsEdgesAndWeights() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        var result = snapshot.getTotalVertices() == 4 && snapshot.getTotalEdges() == 3
+                && snapshot.getEdge(1, 3) == 20 && snapshot.containsEdge(1, 4) && !snapshot.containsEdge(4, 1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void freezeKeepsAdjacencyOrder() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        Queue<Integer> queue = graph.freeze().getAdjacentVertices(1);
+        var result = queue.poll() == 2 && queue.poll() == 3 && queue.poll() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void freezeRenumbersSlotsDensely() {
+        for(int i = 0; i < 5; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.removeVertex(2);
+        graph.addEdge(5, 1, 7);
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        int source = snapshot.slotOf(5);
+        int edge = snapshot.getOffsets()[source];
+        var result = snapshot.getTotalVertices() == 4 && !snapshot.hasVertex(2) && source == 3
+                && snapshot.getOutDegree(source) == 1 && snapshot.vertexAt(snapshot.getTargets()[edge]) == 1
+                && snapshot.getWeights()[edge] == 7;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void snapshotIgnoresLaterChanges() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        graph.addEdge(1, 2, 5);
+        var result = !snapshot.containsEdge(1, 2) && graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markVertexInSnapshot() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        snapshot.markVertex(1);
+        var result = snapshot.isMarked(1) && snapshot.getAnUnmarkedVertex() == 2 && !graph.isMarked(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void transposeReversesEdges() {
+        for(int i = 1; i <= 3; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(1, 2, 5);
+        graph.addEdge(3, 2, 7);
+        graph.addEdge(2, 1, 9);
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        CompressedSparseRowGraph<Integer> transpose = snapshot.transpose();
+        Queue<Integer> queue = transpose.getAdjacentVertices(2);
+        var result = transpose.getEdge(2, 1) == 5 && transpose.getEdge(2, 3) == 7 && transpose.getEdge(1, 2) == 9 &&
+                !transpose.containsEdge(1, 3) && queue.poll() == 1 && queue.poll() == 3 &&
+                transpose.slotOf(3) == snapshot.slotOf(3) && transpose.transpose() == snapshot;
+        Assertions.assertTrue(result);
+    }
+}
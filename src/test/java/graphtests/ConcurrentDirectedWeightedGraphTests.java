@@ -0,0 +1,347 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.ConcurrentDirectedWeightedGraph;
+import graphs.GraphInterface;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class ConcurrentDirectedWeightedGraphTests {
+    private final GraphInterface<Integer> graph = new ConcurrentDirectedWeightedGraph<>();
+
+    @Test
+    public void addInitialVertex() {
+        graph.addVertex(1);
+        var result = graph.hasVertex(1) && !graph.isEmpty() && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addMultipleVertices() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.hasVertex(1) && graph.hasVertex(2) && graph.hasVertex(3) && graph.getTotalVertices() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllVerticesFromGraph() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty() && graph.getTotalVertices() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addInitialEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(1, 2);
+        Assertions.assertEquals(100, result);
+    }
+
+    @Test
+    public void attemptReverseDirectionEdgeTraversal() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(2, 1);
+        Assertions.assertEquals(-1, result);
+    }
+
+    @Test
+    public void addMultipleEdgesToOneVertex() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.poll() == 2 && queue.poll() == 3 && queue.poll() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfValidEdgeIsPresent() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfInvalidEdgeIsPresent() {
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeValidEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        graph.removeEdge(1, 2);
+        var result = graph.getEdge(1, 2) == -1 && !graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeInvalidEdge() {
+        var result = graph.removeEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeOneEdgeFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        graph.removeEdge(1, 3);
+        var result = !graph.containsEdge(1, 3) && graph.getEdge(1, 3) == -1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllEdgesFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        for(int i = 1; i < 4; i++) {
+            graph.removeEdge(1, i + 1);
+        }
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkifGraphIsEmptyAfterRemovingAllVertices() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markVertex() {
+        graph.addVertex(1);
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markInvalidVertex() {
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void clearAllMarkedVertices() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.markVertex(1);
+        graph.markVertex(2);
+        graph.clearAllMarks();
+        var result = !graph.isMarked(1) && !graph.isMarked(2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void getUnmarkedVertex() {
+        graph.addVertex(1);
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertEquals(1, result);
+    }
+
+    @Test
+    public void getUnmarkedVertexFromEmptyGraph() {
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertNull(result);
+    }
+
+    @Test
+    public void resizeGraph() {
+        for(int i = 0; i < 26; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.getTotalVertices();
+        Assertions.assertEquals(26, result);
+    }
+
+    @Test
+    public void addDuplicateVertex() {
+        graph.addVertex(1);
+        var result = !graph.addVertex(1) && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findVerticesAfterRemovingEveryOtherVertex() {
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 1000; i += 2) {
+            graph.removeVertex(i);
+        }
+        var result = graph.getTotalVertices() == 500;
+        for(int i = 0; i < 1000; i++) {
+            result &= graph.hasVertex(i) == (i % 2 == 1);
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void forEachNeighborPassesWeights() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Assertions.assertEquals("2:10 3:20 4:30 ", visited.toString());
+    }
+
+    @Test
+    public void findEdgeBetweenLargeVertices() {
+        graph.addVertex(1000);
+        graph.addVertex(2000);
+        graph.addEdge(1000, 2000, 10);
+        var result = graph.getEdge(Integer.valueOf(1000), Integer.valueOf(2000)) == 10 && graph.containsEdge(1000, 2000);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeMissingEdgeFromVertexWithEdges() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        var result = !graph.removeEdge(1, 3) && graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexWithOutgoingEdges() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(1, 3, 20);
+        var result = graph.removeVertex(1) && !graph.hasVertex(1) && graph.getTotalVertices() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addSameVertexFromManyThreads() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger added = new AtomicInteger();
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < 8; t++) {
+            futures.add(pool.submit(() -> {
+                start.await();
+                for(int i = 0; i < 5000; i++) {
+                    if(graph.addVertex(i)) {
+                        added.incrementAndGet();
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for(Future<?> future : futures) {
+            future.get();
+        }
+        pool.shutdown();
+        var result = added.get() == 5000 && graph.getTotalVertices() == 5000 && graph.hasVertex(4999);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void concurrentWritersAndReaders() throws Exception {
+        int writers = 8;
+        int verticesPerWriter = 500;
+        int edgesPerVertex = 20;
+        for(int i = 0; i < writers * verticesPerWriter; i++) {
+            graph.addVertex(i);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(writers + 4);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        List<Future<?>> writerFutures = new ArrayList<>();
+        List<Future<?>> readerFutures = new ArrayList<>();
+        for(int t = 0; t < writers; t++) {
+            int first = t * verticesPerWriter;
+            writerFutures.add(pool.submit(() -> {
+                start.await();
+                for(int e = 0; e < edgesPerVertex; e++) {
+                    for(int v = first; v < first + verticesPerWriter; v++) {
+                        graph.addEdge(v, (v * 31 + e) % (writers * verticesPerWriter), e);
+                        graph.addVertex(100000 + v * edgesPerVertex + e);
+                    }
+                }
+                return null;
+            }));
+        }
+        for(int t = 0; t < 4; t++) {
+            readerFutures.add(pool.submit(() -> {
+                start.await();
+                int v = 0;
+                while(writing.get()) {
+                    Queue<Integer> adjacent = graph.getAdjacentVertices(v);
+                    if(adjacent.size() > edgesPerVertex) {
+                        throw new IllegalStateException("Torn adjacency for " + v);
+                    }
+                    graph.getEdge(v, (v * 31) % (writers * verticesPerWriter));
+                    v = (v + 1) % (writers * verticesPerWriter);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for(Future<?> future : writerFutures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        writing.set(false);
+        for(Future<?> future : readerFutures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        var result = graph.getTotalVertices() == writers * verticesPerWriter * (1 + edgesPerVertex);
+        for(int v = 0; v < writers * verticesPerWriter; v++) {
+            result &= graph.getAdjacentVertices(v).size() == edgesPerVertex;
+        }
+        Assertions.assertTrue(result);
+    }
+}
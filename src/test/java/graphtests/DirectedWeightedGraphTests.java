@@ -3,7 +3,10 @@ package graphtests;
 import org.junit.jupiter.api.Assertions;
 import org.junit.Test;
 import graphs.DirectedWeightedGraph;
+import graphs.Edge;
 import graphs.GraphInterface;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 public class DirectedWeightedGraphTests {
@@ -187,4 +190,213 @@ public class DirectedWeightedGraphTests {
         var result = graph.getTotalVertices();
         Assertions.assertEquals(26, result);
     }
+
+    @Test
+    public void addDuplicateVertex() {
+        graph.addVertex(1);
+        var result = !graph.addVertex(1) && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findVerticesAfterRemovingEveryOtherVertex() {
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 1000; i += 2) {
+            graph.removeVertex(i);
+        }
+        var result = graph.getTotalVertices() == 500;
+        for(int i = 0; i < 1000; i++) {
+            result &= graph.hasVertex(i) == (i % 2 == 1);
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void forEachNeighborPassesWeights() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Assertions.assertEquals("2:10 3:20 4:30 ", visited.toString());
+    }
+
+    @Test
+    public void findEdgeBetweenLargeVertices() {
+        graph.addVertex(1000);
+        graph.addVertex(2000);
+        graph.addEdge(1000, 2000, 10);
+        var result = graph.getEdge(Integer.valueOf(1000), Integer.valueOf(2000)) == 10 && graph.containsEdge(1000, 2000);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeMissingEdgeFromVertexWithEdges() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        var result = !graph.removeEdge(1, 3) && graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexWithOutgoingEdges() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(1, 3, 20);
+        var result = graph.removeVertex(1) && !graph.hasVertex(1) && graph.getTotalVertices() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addVerticesInBatch() {
+        List<Integer> vertices = new ArrayList<>();
+        for(int i = 0; i < 1000; i++) {
+            vertices.add(i);
+        }
+        vertices.add(5);
+        vertices.add(null);
+        var result = graph.addVertices(vertices) == 1000 && graph.getTotalVertices() == 1000 && graph.hasVertex(999) &&
+                !graph.isFull();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addEdgesInBatch() {
+        graph.addVertices(List.of(1, 2, 3));
+        int added = graph.addEdges(List.of(new Edge<>(1, 2, 10), new Edge<>(2, 3, 20), new Edge<>(1, 4, 30),
+                new Edge<>(3, 1, -5)));
+        var result = added == 2 && graph.getEdge(1, 2) == 10 && graph.getEdge(2, 3) == 20 && !graph.containsEdge(3, 1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addEdgeAfterRemovingLastEdge() {
+        graph.addVertices(List.of(1, 2, 3, 4));
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(1, 3, 20);
+        graph.removeEdge(1, 3);
+        graph.addEdge(1, 4, 30);
+        graph.removeEdge(1, 2);
+        graph.addEdge(1, 3, 40);
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.size() == 2 && queue.poll() == 4 && queue.poll() == 3 && graph.getEdge(1, 3) == 40;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexDropsIncomingEdges() {
+        graph.addVertices(List.of(1, 2, 3));
+        graph.addEdge(1, 3, 10);
+        graph.addEdge(2, 3, 20);
+        graph.removeVertex(3);
+        graph.addVertex(3);
+        var result = !graph.containsEdge(1, 3) && !graph.containsEdge(2, 3) && graph.getAdjacentVertices(1).isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void getPredecessorsWithoutIndex() {
+        DirectedWeightedGraph<Integer> scanned = new DirectedWeightedGraph<>();
+        scanned.addVertices(List.of(1, 2, 3, 4));
+        scanned.addEdge(1, 4, 10);
+        scanned.addEdge(2, 4, 20);
+        scanned.addEdge(4, 3, 30);
+        Queue<Integer> predecessors = scanned.getPredecessors(4);
+        var result = !scanned.hasInEdgeIndex() && predecessors.size() == 2 && predecessors.contains(1)
+                && predecessors.contains(2) && scanned.getPredecessors(1).isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void getPredecessorsWithIndex() {
+        DirectedWeightedGraph<Integer> indexed = new DirectedWeightedGraph<>(4, true);
+        indexed.addVertices(List.of(1, 2, 3, 4));
+        indexed.addEdge(1, 4, 10);
+        indexed.addEdge(2, 4, 20);
+        indexed.addEdge(3, 4, 30);
+        indexed.removeEdge(2, 4);
+        StringBuilder visited = new StringBuilder();
+        indexed.forEachPredecessor(4, (predecessor, weight) -> visited.append(predecessor).append(':').append(weight)
+                .append(' '));
+        var result = indexed.hasInEdgeIndex() && visited.toString().equals("3:30 1:10 ");
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeParallelEdgeKeepsInEdgeWeights() {
+        DirectedWeightedGraph<Integer> indexed = new DirectedWeightedGraph<>(4, true);
+        indexed.addVertices(List.of(1, 2));
+        indexed.addEdge(1, 2, 5);
+        indexed.addEdge(1, 2, 11);
+        indexed.removeEdge(1, 2);
+        StringBuilder visited = new StringBuilder();
+        indexed.forEachPredecessor(2, (predecessor, weight) -> visited.append(predecessor).append(':').append(weight));
+        var result = indexed.getEdge(1, 2) == 11 && visited.toString().equals("1:11");
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexKeepsInEdgeIndexConsistent() {
+        DirectedWeightedGraph<Integer> indexed = new DirectedWeightedGraph<>(2, true);
+        indexed.addVertices(List.of(1, 2, 3, 4));
+        indexed.addEdge(1, 2, 10);
+        indexed.addEdge(1, 2, 15);
+        indexed.addEdge(2, 3, 20);
+        indexed.addEdge(2, 2, 25);
+        indexed.addEdge(4, 2, 30);
+        indexed.removeVertex(2);
+        indexed.addVertex(2);
+        var result = indexed.getAdjacentVertices(1).isEmpty() && indexed.getAdjacentVertices(4).isEmpty()
+                && indexed.getPredecessors(3).isEmpty() && indexed.getPredecessors(2).isEmpty()
+                && indexed.freeze().getAdjacentVertices(1).isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reuseVacatedSlots() {
+        DirectedWeightedGraph<Integer> churned = new DirectedWeightedGraph<>(4);
+        churned.addVertices(List.of(1, 2, 3));
+        churned.removeVertex(1);
+        churned.removeVertex(2);
+        var free = churned.getTotalFreeSlots();
+        churned.addVertex(4);
+        churned.addVertex(5);
+        churned.addEdge(4, 5, 10);
+        var result = free == 2 && churned.getTotalFreeSlots() == 0 && churned.getEdge(4, 5) == 10
+                && churned.getTotalVertices() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void compactAfterRemovingVertices() {
+        DirectedWeightedGraph<Integer> compacted = new DirectedWeightedGraph<>(2, true);
+        for(int i = 0; i < 100; i++) {
+            compacted.addVertex(i);
+            if(i > 0) {
+                compacted.addEdge(i - 1, i, i);
+            }
+        }
+        for(int i = 0; i < 100; i++) {
+            if(i % 10 != 0 && i % 10 != 1) {
+                compacted.removeVertex(i);
+            }
+        }
+        compacted.markVertex(0);
+        compacted.compact();
+        compacted.addVertex(100);
+        compacted.addEdge(100, 90, 5);
+        var result = compacted.getTotalVertices() == 21 && compacted.getTotalFreeSlots() == 0
+                && !compacted.isMarked(0) && compacted.getEdge(0, 1) == 1 && compacted.getEdge(90, 91) == 91
+                && compacted.getPredecessors(90).size() == 1 && compacted.freeze().getTotalVertices() == 21;
+        Assertions.assertTrue(result);
+    }
 }
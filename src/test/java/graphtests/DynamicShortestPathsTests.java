@@ -0,0 +1,273 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.DynamicShortestPaths;
+import algorithms.Path;
+import algorithms.ShortestPathTree;
+import algorithms.ShortestPaths;
+import events.GraphEvent;
+import events.GraphEventStream;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import graphs.UndirectedWeightedGraph;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class DynamicShortestPathsTests {
+    private final DirectedWeightedGraph<Integer> directed = new DirectedWeightedGraph<>(10, true);
+    private final UndirectedWeightedGraph<Integer> undirected = new UndirectedWeightedGraph<>(10,
+            UndirectedWeightedGraph.StorageMode.SPARSE);
+
+    private void addDiamond(GraphInterface<Integer> graph) {
+        for(int i = 0; i < 5; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(2, 4, 7);
+        graph.addEdge(3, 4, 1);
+    }
+
+    private boolean matchesRecompute(DynamicShortestPaths<Integer> tree, GraphInterface<Integer> graph, int vertices) {
+        ShortestPathTree<Integer> expected = new ShortestPaths<>(graph).computeFrom(tree.getSource());
+        for(int v = 0; v < vertices; v++) {
+            long distance = expected == null ? -1 : expected.getDistance(v);
+            if(tree.getDistance(v) != distance) {
+                return false;
+            }
+            Path<Integer> path = tree.pathTo(v);
+            if(distance >= 0 && !pathIsValid(graph, path, distance)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private boolean pathIsValid(GraphInterface<Integer> graph, Path<Integer> path, long distance) {
+        long total = 0;
+        for(int i = 1; i < path.getVertices().size(); i++) {
+            Integer next = path.getVertices().get(i);
+            long[] lightest = {Long.MAX_VALUE};
+            graph.forEachNeighbor(path.getVertices().get(i - 1), (neighbor, weight) -> {
+                if(neighbor.equals(next)) {
+                    lightest[0] = Math.min(lightest[0], weight);
+                }
+            });
+            if(lightest[0] == Long.MAX_VALUE) {
+                return false;
+            }
+            total += lightest[0];
+        }
+        return total == distance && path.getDistance() == distance;
+    }
+
+    private boolean randomChanges(GraphInterface<Integer> graph, DynamicShortestPaths<Integer> tree, long seed,
+                                  int maxWeight) {
+        Random random = new Random(seed);
+        int vertices = 60;
+        for(int v = 0; v < vertices; v++) {
+            graph.addVertex(v);
+        }
+        for(int e = 0; e < 180; e++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(maxWeight + 1));
+        }
+        var result = matchesRecompute(tree, graph, vertices);
+        for(int step = 0; step < 400 && result; step++) {
+            int source = random.nextInt(vertices);
+            int destination = random.nextInt(vertices);
+            int choice = random.nextInt(10);
+            if(choice < 4) {
+                graph.addEdge(source, destination, random.nextInt(maxWeight + 1));
+            } else if(choice < 8) {
+                graph.removeEdge(source, destination);
+            } else if(choice == 8) {
+                graph.removeVertex(source);
+            } else {
+                graph.addVertex(source);
+            }
+            result = matchesRecompute(tree, graph, vertices);
+        }
+        return result;
+    }
+
+    @Test
+    public void initialTreeMatchesDijkstra() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        var result = tree.getDistance(4) == 4 && tree.getPredecessor(4) == 3 && !tree.hasPathTo(5)
+                && tree.pathTo(4).getVertices().equals(Arrays.asList(1, 2, 3, 4)) && tree.getLastTouched() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addedShortcutLowersOnlyDownstream() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        directed.addEdge(1, 3, 1);
+        var result = tree.getDistance(3) == 1 && tree.getDistance(4) == 2 && tree.getDistance(2) == 1
+                && tree.getLastTouched() == 2 && tree.getTotalUpdates() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void changeOutsideTreeTouchesNothing() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        directed.removeEdge(2, 4);
+        var result = tree.getLastTouched() == 0 && tree.getDistance(4) == 4;
+        directed.addEdge(4, 1, 3);
+        result &= tree.getLastTouched() == 0 && tree.getDistance(1) == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removedTreeEdgeReroutesSubtree() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        directed.removeEdge(2, 3);
+        var result = tree.getDistance(3) == 4 && tree.getDistance(4) == 5 && tree.getPredecessor(3) == 1
+                && tree.getLastTouched() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void equalAlternativeKeepsSubtree() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        directed.addEdge(1, 3, 3);
+        var result = tree.getLastTouched() == 0 && tree.getPredecessor(3) == 2;
+        directed.removeEdge(2, 3);
+        result &= tree.getDistance(3) == 3 && tree.getPredecessor(3) == 1 && tree.getDistance(4) == 4
+                && tree.getLastTouched() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removedEdgeDisconnectsSubtree() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        directed.removeEdge(1, 2);
+        directed.removeEdge(1, 3);
+        var result = !tree.hasPathTo(2) && !tree.hasPathTo(3) && !tree.hasPathTo(4) && tree.pathTo(4) == null
+                && tree.getDistance(1) == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removedAndReaddedSource() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        directed.removeVertex(1);
+        var result = !tree.hasPathTo(1) && !tree.hasPathTo(4) && tree.getLastTouched() == 1;
+        directed.addVertex(1);
+        directed.addEdge(1, 4, 2);
+        result &= tree.getDistance(1) == 0 && tree.getDistance(4) == 2 && !tree.hasPathTo(2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removedVertexReroutesThroughRemainingEdges() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        directed.removeVertex(3);
+        var result = !tree.hasPathTo(3) && tree.getDistance(4) == 8 && tree.getPredecessor(4) == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void treesFromSeveralDepotsFollowOneGraph() {
+        for(int v = 0; v < 4; v++) {
+            directed.addVertex(v);
+        }
+        directed.addEdge(2, 3, 4);
+        DynamicShortestPaths<Integer> first = new DynamicShortestPaths<>(directed, 0);
+        DynamicShortestPaths<Integer> second = new DynamicShortestPaths<>(directed, 2);
+        directed.addEdge(0, 3, 1);
+        var result = first.getDistance(3) == 1 && second.getDistance(3) == 4;
+        second.unregister();
+        directed.removeEdge(0, 3);
+        result &= !first.hasPathTo(3) && second.getDistance(3) == 4 && second.getTotalUpdates() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void treeFollowsGraphNextToStream() {
+        List<GraphEvent<Integer>> received = new CopyOnWriteArrayList<>();
+        var result = true;
+        try(GraphEventStream<Integer> stream = new GraphEventStream<>(received::addAll)) {
+            directed.addMutationListener(stream);
+            addDiamond(directed);
+            DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+            directed.addEdge(1, 4, 1);
+            tree.unregister();
+            directed.removeEdge(1, 4);
+            stream.flush();
+            result &= tree.getDistance(4) == 1 && received.size() == 12;
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void undirectedReweightBothWays() {
+        addDiamond(undirected);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(undirected, 4);
+        undirected.addEdge(3, 1, 1);
+        var result = tree.getDistance(1) == 2 && tree.getPredecessor(1) == 3;
+        undirected.addEdge(1, 3, 9);
+        result &= tree.getDistance(1) == 4 && tree.getPredecessor(1) == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void unregisterStopsFollowing() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 1);
+        tree.unregister();
+        directed.addEdge(1, 4, 1);
+        var result = tree.getDistance(4) == 4 && tree.getTotalUpdates() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void absentSourceReachesNothing() {
+        addDiamond(directed);
+        DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(directed, 9);
+        directed.addEdge(1, 2, 5);
+        var result = !tree.hasPathTo(9) && !tree.hasPathTo(1) && tree.getDistance(2) == -1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void randomDirectedChangesMatchRecompute() {
+        for(long seed = 0; seed < 5; seed++) {
+            DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>(10, true);
+            DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(graph, 0);
+            Assertions.assertTrue(randomChanges(graph, tree, seed, 20));
+        }
+    }
+
+    @Test
+    public void randomChangesWithZeroWeightsMatchRecompute() {
+        for(long seed = 0; seed < 5; seed++) {
+            DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+            DynamicShortestPaths<Integer> tree = new DynamicShortestPaths<>(graph, 0);
+            Assertions.assertTrue(randomChanges(graph, tree, seed, 2));
+        }
+    }
+
+    @Test
+    public void randomUndirectedChangesMatchRecompute() {
+        for(long seed = 0; seed < 5; seed++) {
+            UndirectedWeightedGraph<Integer> dense = new UndirectedWeightedGraph<>();
+            UndirectedWeightedGraph<Integer> sparse = new UndirectedWeightedGraph<>(10,
+                    UndirectedWeightedGraph.StorageMode.SPARSE);
+            var result = randomChanges(dense, new DynamicShortestPaths<>(dense, 0), seed, 20)
+                    && randomChanges(sparse, new DynamicShortestPaths<>(sparse, 0), seed, 3);
+            Assertions.assertTrue(result);
+        }
+    }
+}
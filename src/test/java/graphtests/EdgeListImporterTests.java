@@ -0,0 +1,107 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.DirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph;
+import io.EdgeListImporter;
+import io.ImportStatistics;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+
+public class EdgeListImporterTests {
+    private final DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+
+    @Test
+    public void importWeightedCsv() throws IOException {
+        EdgeListImporter<Integer> importer = new EdgeListImporter<>(Integer::valueOf);
+        ImportStatistics statistics = importer.importFrom(new StringReader("1,2,10\n2,3,20\n3,1,30\n"), graph);
+        var result = statistics.getEdgesAdded() == 3 && statistics.getVerticesAdded() == 3 &&
+                graph.getEdge(1, 2) == 10 && graph.getEdge(3, 1) == 30;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void importSnapStyleTsv() throws IOException {
+        String input = "# Directed graph\n# FromNodeId\tToNodeId\n0\t1\n0\t2\n\n1\t2\t5\t1700000000\n";
+        EdgeListImporter<Integer> importer = new EdgeListImporter<>(Integer::valueOf);
+        ImportStatistics statistics = importer.importFrom(new StringReader(input), graph);
+        var result = statistics.getLines() == 6 && statistics.getEdgesAdded() == 3 &&
+                statistics.getSkippedLines() == 0 && graph.getEdge(0, 1) == 1 && graph.getEdge(1, 2) == 5;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void skipMalformedLines() throws IOException {
+        String input = "1 2 3\nlonely\n1 x 4\n2 3 y\n3 4 -1\n";
+        EdgeListImporter<Integer> importer = new EdgeListImporter<>(Integer::valueOf);
+        ImportStatistics statistics = importer.importFrom(new StringReader(input), graph);
+        var result = statistics.getEdgesAdded() == 1 && statistics.getSkippedLines() == 3 &&
+                statistics.getEdgesRejected() == 1 && !graph.containsEdge(3, 4);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void keepFileOrderAcrossChunks() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for(int i = 0; i < 1000; i++) {
+            input.append(0).append(' ').append(i + 1).append(' ').append(i).append('\n');
+        }
+        EdgeListImporter<Integer> importer = new EdgeListImporter<>(Integer::valueOf, 4, 7);
+        importer.importFrom(new StringReader(input.toString()), graph);
+        Queue<Integer> queue = graph.getAdjacentVertices(0);
+        var result = queue.size() == 1000;
+        for(int i = 0; i < 1000; i++) {
+            result &= queue.poll() == i + 1;
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reportProgressAfterEachChunk() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for(int i = 0; i < 100; i++) {
+            input.append(i).append(',').append(i + 1).append('\n');
+        }
+        List<ImportStatistics> reports = new ArrayList<>();
+        EdgeListImporter<Integer> importer = new EdgeListImporter<>(Integer::valueOf, 2, 10);
+        importer.setProgressListener(reports::add);
+        importer.importFrom(new StringReader(input.toString()), graph);
+        var result = reports.size() == 10 && reports.get(0).getEdgesAdded() == 10 &&
+                reports.get(9).getEdgesAdded() == 100 && reports.get(9).getVerticesAdded() == 101;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void importFileIntoUndirectedGraph() throws IOException {
+        Path path = Files.createTempFile("edges", ".tsv");
+        path.toFile().deleteOnExit();
+        Files.writeString(path, "a\tb\t4\nb\tc\t5\n");
+        UndirectedWeightedGraph<String> undirected = new UndirectedWeightedGraph<>();
+        ImportStatistics statistics = new EdgeListImporter<>(String::valueOf).importFrom(path, undirected);
+        var result = statistics.getEdgesAdded() == 2 && undirected.getEdge("c", "b") == 5 &&
+                undirected.getTotalVertices() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void propagateReadFailure() {
+        Reader failing = new Reader() {
+            public int read(char[] buffer, int offset, int length) throws IOException {
+                throw new IOException("disk gone");
+            }
+
+            public void close() {
+            }
+        };
+        EdgeListImporter<Integer> importer = new EdgeListImporter<>(Integer::valueOf);
+        IOException e = Assertions.assertThrows(IOException.class, () -> importer.importFrom(failing, graph));
+        Assertions.assertEquals("disk gone", e.getMessage());
+    }
+}
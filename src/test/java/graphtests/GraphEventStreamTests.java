@@ -0,0 +1,263 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.After;
+import org.junit.Test;
+import events.GraphEvent;
+import events.GraphEventStream;
+import events.GraphEventType;
+import graphs.DirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+public class GraphEventStreamTests {
+    private final List<GraphEvent<Integer>> received = new CopyOnWriteArrayList<>();
+    private final List<Integer> batchSizes = new CopyOnWriteArrayList<>();
+    private GraphEventStream<Integer> stream = new GraphEventStream<>(events -> {
+        batchSizes.add(events.size());
+        received.addAll(events);
+    });
+
+    @After
+    public void closeStream() {
+        stream.close();
+    }
+
+    @Test
+    public void directedGraphReportsEveryChange() {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addMutationListener(stream);
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 7);
+        graph.removeEdge(1, 2);
+        graph.removeVertex(2);
+        stream.flush();
+        var result = received.size() == 5 && received.get(0).getType() == GraphEventType.VERTEX_ADDED
+                && received.get(2).getType() == GraphEventType.EDGE_ADDED && received.get(2).getWeight() == 7
+                && received.get(3).getType() == GraphEventType.EDGE_REMOVED && received.get(3).getWeight() == 7
+                && received.get(4).getType() == GraphEventType.VERTEX_REMOVED && received.get(4).getSource() == 2
+                && received.get(4).getVersion() == graph.getVersion();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void failedChangesAreNotReported() {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addMutationListener(stream);
+        graph.addVertex(1);
+        graph.addVertex(1);
+        graph.addEdge(1, 2, 3);
+        graph.removeEdge(1, 1);
+        graph.removeVertex(5);
+        stream.flush();
+        var result = received.size() == 1 && stream.getTotalPublished() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void undirectedGraphReportsReweightedEdges() {
+        UndirectedWeightedGraph<Integer> graph = new UndirectedWeightedGraph<>(10,
+                UndirectedWeightedGraph.StorageMode.SPARSE);
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addMutationListener(stream);
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(2, 1, 9);
+        graph.removeEdge(1, 2);
+        graph.removeEdge(1, 2);
+        stream.flush();
+        var result = received.size() == 3 && received.get(0).getType() == GraphEventType.EDGE_ADDED
+                && received.get(1).getType() == GraphEventType.EDGE_REWEIGHTED
+                && received.get(1).getPreviousWeight() == 4 && received.get(1).getWeight() == 9
+                && received.get(2).getType() == GraphEventType.EDGE_REMOVED && received.get(2).getWeight() == 9;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void unchangedWeightIsNotReported() {
+        UndirectedWeightedGraph<Integer> graph = new UndirectedWeightedGraph<>();
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 4);
+        long version = graph.getVersion();
+        graph.addMutationListener(stream);
+        var result = graph.addEdge(2, 1, 4) && graph.getVersion() == version;
+        stream.flush();
+        result &= received.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removedVertexReportsItsEdgesFirst() {
+        DirectedWeightedGraph<Integer> indexed = new DirectedWeightedGraph<>(4, true);
+        DirectedWeightedGraph<Integer> scanned = new DirectedWeightedGraph<>();
+        UndirectedWeightedGraph<Integer> undirected = new UndirectedWeightedGraph<>();
+        var result = true;
+        for(var graph : List.of(indexed, scanned, undirected)) {
+            graph.addMutationListener(stream);
+            graph.addVertices(List.of(1, 2, 3));
+            graph.addEdge(1, 2, 5);
+            graph.addEdge(3, 2, 6);
+            graph.addEdge(2, 2, 7);
+            stream.flush();
+            received.clear();
+            result &= graph.removeVertex(2);
+            stream.flush();
+            int total = 0;
+            for(GraphEvent<Integer> event : received) {
+                if(event.getType() == GraphEventType.EDGE_REMOVED) {
+                    total += event.getWeight();
+                }
+                result &= event.getVersion() == graph.getVersion();
+            }
+            result &= received.size() == 4 && total == 18
+                    && received.get(3).getType() == GraphEventType.VERTEX_REMOVED;
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removingListenerStopsReports() {
+        UndirectedWeightedGraph<Integer> graph = new UndirectedWeightedGraph<>();
+        graph.addMutationListener(stream);
+        graph.addVertex(1);
+        var result = graph.removeMutationListener(stream) && !graph.removeMutationListener(stream);
+        graph.addVertex(2);
+        stream.flush();
+        result &= received.size() == 1 && graph.getTotalVertices() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void everyAddedListenerHearsEveryChange() {
+        List<GraphEvent<Integer>> other = new CopyOnWriteArrayList<>();
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        try(GraphEventStream<Integer> second = new GraphEventStream<>(other::addAll)) {
+            graph.addMutationListener(stream);
+            graph.addMutationListener(second);
+            graph.addVertex(1);
+            graph.removeMutationListener(stream);
+            graph.addVertex(2);
+            stream.flush();
+            second.flush();
+        }
+        var result = received.size() == 1 && other.size() == 2 && other.get(1).getSource() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void batchesRespectBatchSizeAndOrder() {
+        stream.close();
+        stream = new GraphEventStream<>(events -> {
+            batchSizes.add(events.size());
+            received.addAll(events);
+        }, 64, 10);
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addMutationListener(stream);
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        stream.flush();
+        var result = received.size() == 1000 && stream.getBatchSize() == 10 && Collections.max(batchSizes) <= 10;
+        for(int i = 0; i < received.size(); i++) {
+            result &= received.get(i).getSource() == i && received.get(i).getVersion() == i + 1;
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void slowListenerAppliesBackpressure() {
+        stream.close();
+        stream = new GraphEventStream<>(events -> {
+            sleep(2);
+            received.addAll(events);
+        }, 4, 2);
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addMutationListener(stream);
+        for(int i = 0; i < 100; i++) {
+            graph.addVertex(i);
+        }
+        stream.flush();
+        var result = received.size() == 100 && stream.getTotalStalls() > 0 && stream.getCapacity() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void invalidSizesFallBackToDefaults() {
+        stream.close();
+        stream = new GraphEventStream<>(events -> { }, -1, 0);
+        var result = stream.getCapacity() == 4096 && stream.getBatchSize() == 256;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void throwingListenerLosesOnlyItsBatch() {
+        stream.close();
+        stream = new GraphEventStream<>(events -> {
+            if(events.get(0).getSource() == 0) {
+                throw new IllegalStateException("rejected");
+            }
+            received.addAll(events);
+        }, 16, 1);
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addMutationListener(stream);
+        graph.addVertex(0);
+        graph.addVertex(1);
+        stream.flush();
+        var result = received.size() == 1 && stream.getTotalFailedBatches() == 1 && stream.getTotalDelivered() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void closeDeliversPendingAndIgnoresLater() {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addMutationListener(stream);
+        for(int i = 0; i < 50; i++) {
+            graph.addVertex(i);
+        }
+        stream.close();
+        graph.addVertex(100);
+        stream.close();
+        var result = stream.isClosed() && received.size() == 50 && stream.getTotalPublished() == 50;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void graphsOnManyThreadsShareOneStream() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        List<Future<?>> futures = new ArrayList<>();
+        for(int t = 0; t < 4; t++) {
+            futures.add(pool.submit(() -> {
+                DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+                graph.addMutationListener(stream);
+                for(int i = 0; i < 2000; i++) {
+                    graph.addVertex(i);
+                }
+                return null;
+            }));
+        }
+        for(Future<?> future : futures) {
+            future.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        stream.flush();
+        var result = received.size() == 8000 && stream.getTotalDelivered() == 8000;
+        Assertions.assertTrue(result);
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch(InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
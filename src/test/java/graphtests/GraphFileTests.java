@@ -0,0 +1,146 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphFileReader;
+import graphs.GraphFileWriter;
+import graphs.MappedGraph;
+import graphs.UndirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph.StorageMode;
+import graphs.VertexCodec;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Queue;
+
+public class GraphFileTests {
+    private Path tempFile() throws IOException {
+        Path path = Files.createTempFile("graph", ".bin");
+        path.toFile().deleteOnExit();
+        return path;
+    }
+
+    @Test
+    public void reopenDirectedGraph() throws IOException {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        for(int i = 0; i < 100; i++) {
+            graph.addVertex(i * 7);
+        }
+        for(int i = 0; i < 99; i++) {
+            graph.addEdge(i * 7, (i + 1) * 7, i);
+        }
+        graph.addEdge(0, 14, 50);
+        Path path = tempFile();
+        GraphFileWriter.write(graph, VertexCodec.INTEGERS, path);
+        MappedGraph<Integer> mapped = GraphFileReader.open(path, VertexCodec.INTEGERS);
+        var result = mapped.getTotalVertices() == 100 && mapped.getTotalEdges() == 100 && mapped.hasVertex(693) &&
+                !mapped.hasVertex(5) && mapped.getEdge(7, 14) == 1 && mapped.getEdge(0, 14) == 50 &&
+                !mapped.containsEdge(14, 7) && mapped.getEdge(5, 7) < 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void adjacentVerticesKeepOrder() throws IOException {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        for(int i = 1; i <= 4; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(1, 4, 40);
+        graph.addEdge(1, 2, 20);
+        graph.addEdge(1, 3, 30);
+        Path path = tempFile();
+        GraphFileWriter.write(graph, VertexCodec.INTEGERS, path);
+        MappedGraph<Integer> mapped = GraphFileReader.open(path, VertexCodec.INTEGERS);
+        Queue<Integer> queue = mapped.getAdjacentVertices(1);
+        int[] total = new int[1];
+        mapped.forEachNeighbor(1, (neighbor, weight) -> total[0] += weight);
+        var result = queue.size() == 3 && queue.poll() == 4 && queue.poll() == 2 && queue.poll() == 3 &&
+                total[0] == 90 && mapped.getAdjacentVertices(4).isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reopenUndirectedGraphWithStringVertices() throws IOException {
+        UndirectedWeightedGraph<String> graph = new UndirectedWeightedGraph<>(StorageMode.SPARSE);
+        graph.addVertex("alpha");
+        graph.addVertex("beta");
+        graph.addVertex("gamma");
+        graph.addVertex("delta");
+        graph.addEdge("alpha", "beta", 3);
+        graph.addEdge("beta", "gamma", 4);
+        graph.addEdge("delta", "delta", 1);
+        graph.removeVertex("gamma");
+        Path path = tempFile();
+        GraphFileWriter.write(graph, VertexCodec.STRINGS, path);
+        MappedGraph<String> mapped = GraphFileReader.open(path, VertexCodec.STRINGS);
+        var result = mapped.getTotalVertices() == 3 && mapped.getEdge("alpha", "beta") == 3 &&
+                mapped.getEdge("beta", "alpha") == 3 && !mapped.hasVertex("gamma") &&
+                mapped.getAdjacentVertices("beta").size() == 1 && mapped.getAdjacentVertices("delta").isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reopenDenseUndirectedGraph() throws IOException {
+        UndirectedWeightedGraph<Long> graph = new UndirectedWeightedGraph<>();
+        for(long i = 0; i < 30; i++) {
+            graph.addVertex(i);
+        }
+        for(long i = 1; i < 30; i++) {
+            graph.addEdge(0L, i, (int) i);
+        }
+        Path path = tempFile();
+        GraphFileWriter.write(graph, VertexCodec.LONGS, path);
+        MappedGraph<Long> mapped = GraphFileReader.open(path, VertexCodec.LONGS);
+        var result = mapped.getTotalEdges() == 58 && mapped.getOutDegree(mapped.slotOf(0L)) == 29 &&
+                mapped.getEdge(29L, 0L) == 29;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markVerticesOfMappedGraph() throws IOException {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addVertex(1);
+        graph.addVertex(2);
+        Path path = tempFile();
+        GraphFileWriter.write(graph, VertexCodec.INTEGERS, path);
+        MappedGraph<Integer> mapped = GraphFileReader.open(path, VertexCodec.INTEGERS);
+        mapped.markVertex(1);
+        var result = mapped.isMarked(1) && mapped.getAnUnmarkedVertex() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reopenEmptyGraph() throws IOException {
+        Path path = tempFile();
+        GraphFileWriter.write(new DirectedWeightedGraph<Integer>(), VertexCodec.INTEGERS, path);
+        MappedGraph<Integer> mapped = GraphFileReader.open(path, VertexCodec.INTEGERS);
+        var result = mapped.isEmpty() && !mapped.hasVertex(1) && mapped.getAnUnmarkedVertex() == null;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void rejectIndexTooSmallForVertices() throws IOException {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i);
+        }
+        Path path = tempFile();
+        GraphFileWriter.write(graph, VertexCodec.INTEGERS, path);
+        byte[] bytes = Files.readAllBytes(path);
+        ByteBuffer.wrap(bytes).order(ByteOrder.LITTLE_ENDIAN).putInt(3 * Integer.BYTES, 2);
+        Files.write(path, bytes);
+        IOException e = Assertions.assertThrows(IOException.class,
+                () -> GraphFileReader.open(path, VertexCodec.INTEGERS));
+        Assertions.assertTrue(e.getMessage().startsWith("Corrupt graph file"));
+    }
+
+    @Test
+    public void rejectFileWithoutHeader() throws IOException {
+        Path path = tempFile();
+        Files.write(path, new byte[100]);
+        Assertions.assertThrows(IOException.class, () -> GraphFileReader.open(path, VertexCodec.INTEGERS));
+    }
+}
@@ -0,0 +1,132 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.ConcurrentDirectedWeightedGraph;
+import graphs.DirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph;
+import metrics.GraphMetrics;
+import metrics.GraphOperation;
+import metrics.InstrumentedGraph;
+import metrics.LatencySnapshot;
+import java.lang.management.ManagementFactory;
+import java.util.List;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+public class InstrumentedGraphTests {
+    private final InstrumentedGraph<Integer> graph = new InstrumentedGraph<>(new DirectedWeightedGraph<>(4), 1);
+
+    @Test
+    public void passCallsThroughToGraph() {
+        graph.addVertices(List.of(1, 2, 3));
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(2, 3, 20);
+        var result = graph.getEdge(1, 2) == 10 && graph.containsEdge(2, 3) && !graph.containsEdge(3, 1)
+                && graph.getAdjacentVertices(1).size() == 1 && graph.getTotalVertices() == 3
+                && graph.getGraph().getVersion() == graph.getVersion();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void countEveryCall() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 5);
+        for(int i = 0; i < 10; i++) {
+            graph.getEdge(1, 2);
+        }
+        graph.getTotalVertices();
+        GraphMetrics metrics = graph.snapshot();
+        var result = metrics.getOperationCount(GraphOperation.ADD_VERTEX) == 2
+                && metrics.getOperationCount(GraphOperation.ADD_EDGE) == 1
+                && metrics.getOperationCount(GraphOperation.GET_EDGE) == 10 && metrics.getTotalOperations() == 13;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void sampleLatencies() {
+        graph.addVertex(1);
+        for(int i = 0; i < 100; i++) {
+            graph.hasVertex(1);
+        }
+        LatencySnapshot latency = graph.snapshot().getLatency(GraphOperation.HAS_VERTEX);
+        long median = latency.getPercentileNanos(50);
+        var result = latency.getSampleCount() == 100 && median <= latency.getPercentileNanos(99)
+                && latency.getPercentileNanos(100) == latency.getMaxNanos() && latency.getMeanNanos() > 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void sampleFractionOfCalls() {
+        InstrumentedGraph<Integer> sampled = new InstrumentedGraph<>(new DirectedWeightedGraph<>(), 64);
+        sampled.addVertex(1);
+        for(int i = 0; i < 64000; i++) {
+            sampled.hasVertex(1);
+        }
+        long samples = sampled.snapshot().getLatency(GraphOperation.HAS_VERTEX).getSampleCount();
+        var result = samples > 500 && samples < 1500;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reportResizesAndStorage() {
+        for(int i = 0; i < 20; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 1);
+        GraphMetrics metrics = graph.snapshot();
+        var result = metrics.getResizeCount() == 3 && metrics.getCapacity() == 32 && metrics.getTotalVertices() == 20
+                && metrics.getOccupancy() == 20 / 32.0 && metrics.getAverageProbeLength() >= 1
+                && metrics.getMaxProbeLength() >= 1 && metrics.getEstimatedMemoryBytes() > 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reportDenseMatrixMemory() {
+        InstrumentedGraph<Integer> dense = new InstrumentedGraph<>(new UndirectedWeightedGraph<>(100));
+        InstrumentedGraph<Integer> sparse = new InstrumentedGraph<>(
+                new UndirectedWeightedGraph<>(100, UndirectedWeightedGraph.StorageMode.SPARSE));
+        var result = dense.snapshot().getEstimatedMemoryBytes() > 100 * 100 * 4
+                && sparse.snapshot().getEstimatedMemoryBytes() < 100 * 100;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reportUnknownStorage() {
+        InstrumentedGraph<Integer> concurrent = new InstrumentedGraph<>(new ConcurrentDirectedWeightedGraph<>());
+        concurrent.addVertex(1);
+        GraphMetrics metrics = concurrent.snapshot();
+        var result = metrics.getCapacity() < 0 && metrics.getEstimatedMemoryBytes() < 0 && metrics.getOccupancy() < 0
+                && metrics.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void resetCounts() {
+        graph.addVertex(1);
+        graph.reset();
+        var result = graph.snapshot().getTotalOperations() == 0 && graph.hasVertex(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void publishThroughJmx() throws Exception {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        ObjectName name = graph.registerMBean("instrumentedGraphTests");
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        try {
+            long operations = (Long) server.getAttribute(name, "TotalOperations");
+            int vertices = (Integer) server.getAttribute(name, "TotalVertices");
+            Object counts = server.getAttribute(name, "OperationCounts");
+            server.invoke(name, "reset", null, null);
+            var result = operations == 2 && vertices == 2 && counts != null
+                    && graph.snapshot().getTotalOperations() == 0;
+            Assertions.assertTrue(result);
+        } finally {
+            graph.unregisterMBean();
+        }
+        Assertions.assertFalse(server.isRegistered(name));
+    }
+}
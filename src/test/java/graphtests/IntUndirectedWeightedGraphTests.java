@@ -0,0 +1,269 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.IntGraphInterface;
+import graphs.IntUndirectedWeightedGraph;
+
+public class IntUndirectedWeightedGraphTests {
+    private final IntGraphInterface graph = new IntUndirectedWeightedGraph();
+
+    @Test
+    public void addInitialVertex() {
+        graph.addVertex(1);
+        var result = graph.hasVertex(1) && !graph.isEmpty() && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addMultipleVertices() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.hasVertex(1) && graph.hasVertex(2) && graph.hasVertex(3) && graph.getTotalVertices() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addVertexToFormerlyFullGraph() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.removeVertex(1);
+        graph.addVertex(0);
+        var result = graph.hasVertex(0) && !graph.hasVertex(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllVerticesFromFullGraph() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty() && graph.getTotalVertices() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addInitialEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(1, 2);
+        Assertions.assertEquals(100, result);
+    }
+
+    @Test
+    public void attemptReverseDirectionEdgeTraversal() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(2, 1);
+        Assertions.assertEquals(100, result);
+    }
+
+    @Test
+    public void addMultipleEdgesToOneVertex() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        int[] adjacent = graph.getAdjacentVertices(1);
+        var result = adjacent.length == 3 && adjacent[0] == 2 && adjacent[1] == 3 && adjacent[2] == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfValidEdgeIsPresent() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfInvalidEdgeIsPresent() {
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeValidEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        graph.removeEdge(1, 2);
+        var result = graph.getEdge(1, 2) == -1 && !graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeInvalidEdge() {
+        var result = graph.removeEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeOneEdgeFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        graph.removeEdge(1, 3);
+        var result = !graph.containsEdge(1, 3) && graph.getEdge(1, 3) == -1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllEdgesFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        for(int i = 1; i < 4; i++) {
+            graph.removeEdge(1, i + 1);
+        }
+        var result = graph.getAdjacentVertices(1).length == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkifGraphIsEmptyAfterRemovingAllVertices() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markVertex() {
+        graph.addVertex(1);
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markInvalidVertex() {
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void clearAllMarkedVertices() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.markVertex(1);
+        graph.markVertex(2);
+        graph.clearAllMarks();
+        var result = !graph.isMarked(1) && !graph.isMarked(2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void getUnmarkedVertex() {
+        graph.addVertex(1);
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertEquals(1, result);
+    }
+
+    @Test
+    public void getUnmarkedVertexFromEmptyGraph() {
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertEquals(IntGraphInterface.NO_VERTEX, result);
+    }
+
+    @Test
+    public void resizeGraph() {
+        for(int i = 0; i < 26; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.getTotalVertices();
+        Assertions.assertEquals(26, result);
+    }
+
+    @Test
+    public void addDuplicateVertex() {
+        graph.addVertex(1);
+        var result = !graph.addVertex(1) && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findVerticesAfterRemovingEveryOtherVertex() {
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 1000; i += 2) {
+            graph.removeVertex(i);
+        }
+        var result = graph.getTotalVertices() == 500;
+        for(int i = 0; i < 1000; i++) {
+            result &= graph.hasVertex(i) == (i % 2 == 1);
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addEdgeReplacesWeightInBothDirections() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(2, 1, 20);
+        var result = graph.getEdge(1, 2) == 20 && graph.getAdjacentVertices(1).length == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexRemovesEdgesFromNeighbors() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(2, 3, 6);
+        graph.removeVertex(3);
+        var result = graph.getAdjacentVertices(1).length == 0 && graph.getAdjacentVertices(2).length == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void forEachNeighborPassesWeights() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Assertions.assertEquals("2:10 3:20 4:30 ", visited.toString());
+    }
+
+    @Test
+    public void selfLoopIsNotANeighbor() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 1, 5);
+        graph.addEdge(1, 2, 3);
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        int[] adjacent = graph.getAdjacentVertices(1);
+        var result = adjacent.length == 1 && adjacent[0] == 2 && visited.toString().equals("2:3 ");
+        Assertions.assertTrue(result);
+    }
+}
@@ -0,0 +1,158 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.MinimumSpanningForest;
+import algorithms.SpanningForest;
+import graphs.Edge;
+import graphs.UndirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph.StorageMode;
+import structures.UnionFind;
+import java.util.HashSet;
+import java.util.PriorityQueue;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+
+public class MinimumSpanningForestTests {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final UndirectedWeightedGraph<Integer> graph = new UndirectedWeightedGraph<>();
+
+    private static long primWeight(UndirectedWeightedGraph<Integer> graph, int vertices) {
+        Set<Integer> reached = new HashSet<>();
+        long total = 0;
+        for(int start = 0; start < vertices; start++) {
+            if(reached.contains(start)) {
+                continue;
+            }
+            PriorityQueue<long[]> queue = new PriorityQueue<>((a, b) -> Long.compare(a[0], b[0]));
+            queue.offer(new long[]{0, start});
+            while(!queue.isEmpty()) {
+                long[] next = queue.poll();
+                int vertex = (int) next[1];
+                if(!reached.add(vertex)) {
+                    continue;
+                }
+                total += next[0];
+                for(Integer neighbor : graph.getAdjacentVertices(vertex)) {
+                    if(!reached.contains(neighbor)) {
+                        queue.offer(new long[]{graph.getEdge(vertex, neighbor), neighbor});
+                    }
+                }
+            }
+        }
+        return total;
+    }
+
+    private static boolean isForest(UndirectedWeightedGraph<Integer> graph, SpanningForest<Integer> forest,
+                                    int vertices) {
+        UnionFind sets = new UnionFind(vertices);
+        long total = 0;
+        boolean result = true;
+        for(Edge<Integer> edge : forest.getEdges()) {
+            result &= sets.union(edge.getSource(), edge.getDestination());
+            result &= graph.getEdge(edge.getSource(), edge.getDestination()) == edge.getWeight();
+            total += edge.getWeight();
+        }
+        return result && total == forest.getTotalWeight() && sets.getTotalSets() == forest.getTotalTrees() &&
+                forest.getTotalEdges() == vertices - forest.getTotalTrees();
+    }
+
+    private static UndirectedWeightedGraph<Integer> randomGraph(int vertices, int edges, int maxWeight,
+                                                                StorageMode mode, long seed) {
+        Random random = new Random(seed);
+        UndirectedWeightedGraph<Integer> graph = new UndirectedWeightedGraph<>(vertices, mode);
+        for(int i = 0; i < vertices; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(maxWeight));
+        }
+        return graph;
+    }
+
+    @Test
+    public void findKnownTree() {
+        for(int i = 0; i < 5; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 4);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(1, 2, 2);
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(2, 3, 8);
+        graph.addEdge(3, 4, 3);
+        graph.addEdge(2, 4, 9);
+        MinimumSpanningForest<Integer> search = new MinimumSpanningForest<>(graph, pool);
+        Set<Edge<Integer>> expected = Set.of(new Edge<>(0, 2, 1), new Edge<>(1, 2, 2), new Edge<>(3, 4, 3),
+                new Edge<>(1, 3, 5));
+        SpanningForest<Integer> kruskal = search.kruskal();
+        SpanningForest<Integer> boruvka = search.boruvka();
+        var result = kruskal.getTotalWeight() == 11 && boruvka.getTotalWeight() == 11 &&
+                new HashSet<>(kruskal.getEdges()).equals(expected) &&
+                new HashSet<>(boruvka.getEdges()).equals(expected) && kruskal.isSpanningTree();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void spanEveryComponent() {
+        for(int i = 0; i < 7; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 3);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(0, 2, 2);
+        graph.addEdge(3, 4, 6);
+        MinimumSpanningForest<Integer> search = new MinimumSpanningForest<>(graph, pool);
+        SpanningForest<Integer> kruskal = search.kruskal();
+        SpanningForest<Integer> boruvka = search.boruvka();
+        var result = kruskal.getTotalTrees() == 4 && boruvka.getTotalTrees() == 4 &&
+                kruskal.getTotalWeight() == 9 && boruvka.getTotalWeight() == 9 && !kruskal.isSpanningTree() &&
+                isForest(graph, kruskal, 7) && isForest(graph, boruvka, 7);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void handleEmptyGraph() {
+        MinimumSpanningForest<Integer> search = new MinimumSpanningForest<>(graph, pool);
+        var result = search.kruskal().getTotalEdges() == 0 && search.boruvka().getTotalTrees() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void breakTiesWithoutCycles() {
+        UndirectedWeightedGraph<Integer> ties = randomGraph(3000, 12000, 2, StorageMode.SPARSE, 5);
+        MinimumSpanningForest<Integer> search = new MinimumSpanningForest<>(ties, pool);
+        SpanningForest<Integer> kruskal = search.kruskal();
+        SpanningForest<Integer> boruvka = search.boruvka();
+        long expected = primWeight(ties, 3000);
+        var result = kruskal.getTotalWeight() == expected && boruvka.getTotalWeight() == expected &&
+                isForest(ties, kruskal, 3000) && isForest(ties, boruvka, 3000);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void matchPrimOnRandomSparseGraphs() {
+        var result = true;
+        for(long seed = 0; seed < 4; seed++) {
+            UndirectedWeightedGraph<Integer> random = randomGraph(10000, 25000, 1000, StorageMode.SPARSE, seed);
+            MinimumSpanningForest<Integer> search = new MinimumSpanningForest<>(random, pool);
+            SpanningForest<Integer> kruskal = search.kruskal();
+            SpanningForest<Integer> boruvka = search.boruvka();
+            long expected = primWeight(random, 10000);
+            result &= kruskal.getTotalWeight() == expected && boruvka.getTotalWeight() == expected &&
+                    kruskal.getTotalTrees() == boruvka.getTotalTrees() && isForest(random, boruvka, 10000);
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void matchPrimOnDenseGraph() {
+        UndirectedWeightedGraph<Integer> dense = randomGraph(300, 20000, 50, StorageMode.DENSE, 9);
+        MinimumSpanningForest<Integer> search = new MinimumSpanningForest<>(dense, pool);
+        long expected = primWeight(dense, 300);
+        var result = search.kruskal().getTotalWeight() == expected && search.boruvka().getTotalWeight() == expected &&
+                isForest(dense, search.boruvka(), 300);
+        Assertions.assertTrue(result);
+    }
+}
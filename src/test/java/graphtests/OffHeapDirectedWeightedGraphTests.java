@@ -0,0 +1,363 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.After;
+import org.junit.Test;
+import graphs.CompressedSparseRowGraph;
+import graphs.OffHeapDirectedWeightedGraph;
+import java.util.Queue;
+
+public class OffHeapDirectedWeightedGraphTests {
+    private final OffHeapDirectedWeightedGraph<Integer> graph = new OffHeapDirectedWeightedGraph<>();
+
+    @After
+    public void closeGraph() {
+        graph.close();
+    }
+
+    @Test
+    public void addInitialVertex() {
+        graph.addVertex(1);
+        var result = graph.hasVertex(1) && !graph.isEmpty() && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addMultipleVertices() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.hasVertex(1) && graph.hasVertex(2) && graph.hasVertex(3) && graph.getTotalVertices() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllVerticesFromGraph() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty() && graph.getTotalVertices() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addInitialEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(1, 2);
+        Assertions.assertEquals(100, result);
+    }
+
+    @Test
+    public void attemptReverseDirectionEdgeTraversal() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(2, 1);
+        Assertions.assertEquals(-1, result);
+    }
+
+    @Test
+    public void addMultipleEdgesToOneVertex() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.poll() == 2 && queue.poll() == 3 && queue.poll() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfValidEdgeIsPresent() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfInvalidEdgeIsPresent() {
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeValidEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        graph.removeEdge(1, 2);
+        var result = graph.getEdge(1, 2) == -1 && !graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeInvalidEdge() {
+        var result = graph.removeEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeOneEdgeFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        graph.removeEdge(1, 3);
+        var result = !graph.containsEdge(1, 3) && graph.getEdge(1, 3) == -1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllEdgesFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        for(int i = 1; i < 4; i++) {
+            graph.removeEdge(1, i + 1);
+        }
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkifGraphIsEmptyAfterRemovingAllVertices() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markVertex() {
+        graph.addVertex(1);
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markInvalidVertex() {
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void clearAllMarkedVertices() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.markVertex(1);
+        graph.markVertex(2);
+        graph.clearAllMarks();
+        var result = !graph.isMarked(1) && !graph.isMarked(2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void getUnmarkedVertex() {
+        graph.addVertex(1);
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertEquals(1, result);
+    }
+
+    @Test
+    public void getUnmarkedVertexFromEmptyGraph() {
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertNull(result);
+    }
+
+    @Test
+    public void resizeGraph() {
+        for(int i = 0; i < 26; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.getTotalVertices();
+        Assertions.assertEquals(26, result);
+    }
+
+    @Test
+    public void addDuplicateVertex() {
+        graph.addVertex(1);
+        var result = !graph.addVertex(1) && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findVerticesAfterRemovingEveryOtherVertex() {
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 1000; i += 2) {
+            graph.removeVertex(i);
+        }
+        var result = graph.getTotalVertices() == 500;
+        for(int i = 0; i < 1000; i++) {
+            result &= graph.hasVertex(i) == (i % 2 == 1);
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void forEachNeighborPassesWeights() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Assertions.assertEquals("2:10 3:20 4:30 ", visited.toString());
+    }
+
+    @Test
+    public void findEdgeBetweenLargeVertices() {
+        graph.addVertex(1000);
+        graph.addVertex(2000);
+        graph.addEdge(1000, 2000, 10);
+        var result = graph.getEdge(Integer.valueOf(1000), Integer.valueOf(2000)) == 10 && graph.containsEdge(1000, 2000);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeMissingEdgeFromVertexWithEdges() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        var result = !graph.removeEdge(1, 3) && graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexWithOutgoingEdges() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(1, 3, 20);
+        var result = graph.removeVertex(1) && !graph.hasVertex(1) && graph.getTotalVertices() == 2;
+        Assertions.assertTrue(result);
+    }
+
+
+    @Test
+    public void removeVertexDropsIncomingEdges() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(1, 3, 20);
+        graph.removeVertex(2);
+        graph.addVertex(2);
+        Queue<Integer> adjacent = graph.getAdjacentVertices(1);
+        var result = adjacent.size() == 1 && adjacent.peek() == 3 && !graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void keepEdgeOrderAfterRemovingEdge() {
+        for(int i = 0; i < 5; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 2; i <= 5; i++) {
+            graph.addEdge(1, i, i);
+        }
+        graph.removeEdge(1, 3);
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(' '));
+        Assertions.assertEquals("2 4 5 ", visited.toString());
+    }
+
+    @Test
+    public void growBlockOfHighDegreeVertex() {
+        for(int i = 0; i < 10000; i++) {
+            graph.addVertex(i);
+            graph.addEdge(0, i, i);
+        }
+        var result = graph.getAdjacentVertices(0).size() == 10000;
+        for(int i = 0; i < 10000; i += 999) {
+            result &= graph.getEdge(0, i) == i;
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reuseSpaceOfEdgesToRemovedVertices() {
+        for(int i = 0; i < 9; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 1; i < 9; i++) {
+            graph.addEdge(0, i, i);
+        }
+        long bytes = graph.getOffHeapBytes();
+        for(int i = 1; i < 9; i += 2) {
+            graph.removeVertex(i);
+        }
+        for(int i = 2; i < 9; i += 2) {
+            graph.addEdge(0, i, i * 10);
+        }
+        var result = graph.getOffHeapBytes() == bytes && graph.getAdjacentVertices(0).size() == 8;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void freezeMatchesGraph() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(1, 4, 40);
+        graph.addEdge(4, 3, 30);
+        graph.removeVertex(2);
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        graph.close();
+        var result = snapshot.getTotalVertices() == 3 && !snapshot.hasVertex(2) && snapshot.getEdge(1, 4) == 40
+                && snapshot.getEdge(4, 3) == 30 && snapshot.getAdjacentVertices(1).size() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void advanceVersionOnMutation() {
+        long initial = graph.getVersion();
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 5);
+        long added = graph.getVersion();
+        graph.removeEdge(1, 3);
+        var result = initial < added && graph.getVersion() == added;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void rejectUseAfterClose() {
+        graph.addVertex(1);
+        graph.close();
+        graph.close();
+        Assertions.assertTrue(graph.isClosed());
+        Assertions.assertThrows(IllegalStateException.class, () -> graph.addEdge(1, 1, 1));
+        Assertions.assertThrows(IllegalStateException.class, () -> graph.getTotalVertices());
+        Assertions.assertThrows(IllegalStateException.class, () -> graph.isMarked(1));
+        Assertions.assertThrows(IllegalStateException.class, () -> graph.newTraversal());
+        Assertions.assertThrows(IllegalStateException.class, () -> graph.getVersion());
+    }
+}
@@ -0,0 +1,144 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.PageRank;
+import algorithms.PageRankResult;
+import graphs.DirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class PageRankTests {
+    private final DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+
+    private static double total(double[] scores) {
+        double sum = 0;
+        for(double score : scores) {
+            sum += score;
+        }
+        return sum;
+    }
+
+    @Test
+    public void rankSymmetricCycleEvenly() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 4; i++) {
+            graph.addEdge(i, (i + 1) % 4, 3);
+        }
+        PageRankResult<Integer> result = new PageRank<>(graph).compute();
+        var passed = result.hasConverged() && Math.abs(result.getScore(2) - 0.25) < 1e-9 &&
+                Math.abs(total(result.getScores()) - 1) < 1e-9;
+        Assertions.assertTrue(passed);
+    }
+
+    @Test
+    public void followEdgeWeights() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 9);
+        graph.addEdge(0, 2, 1);
+        graph.addEdge(1, 0, 1);
+        graph.addEdge(2, 0, 1);
+        PageRankResult<Integer> result = new PageRank<>(graph).compute();
+        var passed = result.getScore(1) > 3 * result.getScore(2) && result.getScore(0) > result.getScore(1);
+        Assertions.assertTrue(passed);
+    }
+
+    @Test
+    public void spreadDanglingScoreEvenly() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        PageRankResult<Integer> result = new PageRank<>(graph).compute();
+        double[] scores = result.getScores();
+        double d = 0.85;
+        double s0 = scores[0];
+        double s1 = scores[1];
+        double s2 = scores[2];
+        double base = (1 - d) / 3 + d * s2 / 3;
+        var passed = Math.abs(total(scores) - 1) < 1e-9 && Math.abs(s0 - base) < 1e-6 &&
+                Math.abs(s1 - (base + d * s0)) < 1e-6 && Math.abs(s2 - (base + d * s1)) < 1e-6;
+        Assertions.assertTrue(passed);
+    }
+
+    @Test
+    public void treatZeroWeightVertexAsDangling() {
+        graph.addVertex(0);
+        graph.addVertex(1);
+        graph.addEdge(0, 1, 0);
+        graph.addEdge(1, 0, 2);
+        PageRankResult<Integer> result = new PageRank<>(graph).compute();
+        var passed = Math.abs(total(result.getScores()) - 1) < 1e-9 && result.getScore(0) > result.getScore(1);
+        Assertions.assertTrue(passed);
+    }
+
+    @Test
+    public void matchSequentialRanksInParallel() {
+        Random random = new Random(5);
+        int n = 20000;
+        DirectedWeightedGraph<Integer> large = new DirectedWeightedGraph<>(n);
+        for(int i = 0; i < n; i++) {
+            large.addVertex(i);
+        }
+        for(int i = 0; i < n * 4; i++) {
+            large.addEdge(random.nextInt(n), random.nextInt(n / 10), random.nextInt(10));
+        }
+        PageRank<Integer> parallel = new PageRank<>(large.freeze(), new ForkJoinPool(4));
+        PageRank<Integer> sequential = new PageRank<>(large.freeze(), new ForkJoinPool(1));
+        parallel.setTolerance(1e-10);
+        sequential.setTolerance(1e-10);
+        double[] expected = sequential.compute().getScores();
+        double[] actual = parallel.compute().getScores();
+        var passed = Math.abs(total(actual) - 1) < 1e-6;
+        for(int i = 0; i < n; i++) {
+            passed &= Math.abs(expected[i] - actual[i]) < 1e-9;
+        }
+        Assertions.assertTrue(passed);
+    }
+
+    @Test
+    public void stopAtIterationLimit() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        PageRank<Integer> pageRank = new PageRank<>(graph);
+        pageRank.setMaxIterations(2);
+        pageRank.setTolerance(-1);
+        pageRank.setDampingFactor(5);
+        PageRankResult<Integer> result = pageRank.compute();
+        var passed = result.getIterations() == 2 && !result.hasConverged();
+        Assertions.assertTrue(passed);
+    }
+
+    @Test
+    public void rankUndirectedGraphAsMap() {
+        UndirectedWeightedGraph<String> undirected = new UndirectedWeightedGraph<>();
+        undirected.addVertex("hub");
+        undirected.addVertex("a");
+        undirected.addVertex("b");
+        undirected.addVertex("c");
+        undirected.addEdge("hub", "a", 1);
+        undirected.addEdge("hub", "b", 1);
+        undirected.addEdge("hub", "c", 1);
+        Map<String, Double> scores = new PageRank<>(undirected).compute().toMap();
+        var passed = scores.size() == 4 && scores.get("hub") > scores.get("a") &&
+                Math.abs(scores.get("a") - scores.get("c")) < 1e-9;
+        Assertions.assertTrue(passed);
+    }
+
+    @Test
+    public void rankEmptyGraph() {
+        PageRankResult<Integer> result = new PageRank<>(graph).compute();
+        var passed = result.getScores().length == 0 && result.getScore(1) < 0 && result.hasConverged();
+        Assertions.assertTrue(passed);
+    }
+}
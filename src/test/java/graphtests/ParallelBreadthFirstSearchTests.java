@@ -0,0 +1,146 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.BreadthFirstTree;
+import algorithms.ParallelBreadthFirstSearch;
+import algorithms.Path;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import graphs.UndirectedWeightedGraph;
+import graphs.UndirectedWeightedGraph.StorageMode;
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+public class ParallelBreadthFirstSearchTests {
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+
+    private static Map<Integer, Integer> sequentialHops(GraphInterface<Integer> graph, Integer source) {
+        Map<Integer, Integer> hops = new HashMap<>();
+        Queue<Integer> queue = new ArrayDeque<>();
+        hops.put(source, 0);
+        queue.offer(source);
+        while(!queue.isEmpty()) {
+            Integer vertex = queue.poll();
+            for(Integer neighbor : graph.getAdjacentVertices(vertex)) {
+                if(!hops.containsKey(neighbor)) {
+                    hops.put(neighbor, hops.get(vertex) + 1);
+                    queue.offer(neighbor);
+                }
+            }
+        }
+        return hops;
+    }
+
+    private static boolean matches(GraphInterface<Integer> graph, BreadthFirstTree<Integer> tree, int vertices,
+                                   Integer source) {
+        Map<Integer, Integer> expected = sequentialHops(graph, source);
+        boolean result = tree.getTotalReached() == expected.size();
+        for(int i = 0; i < vertices; i++) {
+            Integer hops = expected.get(i);
+            result &= tree.getHops(i) == (hops == null ? -1 : hops);
+            Integer parent = tree.getParent(i);
+            if(hops != null && hops > 0) {
+                result &= parent != null && tree.getHops(parent) == hops - 1 && graph.containsEdge(parent, i);
+            } else {
+                result &= parent == null;
+            }
+        }
+        return result;
+    }
+
+    private static DirectedWeightedGraph<Integer> randomDirected(int vertices, int degree, long seed) {
+        Random random = new Random(seed);
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>(vertices);
+        for(int i = 0; i < vertices; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < vertices; i++) {
+            for(int j = 0; j < degree; j++) {
+                graph.addEdge(i, random.nextInt(vertices), 1);
+            }
+        }
+        return graph;
+    }
+
+    @Test
+    public void matchSequentialSearchOnSparseDirectedGraph() {
+        DirectedWeightedGraph<Integer> graph = randomDirected(20000, 2, 1);
+        BreadthFirstTree<Integer> tree = new ParallelBreadthFirstSearch<>(graph, pool).search(0);
+        Assertions.assertTrue(matches(graph, tree, 20000, 0));
+    }
+
+    @Test
+    public void matchSequentialSearchOnDenseDirectedGraph() {
+        DirectedWeightedGraph<Integer> graph = randomDirected(20000, 16, 2);
+        BreadthFirstTree<Integer> tree = new ParallelBreadthFirstSearch<>(graph, pool).search(7);
+        Assertions.assertTrue(matches(graph, tree, 20000, 7));
+    }
+
+    @Test
+    public void matchSequentialSearchOnUndirectedGraph() {
+        Random random = new Random(3);
+        UndirectedWeightedGraph<Integer> graph = new UndirectedWeightedGraph<>(StorageMode.SPARSE);
+        for(int i = 0; i < 10000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 40000; i++) {
+            graph.addEdge(random.nextInt(10000), random.nextInt(10000), 1);
+        }
+        BreadthFirstTree<Integer> tree = new ParallelBreadthFirstSearch<>(graph, pool).search(0);
+        Assertions.assertTrue(matches(graph, tree, 10000, 0));
+    }
+
+    @Test
+    public void followLongChain() {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>(5000);
+        for(int i = 0; i < 5000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 4999; i++) {
+            graph.addEdge(i, i + 1, 1);
+        }
+        BreadthFirstTree<Integer> tree = new ParallelBreadthFirstSearch<>(graph, pool).search(0);
+        Path<Integer> path = tree.pathTo(4999);
+        var result = tree.getHops(4999) == 4999 && path.getTotalEdges() == 4999 && path.getSource() == 0 &&
+                tree.getParent(4999) == 4998;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void leaveUnreachableVertices() {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 5);
+        graph.addEdge(2, 0, 5);
+        BreadthFirstTree<Integer> tree = new ParallelBreadthFirstSearch<>(graph).search(0);
+        var result = tree.getTotalReached() == 2 && !tree.hasPathTo(2) && tree.getHops(3) < 0 &&
+                tree.pathTo(3) == null && tree.getParent(0) == null && tree.getSource() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void searchMissingSource() {
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+        graph.addVertex(1);
+        var result = new ParallelBreadthFirstSearch<>(graph).search(2) == null;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void runSearchesFromManySources() {
+        DirectedWeightedGraph<Integer> graph = randomDirected(5000, 8, 4);
+        ParallelBreadthFirstSearch<Integer> search = new ParallelBreadthFirstSearch<>(graph, pool);
+        var result = true;
+        for(int source = 0; source < 5000; source += 1000) {
+            result &= matches(graph, search.search(source), 5000, source);
+        }
+        Assertions.assertTrue(result);
+    }
+}
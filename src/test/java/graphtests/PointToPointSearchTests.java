@@ -0,0 +1,179 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.Landmarks;
+import algorithms.Path;
+import algorithms.PointToPointResult;
+import algorithms.PointToPointSearch;
+import algorithms.ShortestPaths;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import java.util.List;
+import java.util.Random;
+
+public class PointToPointSearchTests {
+    private final DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+
+    private static DirectedWeightedGraph<Integer> randomGraph(int vertices, int edges, long seed) {
+        Random random = new Random(seed);
+        DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>(vertices);
+        for(int i = 0; i < vertices; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < edges; i++) {
+            graph.addEdge(random.nextInt(vertices), random.nextInt(vertices), random.nextInt(50));
+        }
+        return graph;
+    }
+
+    private static DirectedWeightedGraph<Integer> grid(int side) {
+        DirectedWeightedGraph<Integer> grid = new DirectedWeightedGraph<>(side * side);
+        for(int i = 0; i < side * side; i++) {
+            grid.addVertex(i);
+        }
+        for(int row = 0; row < side; row++) {
+            for(int col = 0; col < side; col++) {
+                int vertex = row * side + col;
+                if(col + 1 < side) {
+                    grid.addEdge(vertex, vertex + 1, 1);
+                    grid.addEdge(vertex + 1, vertex, 1);
+                }
+                if(row + 1 < side) {
+                    grid.addEdge(vertex, vertex + side, 1);
+                    grid.addEdge(vertex + side, vertex, 1);
+                }
+            }
+        }
+        return grid;
+    }
+
+    private static boolean isPath(GraphInterface<Integer> graph, PointToPointResult<Integer> result, long expected) {
+        if(expected < 0) {
+            return !result.hasPath() && result.getDistance() == -1;
+        }
+        List<Integer> vertices = result.getPath().getVertices();
+        long total = 0;
+        for(int i = 1; i < vertices.size(); i++) {
+            int weight = graph.getEdge(vertices.get(i - 1), vertices.get(i));
+            if(weight < 0) {
+                return false;
+            }
+            total += weight;
+        }
+        return total == expected && result.getDistance() == expected;
+    }
+
+    @Test
+    public void findKnownPath() {
+        for(int i = 1; i <= 5; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(2, 4, 7);
+        graph.addEdge(3, 4, 1);
+        PointToPointSearch<Integer> search = new PointToPointSearch<>(graph);
+        Landmarks<Integer> landmarks = search.preprocessLandmarks(2);
+        List<Integer> expected = List.of(1, 2, 3, 4);
+        var result = search.dijkstra(1, 4).getPath().getVertices().equals(expected) &&
+                search.bidirectional(1, 4).getPath().getVertices().equals(expected) &&
+                search.alt(1, 4, landmarks).getPath().getVertices().equals(expected) &&
+                search.bidirectional(1, 4).getDistance() == 4 && !search.bidirectional(4, 1).hasPath() &&
+                search.bidirectional(5, 5).getDistance() == 0 && search.dijkstra(1, 99) == null &&
+                landmarks.getTotalLandmarks() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void matchDijkstraOnRandomGraphs() {
+        var result = true;
+        for(long seed = 0; seed < 3; seed++) {
+            DirectedWeightedGraph<Integer> random = randomGraph(2000, 6000, seed);
+            ShortestPaths<Integer> reference = new ShortestPaths<>(random);
+            PointToPointSearch<Integer> search = new PointToPointSearch<>(random);
+            Landmarks<Integer> landmarks = search.preprocessLandmarks(8);
+            Random queries = new Random(seed + 100);
+            for(int i = 0; i < 200; i++) {
+                int source = queries.nextInt(2000);
+                int target = queries.nextInt(2000);
+                long expected = reference.distance(source, target);
+                result &= isPath(random, search.dijkstra(source, target), expected);
+                result &= isPath(random, search.bidirectional(source, target), expected);
+                result &= isPath(random, search.alt(source, target, landmarks), expected);
+                result &= landmarks.estimate(source, target) <= (expected < 0 ? Long.MAX_VALUE : expected);
+            }
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void settleFewerVerticesWithAcceleration() {
+        int side = 60;
+        DirectedWeightedGraph<Integer> grid = grid(side);
+        PointToPointSearch<Integer> search = new PointToPointSearch<>(grid);
+        Landmarks<Integer> landmarks = search.preprocessLandmarks(4);
+        int source = 5 * side + 5;
+        int target = 50 * side + 50;
+        PointToPointResult<Integer> dijkstra = search.dijkstra(source, target);
+        PointToPointResult<Integer> bidirectional = search.bidirectional(source, target);
+        PointToPointResult<Integer> manhattan = search.aStar(source, target, (vertex, goal) ->
+                Math.abs(vertex / side - goal / side) + Math.abs(vertex % side - goal % side));
+        PointToPointResult<Integer> alt = search.alt(source, target, landmarks);
+        var result = dijkstra.getDistance() == 90 && bidirectional.getDistance() == 90 &&
+                manhattan.getDistance() == 90 && alt.getDistance() == 90 &&
+                bidirectional.getSettledVertices() < dijkstra.getSettledVertices() &&
+                manhattan.getSettledVertices() < dijkstra.getSettledVertices() &&
+                alt.getSettledVertices() < dijkstra.getSettledVertices();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void pruneUnreachableTargetsWithLandmarks() {
+        for(int i = 0; i < 20; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 10; i++) {
+            graph.addEdge(i, (i + 1) % 10, 1);
+            graph.addEdge(10 + i, 10 + (i + 1) % 10, 1);
+        }
+        PointToPointSearch<Integer> search = new PointToPointSearch<>(graph);
+        Landmarks<Integer> landmarks = search.preprocessLandmarks(2);
+        PointToPointResult<Integer> alt = search.alt(3, 15, landmarks);
+        var result = !alt.hasPath() && alt.getSettledVertices() == 0 &&
+                search.dijkstra(3, 15).getSettledVertices() == 10 && search.alt(3, 8, landmarks).getDistance() == 5 &&
+                landmarks.estimate(3, 15) == Long.MAX_VALUE;
+        Assertions.assertTrue(result);
+    }
+
+        @Test
+    public void answerConcurrentQueries() throws InterruptedException {
+        DirectedWeightedGraph<Integer> random = randomGraph(3000, 12000, 7);
+        ShortestPaths<Integer> reference = new ShortestPaths<>(random);
+        PointToPointSearch<Integer> search = new PointToPointSearch<>(random);
+        boolean[] passed = new boolean[4];
+        Thread[] threads = new Thread[4];
+        for(int i = 0; i < threads.length; i++) {
+            int id = i;
+            threads[i] = new Thread(() -> {
+                Random queries = new Random(id);
+                boolean matched = true;
+                for(int q = 0; q < 100; q++) {
+                    int source = queries.nextInt(3000);
+                    int target = queries.nextInt(3000);
+                    Path<Integer> path = search.bidirectional(source, target).getPath();
+                    long expected = reference.distance(source, target);
+                    matched &= path == null ? expected == -1 : path.getDistance() == expected;
+                }
+                passed[id] = matched;
+            });
+            threads[i].start();
+        }
+        for(Thread thread : threads) {
+            thread.join();
+        }
+        var result = passed[0] && passed[1] && passed[2] && passed[3];
+        Assertions.assertTrue(result);
+    }
+}
@@ -0,0 +1,124 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.CacheStatistics;
+import algorithms.Path;
+import algorithms.ShortestPathCache;
+import algorithms.ShortestPathTree;
+import graphs.ConcurrentDirectedWeightedGraph;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import graphs.UndirectedWeightedGraph;
+import java.util.List;
+
+public class ShortestPathCacheTests {
+    private final GraphInterface<Integer> graph = new DirectedWeightedGraph<>();
+
+    private void addDiamond(GraphInterface<Integer> graph) {
+        for(int i = 0; i < 5; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(2, 4, 7);
+        graph.addEdge(3, 4, 1);
+    }
+
+    @Test
+    public void answerRepeatedQueriesFromCache() {
+        addDiamond(graph);
+        ShortestPathCache<Integer> cache = new ShortestPathCache<>(graph);
+        long first = cache.distance(1, 4);
+        Path<Integer> path = cache.findPath(1, 4);
+        long unreachable = cache.distance(4, 1);
+        long again = cache.distance(4, 1);
+        CacheStatistics statistics = cache.getStatistics();
+        var result = first == 4 && path.getVertices().equals(List.of(1, 2, 3, 4)) && unreachable == -1 &&
+                again == -1 && statistics.getHits() == 2 && statistics.getMisses() == 2 &&
+                statistics.getEntries() == 2 && statistics.getHitRate() == 0.5;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void answerPairsFromCachedTree() {
+        addDiamond(graph);
+        ShortestPathCache<Integer> cache = new ShortestPathCache<>(graph);
+        ShortestPathTree<Integer> tree = cache.computeFrom(1);
+        var result = cache.computeFrom(1) == tree && cache.distance(1, 3) == 3 && cache.findPath(1, 5) == null &&
+                cache.getStatistics().getHits() == 3 && cache.getStatistics().getMisses() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void invalidateOnEveryMutation() {
+        addDiamond(graph);
+        ShortestPathCache<Integer> cache = new ShortestPathCache<>(graph);
+        cache.computeFrom(1);
+        graph.addEdge(1, 4, 2);
+        boolean addedEdge = cache.distance(1, 4) == 2;
+        graph.removeEdge(1, 4);
+        boolean removedEdge = cache.distance(1, 4) == 4;
+        graph.addVertex(6);
+        graph.addEdge(4, 6, 1);
+        boolean addedVertex = cache.distance(1, 6) == 5;
+        graph.removeVertex(3);
+        boolean removedVertex = cache.distance(1, 4) == 8;
+        CacheStatistics statistics = cache.getStatistics();
+        var result = addedEdge && removedEdge && addedVertex && removedVertex && statistics.getHits() == 0 &&
+                statistics.getInvalidations() == 4 && statistics.getEntries() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void ignoreFailedMutations() {
+        addDiamond(graph);
+        ShortestPathCache<Integer> cache = new ShortestPathCache<>(graph);
+        cache.distance(1, 4);
+        long version = graph.getVersion();
+        graph.addVertex(1);
+        graph.addEdge(1, 99, 3);
+        graph.removeEdge(4, 1);
+        graph.removeVertex(99);
+        var result = graph.getVersion() == version && cache.distance(1, 4) == 4 &&
+                cache.getStatistics().getHits() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void evictLeastRecentlyUsed() {
+        for(int i = 0; i < 100; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 1; i < 100; i++) {
+            graph.addEdge(i - 1, i, 1);
+        }
+        ShortestPathCache<Integer> cache = new ShortestPathCache<>(graph, 1000);
+        for(int i = 0; i < 20; i++) {
+            cache.distance(i, i + 1);
+        }
+        cache.distance(0, 1);
+        CacheStatistics statistics = cache.getStatistics();
+        var result = statistics.getEvictions() > 0 && statistics.getEstimatedBytes() <= 1000 &&
+                statistics.getHits() == 0 && cache.distance(19, 20) == 1 && cache.getStatistics().getHits() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void trackVersionsOfEveryGraph() {
+        UndirectedWeightedGraph<Integer> undirected = new UndirectedWeightedGraph<>();
+        ConcurrentDirectedWeightedGraph<Integer> concurrent = new ConcurrentDirectedWeightedGraph<>();
+        addDiamond(undirected);
+        addDiamond(concurrent);
+        long undirectedVersion = undirected.getVersion();
+        long concurrentVersion = concurrent.getVersion();
+        undirected.removeEdge(1, 5);
+        boolean unchanged = undirected.getVersion() == undirectedVersion;
+        undirected.removeEdge(1, 2);
+        concurrent.removeEdge(1, 2);
+        var result = unchanged && undirectedVersion == 10 && concurrentVersion == 10 &&
+                undirected.getVersion() == 11 && concurrent.getVersion() == 11 && undirected.freeze().getVersion() == 0;
+        Assertions.assertTrue(result);
+    }
+}
@@ -0,0 +1,122 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.Path;
+import algorithms.ShortestPathTree;
+import algorithms.ShortestPaths;
+import graphs.DirectedWeightedGraph;
+import graphs.GraphInterface;
+import graphs.UndirectedWeightedGraph;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+public class ShortestPathsTests {
+    private final GraphInterface<Integer> directed = new DirectedWeightedGraph<>();
+    private final GraphInterface<Integer> undirected = new UndirectedWeightedGraph<>();
+
+    private void addDiamond(GraphInterface<Integer> graph) {
+        for(int i = 0; i < 5; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(1, 3, 4);
+        graph.addEdge(2, 3, 2);
+        graph.addEdge(2, 4, 7);
+        graph.addEdge(3, 4, 1);
+    }
+
+    @Test
+    public void computeDistancesFromSource() {
+        addDiamond(directed);
+        ShortestPathTree<Integer> tree = new ShortestPaths<>(directed).computeFrom(1);
+        var result = tree.getDistance(1) == 0 && tree.getDistance(2) == 1 && tree.getDistance(3) == 3
+                && tree.getDistance(4) == 4 && !tree.hasPathTo(5) && tree.getDistance(5) == -1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void followPredecessorTree() {
+        addDiamond(directed);
+        ShortestPathTree<Integer> tree = new ShortestPaths<>(directed).computeFrom(1);
+        var result = tree.getPredecessor(4) == 3 && tree.getPredecessor(3) == 2 && tree.getPredecessor(1) == null;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findPointToPointPath() {
+        addDiamond(directed);
+        Path<Integer> path = new ShortestPaths<>(directed).findPath(1, 4);
+        var result = path.getVertices().equals(Arrays.asList(1, 2, 3, 4)) && path.getDistance() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findNoPathAgainstEdgeDirection() {
+        addDiamond(directed);
+        var result = new ShortestPaths<>(directed).findPath(4, 1);
+        Assertions.assertNull(result);
+    }
+
+    @Test
+    public void findPathAgainstEdgeDirectionInUndirectedGraph() {
+        addDiamond(undirected);
+        var result = new ShortestPaths<>(undirected).distance(4, 1);
+        Assertions.assertEquals(4, result);
+    }
+
+    @Test
+    public void searchFromMissingSource() {
+        var result = new ShortestPaths<>(directed).computeFrom(1);
+        Assertions.assertNull(result);
+    }
+
+    @Test
+    public void listReachedVerticesInDistanceOrder() {
+        addDiamond(directed);
+        List<Integer> reached = new ShortestPaths<>(directed).computeFrom(1).getReachedVertices();
+        var result = reached.equals(Arrays.asList(1, 2, 3, 4));
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void matchBellmanFordOnRandomGraph() {
+        Random random = new Random(7);
+        int vertices = 60;
+        long[][] weights = new long[vertices][vertices];
+        for(long[] row : weights) {
+            Arrays.fill(row, Long.MAX_VALUE);
+        }
+        for(int i = 0; i < vertices; i++) {
+            directed.addVertex(i);
+        }
+        for(int i = 0; i < 300; i++) {
+            int source = random.nextInt(vertices);
+            int destination = random.nextInt(vertices);
+            int weight = random.nextInt(50);
+            if(source != destination && !directed.containsEdge(source, destination)) {
+                directed.addEdge(source, destination, weight);
+                weights[source][destination] = weight;
+            }
+        }
+        long[] expected = new long[vertices];
+        Arrays.fill(expected, Long.MAX_VALUE);
+        expected[0] = 0;
+        for(int round = 0; round < vertices; round++) {
+            for(int u = 0; u < vertices; u++) {
+                for(int v = 0; v < vertices; v++) {
+                    if(expected[u] != Long.MAX_VALUE && weights[u][v] != Long.MAX_VALUE) {
+                        expected[v] = Math.min(expected[v], expected[u] + weights[u][v]);
+                    }
+                }
+            }
+        }
+        ShortestPathTree<Integer> tree = new ShortestPaths<>(directed).computeFrom(0);
+        var result = true;
+        for(int v = 0; v < vertices; v++) {
+            result &= tree.getDistance(v) == (expected[v] == Long.MAX_VALUE ? -1 : expected[v]);
+        }
+        Assertions.assertTrue(result);
+    }
+}
@@ -0,0 +1,354 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.GraphInterface;
+import graphs.UndirectedWeightedGraph;
+import java.util.Queue;
+
+public class SparseUndirectedWeightedGraphTests {
+    private final GraphInterface<Integer> graph = new UndirectedWeightedGraph<>(UndirectedWeightedGraph.StorageMode.SPARSE);
+
+    @Test
+    public void addInitialVertex() {
+        graph.addVertex(1);
+        var result = graph.hasVertex(1) && !graph.isEmpty() && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addMultipleVertices() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.hasVertex(1) && graph.hasVertex(2) && graph.hasVertex(3) && graph.getTotalVertices() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addVertexToFormerlyFullGraph() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.removeVertex(1);
+        graph.addVertex(0);
+        var result = graph.hasVertex(0) && !graph.hasVertex(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllVerticesFromFullGraph() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty() && graph.getTotalVertices() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addInitialEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(1, 2);
+        Assertions.assertEquals(100, result);
+    }
+
+    @Test
+    public void attemptReverseDirectionEdgeTraversal() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 100);
+        var result = graph.getEdge(2, 1);
+        Assertions.assertEquals(100, result);
+    }
+
+    @Test
+    public void addMultipleEdgesToOneVertex() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.poll() == 2 && queue.poll() == 3 && queue.poll() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfValidEdgeIsPresent() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkIfInvalidEdgeIsPresent() {
+        var result = graph.containsEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeValidEdge() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        graph.removeEdge(1, 2);
+        var result = graph.getEdge(1, 2) == -1 && !graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeInvalidEdge() {
+        var result = graph.removeEdge(1, 2);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void removeOneEdgeFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        graph.removeEdge(1, 3);
+        var result = !graph.containsEdge(1, 3) && graph.getEdge(1, 3) == -1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeAllEdgesFromVertexWithMultipleEdges() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        for(int i = 1; i < 4; i++) {
+            graph.removeEdge(1, i + 1);
+        }
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void checkifGraphIsEmptyAfterRemovingAllVertices() {
+        for(int i = 0; i < 25; i++) {
+            graph.addVertex(i + 1);
+        }
+        for(int i = 0; i < 25; i++) {
+            graph.removeVertex(i + 1);
+        }
+        var result = graph.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markVertex() {
+        graph.addVertex(1);
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markInvalidVertex() {
+        graph.markVertex(1);
+        var result = graph.isMarked(1);
+        Assertions.assertFalse(result);
+    }
+
+    @Test
+    public void clearAllMarkedVertices() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.markVertex(1);
+        graph.markVertex(2);
+        graph.clearAllMarks();
+        var result = !graph.isMarked(1) && !graph.isMarked(2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void getUnmarkedVertex() {
+        graph.addVertex(1);
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertEquals(1, result);
+    }
+
+    @Test
+    public void getUnmarkedVertexFromEmptyGraph() {
+        var result = graph.getAnUnmarkedVertex();
+        Assertions.assertNull(result);
+    }
+
+    @Test
+    public void resizeGraph() {
+        for(int i = 0; i < 26; i++) {
+            graph.addVertex(i + 1);
+        }
+        var result = graph.getTotalVertices();
+        Assertions.assertEquals(26, result);
+    }
+
+    @Test
+    public void addDuplicateVertex() {
+        graph.addVertex(1);
+        var result = !graph.addVertex(1) && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findVerticesAfterRemovingEveryOtherVertex() {
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 1000; i += 2) {
+            graph.removeVertex(i);
+        }
+        var result = graph.getTotalVertices() == 500;
+        for(int i = 0; i < 1000; i++) {
+            result &= graph.hasVertex(i) == (i % 2 == 1);
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addEdgeReplacesWeightInBothDirections() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        graph.addEdge(2, 1, 20);
+        var result = graph.getEdge(1, 2) == 20 && graph.getEdge(2, 1) == 20 && graph.getAdjacentVertices(1).size() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeEdgeClearsBothDirections() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 10);
+        graph.removeEdge(2, 1);
+        var result = !graph.containsEdge(1, 2) && graph.getAdjacentVertices(1).isEmpty()
+                && graph.getAdjacentVertices(2).isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexRemovesEdgesFromNeighbors() {
+        for(int i = 0; i < 3; i++) {
+            graph.addVertex(i + 1);
+        }
+        graph.addEdge(1, 3, 5);
+        graph.addEdge(2, 3, 6);
+        graph.removeVertex(3);
+        var result = graph.getAdjacentVertices(1).isEmpty() && graph.getAdjacentVertices(2).isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void keepEdgesAcrossResize() {
+        for(int i = 0; i < 100; i++) {
+            graph.addVertex(i);
+            if(i > 0) {
+                graph.addEdge(i - 1, i, i);
+            }
+        }
+        var result = graph.getEdge(0, 1) == 1 && graph.getEdge(99, 98) == 99 && graph.getAdjacentVertices(50).size() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void forEachNeighborPassesWeights() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Assertions.assertEquals("2:10 3:20 4:30 ", visited.toString());
+    }
+
+    @Test
+    public void selfLoopIsNotANeighbor() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 1, 5);
+        graph.addEdge(1, 2, 3);
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Queue<Integer> adjacent = graph.getAdjacentVertices(1);
+        var result = adjacent.size() == 1 && adjacent.peek() == 2 && visited.toString().equals("2:3 ");
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void rebuildConnectivityAfterRemovals() {
+        UndirectedWeightedGraph<Integer> connected = new UndirectedWeightedGraph<>(UndirectedWeightedGraph.StorageMode.SPARSE);
+        for(int i = 0; i < 100; i++) {
+            connected.addVertex(i);
+        }
+        for(int i = 1; i < 100; i++) {
+            connected.addEdge(i - 1, i, i);
+        }
+        boolean before = connected.isConnected(0, 99) && connected.getTotalComponents() == 1;
+        connected.removeVertex(50);
+        connected.addEdge(49, 51, 1);
+        boolean bridged = connected.isConnected(0, 99);
+        connected.removeEdge(51, 49);
+        var result = before && bridged && !connected.isConnected(0, 99) && connected.isConnected(51, 99) &&
+                connected.getTotalComponents() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reuseVacatedSlots() {
+        UndirectedWeightedGraph<Integer> churned = new UndirectedWeightedGraph<>(4, UndirectedWeightedGraph.StorageMode.SPARSE);
+        for(int i = 0; i < 3; i++) {
+            churned.addVertex(i + 1);
+        }
+        churned.addEdge(1, 3, 10);
+        churned.removeVertex(1);
+        churned.removeVertex(2);
+        var free = churned.getTotalFreeSlots();
+        churned.addVertex(4);
+        churned.addVertex(5);
+        var result = free == 2 && churned.getTotalFreeSlots() == 0 && !churned.containsEdge(4, 3)
+                && !churned.containsEdge(5, 3) && !churned.isConnected(3, 4) && churned.getTotalComponents() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void compactAfterRemovingVertices() {
+        UndirectedWeightedGraph<Integer> compacted = new UndirectedWeightedGraph<>(4, UndirectedWeightedGraph.StorageMode.SPARSE);
+        for(int i = 0; i < 100; i++) {
+            compacted.addVertex(i);
+            if(i > 0) {
+                compacted.addEdge(i - 1, i, i);
+            }
+        }
+        for(int i = 0; i < 100; i++) {
+            if(i % 10 != 0 && i % 10 != 1) {
+                compacted.removeVertex(i);
+            }
+        }
+        compacted.markVertex(0);
+        compacted.compact();
+        compacted.addVertex(100);
+        compacted.addEdge(100, 90, 5);
+        var result = compacted.getTotalVertices() == 21 && !compacted.isMarked(0) && compacted.getEdge(0, 1) == 1
+                && compacted.getEdge(90, 91) == 91 && compacted.getEdge(90, 100) == 5 && !compacted.containsEdge(0, 90)
+                && compacted.getTotalComponents() == 10 && compacted.isConnected(91, 100);
+        Assertions.assertTrue(result);
+    }
+}
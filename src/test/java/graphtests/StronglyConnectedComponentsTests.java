@@ -0,0 +1,109 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import algorithms.ComponentLabels;
+import algorithms.StronglyConnectedComponents;
+import graphs.DirectedWeightedGraph;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Queue;
+import java.util.Random;
+import java.util.Set;
+
+public class StronglyConnectedComponentsTests {
+    private final DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+
+    private static Set<Integer> reachable(DirectedWeightedGraph<Integer> graph, Integer source) {
+        Set<Integer> seen = new HashSet<>();
+        Queue<Integer> queue = new ArrayDeque<>();
+        seen.add(source);
+        queue.offer(source);
+        while(!queue.isEmpty()) {
+            for(Integer neighbor : graph.getAdjacentVertices(queue.poll())) {
+                if(seen.add(neighbor)) {
+                    queue.offer(neighbor);
+                }
+            }
+        }
+        return seen;
+    }
+
+    @Test
+    public void labelKnownComponents() {
+        for(int i = 0; i < 8; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(0, 1, 1);
+        graph.addEdge(1, 2, 1);
+        graph.addEdge(2, 0, 1);
+        graph.addEdge(2, 3, 1);
+        graph.addEdge(3, 4, 1);
+        graph.addEdge(4, 5, 1);
+        graph.addEdge(5, 3, 1);
+        graph.addEdge(6, 5, 1);
+        ComponentLabels<Integer> labels = new StronglyConnectedComponents<>(graph).compute();
+        var result = labels.getTotalComponents() == 4 && labels.isSameComponent(0, 2) &&
+                labels.isSameComponent(3, 5) && !labels.isSameComponent(2, 3) &&
+                labels.getComponent(3) < labels.getComponent(0) &&
+                labels.getComponentSize(labels.getComponent(4)) == 3 && labels.getComponent(99) < 0 && labels.toMap().size() == 8;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void handleDeepCycleWithoutOverflow() {
+        int vertices = 500000;
+        DirectedWeightedGraph<Integer> deep = new DirectedWeightedGraph<>(vertices);
+        for(int i = 0; i < vertices; i++) {
+            deep.addVertex(i);
+        }
+        for(int i = 0; i < vertices; i++) {
+            deep.addEdge(i, (i + 1) % vertices, 1);
+        }
+        ComponentLabels<Integer> labels = new StronglyConnectedComponents<>(deep).compute();
+        var result = labels.getTotalComponents() == 1 && labels.getComponentSize(0) == vertices;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void handleDeepChainWithoutOverflow() {
+        int vertices = 500000;
+        DirectedWeightedGraph<Integer> deep = new DirectedWeightedGraph<>(vertices);
+        for(int i = 0; i < vertices; i++) {
+            deep.addVertex(i);
+        }
+        for(int i = 1; i < vertices; i++) {
+            deep.addEdge(i - 1, i, 1);
+        }
+        ComponentLabels<Integer> labels = new StronglyConnectedComponents<>(deep).compute();
+        var result = labels.getTotalComponents() == vertices && labels.getComponent(vertices - 1) == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void matchMutualReachability() {
+        Random random = new Random(3);
+        for(int i = 0; i < 150; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 220; i++) {
+            graph.addEdge(random.nextInt(150), random.nextInt(150), 1);
+        }
+        ComponentLabels<Integer> labels = new StronglyConnectedComponents<>(graph).compute();
+        var result = true;
+        for(int i = 0; i < 150; i++) {
+            Set<Integer> forward = reachable(graph, i);
+            for(int j = 0; j < 150; j++) {
+                boolean mutual = forward.contains(j) && reachable(graph, j).contains(i);
+                result &= mutual == labels.isSameComponent(i, j);
+            }
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void handleEmptyGraph() {
+        var result = new StronglyConnectedComponents<>(graph).compute().getTotalComponents() == 0;
+        Assertions.assertTrue(result);
+    }
+}
@@ -0,0 +1,161 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.CompressedSparseRowGraph;
+import graphs.DirectedWeightedGraph;
+import graphs.IntTraversalContext;
+import graphs.IntUndirectedWeightedGraph;
+import graphs.TraversalContext;
+import graphs.UndirectedWeightedGraph;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class TraversalContextTests {
+    private final DirectedWeightedGraph<Integer> graph = new DirectedWeightedGraph<>();
+
+    @Test
+    public void contextsKeepSeparateMarks() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        TraversalContext<Integer> first = graph.newTraversal();
+        TraversalContext<Integer> second = graph.newTraversal();
+        first.markVertex(1);
+        second.markVertex(2);
+        var result = first.isMarked(1) && !first.isMarked(2) && second.isMarked(2) && !second.isMarked(1) &&
+                !graph.isMarked(1) && !graph.isMarked(2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void clearOnlyAffectsOneContext() {
+        graph.addVertex(1);
+        TraversalContext<Integer> first = graph.newTraversal();
+        TraversalContext<Integer> second = graph.newTraversal();
+        first.markVertex(1);
+        second.markVertex(1);
+        graph.markVertex(1);
+        first.clearAllMarks();
+        var result = !first.isMarked(1) && second.isMarked(1) && graph.isMarked(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markAgainAfterManyClears() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        TraversalContext<Integer> context = graph.newTraversal();
+        for(int i = 0; i < 1000; i++) {
+            context.markVertex(i % 2 == 0 ? 1 : 2);
+            context.clearAllMarks();
+        }
+        context.markVertex(2);
+        var result = !context.isMarked(1) && context.isMarked(2) && context.getAnUnmarkedVertex() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reusedSlotDoesNotInheritMark() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        TraversalContext<Integer> context = graph.newTraversal();
+        context.markVertex(1);
+        graph.markVertex(1);
+        graph.removeVertex(1);
+        graph.addVertex(3);
+        var result = !context.isMarked(3) && !graph.isMarked(3) && !context.isMarked(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void markVertexAddedAfterContextCreated() {
+        TraversalContext<Integer> context = graph.newTraversal();
+        for(int i = 0; i < 100; i++) {
+            graph.addVertex(i);
+        }
+        context.markVertex(99);
+        var result = context.isMarked(99) && !context.isMarked(98);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void unmarkedVertexSkipsRemovedSlots() {
+        UndirectedWeightedGraph<Integer> undirected = new UndirectedWeightedGraph<>();
+        undirected.addVertex(1);
+        undirected.addVertex(2);
+        undirected.addVertex(3);
+        undirected.removeVertex(1);
+        undirected.markVertex(2);
+        var result = undirected.getAnUnmarkedVertex() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void getAnUnmarkedVertexReturnsNullWhenAllMarked() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        TraversalContext<Integer> context = graph.newTraversal();
+        context.markVertex(1);
+        context.markVertex(2);
+        var result = context.getAnUnmarkedVertex() == null;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void intContextsKeepSeparateMarks() {
+        IntUndirectedWeightedGraph intGraph = new IntUndirectedWeightedGraph();
+        intGraph.addVertex(1);
+        intGraph.addVertex(2);
+        IntTraversalContext context = intGraph.newTraversal();
+        context.markVertex(1);
+        intGraph.removeVertex(1);
+        intGraph.addVertex(3);
+        var result = !context.isMarked(3) && context.getAnUnmarkedVertex() == 3 && !intGraph.isMarked(2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void concurrentTraversalsOfSnapshot() throws Exception {
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 999; i++) {
+            graph.addEdge(i, i + 1, 1);
+        }
+        CompressedSparseRowGraph<Integer> snapshot = graph.freeze();
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Future<Integer>> reached = new ArrayList<>();
+        for(int i = 0; i < 8; i++) {
+            int start = i * 100;
+            reached.add(executor.submit(() -> {
+                TraversalContext<Integer> context = snapshot.newTraversal();
+                Queue<Integer> queue = new ArrayDeque<>();
+                queue.offer(start);
+                context.markVertex(start);
+                int count = 0;
+                while(!queue.isEmpty()) {
+                    Integer vertex = queue.poll();
+                    count++;
+                    for(Integer neighbor : snapshot.getAdjacentVertices(vertex)) {
+                        if(!context.isMarked(neighbor)) {
+                            context.markVertex(neighbor);
+                            queue.offer(neighbor);
+                        }
+                    }
+                }
+                return count;
+            }));
+        }
+        var result = true;
+        for(int i = 0; i < reached.size(); i++) {
+            result &= reached.get(i).get() == 1000 - i * 100;
+        }
+        executor.shutdown();
+        Assertions.assertTrue(result);
+    }
+}
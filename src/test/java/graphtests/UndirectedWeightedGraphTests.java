@@ -2,8 +2,11 @@ package graphtests;
 
 import org.junit.jupiter.api.Assertions;
 import org.junit.Test;
+import graphs.Edge;
 import graphs.GraphInterface;
 import graphs.UndirectedWeightedGraph;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Queue;
 
 public class UndirectedWeightedGraphTests {
@@ -198,4 +201,151 @@ public class UndirectedWeightedGraphTests {
         var result = graph.getTotalVertices();
         Assertions.assertEquals(26, result);
     }
+
+    @Test
+    public void addDuplicateVertex() {
+        graph.addVertex(1);
+        var result = !graph.addVertex(1) && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void findVerticesAfterRemovingEveryOtherVertex() {
+        for(int i = 0; i < 1000; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 1000; i += 2) {
+            graph.removeVertex(i);
+        }
+        var result = graph.getTotalVertices() == 500;
+        for(int i = 0; i < 1000; i++) {
+            result &= graph.hasVertex(i) == (i % 2 == 1);
+        }
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void forEachNeighborPassesWeights() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Assertions.assertEquals("2:10 3:20 4:30 ", visited.toString());
+    }
+
+    @Test
+    public void selfLoopIsNotANeighbor() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 1, 5);
+        graph.addEdge(1, 2, 3);
+        StringBuilder visited = new StringBuilder();
+        graph.forEachNeighbor(1, (neighbor, weight) -> visited.append(neighbor).append(':').append(weight).append(' '));
+        Queue<Integer> adjacent = graph.getAdjacentVertices(1);
+        var result = adjacent.size() == 1 && adjacent.peek() == 2 && visited.toString().equals("2:3 ");
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addVerticesInBatch() {
+        List<Integer> vertices = new ArrayList<>();
+        for(int i = 0; i < 1000; i++) {
+            vertices.add(i);
+        }
+        vertices.add(5);
+        vertices.add(null);
+        var result = graph.addVertices(vertices) == 1000 && graph.getTotalVertices() == 1000 && graph.hasVertex(999) &&
+                !graph.isFull();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addEdgesInBatch() {
+        graph.addVertices(List.of(1, 2, 3));
+        int added = graph.addEdges(List.of(new Edge<>(1, 2, 10), new Edge<>(2, 3, 20), new Edge<>(1, 4, 30),
+                new Edge<>(3, 1, -5)));
+        var result = added == 2 && graph.getEdge(1, 2) == 10 && graph.getEdge(2, 3) == 20 && !graph.containsEdge(3, 1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void trackConnectivityAsEdgesAreAdded() {
+        UndirectedWeightedGraph<Integer> connected = new UndirectedWeightedGraph<>(4);
+        for(int i = 0; i < 40; i++) {
+            connected.addVertex(i);
+        }
+        for(int i = 0; i < 39; i += 2) {
+            connected.addEdge(i, i + 1, 1);
+        }
+        connected.addEdge(1, 2, 1);
+        var result = connected.isConnected(0, 3) && !connected.isConnected(0, 4) && connected.isConnected(39, 38) &&
+                connected.getTotalComponents() == 19 && !connected.isConnected(0, 99);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void rebuildConnectivityAfterRemovals() {
+        UndirectedWeightedGraph<Integer> connected = new UndirectedWeightedGraph<>();
+        for(int i = 0; i < 6; i++) {
+            connected.addVertex(i);
+        }
+        connected.addEdge(0, 1, 1);
+        connected.addEdge(1, 2, 1);
+        connected.addEdge(2, 3, 1);
+        connected.addEdge(3, 4, 1);
+        boolean before = connected.isConnected(0, 4);
+        connected.removeEdge(2, 3);
+        boolean split = !connected.isConnected(0, 4) && connected.isConnected(3, 4);
+        connected.removeVertex(1);
+        connected.addVertex(7);
+        connected.addEdge(7, 5, 1);
+        var result = before && split && !connected.isConnected(0, 2) && connected.isConnected(5, 7) &&
+                connected.getTotalComponents() == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reuseVacatedSlots() {
+        UndirectedWeightedGraph<Integer> churned = new UndirectedWeightedGraph<>(4);
+        for(int i = 0; i < 3; i++) {
+            churned.addVertex(i + 1);
+        }
+        churned.addEdge(1, 3, 10);
+        churned.removeVertex(1);
+        churned.removeVertex(2);
+        var free = churned.getTotalFreeSlots();
+        churned.addVertex(4);
+        churned.addVertex(5);
+        var result = free == 2 && churned.getTotalFreeSlots() == 0 && !churned.containsEdge(4, 3)
+                && !churned.containsEdge(5, 3) && !churned.isConnected(3, 4) && churned.getTotalComponents() == 3;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void compactAfterRemovingVertices() {
+        UndirectedWeightedGraph<Integer> compacted = new UndirectedWeightedGraph<>(4);
+        for(int i = 0; i < 100; i++) {
+            compacted.addVertex(i);
+            if(i > 0) {
+                compacted.addEdge(i - 1, i, i);
+            }
+        }
+        for(int i = 0; i < 100; i++) {
+            if(i % 10 != 0 && i % 10 != 1) {
+                compacted.removeVertex(i);
+            }
+        }
+        compacted.markVertex(0);
+        compacted.compact();
+        compacted.addVertex(100);
+        compacted.addEdge(100, 90, 5);
+        var result = compacted.getTotalVertices() == 21 && !compacted.isMarked(0) && compacted.getEdge(0, 1) == 1
+                && compacted.getEdge(90, 91) == 91 && compacted.getEdge(90, 100) == 5 && !compacted.containsEdge(0, 90)
+                && compacted.getTotalComponents() == 10 && compacted.isConnected(91, 100);
+        Assertions.assertTrue(result);
+    }
 }
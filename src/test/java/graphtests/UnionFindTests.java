@@ -0,0 +1,49 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import structures.UnionFind;
+
+public class UnionFindTests {
+    private final UnionFind sets = new UnionFind(6);
+
+    @Test
+    public void startWithSingletons() {
+        var result = sets.getTotalSets() == 6 && sets.size() == 6 && !sets.connected(0, 1) &&
+                sets.getSetSize(3) == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void unionMergesSets() {
+        sets.union(0, 1);
+        sets.union(2, 3);
+        sets.union(1, 3);
+        var result = sets.connected(0, 2) && !sets.connected(0, 4) && sets.getTotalSets() == 3 &&
+                sets.getSetSize(3) == 4;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void rejectRepeatedUnion() {
+        sets.union(4, 5);
+        var result = !sets.union(5, 4) && sets.getTotalSets() == 5;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void handleLongChains() {
+        UnionFind large = new UnionFind(100000);
+        for(int i = 1; i < 100000; i++) {
+            large.union(i - 1, i);
+        }
+        var result = large.getTotalSets() == 1 && large.connected(0, 99999) && large.getSetSize(500) == 100000;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void treatNegativeSizeAsEmpty() {
+        var result = new UnionFind(-3).getTotalSets() == 0;
+        Assertions.assertTrue(result);
+    }
+}
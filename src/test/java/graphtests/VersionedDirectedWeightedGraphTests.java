@@ -0,0 +1,313 @@
+package graphtests;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.Test;
+import graphs.CompressedSparseRowGraph;
+import graphs.GraphSnapshot;
+import graphs.TraversalContext;
+import graphs.VersionedDirectedWeightedGraph;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+public class VersionedDirectedWeightedGraphTests {
+    private final VersionedDirectedWeightedGraph<Integer> graph = new VersionedDirectedWeightedGraph<>();
+
+    @Test
+    public void addInitialVertex() {
+        graph.addVertex(1);
+        var result = graph.hasVertex(1) && !graph.isEmpty() && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addDuplicateVertex() {
+        graph.addVertex(1);
+        var result = !graph.addVertex(1) && !graph.addVertex(null) && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addMultipleEdgesToOneVertex() {
+        for(int i = 0; i < 4; i++) {
+            graph.addVertex(i + 1);
+            if(i > 0) {
+                graph.addEdge(1, i + 1, i * 10);
+            }
+        }
+        Queue<Integer> queue = graph.getAdjacentVertices(1);
+        var result = queue.poll() == 2 && queue.poll() == 3 && queue.poll() == 4 && graph.getEdge(1, 3) == 20;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void addEdgeWithInvalidArguments() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        var result = !graph.addEdge(1, 2, -1) && !graph.addEdge(1, 3, 5) && !graph.containsEdge(1, 2);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeEdgeKeepsOtherEdges() {
+        for(int i = 1; i <= 4; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(1, 2, 5);
+        graph.addEdge(1, 3, 6);
+        graph.addEdge(1, 4, 7);
+        var result = graph.removeEdge(1, 3) && !graph.removeEdge(1, 3) && !graph.containsEdge(1, 3)
+                && graph.getEdge(1, 2) == 5 && graph.getEdge(1, 4) == 7;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removeVertexDropsItsEdges() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 5);
+        graph.addEdge(2, 1, 6);
+        graph.removeVertex(2);
+        var result = !graph.hasVertex(2) && graph.getAdjacentVertices(1).isEmpty() && !graph.containsEdge(2, 1)
+                && graph.getTotalVertices() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void reAddedVertexHasNoOldEdges() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 5);
+        graph.removeVertex(2);
+        graph.addVertex(2);
+        var result = graph.hasVertex(2) && !graph.containsEdge(1, 2) && graph.addEdge(1, 2, 9)
+                && graph.getEdge(1, 2) == 9 && graph.getAdjacentVertices(1).size() == 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void versionAdvancesOnlyOnChange() {
+        long start = graph.getVersion();
+        graph.addVertex(1);
+        graph.addVertex(1);
+        graph.removeEdge(1, 1);
+        var result = graph.getVersion() == start + 1;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void snapshotIgnoresLaterEdges() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addVertex(3);
+        graph.addEdge(1, 2, 5);
+        try(GraphSnapshot<Integer> snapshot = graph.snapshot()) {
+            graph.addEdge(1, 3, 6);
+            graph.removeEdge(1, 2);
+            var result = snapshot.getEdge(1, 2) == 5 && !snapshot.containsEdge(1, 3)
+                    && snapshot.getAdjacentVertices(1).size() == 1 && graph.getEdge(1, 3) == 6
+                    && !graph.containsEdge(1, 2);
+            Assertions.assertTrue(result);
+        }
+    }
+
+    @Test
+    public void snapshotIgnoresLaterVertexChanges() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        graph.addEdge(1, 2, 5);
+        try(GraphSnapshot<Integer> snapshot = graph.snapshot()) {
+            graph.removeVertex(2);
+            graph.addVertex(2);
+            graph.addVertex(3);
+            var result = snapshot.getTotalVertices() == 2 && snapshot.hasVertex(2) && !snapshot.hasVertex(3)
+                    && snapshot.getEdge(1, 2) == 5 && !graph.containsEdge(1, 2) && graph.getTotalVertices() == 3;
+            Assertions.assertTrue(result);
+        }
+    }
+
+    @Test
+    public void snapshotsAtDifferentVersions() {
+        graph.addVertex(1);
+        GraphSnapshot<Integer> first = graph.snapshot();
+        graph.addVertex(2);
+        GraphSnapshot<Integer> second = graph.snapshot();
+        graph.removeVertex(1);
+        var result = first.hasVertex(1) && !first.hasVertex(2) && second.hasVertex(1) && second.hasVertex(2)
+                && first.getVersion() + 1 == second.getVersion() && !graph.hasVertex(1);
+        first.close();
+        second.close();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void closedSnapshotRejectsQueries() {
+        graph.addVertex(1);
+        GraphSnapshot<Integer> snapshot = graph.snapshot();
+        snapshot.close();
+        snapshot.close();
+        var result = snapshot.isClosed();
+        Assertions.assertTrue(result);
+        Assertions.assertThrows(IllegalStateException.class, () -> snapshot.hasVertex(1));
+    }
+
+    @Test
+    public void closingSnapshotsReleasesPins() {
+        graph.addVertex(1);
+        GraphSnapshot<Integer> first = graph.snapshot();
+        GraphSnapshot<Integer> second = graph.snapshot();
+        graph.addVertex(2);
+        var result = graph.getTotalPinnedSnapshots() == 2 && graph.getOldestPinnedVersion() == first.getVersion();
+        first.close();
+        result &= graph.getTotalPinnedSnapshots() == 1;
+        second.close();
+        result &= graph.getTotalPinnedSnapshots() == 0 && graph.getOldestPinnedVersion() == graph.getVersion();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removedSlotsReclaimedWhenUnpinned() {
+        graph.addVertex(1);
+        GraphSnapshot<Integer> snapshot = graph.snapshot();
+        for(int i = 0; i < 10; i++) {
+            graph.removeVertex(1);
+            graph.addVertex(1);
+        }
+        var result = graph.getTotalIndexedSlots() == 11 && snapshot.hasVertex(1);
+        snapshot.close();
+        result &= graph.getTotalIndexedSlots() == 1 && graph.hasVertex(1);
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void removedSlotsReclaimedWithoutSnapshots() {
+        for(int i = 0; i < 10; i++) {
+            graph.addVertex(i);
+        }
+        for(int i = 0; i < 10; i++) {
+            graph.removeVertex(i);
+        }
+        var result = graph.getTotalIndexedSlots() == 0 && graph.isEmpty();
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void slotsReclaimedWhenLastSnapshotClosesWhileLocked() throws Exception {
+        VersionedDirectedWeightedGraph<Object> objects = new VersionedDirectedWeightedGraph<>();
+        AtomicBoolean armed = new AtomicBoolean();
+        CountDownLatch reclaiming = new CountDownLatch(1);
+        CountDownLatch closed = new CountDownLatch(1);
+        Object blocking = new Object() {
+            public int hashCode() {
+                if(armed.getAndSet(false)) {
+                    reclaiming.countDown();
+                    try {
+                        closed.await();
+                    } catch(InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                return 0;
+            }
+        };
+        objects.addVertex(blocking);
+        objects.addVertex(2);
+        GraphSnapshot<Object> first = objects.snapshot();
+        objects.removeVertex(blocking);
+        GraphSnapshot<Object> last = objects.snapshot();
+        objects.removeVertex(2);
+        armed.set(true);
+        Thread closer = new Thread(first::close);
+        closer.start();
+        reclaiming.await();
+        last.close();
+        closed.countDown();
+        closer.join();
+        var result = objects.getTotalPinnedSnapshots() == 0 && objects.getTotalIndexedSlots() == 0;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void snapshotTraversalMarksArePrivate() {
+        graph.addVertex(1);
+        graph.addVertex(2);
+        try(GraphSnapshot<Integer> snapshot = graph.snapshot()) {
+            snapshot.markVertex(1);
+            TraversalContext<Integer> traversal = snapshot.newTraversal();
+            var result = snapshot.isMarked(1) && !graph.isMarked(1) && !traversal.isMarked(1)
+                    && snapshot.getAnUnmarkedVertex() == 2;
+            Assertions.assertTrue(result);
+        }
+    }
+
+    @Test
+    public void snapshotFreezesPinnedVersion() {
+        for(int i = 1; i <= 3; i++) {
+            graph.addVertex(i);
+        }
+        graph.addEdge(1, 2, 4);
+        graph.addEdge(2, 3, 5);
+        CompressedSparseRowGraph<Integer> frozen;
+        try(GraphSnapshot<Integer> snapshot = graph.snapshot()) {
+            graph.removeVertex(3);
+            graph.addEdge(1, 1, 9);
+            frozen = snapshot.freeze();
+        }
+        var result = frozen.getTotalVertices() == 3 && frozen.getEdge(1, 2) == 4 && frozen.getEdge(2, 3) == 5
+                && !frozen.containsEdge(1, 1) && graph.freeze().getTotalVertices() == 2;
+        Assertions.assertTrue(result);
+    }
+
+    @Test
+    public void snapshotsStayConsistentUnderWriters() throws Exception {
+        int vertices = 200;
+        for(int i = 0; i < vertices; i++) {
+            graph.addVertex(i);
+        }
+        ExecutorService pool = Executors.newFixedThreadPool(5);
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicBoolean writing = new AtomicBoolean(true);
+        Future<?> writer = pool.submit(() -> {
+            start.await();
+            for(int round = 0; round < 20; round++) {
+                for(int v = 0; v < vertices; v++) {
+                    graph.addEdge(v, (v + round + 1) % vertices, round);
+                }
+            }
+            return null;
+        });
+        List<Future<?>> readers = new ArrayList<>();
+        for(int t = 0; t < 4; t++) {
+            readers.add(pool.submit(() -> {
+                start.await();
+                while(writing.get()) {
+                    try(GraphSnapshot<Integer> snapshot = graph.snapshot()) {
+                        int total = 0;
+                        for(int v = 0; v < vertices; v++) {
+                            total += snapshot.getAdjacentVertices(v).size();
+                        }
+                        if(total != snapshot.getVersion() - vertices) {
+                            throw new IllegalStateException("Inconsistent snapshot at " + snapshot.getVersion());
+                        }
+                    }
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        writer.get(60, TimeUnit.SECONDS);
+        writing.set(false);
+        for(Future<?> reader : readers) {
+            reader.get(60, TimeUnit.SECONDS);
+        }
+        pool.shutdown();
+        var result = graph.getTotalPinnedSnapshots() == 0 && graph.getVersion() == vertices * 21L;
+        Assertions.assertTrue(result);
+    }
+}